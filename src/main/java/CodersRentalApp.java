@@ -1,17 +1,331 @@
+import api.ApiServer;
+import backup.BackupManifest;
+import backup.SnapshotBackup;
+import config.AppContext;
+import data.SchemaMigrator;
+import export.DataExporter;
+import export.ExportFormat;
+import export.ExportSnapshot;
+import headless.HeadlessRunner;
+import profiling.FlightRecording;
+import replication.ReplicationClient;
+import replication.ReplicationLog;
+import replication.ReplicationServer;
+import server.TerminalServer;
 import ui.flow.FlowController;
 import ui.screens.MainMenuScreen;
+import ui.utils.Console;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Scanner;
 
 public class CodersRentalApp {
+    private static final int DEFAULT_API_PORT = 8080;
+    private static final int DEFAULT_TERMINAL_PORT = 4000;
+    private static final int DEFAULT_FOLLOWER_API_PORT = 8081;
+    private static final long FOLLOWER_SYNC_TIMEOUT_MILLIS = 30_000;
 
     public static void main(String[] args) {
 
+        // --record <arquivo.jfr> antes de qualquer outro modo grava os eventos JFR da execução
+        if (args.length > 0 && args[0].equals("--record")) {
+            if (args.length < 2) {
+                System.err.println("Uso: --record <arquivo.jfr> [modo]");
+                System.exit(1);
+            }
+            try {
+                FlightRecording.start(Path.of(args[1]));
+            } catch (IOException | IllegalStateException e) {
+                System.err.println("Não foi possível iniciar a gravação JFR: " + e.getMessage());
+                System.exit(1);
+            }
+            args = Arrays.copyOfRange(args, 2, args.length);
+        }
+
+        if (args.length > 0 && args[0].equals("--headless")) {
+            System.exit(HeadlessRunner.run(args));
+        }
+
+        if (args.length > 0 && args[0].equals("--api")) {
+            System.exit(startApi(args));
+        }
+
+        if (args.length > 0 && args[0].equals("--follow")) {
+            System.exit(startFollower(args));
+        }
+
+        if (args.length > 0 && args[0].equals("--export")) {
+            System.exit(export(args));
+        }
+
+        if (args.length > 0 && args[0].equals("--backup")) {
+            System.exit(backup(args));
+        }
+
+        if (args.length > 0 && args[0].equals("--restore")) {
+            System.exit(restore(args));
+        }
+
+        if (args.length > 0 && args[0].equals("--migrate")) {
+            System.exit(migrate(args));
+        }
+
+        if (args.length > 0 && args[0].equals("--server")) {
+            System.exit(startTerminalServer(args));
+        }
+
+        AppContext context = AppContext.inFile();
+        context.start();
+
         FlowController flowController = new FlowController();
 
-        Scanner scanner = new Scanner(System.in);
+        Scanner scanner = new Scanner(Console.flushingInput(System.in));
+
+        try {
+            flowController.start(new MainMenuScreen(flowController, scanner, context));
+        } finally {
+            Console.flush();
+            context.stop();
+        }
+
+        scanner.close();
+
+    }
+
+    // --api [porta] [--in-memory] [--replicate <porta>]: atende a API até o processo ser encerrado.
+    // Com --replicate, também envia as alterações às réplicas que se conectarem nessa porta.
+    private static int startApi(String[] args) {
+        int port = DEFAULT_API_PORT;
+        int replicationPort = -1;
+        boolean inMemory = false;
+        try {
+            for (int i = 1; i < args.length; i++) {
+                if (args[i].equals("--in-memory")) {
+                    inMemory = true;
+                } else if (args[i].equals("--replicate")) {
+                    replicationPort = Integer.parseInt(args[++i]);
+                } else {
+                    port = Integer.parseInt(args[i]);
+                }
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            System.err.println("Uso: --api [porta] [--in-memory] [--replicate <porta>]");
+            return 1;
+        }
+
+        ReplicationLog replicationLog = replicationPort >= 0 ? new ReplicationLog() : null;
+        AppContext context = inMemory ? AppContext.inMemory(replicationLog) : AppContext.inFile(replicationLog);
+        context.start();
+        try {
+            ApiServer server = new ApiServer(context, port);
+            ReplicationServer replicationServer = replicationLog != null
+                    ? new ReplicationServer(replicationLog, replicationPort)
+                    : null;
+            if (replicationServer != null) {
+                server.replicationStatus(replicationServer, null);
+                replicationServer.start();
+            }
+            server.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                server.stop();
+                if (replicationServer != null) {
+                    replicationServer.stop();
+                }
+                context.stop();
+            }));
+            System.out.println("API disponível em http://localhost:" + server.getPort() + "/api");
+            if (replicationServer != null) {
+                System.out.println("Replicação disponível na porta " + replicationServer.getPort());
+            }
+            Thread.currentThread().join();
+        } catch (IOException e) {
+            System.err.println("Não foi possível iniciar a API: " + e.getMessage());
+            return 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return 0;
+    }
+
+    // --follow <host:porta> [porta-api]: réplica somente leitura do primário iniciado com --replicate.
+    // Os dados ficam em memória; a API atende consultas, listagens e relatórios, e recusa alterações.
+    private static int startFollower(String[] args) {
+        String host;
+        int primaryPort;
+        int port = DEFAULT_FOLLOWER_API_PORT;
+        try {
+            int separator = args[1].lastIndexOf(':');
+            host = args[1].substring(0, separator);
+            primaryPort = Integer.parseInt(args[1].substring(separator + 1));
+            if (args.length > 2) {
+                port = Integer.parseInt(args[2]);
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Uso: --follow <host:porta> [porta-api]");
+            return 1;
+        }
+
+        AppContext context = AppContext.inMemory();
+        ReplicationClient client = new ReplicationClient(host, primaryPort, context.getReplicaApplier());
+        context.start();
+        try {
+            client.start();
+            if (!client.awaitCaughtUp(FOLLOWER_SYNC_TIMEOUT_MILLIS)) {
+                System.out.println("Primário ainda não alcançado; a API começa com os dados que a réplica tiver.");
+            }
 
-        flowController.goTo(new MainMenuScreen(flowController, scanner));
+            ApiServer server = new ApiServer(context, port);
+            server.readOnly();
+            server.replicationStatus(null, client);
+            server.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                server.stop();
+                client.stop();
+                context.stop();
+            }));
+            System.out.println("Réplica de " + args[1] + ": API somente leitura em http://localhost:" + server.getPort() + "/api");
+            Thread.currentThread().join();
+        } catch (IOException e) {
+            System.err.println("Não foi possível iniciar a API da réplica: " + e.getMessage());
+            return 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return 0;
+    }
+
+    // --server [porta]: um único processo com os arquivos *-DB atende vários balcões
+    private static int startTerminalServer(String[] args) {
+        int port = DEFAULT_TERMINAL_PORT;
+        if (args.length > 1) {
+            try {
+                port = Integer.parseInt(args[1]);
+            } catch (NumberFormatException e) {
+                System.err.println("Uso: --server [porta]");
+                return 1;
+            }
+        }
+
+        AppContext context = AppContext.inFile();
+        context.start();
+        try {
+            TerminalServer server = new TerminalServer(context, port);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                server.stop();
+                context.stop();
+            }));
+            System.out.println("Servidor de terminais ouvindo na porta " + server.getPort());
+            server.serve();
+        } catch (IOException e) {
+            System.err.println("Não foi possível iniciar o servidor de terminais: " + e.getMessage());
+            return 1;
+        }
+        return 0;
+    }
+
+    // --export <diretório> [--format ndjson|csv]: um arquivo por entidade, a partir dos arquivos *-DB
+    private static int export(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Uso: --export <diretório> [--format ndjson|csv]");
+            return 1;
+        }
+
+        try {
+            ExportFormat format = ExportFormat.NDJSON;
+            if (args.length > 3 && args[2].equals("--format")) {
+                format = ExportFormat.fromName(args[3]);
+            }
+
+            long start = System.nanoTime();
+            ExportSnapshot snapshot = ExportSnapshot.capture(AppContext.inFile());
+            Map<DataExporter.Entity, Long> counts = DataExporter.exportAll(snapshot, Path.of(args[1]), format);
+
+            counts.forEach((entity, count) -> System.out.println(entity.getFileName() + ": " + count + " registro(s)"));
+            System.out.printf("Exportação concluída em %d ms.%n", (System.nanoTime() - start) / 1_000_000);
+            return 0;
+        } catch (IllegalArgumentException | IOException e) {
+            System.err.println("Erro na exportação: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    // --backup <diretório>: backup comprimido dos arquivos *-DB num subdiretório com a data e a hora.
+    // Com a aplicação no ar, use POST /api/backup
+    private static int backup(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Uso: --backup <diretório>");
+            return 1;
+        }
+
+        try {
+            AppContext context = AppContext.inFile();
+            SnapshotBackup.Result result = SnapshotBackup.create(context, Path.of(args[1]));
+            printManifest(result.manifest());
+            System.out.printf("Backup gravado em %s (%d bytes comprimidos) em %d ms.%n",
+                    result.directory(), result.compressedBytes(), result.totalMillis());
+            return 0;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Erro no backup: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    // --restore <backup> [--verify]: confere os checksums e, sem --verify, substitui os arquivos *-DB.
+    // Deve rodar com a aplicação parada.
+    private static int restore(String[] args) {
+        if (args.length < 2 || (args.length > 2 && !args[2].equals("--verify"))) {
+            System.err.println("Uso: --restore <backup> [--verify]");
+            return 1;
+        }
+
+        try {
+            Path backup = Path.of(args[1]);
+            boolean verifyOnly = args.length > 2;
+            BackupManifest manifest = verifyOnly
+                    ? SnapshotBackup.verify(backup)
+                    : SnapshotBackup.restore(backup, Path.of(""));
+            printManifest(manifest);
+            System.out.println(verifyOnly
+                    ? "Backup de " + manifest.takenAt() + " íntegro."
+                    : "Dados restaurados do backup de " + manifest.takenAt() + ".");
+            return 0;
+        } catch (IOException e) {
+            System.err.println("Erro na restauração: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    // --migrate [diretório]: atualiza os arquivos *-DB para a versão atual do schema.
+    // Deve rodar com a aplicação parada.
+    private static int migrate(String[] args) {
+        if (args.length > 2) {
+            System.err.println("Uso: --migrate [diretório]");
+            return 1;
+        }
+
+        try {
+            for (SchemaMigrator.Result result : SchemaMigrator.migrate(Path.of(args.length > 1 ? args[1] : ""))) {
+                if (result.migrated()) {
+                    System.out.printf("%s: versão %d -> %d, %d registro(s)%s, %d ms%n", result.fileName(),
+                            result.fromVersion(), result.toVersion(), result.records(),
+                            result.blocks() > 0 ? " em " + result.blocks() + " bloco(s)" : "", result.millis());
+                } else {
+                    System.out.println(result.fileName() + ": já na versão " + result.toVersion());
+                }
+            }
+            return 0;
+        } catch (IOException e) {
+            System.err.println("Erro na migração: " + e.getMessage());
+            return 1;
+        }
+    }
 
+    private static void printManifest(BackupManifest manifest) {
+        for (BackupManifest.Entry entry : manifest.entries()) {
+            System.out.println(entry.fileName() + ": " + entry.records() + " registro(s)");
+        }
     }
 }
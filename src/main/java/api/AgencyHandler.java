@@ -0,0 +1,32 @@
+package api;
+
+import model.agency.Agency;
+import service.agency.AgencyService;
+
+import java.util.function.Predicate;
+
+// GET /api/agencies?name=&cursor=&limit=   GET /api/agencies/{id}
+public class AgencyHandler extends ApiHandler {
+    private final AgencyService agencyService;
+
+    public AgencyHandler(AgencyService agencyService) {
+        this.agencyService = agencyService;
+    }
+
+    @Override
+    protected int handle(ApiRequest request, JsonWriter json) {
+        if (!request.method().equals("GET")) throw methodNotAllowed();
+
+        if (request.segmentCount() == 1) {
+            Agency agency = found(agencyService.findAgencyById(request.segment(0)), "Agência não encontrada.");
+            return writeOk(json, agency, EntityJson::agency);
+        }
+        if (request.segmentCount() > 1) throw notFound("Recurso não encontrado.");
+
+        String name = request.param("name");
+        Predicate<Agency> filter = name == null ? null
+                : agency -> agency.getName().toLowerCase().contains(name.toLowerCase());
+        return writePage(json, agencyService.findAgencyPage(filter, request.param("cursor"),
+                request.intParam("limit", DEFAULT_LIMIT, 1, MAX_LIMIT)), EntityJson::agency);
+    }
+}
@@ -0,0 +1,109 @@
+package api;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import data.StoreLock;
+import exceptions.ApiException;
+import exceptions.DuplicateDocumentException;
+import exceptions.InvalidDocumentException;
+import repository.Page;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.BiConsumer;
+import java.util.List;
+
+public abstract class ApiHandler implements HttpHandler {
+    protected static final int DEFAULT_LIMIT = 20;
+    protected static final int MAX_LIMIT = 200;
+
+    // Cada thread de atendimento reaproveita o próprio buffer de resposta
+    private static final ThreadLocal<JsonWriter> writers = ThreadLocal.withInitial(JsonWriter::new);
+
+    @Override
+    public final void handle(HttpExchange exchange) throws IOException {
+        JsonWriter json = writers.get().reset();
+        int status;
+        try {
+            status = handle(new ApiRequest(exchange), json);
+        } catch (ApiException e) {
+            status = e.getStatus();
+            writeError(json.reset(), e.getMessage());
+        } catch (IllegalArgumentException | DuplicateDocumentException | InvalidDocumentException e) {
+            status = 400;
+            writeError(json.reset(), e.getMessage());
+        } catch (RuntimeException e) {
+            status = 500;
+            writeError(json.reset(), "Erro interno: " + e.getMessage());
+        }
+
+        try {
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(status, json.size() == 0 ? -1 : json.size());
+            if (json.size() > 0) {
+                try (OutputStream body = exchange.getResponseBody()) {
+                    json.writeTo(body);
+                }
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // Escreve a resposta no JSON e devolve o status HTTP
+    protected abstract int handle(ApiRequest request, JsonWriter json) throws IOException;
+
+    protected static ApiException notFound(String message) {
+        return new ApiException(404, message);
+    }
+
+    protected static ApiException methodNotAllowed() {
+        return new ApiException(405, "Método não permitido.");
+    }
+
+    protected static <T> T found(T entity, String message) {
+        if (entity == null) throw notFound(message);
+        return entity;
+    }
+
+    // As entidades são alteradas no lugar pelos serviços; serializar sob a trava de leitura
+    // garante que a resposta não misture estados de antes e depois de uma alteração.
+    // No modo particionado, abrir e encerrar locações (@Partitioned) ainda podem correr junto.
+    protected static <T> int writeOk(JsonWriter json, T entity, BiConsumer<JsonWriter, T> writer) {
+        StoreLock.read(() -> {
+            writer.accept(json, entity);
+            return null;
+        });
+        return 200;
+    }
+
+    protected static <T> int writeList(JsonWriter json, List<T> items, BiConsumer<JsonWriter, T> writer) {
+        StoreLock.read(() -> {
+            json.beginObject().name("items").beginArray();
+            for (T item : items) {
+                writer.accept(json, item);
+            }
+            json.endArray().endObject();
+            return null;
+        });
+        return 200;
+    }
+
+    protected static <T> int writePage(JsonWriter json, Page<T> page, BiConsumer<JsonWriter, T> writer) {
+        StoreLock.read(() -> {
+            json.beginObject().name("items").beginArray();
+            for (T item : page.items()) {
+                writer.accept(json, item);
+            }
+            json.endArray();
+            json.name("nextCursor").value(page.nextCursor());
+            json.endObject();
+            return null;
+        });
+        return 200;
+    }
+
+    private static void writeError(JsonWriter json, String message) {
+        json.beginObject().name("error").value(message == null ? "Erro desconhecido." : message).endObject();
+    }
+}
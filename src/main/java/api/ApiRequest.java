@@ -0,0 +1,120 @@
+package api;
+
+import com.sun.net.httpserver.HttpExchange;
+import exceptions.ApiException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ApiRequest {
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+
+    private final HttpExchange exchange;
+    private final List<String> segments = new ArrayList<>();
+    private final Map<String, String> query = new HashMap<>();
+
+    public ApiRequest(HttpExchange exchange) {
+        this.exchange = exchange;
+
+        // Segmentos do caminho depois do contexto, ex.: /api/rentals/{id}/close -> [{id}, close]
+        String path = exchange.getRequestURI().getRawPath().substring(exchange.getHttpContext().getPath().length());
+        for (String segment : path.split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(decode(segment));
+            }
+        }
+
+        String rawQuery = exchange.getRequestURI().getRawQuery();
+        if (rawQuery != null) {
+            for (String pair : rawQuery.split("&")) {
+                int equals = pair.indexOf('=');
+                if (equals > 0) {
+                    query.put(decode(pair.substring(0, equals)), decode(pair.substring(equals + 1)));
+                } else if (!pair.isEmpty()) {
+                    query.put(decode(pair), "");
+                }
+            }
+        }
+    }
+
+    public String method() {
+        return exchange.getRequestMethod();
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    public String segment(int index) {
+        return segments.get(index);
+    }
+
+    public String param(String name) {
+        String value = query.get(name);
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    public int intParam(String name, int defaultValue, int min, int max) {
+        String value = param(name);
+        if (value == null) return defaultValue;
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed < min || parsed > max) {
+                throw new ApiException(400, "Parâmetro '" + name + "' deve estar entre " + min + " e " + max + ".");
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new ApiException(400, "Parâmetro '" + name + "' deve ser um número inteiro.");
+        }
+    }
+
+    public LocalDateTime dateParam(String name) {
+        return parseDate(name, param(name));
+    }
+
+    public String requiredParam(String name) {
+        String value = param(name);
+        if (value == null) throw new ApiException(400, "Parâmetro obrigatório ausente: " + name);
+        return value;
+    }
+
+    public Map<String, String> body() throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] bytes = in.readNBytes(MAX_BODY_BYTES + 1);
+            if (bytes.length > MAX_BODY_BYTES) {
+                throw new ApiException(413, "Corpo da requisição grande demais.");
+            }
+            if (bytes.length == 0) {
+                return new HashMap<>();
+            }
+            return JsonReader.readObject(new String(bytes, StandardCharsets.UTF_8));
+        }
+    }
+
+    public static String required(Map<String, String> body, String name) {
+        String value = body.get(name);
+        if (value == null || value.isBlank()) throw new ApiException(400, "Campo obrigatório ausente: " + name);
+        return value;
+    }
+
+    public static LocalDateTime parseDate(String name, String value) {
+        if (value == null) return null;
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new ApiException(400, "Data inválida em '" + name + "' (use o formato 2024-05-01T10:30).");
+        }
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,79 @@
+package api;
+
+import com.sun.net.httpserver.HttpContext;
+import com.sun.net.httpserver.HttpServer;
+import config.AppContext;
+import replication.ReplicationClient;
+import replication.ReplicationServer;
+import utils.VirtualThreads;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// API HTTP/JSON sobre os mesmos serviços da interface, usando o servidor embutido do JDK
+// e uma thread virtual por requisição (ver VirtualThreads)
+public class ApiServer {
+    private static final int BACKLOG = 1024;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final List<HttpContext> contexts = new ArrayList<>();
+
+    public ApiServer(AppContext context, int port) throws IOException {
+        // Sem TCP_NODELAY, o algoritmo de Nagle somado ao ACK atrasado segura cada resposta
+        // por dezenas de milissegundos em conexões keep-alive
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+
+        server = HttpServer.create(new InetSocketAddress(port), BACKLOG);
+        contexts.add(server.createContext("/api/agencies", new AgencyHandler(context.getAgencyService())));
+        contexts.add(server.createContext("/api/vehicles", new VehicleHandler(context.getVehicleService())));
+        contexts.add(server.createContext("/api/customers", new CustomerHandler(context.getCustomerService())));
+        contexts.add(server.createContext("/api/rentals", new RentalHandler(context.getRentalService(), context.getAgencyService(),
+                context.getCustomerService(), context.getVehicleService())));
+        contexts.add(server.createContext("/api/dashboard", new DashboardHandler(context.getDashboardView(), context.getAgencyService())));
+        contexts.add(server.createContext("/api/reports", new ReportHandler(context.getReportService())));
+        contexts.add(server.createContext("/api/metrics", new MetricsHandler()));
+        contexts.add(server.createContext("/api/export", new ExportHandler(context)));
+        contexts.add(server.createContext("/api/backup", new BackupHandler(context)));
+
+        executor = VirtualThreads.newPerTaskExecutor("api-worker",
+                Math.max(16, Runtime.getRuntime().availableProcessors() * 4));
+        server.setExecutor(executor);
+    }
+
+    // Réplica: só GET; alterações são recusadas com 405
+    public void readOnly() {
+        for (HttpContext context : contexts) {
+            context.getFilters().add(new ReadOnlyFilter());
+        }
+    }
+
+    // GET /api/replication com a posição das réplicas (no primário) ou o atraso em relação ao primário (na réplica)
+    public void replicationStatus(ReplicationServer primary, ReplicationClient follower) {
+        contexts.add(server.createContext("/api/replication", new ReplicationHandler(primary, follower)));
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(1);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+}
@@ -0,0 +1,54 @@
+package api;
+
+import backup.BackupManifest;
+import backup.SnapshotBackup;
+import config.AppContext;
+import exceptions.ApiException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+// POST /api/backup   Backup comprimido de todos os dados, sem parar as alterações, num subdiretório
+//                    de -Dcodersrental.backup.dir (padrão: backups). Responde com o índice do backup.
+public class BackupHandler extends ApiHandler {
+    private static final String DIRECTORY_PROPERTY = "codersrental.backup.dir";
+    private static final String DEFAULT_DIRECTORY = "backups";
+
+    private final AppContext context;
+
+    public BackupHandler(AppContext context) {
+        this.context = context;
+    }
+
+    @Override
+    protected int handle(ApiRequest request, JsonWriter json) throws IOException {
+        if (!request.method().equals("POST")) throw methodNotAllowed();
+        if (request.segmentCount() > 0) throw notFound("Recurso não encontrado.");
+
+        Path root = Path.of(System.getProperty(DIRECTORY_PROPERTY, DEFAULT_DIRECTORY));
+        SnapshotBackup.Result result;
+        try {
+            result = SnapshotBackup.create(context, root);
+        } catch (IOException e) {
+            throw new ApiException(500, "Erro no backup: " + e.getMessage());
+        }
+
+        json.beginObject()
+                .name("directory").value(result.directory().toString())
+                .name("takenAt").value(result.manifest().takenAt())
+                .name("lockMillis").value(result.lockMillis())
+                .name("totalMillis").value(result.totalMillis())
+                .name("compressedBytes").value(result.compressedBytes())
+                .name("files").beginArray();
+        for (BackupManifest.Entry entry : result.manifest().entries()) {
+            json.beginObject()
+                    .name("file").value(entry.fileName())
+                    .name("records").value(entry.records())
+                    .name("bytes").value(entry.bytes())
+                    .name("sha256").value(entry.sha256())
+                    .endObject();
+        }
+        json.endArray().endObject();
+        return 201;
+    }
+}
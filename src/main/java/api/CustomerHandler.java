@@ -0,0 +1,42 @@
+package api;
+
+import model.customer.Customer;
+import service.customer.CustomerService;
+
+import java.util.function.Predicate;
+
+// GET /api/customers?name=&cursor=&limit=
+// GET /api/customers/search?q=&page=&size=   (busca tolerante a erros de digitação)
+// GET /api/customers/{id}
+public class CustomerHandler extends ApiHandler {
+    private static final int MAX_SEARCH_SIZE = 50;
+
+    private final CustomerService customerService;
+
+    public CustomerHandler(CustomerService customerService) {
+        this.customerService = customerService;
+    }
+
+    @Override
+    protected int handle(ApiRequest request, JsonWriter json) {
+        if (!request.method().equals("GET")) throw methodNotAllowed();
+
+        if (request.segmentCount() == 1 && request.segment(0).equals("search")) {
+            return writeList(json, customerService.searchCustomers(request.requiredParam("q"),
+                            request.intParam("page", 0, 0, Integer.MAX_VALUE),
+                            request.intParam("size", 10, 1, MAX_SEARCH_SIZE)),
+                    EntityJson::customer);
+        }
+        if (request.segmentCount() == 1) {
+            Customer customer = found(customerService.findCustomerById(request.segment(0)), "Cliente não encontrado.");
+            return writeOk(json, customer, EntityJson::customer);
+        }
+        if (request.segmentCount() > 1) throw notFound("Recurso não encontrado.");
+
+        String name = request.param("name");
+        Predicate<Customer> filter = name == null ? null
+                : customer -> customer.getName().toLowerCase().contains(name.toLowerCase());
+        return writePage(json, customerService.findCustomerPage(filter, request.param("cursor"),
+                request.intParam("limit", DEFAULT_LIMIT, 1, MAX_LIMIT)), EntityJson::customer);
+    }
+}
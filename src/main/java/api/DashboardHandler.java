@@ -0,0 +1,53 @@
+package api;
+
+import enums.VehicleType;
+import model.agency.Agency;
+import service.agency.AgencyService;
+import service.dashboard.DashboardView;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+// GET /api/dashboard   Contadores do painel, lidos sem travar os dados
+public class DashboardHandler extends ApiHandler {
+    private final DashboardView dashboardView;
+    private final AgencyService agencyService;
+
+    public DashboardHandler(DashboardView dashboardView, AgencyService agencyService) {
+        this.dashboardView = dashboardView;
+        this.agencyService = agencyService;
+    }
+
+    @Override
+    protected int handle(ApiRequest request, JsonWriter json) {
+        if (!request.method().equals("GET")) throw methodNotAllowed();
+        if (request.segmentCount() > 0) throw notFound("Recurso não encontrado.");
+
+        DashboardView.Snapshot snapshot = dashboardView.snapshot();
+
+        Set<String> agencyIds = new TreeSet<>(snapshot.openRentalsByAgency().keySet());
+        agencyIds.addAll(snapshot.availableVehiclesByAgency().keySet());
+
+        json.beginObject()
+                .name("day").value(snapshot.day().toString())
+                .name("rentalsClosedToday").value(snapshot.rentalsClosedToday())
+                .name("revenueToday").value(snapshot.revenueToday())
+                .name("agencies").beginArray();
+        for (String agencyId : agencyIds) {
+            Agency agency = agencyService.findAgencyById(agencyId);
+            json.beginObject()
+                    .name("agencyId").value(agencyId)
+                    .name("agencyName").value(agency != null ? agency.getName() : null)
+                    .name("openRentals").value(snapshot.openRentalsByAgency().getOrDefault(agencyId, 0L))
+                    .name("availableVehicles").beginObject();
+            Map<VehicleType, Long> available = snapshot.availableVehiclesByAgency().get(agencyId);
+            for (VehicleType type : VehicleType.values()) {
+                json.name(type.name()).value(available != null ? available.get(type) : 0L);
+            }
+            json.endObject().endObject();
+        }
+        json.endArray().endObject();
+        return 200;
+    }
+}
@@ -0,0 +1,63 @@
+package api;
+
+import model.agency.Agency;
+import model.customer.Customer;
+import model.rental.Rental;
+import model.vehicle.Vehicle;
+
+// Representação JSON das entidades expostas pela API
+public class EntityJson {
+
+    public static void agency(JsonWriter json, Agency agency) {
+        json.beginObject()
+                .name("id").value(agency.getId())
+                .name("name").value(agency.getName())
+                .name("address").value(agency.getAddress())
+                .name("phone").value(agency.getPhone())
+                .endObject();
+    }
+
+    public static void vehicle(JsonWriter json, Vehicle vehicle) {
+        json.beginObject()
+                .name("id").value(vehicle.getId())
+                .name("type").value(vehicle.getType().name())
+                .name("plate").value(vehicle.getPlate())
+                .name("model").value(vehicle.getModel())
+                .name("brand").value(vehicle.getBrand())
+                .name("available").value(Boolean.TRUE.equals(vehicle.isAvailable()))
+                .name("dailyRate").value(vehicle.getDailyRate())
+                .name("agencyId").value(vehicle.getAgency() != null ? vehicle.getAgency().getId() : null)
+                .endObject();
+    }
+
+    public static void customer(JsonWriter json, Customer customer) {
+        json.beginObject()
+                .name("id").value(customer.getId())
+                .name("type").value(customer.getType().name())
+                .name("name").value(customer.getName())
+                .name("phone").value(customer.getPhoneNumber())
+                .name("document").value(customer.getDocumentId())
+                .endObject();
+    }
+
+    public static void rental(JsonWriter json, Rental rental) {
+        boolean closed = rental.getActualReturnDate() != null;
+        json.beginObject()
+                .name("id").value(rental.getId())
+                .name("status").value(closed ? "CLOSED" : "OPEN")
+                .name("customerId").value(rental.getCustomer().getId())
+                .name("customerName").value(rental.getCustomer().getName())
+                .name("vehicleId").value(rental.getVehicle().getId())
+                .name("plate").value(rental.getVehicle().getPlate())
+                .name("pickUpAgencyId").value(rental.getPickUpAgency().getId())
+                .name("returnAgencyId").value(rental.getReturnAgency() != null ? rental.getReturnAgency().getId() : null)
+                .name("pickUpDate").value(rental.getPickUpDate())
+                .name("estimatedReturnDate").value(rental.getEstimatedReturnDate())
+                .name("actualReturnDate").value(rental.getActualReturnDate())
+                .name("fees").value(rental.getFees());
+        if (closed) {
+            json.name("totalCost").value(rental.calculateTotalCost());
+        }
+        json.endObject();
+    }
+}
@@ -0,0 +1,73 @@
+package api;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import config.AppContext;
+import export.ChannelWriter;
+import export.DataExporter;
+import export.ExportFormat;
+import export.ExportSnapshot;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+
+// GET /api/export/{agencies|customers|vehicles|rentals}?format=ndjson|csv
+// Transmite o retrato em partes (chunked), sem montar a resposta inteira em memória
+public class ExportHandler implements HttpHandler {
+    private final AppContext context;
+
+    public ExportHandler(AppContext context) {
+        this.context = context;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            DataExporter.Entity entity;
+            ExportFormat format;
+            try {
+                if (!exchange.getRequestMethod().equals("GET")) {
+                    sendError(exchange, 405, "Método não permitido.");
+                    return;
+                }
+                String path = exchange.getRequestURI().getPath().substring(exchange.getHttpContext().getPath().length());
+                entity = DataExporter.Entity.fromName(path.replace("/", ""));
+                format = ExportFormat.fromName(formatParam(exchange.getRequestURI().getRawQuery()));
+            } catch (IllegalArgumentException e) {
+                sendError(exchange, 400, e.getMessage());
+                return;
+            }
+
+            ExportSnapshot snapshot = ExportSnapshot.capture(context);
+
+            exchange.getResponseHeaders().set("Content-Type", format == ExportFormat.CSV
+                    ? "text/csv; charset=utf-8" : "application/x-ndjson; charset=utf-8");
+            exchange.getResponseHeaders().set("Content-Disposition",
+                    "attachment; filename=\"" + entity.getFileName() + "." + format.getExtension() + "\"");
+            exchange.sendResponseHeaders(200, 0);
+
+            try (ChannelWriter out = new ChannelWriter(Channels.newChannel(exchange.getResponseBody()))) {
+                DataExporter.export(snapshot, entity, format, out);
+            }
+        }
+    }
+
+    private static String formatParam(String rawQuery) {
+        if (rawQuery != null) {
+            for (String pair : rawQuery.split("&")) {
+                if (pair.startsWith("format=")) return pair.substring("format=".length());
+            }
+        }
+        return ExportFormat.NDJSON.getExtension();
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        JsonWriter json = new JsonWriter().beginObject().name("error").value(message).endObject();
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, json.size());
+        try (OutputStream body = exchange.getResponseBody()) {
+            json.writeTo(body);
+        }
+    }
+}
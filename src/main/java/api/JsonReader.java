@@ -0,0 +1,121 @@
+package api;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Leitor mínimo para os corpos das requisições: um objeto plano cujos valores são textos,
+// números, booleanos ou null. Tudo é devolvido como texto (null para valores nulos).
+public class JsonReader {
+    private final String text;
+    private int position;
+
+    private JsonReader(String text) {
+        this.text = text;
+    }
+
+    public static Map<String, String> readObject(String text) {
+        JsonReader reader = new JsonReader(text);
+        Map<String, String> values = reader.parseObject();
+        reader.skipWhitespace();
+        if (reader.position != text.length()) {
+            throw reader.error("conteúdo após o fim do objeto");
+        }
+        return values;
+    }
+
+    private Map<String, String> parseObject() {
+        Map<String, String> values = new HashMap<>();
+        skipWhitespace();
+        expect('{');
+        skipWhitespace();
+        if (peek() == '}') {
+            position++;
+            return values;
+        }
+        while (true) {
+            skipWhitespace();
+            String name = parseString();
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+            values.put(name, parseValue());
+            skipWhitespace();
+            char c = next();
+            if (c == '}') return values;
+            if (c != ',') throw error("esperado ',' ou '}'");
+        }
+    }
+
+    private String parseValue() {
+        char c = peek();
+        if (c == '"') return parseString();
+        if (c == '{' || c == '[') throw error("objetos e listas aninhados não são aceitos");
+        int start = position;
+        while (position < text.length() && ",} \t\r\n".indexOf(text.charAt(position)) < 0) {
+            position++;
+        }
+        String literal = text.substring(start, position);
+        if (literal.equals("null")) return null;
+        if (literal.equals("true") || literal.equals("false") || literal.matches("-?\\d+(\\.\\d+)?([eE][+-]?\\d+)?")) {
+            return literal;
+        }
+        throw error("valor inválido '" + literal + "'");
+    }
+
+    private String parseString() {
+        expect('"');
+        StringBuilder value = new StringBuilder();
+        while (true) {
+            char c = next();
+            if (c == '"') return value.toString();
+            if (c != '\\') {
+                value.append(c);
+                continue;
+            }
+            char escaped = next();
+            switch (escaped) {
+                case '"', '\\', '/' -> value.append(escaped);
+                case 'n' -> value.append('\n');
+                case 'r' -> value.append('\r');
+                case 't' -> value.append('\t');
+                case 'b' -> value.append('\b');
+                case 'f' -> value.append('\f');
+                case 'u' -> {
+                    if (position + 4 > text.length()) throw error("escape unicode incompleto");
+                    try {
+                        value.append((char) Integer.parseInt(text.substring(position, position + 4), 16));
+                    } catch (NumberFormatException e) {
+                        throw error("escape unicode inválido");
+                    }
+                    position += 4;
+                }
+                default -> throw error("escape inválido");
+            }
+        }
+    }
+
+    private void skipWhitespace() {
+        while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+    }
+
+    private char peek() {
+        if (position >= text.length()) throw error("fim inesperado");
+        return text.charAt(position);
+    }
+
+    private char next() {
+        char c = peek();
+        position++;
+        return c;
+    }
+
+    private void expect(char expected) {
+        if (next() != expected) throw error("esperado '" + expected + "'");
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException("JSON inválido na posição " + position + ": " + message + ".");
+    }
+}
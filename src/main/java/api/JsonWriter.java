@@ -0,0 +1,273 @@
+package api;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+// Escritor de JSON que codifica direto em bytes UTF-8 num buffer reaproveitado entre requisições,
+// sem montar Strings intermediárias para números, datas ou textos escapados.
+public class JsonWriter {
+    private static final int MAX_DEPTH = 32;
+    private static final int INITIAL_CAPACITY = 8 * 1024;
+    private static final int MAX_RETAINED_CAPACITY = 1024 * 1024;
+    private static final byte[] HEX = "0123456789abcdef".getBytes();
+    private static final byte[] NULL = "null".getBytes();
+    private static final byte[] TRUE = "true".getBytes();
+    private static final byte[] FALSE = "false".getBytes();
+
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int size;
+
+    // Por nível: já houve algum elemento (para decidir a vírgula)
+    private final boolean[] hasElements = new boolean[MAX_DEPTH];
+    private int depth;
+    private boolean afterName;
+
+    public JsonWriter reset() {
+        if (buffer.length > MAX_RETAINED_CAPACITY) {
+            buffer = new byte[INITIAL_CAPACITY];
+        }
+        size = 0;
+        depth = 0;
+        afterName = false;
+        return this;
+    }
+
+    public JsonWriter beginObject() {
+        beforeValue();
+        open('{');
+        return this;
+    }
+
+    public JsonWriter endObject() {
+        depth--;
+        writeByte('}');
+        return this;
+    }
+
+    public JsonWriter beginArray() {
+        beforeValue();
+        open('[');
+        return this;
+    }
+
+    public JsonWriter endArray() {
+        depth--;
+        writeByte(']');
+        return this;
+    }
+
+    public JsonWriter name(String name) {
+        separate();
+        writeString(name);
+        writeByte(':');
+        afterName = true;
+        return this;
+    }
+
+    public JsonWriter value(String value) {
+        if (value == null) return nullValue();
+        beforeValue();
+        writeString(value);
+        return this;
+    }
+
+    public JsonWriter value(long value) {
+        beforeValue();
+        writeLong(value);
+        return this;
+    }
+
+    public JsonWriter value(boolean value) {
+        beforeValue();
+        writeBytes(value ? TRUE : FALSE);
+        return this;
+    }
+
+    public JsonWriter value(BigDecimal value) {
+        if (value == null) return nullValue();
+        beforeValue();
+        String plain = value.toPlainString();
+        ensureCapacity(plain.length());
+        for (int i = 0; i < plain.length(); i++) {
+            buffer[size++] = (byte) plain.charAt(i);
+        }
+        return this;
+    }
+
+    // Formato ISO-8601 sem fração de segundos: "2024-05-01T10:30:00"
+    public JsonWriter value(LocalDateTime value) {
+        if (value == null) return nullValue();
+        beforeValue();
+        ensureCapacity(21);
+        buffer[size++] = '"';
+        writePadded(value.getYear(), 4);
+        buffer[size++] = '-';
+        writePadded(value.getMonthValue(), 2);
+        buffer[size++] = '-';
+        writePadded(value.getDayOfMonth(), 2);
+        buffer[size++] = 'T';
+        writePadded(value.getHour(), 2);
+        buffer[size++] = ':';
+        writePadded(value.getMinute(), 2);
+        buffer[size++] = ':';
+        writePadded(value.getSecond(), 2);
+        buffer[size++] = '"';
+        return this;
+    }
+
+    public JsonWriter nullValue() {
+        beforeValue();
+        writeBytes(NULL);
+        return this;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, size);
+    }
+
+    private void open(char bracket) {
+        if (depth == MAX_DEPTH) {
+            throw new IllegalStateException("JSON aninhado demais.");
+        }
+        writeByte(bracket);
+        hasElements[depth++] = false;
+    }
+
+    private void beforeValue() {
+        if (afterName) {
+            afterName = false;
+            return;
+        }
+        separate();
+    }
+
+    private void separate() {
+        if (depth == 0) return;
+        if (hasElements[depth - 1]) {
+            writeByte(',');
+        }
+        hasElements[depth - 1] = true;
+    }
+
+    private void writeString(String value) {
+        ensureCapacity(value.length() + 2);
+        buffer[size++] = '"';
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (c == '"' || c == '\\') {
+                    writeByte('\\');
+                    writeByte(c);
+                } else if (c < 0x20) {
+                    writeControl(c);
+                } else {
+                    writeByte(c);
+                }
+            } else if (c < 0x800) {
+                ensureCapacity(2);
+                buffer[size++] = (byte) (0xC0 | (c >> 6));
+                buffer[size++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                ensureCapacity(4);
+                buffer[size++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[size++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[size++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[size++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // Metade de par substituto solta não é UTF-8 válido
+                writeByte('?');
+            } else {
+                ensureCapacity(3);
+                buffer[size++] = (byte) (0xE0 | (c >> 12));
+                buffer[size++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[size++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        writeByte('"');
+    }
+
+    private void writeControl(char c) {
+        switch (c) {
+            case '\n' -> writeEscape('n');
+            case '\r' -> writeEscape('r');
+            case '\t' -> writeEscape('t');
+            case '\b' -> writeEscape('b');
+            case '\f' -> writeEscape('f');
+            default -> {
+                ensureCapacity(6);
+                buffer[size++] = '\\';
+                buffer[size++] = 'u';
+                buffer[size++] = '0';
+                buffer[size++] = '0';
+                buffer[size++] = HEX[c >> 4];
+                buffer[size++] = HEX[c & 0xF];
+            }
+        }
+    }
+
+    private void writeEscape(char c) {
+        ensureCapacity(2);
+        buffer[size++] = '\\';
+        buffer[size++] = (byte) c;
+    }
+
+    private void writeLong(long value) {
+        ensureCapacity(20);
+        if (value == Long.MIN_VALUE) {
+            writeBytes("-9223372036854775808".getBytes());
+            return;
+        }
+        if (value < 0) {
+            buffer[size++] = '-';
+            value = -value;
+        }
+        int start = size;
+        do {
+            buffer[size++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        reverse(start, size - 1);
+    }
+
+    private void writePadded(int value, int width) {
+        for (int i = width - 1; i >= 0; i--) {
+            buffer[size + i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        size += width;
+    }
+
+    private void reverse(int from, int to) {
+        while (from < to) {
+            byte tmp = buffer[from];
+            buffer[from++] = buffer[to];
+            buffer[to--] = tmp;
+        }
+    }
+
+    private void writeByte(int b) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) b;
+    }
+
+    private void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package api;
+
+import com.sun.net.httpserver.Filter;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+// Recusa tudo que não seja GET ou HEAD, antes de chegar aos handlers e aos serviços
+public class ReadOnlyFilter extends Filter {
+
+    @Override
+    public void doFilter(HttpExchange exchange, Chain chain) throws IOException {
+        String method = exchange.getRequestMethod();
+        if (method.equals("GET") || method.equals("HEAD")) {
+            chain.doFilter(exchange);
+            return;
+        }
+
+        try (exchange) {
+            JsonWriter json = new JsonWriter();
+            json.beginObject().name("error").value("Esta instância é uma réplica somente leitura.").endObject();
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(405, json.size());
+            try (OutputStream body = exchange.getResponseBody()) {
+                json.writeTo(body);
+            }
+        }
+    }
+
+    @Override
+    public String description() {
+        return "Réplica somente leitura";
+    }
+}
@@ -0,0 +1,119 @@
+package api;
+
+import dto.CreateRentalDTO;
+import exceptions.ApiException;
+import model.agency.Agency;
+import model.customer.Customer;
+import model.rental.Rental;
+import model.vehicle.Vehicle;
+import service.agency.AgencyService;
+import service.customer.CustomerService;
+import service.rental.RentalService;
+import service.vehicle.VehicleService;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.Predicate;
+
+// GET  /api/rentals?status=open|closed&customerId=&cursor=&limit=
+// GET  /api/rentals/{id}
+// POST /api/rentals              {"customerId", "vehicleId", "agencyId"?, "pickUpDate"?, "estimatedReturnDate" | "days"}
+// POST /api/rentals/{id}/close   {"returnAgencyId", "returnDate"?}
+public class RentalHandler extends ApiHandler {
+    private final RentalService rentalService;
+    private final AgencyService agencyService;
+    private final CustomerService customerService;
+    private final VehicleService vehicleService;
+
+    public RentalHandler(RentalService rentalService, AgencyService agencyService, CustomerService customerService,
+                         VehicleService vehicleService) {
+        this.rentalService = rentalService;
+        this.agencyService = agencyService;
+        this.customerService = customerService;
+        this.vehicleService = vehicleService;
+    }
+
+    @Override
+    protected int handle(ApiRequest request, JsonWriter json) throws IOException {
+        int segments = request.segmentCount();
+
+        if (request.method().equals("POST")) {
+            if (segments == 0) {
+                Rental rental = createRental(request.body());
+                writeOk(json, rental, EntityJson::rental);
+                return 201;
+            }
+            if (segments == 2 && request.segment(1).equals("close")) {
+                return writeOk(json, closeRental(request.segment(0), request.body()), EntityJson::rental);
+            }
+            throw notFound("Recurso não encontrado.");
+        }
+        if (!request.method().equals("GET")) throw methodNotAllowed();
+
+        if (segments == 1) {
+            Rental rental = found(rentalService.findRentalById(request.segment(0)), "Locação não encontrada.");
+            return writeOk(json, rental, EntityJson::rental);
+        }
+        if (segments > 1) throw notFound("Recurso não encontrado.");
+
+        return writePage(json, rentalService.findRentalPage(filterFrom(request), request.param("cursor"),
+                request.intParam("limit", DEFAULT_LIMIT, 1, MAX_LIMIT)), EntityJson::rental);
+    }
+
+    private Rental createRental(Map<String, String> body) {
+        Customer customer = found(customerService.findCustomerById(ApiRequest.required(body, "customerId")),
+                "Cliente não encontrado.");
+        Vehicle vehicle = found(vehicleService.findVehicleById(ApiRequest.required(body, "vehicleId")),
+                "Veículo não encontrado.");
+
+        String agencyId = body.get("agencyId");
+        Agency agency = agencyId == null ? vehicle.getAgency()
+                : found(agencyService.findAgencyById(agencyId), "Agência não encontrada.");
+        if (agency == null || vehicle.getAgency() == null || !agency.getId().equals(vehicle.getAgency().getId())) {
+            throw new ApiException(400, "O veículo não está na agência de retirada.");
+        }
+
+        LocalDateTime pickUpDate = ApiRequest.parseDate("pickUpDate", body.get("pickUpDate"));
+        if (pickUpDate == null) pickUpDate = LocalDateTime.now();
+
+        LocalDateTime estimatedReturnDate = ApiRequest.parseDate("estimatedReturnDate", body.get("estimatedReturnDate"));
+        if (estimatedReturnDate == null) {
+            String days = ApiRequest.required(body, "days");
+            try {
+                estimatedReturnDate = pickUpDate.plusDays(Integer.parseInt(days));
+            } catch (NumberFormatException e) {
+                throw new ApiException(400, "Campo 'days' deve ser um número inteiro.");
+            }
+        }
+        if (!estimatedReturnDate.isAfter(pickUpDate)) {
+            throw new ApiException(400, "A devolução prevista deve ser posterior à retirada.");
+        }
+
+        return rentalService.createRental(new CreateRentalDTO(customer, vehicle, agency, pickUpDate, estimatedReturnDate));
+    }
+
+    private Rental closeRental(String rentalId, Map<String, String> body) {
+        Rental rental = found(rentalService.findRentalById(rentalId), "Locação não encontrada.");
+        Agency returnAgency = found(agencyService.findAgencyById(ApiRequest.required(body, "returnAgencyId")),
+                "Agência de devolução não encontrada.");
+
+        LocalDateTime returnDate = ApiRequest.parseDate("returnDate", body.get("returnDate"));
+        if (returnDate == null) returnDate = LocalDateTime.now();
+
+        return rentalService.closeRental(rental, returnAgency, returnDate);
+    }
+
+    private Predicate<Rental> filterFrom(ApiRequest request) {
+        String status = request.param("status");
+        String customerId = request.param("customerId");
+        if (status != null && !status.equalsIgnoreCase("open") && !status.equalsIgnoreCase("closed")) {
+            throw new ApiException(400, "Status inválido: use 'open' ou 'closed'.");
+        }
+        if (status == null && customerId == null) return null;
+
+        boolean open = "open".equalsIgnoreCase(status);
+        return rental -> (status == null || (rental.getActualReturnDate() == null) == open)
+                && (customerId == null || customerId.equals(rental.getCustomer().getId()));
+    }
+}
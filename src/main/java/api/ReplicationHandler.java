@@ -0,0 +1,51 @@
+package api;
+
+import replication.ReplicationClient;
+import replication.ReplicationServer;
+
+// GET /api/replication   No primário, a posição do log e o quanto cada réplica confirmou;
+//                        na réplica, a posição aplicada, o quanto falta e o atraso da última alteração
+public class ReplicationHandler extends ApiHandler {
+    private final ReplicationServer primary;
+    private final ReplicationClient follower;
+
+    public ReplicationHandler(ReplicationServer primary, ReplicationClient follower) {
+        this.primary = primary;
+        this.follower = follower;
+    }
+
+    @Override
+    protected int handle(ApiRequest request, JsonWriter json) {
+        if (!request.method().equals("GET")) throw methodNotAllowed();
+        if (request.segmentCount() > 0) throw notFound("Recurso não encontrado.");
+
+        if (follower != null) {
+            ReplicationClient.Status status = follower.getStatus();
+            json.beginObject()
+                    .name("role").value("follower")
+                    .name("primary").value(status.primary())
+                    .name("connected").value(status.connected())
+                    .name("position").value(status.position())
+                    .name("primaryPosition").value(status.primaryPosition())
+                    .name("behind").value(status.behind())
+                    .name("lagMillis").value(status.lagMillis())
+                    .name("millisSinceContact").value(status.millisSinceContact())
+                    .endObject();
+            return 200;
+        }
+
+        json.beginObject()
+                .name("role").value("primary")
+                .name("position").value(primary.getLog().getLastSequence())
+                .name("followers").beginArray();
+        for (ReplicationServer.FollowerStatus status : primary.getFollowers()) {
+            json.beginObject()
+                    .name("address").value(status.address())
+                    .name("acknowledged").value(status.acknowledged())
+                    .name("behind").value(status.behind())
+                    .endObject();
+        }
+        json.endArray().endObject();
+        return 200;
+    }
+}
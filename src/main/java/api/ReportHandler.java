@@ -0,0 +1,72 @@
+package api;
+
+import service.report.ReportService;
+import service.report.ReportService.AgencyRevenue;
+import service.report.ReportService.DailyRevenue;
+import service.report.ReportService.FleetUtilization;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// GET /api/reports/{revenue-by-agency|daily-revenue|utilization}?from=&to=
+// Sem período, considera os últimos 30 dias até o fim de hoje
+public class ReportHandler extends ApiHandler {
+    private static final int DEFAULT_PERIOD_DAYS = 30;
+
+    private final ReportService reportService;
+
+    public ReportHandler(ReportService reportService) {
+        this.reportService = reportService;
+    }
+
+    @Override
+    protected int handle(ApiRequest request, JsonWriter json) {
+        if (!request.method().equals("GET")) throw methodNotAllowed();
+        if (request.segmentCount() != 1) throw notFound("Relatório não encontrado.");
+
+        LocalDateTime to = request.dateParam("to");
+        if (to == null) to = LocalDate.now().plusDays(1).atStartOfDay();
+        LocalDateTime from = request.dateParam("from");
+        if (from == null) from = to.minusDays(DEFAULT_PERIOD_DAYS);
+
+        return switch (request.segment(0)) {
+            case "revenue-by-agency" ->
+                    writeList(json, reportService.findRevenueByAgency(from, to), ReportHandler::agencyRevenue);
+            case "daily-revenue" -> writeList(json, reportService.findDailyRevenue(from, to), ReportHandler::dailyRevenue);
+            case "utilization" ->
+                    writeList(json, reportService.findFleetUtilization(from, to), ReportHandler::fleetUtilization);
+            default -> throw notFound("Relatório não encontrado.");
+        };
+    }
+
+    private static void agencyRevenue(JsonWriter json, AgencyRevenue row) {
+        json.beginObject()
+                .name("agencyId").value(row.agencyId())
+                .name("agencyName").value(row.agencyName())
+                .name("rentals").value(row.rentals())
+                .name("revenue").value(row.revenue())
+                .endObject();
+    }
+
+    private static void dailyRevenue(JsonWriter json, DailyRevenue row) {
+        json.beginObject()
+                .name("day").value(row.day().toString())
+                .name("vehicleType").value(row.vehicleType().name())
+                .name("customerType").value(row.customerType().name())
+                .name("rentals").value(row.rentals())
+                .name("revenue").value(row.revenue())
+                .endObject();
+    }
+
+    private static void fleetUtilization(JsonWriter json, FleetUtilization row) {
+        json.beginObject()
+                .name("vehicleType").value(row.vehicleType().name())
+                .name("vehicles").value(row.vehicles())
+                .name("rentedSeconds").value(row.rentedSeconds())
+                .name("availableSeconds").value(row.availableSeconds())
+                .name("utilization").value(BigDecimal.valueOf(row.utilization()).setScale(4, RoundingMode.HALF_UP))
+                .endObject();
+    }
+}
@@ -0,0 +1,62 @@
+package api;
+
+import enums.VehicleType;
+import exceptions.ApiException;
+import model.vehicle.Vehicle;
+import service.vehicle.VehicleService;
+
+import java.time.LocalDateTime;
+import java.util.function.Predicate;
+
+// GET /api/vehicles?agencyId=&available=&type=&cursor=&limit=
+// GET /api/vehicles/available?agencyId=&from=&to=
+// GET /api/vehicles/{id}
+public class VehicleHandler extends ApiHandler {
+    private final VehicleService vehicleService;
+
+    public VehicleHandler(VehicleService vehicleService) {
+        this.vehicleService = vehicleService;
+    }
+
+    @Override
+    protected int handle(ApiRequest request, JsonWriter json) {
+        if (!request.method().equals("GET")) throw methodNotAllowed();
+
+        if (request.segmentCount() == 1 && request.segment(0).equals("available")) {
+            LocalDateTime from = request.dateParam("from");
+            LocalDateTime to = request.dateParam("to");
+            if (from == null) from = LocalDateTime.now();
+            if (to == null) to = from.plusDays(1);
+            return writeList(json, vehicleService.findAvailable(request.requiredParam("agencyId"), from, to),
+                    EntityJson::vehicle);
+        }
+        if (request.segmentCount() == 1) {
+            Vehicle vehicle = found(vehicleService.findVehicleById(request.segment(0)), "Veículo não encontrado.");
+            return writeOk(json, vehicle, EntityJson::vehicle);
+        }
+        if (request.segmentCount() > 1) throw notFound("Recurso não encontrado.");
+
+        return writePage(json, vehicleService.findVehiclePage(filterFrom(request), request.param("cursor"),
+                request.intParam("limit", DEFAULT_LIMIT, 1, MAX_LIMIT)), EntityJson::vehicle);
+    }
+
+    private Predicate<Vehicle> filterFrom(ApiRequest request) {
+        String agencyId = request.param("agencyId");
+        String available = request.param("available");
+        String type = request.param("type");
+
+        VehicleType vehicleType;
+        try {
+            vehicleType = type == null ? null : VehicleType.valueOf(type.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(400, "Tipo de veículo inválido: " + type);
+        }
+
+        if (agencyId == null && available == null && vehicleType == null) return null;
+
+        boolean onlyAvailable = Boolean.parseBoolean(available);
+        return vehicle -> (agencyId == null || (vehicle.getAgency() != null && agencyId.equals(vehicle.getAgency().getId())))
+                && (available == null || Boolean.TRUE.equals(vehicle.isAvailable()) == onlyAvailable)
+                && (vehicleType == null || vehicle.getType() == vehicleType);
+    }
+}
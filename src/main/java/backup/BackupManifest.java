@@ -0,0 +1,63 @@
+package backup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Índice de um backup: para cada arquivo *-DB, quantos registros, o tamanho sem compressão e o
+// SHA-256 do conteúdo sem compressão, que a restauração confere antes de trocar qualquer arquivo.
+//   codersrental-backup 1
+//   takenAt 2024-05-01T10:30:00
+//   rental-DB 1554 183422 9f2c...
+public record BackupManifest(LocalDateTime takenAt, List<Entry> entries) {
+    public static final String FILE_NAME = "MANIFEST";
+    private static final String HEADER = "codersrental-backup 1";
+    private static final String TAKEN_AT = "takenAt ";
+
+    public record Entry(String fileName, long records, long bytes, String sha256) {
+        public String compressedFileName() {
+            return fileName + ".gz";
+        }
+    }
+
+    public void write(Path directory) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        lines.add(TAKEN_AT + takenAt);
+        for (Entry entry : entries) {
+            lines.add(entry.fileName() + " " + entry.records() + " " + entry.bytes() + " " + entry.sha256());
+        }
+        Files.write(directory.resolve(FILE_NAME), lines, StandardCharsets.UTF_8);
+    }
+
+    public static BackupManifest read(Path directory) throws IOException {
+        Path file = directory.resolve(FILE_NAME);
+        if (!Files.isRegularFile(file)) {
+            throw new IOException("Backup sem " + FILE_NAME + ": " + directory);
+        }
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        if (lines.size() < 2 || !lines.get(0).equals(HEADER) || !lines.get(1).startsWith(TAKEN_AT)) {
+            throw new IOException("Índice de backup inválido: " + file);
+        }
+        try {
+            LocalDateTime takenAt = LocalDateTime.parse(lines.get(1).substring(TAKEN_AT.length()));
+            List<Entry> entries = new ArrayList<>();
+            for (String line : lines.subList(2, lines.size())) {
+                if (line.isBlank()) continue;
+                String[] fields = line.trim().split(" ");
+                if (fields.length != 4 || fields[0].contains("/") || fields[0].contains("\\")) {
+                    throw new IOException("Linha inválida no índice do backup: " + line);
+                }
+                entries.add(new Entry(fields[0], Long.parseLong(fields[1]), Long.parseLong(fields[2]), fields[3]));
+            }
+            return new BackupManifest(takenAt, entries);
+        } catch (RuntimeException e) {
+            throw new IOException("Índice de backup inválido: " + file + " (" + e.getMessage() + ")");
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package backup;
+
+import config.AppContext;
+import data.DataPersistence;
+import data.RecordJournal;
+import data.Schema;
+import data.StoreLock;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// Backup com a aplicação no ar. Sob uma única trava (StoreLock.snapshot), cada lista é serializada em memória
+// no formato dos arquivos *-DB: é o retrato consistente, e as alterações esperam só essa cópia.
+// Compressão, checksums e gravação acontecem depois, fora da trava. O backup é montado em
+// "<nome>.partial" e só ganha o nome definitivo quando o índice (MANIFEST) está gravado.
+public class SnapshotBackup {
+    private static final DateTimeFormatter DIRECTORY_NAME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    private static final String PARTIAL_SUFFIX = ".partial";
+    private static final String SHARDS_DIRECTORY = "shards";
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    public record Result(Path directory, BackupManifest manifest, long lockMillis, long totalMillis,
+                         long compressedBytes) {
+    }
+
+    private record Store(String fileName, List<?> data) {
+    }
+
+    private record Captured(String fileName, long records, byte[] content) {
+    }
+
+    public static Result create(AppContext context, Path root) throws IOException {
+        long start = System.nanoTime();
+        LocalDateTime takenAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+        long[] lockNanos = new long[1];
+        List<Captured> captured;
+        try {
+            captured = StoreLock.snapshot(() -> {
+                long locked = System.nanoTime();
+                List<Captured> copies = new ArrayList<>();
+                for (Store store : List.of(
+                        new Store("agency-DB", context.getAgencyService().findAllAgencies()),
+                        new Store("customer-DB", context.getCustomerService().findAllCustomers()),
+                        new Store("vehicle-DB", context.getVehicleService().findAllVehicles()),
+                        new Store("rental-DB", context.getRentalService().findAllRentals()),
+                        new Store("reservation-DB", context.getReservationService().findAllReservations()))) {
+                    copies.add(new Captured(store.fileName(), store.data().size(), serialize(store.fileName(), store.data())));
+                }
+                lockNanos[0] = System.nanoTime() - locked;
+                return copies;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        Path directory = root.resolve(takenAt.format(DIRECTORY_NAME));
+        Path partial = root.resolve(directory.getFileName() + PARTIAL_SUFFIX);
+        Files.createDirectories(partial);
+
+        List<BackupManifest.Entry> entries = new ArrayList<>();
+        long compressedBytes = 0;
+        for (Captured copy : captured) {
+            BackupManifest.Entry entry = new BackupManifest.Entry(copy.fileName(), copy.records(),
+                    copy.content().length, HexFormat.of().formatHex(sha256().digest(copy.content())));
+            Path file = partial.resolve(entry.compressedFileName());
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file), BUFFER_SIZE)) {
+                out.write(copy.content());
+            }
+            compressedBytes += Files.size(file);
+            entries.add(entry);
+        }
+
+        BackupManifest manifest = new BackupManifest(takenAt, entries);
+        manifest.write(partial);
+        DataPersistence.replace(partial, directory);
+
+        return new Result(directory, manifest, lockNanos[0] / 1_000_000,
+                (System.nanoTime() - start) / 1_000_000, compressedBytes);
+    }
+
+    // Descomprime cada arquivo e confere tamanho e SHA-256 com o índice, sem gravar nada
+    public static BackupManifest verify(Path backup) throws IOException {
+        BackupManifest manifest = BackupManifest.read(backup);
+        for (BackupManifest.Entry entry : manifest.entries()) {
+            copyVerified(backup, entry, OutputStream.nullOutputStream());
+        }
+        return manifest;
+    }
+
+    // Restaura com a aplicação parada. Todos os arquivos são conferidos e descomprimidos para
+    // temporários antes de qualquer troca; só então substituem os *-DB do diretório de destino.
+    // Partições do modo particionado são afastadas, para que ele divida de novo os arquivos restaurados.
+    public static BackupManifest restore(Path backup, Path target) throws IOException {
+        BackupManifest manifest = BackupManifest.read(backup);
+        Files.createDirectories(target);
+
+        List<Path> temporaries = new ArrayList<>();
+        try {
+            for (BackupManifest.Entry entry : manifest.entries()) {
+                Path temporary = target.resolve(entry.fileName() + ".restore");
+                temporaries.add(temporary);
+                try (OutputStream out = Files.newOutputStream(temporary)) {
+                    copyVerified(backup, entry, out);
+                }
+            }
+
+            Path shards = target.resolve(SHARDS_DIRECTORY);
+            if (Files.isDirectory(shards)) {
+                Files.move(shards, target.resolve(SHARDS_DIRECTORY + "-" + LocalDateTime.now().format(DIRECTORY_NAME)));
+            }
+            for (int i = 0; i < temporaries.size(); i++) {
+                String fileName = manifest.entries().get(i).fileName();
+                DataPersistence.replace(temporaries.get(i), target.resolve(fileName));
+                // O diário de alterações do arquivo antigo não vale para o restaurado
+                Files.deleteIfExists(target.resolve(RecordJournal.fileOf(fileName)));
+            }
+        } finally {
+            for (Path temporary : temporaries) {
+                Files.deleteIfExists(temporary);
+            }
+        }
+        return manifest;
+    }
+
+    private static void copyVerified(Path backup, BackupManifest.Entry entry, OutputStream out) throws IOException {
+        Path file = backup.resolve(entry.compressedFileName());
+        if (!Files.isRegularFile(file)) {
+            throw new IOException("Arquivo ausente no backup: " + entry.compressedFileName());
+        }
+
+        MessageDigest digest = sha256();
+        long bytes;
+        try (InputStream in = new DigestInputStream(new GZIPInputStream(Files.newInputStream(file), BUFFER_SIZE), digest)) {
+            bytes = in.transferTo(out);
+        } catch (IOException e) {
+            throw new IOException("Arquivo corrompido no backup: " + entry.compressedFileName() + " (" + e.getMessage() + ")");
+        }
+
+        if (bytes != entry.bytes() || !HexFormat.of().formatHex(digest.digest()).equals(entry.sha256())) {
+            throw new IOException("Checksum não confere para " + entry.compressedFileName() + "; nada foi restaurado.");
+        }
+    }
+
+    private static byte[] serialize(String fileName, List<?> data) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(BUFFER_SIZE);
+        try {
+            DataPersistence.write(data, bytes, Schema.currentOf(fileName));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
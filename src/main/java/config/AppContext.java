@@ -0,0 +1,253 @@
+package config;
+
+import data.StoreLock;
+import events.DomainEvent;
+import events.EventBus;
+import metrics.MetricsRegistry;
+import model.agency.Agency;
+import model.customer.Customer;
+import model.rental.Rental;
+import model.vehicle.Vehicle;
+import repository.agency.AgencyRepository;
+import repository.agency.InFileAgencyRepositoryImpl;
+import repository.agency.InMemoryAgencyRepositoryImpl;
+import repository.cache.EntityCache;
+import repository.cache.EvictionPolicy;
+import repository.cache.RepositoryCache;
+import repository.customer.CustomerRepository;
+import repository.customer.InFileCustomerRepositoryImpl;
+import repository.customer.InMemoryCustomerRepositoryImpl;
+import repository.customer.OffHeapCustomerRepository;
+import repository.rental.InFileRentalRepository;
+import repository.rental.InMemoryRentalRepository;
+import repository.rental.OffHeapRentalRepository;
+import repository.rental.RentalPeriodIndex;
+import repository.rental.RentalRepository;
+import repository.rental.ShardedRentalRepository;
+import repository.reservation.InFileReservationRepository;
+import repository.reservation.InMemoryReservationRepository;
+import repository.reservation.ReservationRepository;
+import repository.vehicle.InFileVehicleRepository;
+import repository.vehicle.InMemoryVehicleRepository;
+import repository.vehicle.ShardedVehicleRepository;
+import repository.vehicle.VehicleRepository;
+import replication.ReplicaApplier;
+import replication.ReplicationLog;
+import service.agency.AgencyService;
+import service.agency.AgencyServiceImpl;
+import service.customer.CustomerSearchIndex;
+import service.customer.CustomerService;
+import service.customer.CustomerServiceImpl;
+import service.dashboard.DashboardView;
+import service.rental.OverdueRentalScheduler;
+import service.rental.RentalService;
+import service.rental.RentalServiceImpl;
+import service.report.ReportService;
+import service.report.ReportServiceImpl;
+import service.reservation.ReservationService;
+import service.reservation.ReservationServiceImpl;
+import service.vehicle.VehicleService;
+import service.vehicle.VehicleServiceImpl;
+import utils.IdGenerator;
+
+import java.time.Clock;
+
+// Monta repositórios e serviços num só lugar, para que a interface e o modo headless usem a mesma pilha
+public class AppContext {
+    private static final String CACHE_PROPERTY = "codersrental.cache";
+    private static final String DEFAULT_CACHE = "tinylfu";
+    private static final int DEFAULT_CACHE_SIZE = 10_000;
+    private static final String STORAGE_PROPERTY = "codersrental.storage";
+    private static final String SHARDED_STORAGE = "sharded";
+
+    private final AgencyService agencyService;
+    private final VehicleService vehicleService;
+    private final CustomerService customerService;
+    private final RentalService rentalService;
+    private final ReservationService reservationService;
+    private final ReportService reportService;
+    private final DashboardView dashboardView;
+    private final EventBus eventBus;
+
+    private final RentalPeriodIndex rentalPeriodIndex;
+    private final OverdueRentalScheduler overdueRentalScheduler;
+    private final ReplicaApplier replicaApplier;
+
+    private AppContext(AgencyRepository agencyRepository, VehicleRepository vehicleRepository,
+                       CustomerRepository customerRepository, RentalRepository rentalRepository,
+                       ReservationRepository reservationRepository, Clock clock, ReplicationLog replicationLog,
+                       boolean partitionedWrites) {
+        // Primário: cada alteração dos repositórios entra no log enviado às réplicas. No retrato completo
+        // os veículos vêm depois das locações, para que o painel da réplica termine com o estado atual deles.
+        if (replicationLog != null) {
+            agencyRepository = replicationLog.record(AgencyRepository.class, agencyRepository);
+            customerRepository = replicationLog.record(CustomerRepository.class, customerRepository);
+            rentalRepository = replicationLog.record(RentalRepository.class, rentalRepository);
+            reservationRepository = replicationLog.record(ReservationRepository.class, reservationRepository);
+            vehicleRepository = replicationLog.record(VehicleRepository.class, vehicleRepository);
+        }
+
+        // -Dcodersrental.cache=<lru|tinylfu>:<entradas> ou off; padrão W-TinyLFU com 10 mil entradas por repositório
+        String cacheConfig = System.getProperty(CACHE_PROPERTY, DEFAULT_CACHE);
+        if (!cacheConfig.equalsIgnoreCase("off")) {
+            String[] parts = cacheConfig.split(":");
+            EvictionPolicy policy = EvictionPolicy.fromName(parts[0]);
+            int maximumSize = parts.length > 1 ? Integer.parseInt(parts[1]) : DEFAULT_CACHE_SIZE;
+            agencyRepository = RepositoryCache.wrap(AgencyRepository.class, agencyRepository, "agências",
+                    Agency::getId, EntityCache.create(policy, maximumSize));
+            vehicleRepository = RepositoryCache.wrap(VehicleRepository.class, vehicleRepository, "veículos",
+                    Vehicle::getId, EntityCache.create(policy, maximumSize));
+            customerRepository = RepositoryCache.wrap(CustomerRepository.class, customerRepository, "clientes",
+                    Customer::getId, EntityCache.create(policy, maximumSize));
+            rentalRepository = RepositoryCache.wrap(RentalRepository.class, rentalRepository, "locações",
+                    Rental::getId, EntityCache.create(policy, maximumSize));
+        }
+
+        // Ids novos continuam depois dos já gravados, mesmo que o relógio tenha voltado
+        IdGenerator ids = IdGenerator.getInstance();
+        agencyRepository.findAll().forEach(agency -> ids.advancePast(agency.getId()));
+        vehicleRepository.findAll().forEach(vehicle -> ids.advancePast(vehicle.getId()));
+        customerRepository.findAll().forEach(customer -> ids.advancePast(customer.getId()));
+        rentalRepository.findAll().forEach(rental -> ids.advancePast(rental.getId()));
+        reservationRepository.findAll().forEach(reservation -> ids.advancePast(reservation.getId()));
+
+        rentalPeriodIndex = new RentalPeriodIndex(rentalRepository.findAll());
+        overdueRentalScheduler = new OverdueRentalScheduler(clock);
+        overdueRentalScheduler.addListener((rental, daysLate, accruedLateFee) ->
+                rentalPeriodIndex.occupyUntilReturn(rental));
+
+        eventBus = new EventBus();
+        overdueRentalScheduler.addListener((rental, daysLate, accruedLateFee) ->
+                eventBus.publish(new DomainEvent.RentalOverdue(rental.getId(), rental.getCustomer().getId(),
+                        rental.getVehicle().getId(), rental.getPickUpAgency().getId(), daysLate, accruedLateFee)));
+        dashboardView = new DashboardView(rentalRepository.findAll(), vehicleRepository.findAll(), clock);
+        eventBus.subscribe("dashboard", dashboardView);
+
+        RentalService rentals = new RentalServiceImpl(rentalRepository, vehicleRepository, rentalPeriodIndex,
+                overdueRentalScheduler, eventBus);
+        CustomerSearchIndex customerSearchIndex = new CustomerSearchIndex(customerRepository.findAll());
+
+        // Interface, API e sessões remotas podem chamar os serviços ao mesmo tempo.
+        // As métricas ficam por fora da trava, então incluem a espera por ela. No modo particionado,
+        // locações em agências diferentes são abertas e encerradas em paralelo (ver @Partitioned).
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        agencyService = metrics.instrument(AgencyService.class,
+                StoreLock.guard(AgencyService.class, new AgencyServiceImpl(agencyRepository)));
+        vehicleService = metrics.instrument(VehicleService.class, StoreLock.guard(VehicleService.class,
+                new VehicleServiceImpl(vehicleRepository, rentalPeriodIndex, eventBus)));
+        customerService = metrics.instrument(CustomerService.class,
+                StoreLock.guard(CustomerService.class, new CustomerServiceImpl(customerRepository, customerSearchIndex, eventBus)));
+        rentalService = metrics.instrument(RentalService.class, StoreLock.guard(RentalService.class, rentals, partitionedWrites));
+        reservationService = StoreLock.guard(ReservationService.class,
+                new ReservationServiceImpl(reservationRepository, rentals, rentalPeriodIndex), partitionedWrites);
+        // Os relatórios tomam a trava de leitura só para copiar as listas e agregam fora dela
+        reportService = new ReportServiceImpl(rentalRepository, vehicleRepository, agencyRepository, clock);
+
+        // Usado só na réplica, que recebe as alterações pelos repositórios em vez dos serviços
+        replicaApplier = new ReplicaApplier(agencyRepository, vehicleRepository, customerRepository, rentalRepository,
+                reservationRepository, rentalPeriodIndex, overdueRentalScheduler, customerSearchIndex, eventBus);
+    }
+
+    // Dados persistidos nos arquivos *-DB, como na aplicação interativa.
+    // Com -Dcodersrental.storage=sharded, veículos e locações ficam num arquivo por agência em shards/
+    public static AppContext inFile() {
+        return inFile(null);
+    }
+
+    // Com um log de replicação, o contexto é o primário das réplicas que o acompanham (ver ReplicationServer)
+    public static AppContext inFile(ReplicationLog replicationLog) {
+        boolean sharded = SHARDED_STORAGE.equalsIgnoreCase(System.getProperty(STORAGE_PROPERTY, ""));
+        return new AppContext(
+                InFileAgencyRepositoryImpl.getInstance(),
+                sharded ? ShardedVehicleRepository.getInstance() : InFileVehicleRepository.getInstance(),
+                InFileCustomerRepositoryImpl.getInstance(),
+                sharded ? ShardedRentalRepository.getInstance() : InFileRentalRepository.getInstance(),
+                InFileReservationRepository.getInstance(),
+                Clock.systemDefaultZone(),
+                replicationLog,
+                sharded);
+    }
+
+    public static AppContext inMemory() {
+        return inMemory(null);
+    }
+
+    // A réplica também usa este contexto: começa vazia e recebe o retrato completo do primário
+    public static AppContext inMemory(ReplicationLog replicationLog) {
+        return new AppContext(
+                InMemoryAgencyRepositoryImpl.getInstance(),
+                InMemoryVehicleRepository.getInstance(),
+                InMemoryCustomerRepositoryImpl.getInstance(),
+                InMemoryRentalRepository.getInstance(),
+                InMemoryReservationRepository.getInstance(),
+                Clock.systemDefaultZone(),
+                replicationLog,
+                false);
+    }
+
+    // Clientes e locações em registros fora do heap, para massas de dados maiores que o heap; nada é gravado
+    public static AppContext offHeap() {
+        return new AppContext(
+                InMemoryAgencyRepositoryImpl.getInstance(),
+                InMemoryVehicleRepository.getInstance(),
+                OffHeapCustomerRepository.getInstance(),
+                OffHeapRentalRepository.getInstance(),
+                InMemoryReservationRepository.getInstance(),
+                Clock.systemDefaultZone(),
+                null,
+                false);
+    }
+
+    public void start() {
+        overdueRentalScheduler.start();
+    }
+
+    public void stop() {
+        overdueRentalScheduler.stop();
+        eventBus.stop();
+    }
+
+    public AgencyService getAgencyService() {
+        return agencyService;
+    }
+
+    public VehicleService getVehicleService() {
+        return vehicleService;
+    }
+
+    public CustomerService getCustomerService() {
+        return customerService;
+    }
+
+    public RentalService getRentalService() {
+        return rentalService;
+    }
+
+    public ReservationService getReservationService() {
+        return reservationService;
+    }
+
+    public ReportService getReportService() {
+        return reportService;
+    }
+
+    public EventBus getEventBus() {
+        return eventBus;
+    }
+
+    public DashboardView getDashboardView() {
+        return dashboardView;
+    }
+
+    public RentalPeriodIndex getRentalPeriodIndex() {
+        return rentalPeriodIndex;
+    }
+
+    public OverdueRentalScheduler getOverdueRentalScheduler() {
+        return overdueRentalScheduler;
+    }
+
+    public ReplicaApplier getReplicaApplier() {
+        return replicaApplier;
+    }
+}
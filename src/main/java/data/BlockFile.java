@@ -0,0 +1,292 @@
+package data;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// Arquivo *-DB em blocos independentes de ~64 KiB de registros serializados, cada um comprimido
+// com Deflate e com o próprio CRC. Um índice no final aponta o início de cada bloco, então
+// qualquer bloco pode ser lido sozinho e a carga descomprime os blocos em paralelo.
+//   cabeçalho: "CRBK", versão do formato, versão do schema dos registros (ver Schema; não existe na versão 1)
+//   bloco:     registros, bytes originais, bytes gravados, CRC32 dos originais, dados
+//              (gravados == originais quando a compressão não reduziu o bloco)
+//   índice:    posição de cada bloco, quantidade de blocos, posição do índice, "CRBK"
+public class BlockFile {
+    private static final byte[] MAGIC = {'C', 'R', 'B', 'K'};
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = MAGIC.length + 1 + 4;
+    private static final int HEADER_SIZE_V1 = MAGIC.length + 1;
+    private static final int BLOCK_HEADER_SIZE = 16;
+    private static final int TRAILER_SIZE = 4 + 8 + MAGIC.length;
+    private static final int TARGET_BLOCK_BYTES = 64 * 1024;
+
+    public record Block(int records, int rawLength, byte[] raw) {
+    }
+
+    public record Index(int schema, long[] offsets) {
+    }
+
+    public record Contents(int schema, List<Object> records) {
+    }
+
+    // Grava blocos já codificados (ver encode) na ordem recebida e, no fim, o índice
+    public static class Writer {
+        private final DataOutputStream out;
+        private final List<Long> offsets = new ArrayList<>();
+        private long position = HEADER_SIZE;
+
+        public Writer(OutputStream target, int schema) throws IOException {
+            out = new DataOutputStream(new BufferedOutputStream(target, TARGET_BLOCK_BYTES));
+            out.write(MAGIC);
+            out.writeByte(VERSION);
+            out.writeInt(schema);
+        }
+
+        public void append(byte[] block) throws IOException {
+            offsets.add(position);
+            out.write(block);
+            position += block.length;
+        }
+
+        public int blockCount() {
+            return offsets.size();
+        }
+
+        public void finish() throws IOException {
+            for (long offset : offsets) {
+                out.writeLong(offset);
+            }
+            out.writeInt(offsets.size());
+            out.writeLong(position);
+            out.write(MAGIC);
+            out.flush();
+        }
+    }
+
+    public static boolean isBlockFile(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(MAGIC.length);
+            return channel.read(header, 0) == MAGIC.length && ByteBuffer.wrap(MAGIC).equals(header.flip());
+        }
+    }
+
+    public static <T> void write(List<T> records, OutputStream target, int level, int schema) throws IOException {
+        Writer writer = new Writer(target, schema);
+        Deflater deflater = new Deflater(level, true);
+        try {
+            ByteArrayOutputStream raw = new ByteArrayOutputStream(TARGET_BLOCK_BYTES + TARGET_BLOCK_BYTES / 4);
+            ObjectOutputStream objects = null;
+            int count = 0;
+            for (T record : records) {
+                if (objects == null) {
+                    raw.reset();
+                    objects = new ObjectOutputStream(raw);
+                }
+                objects.writeObject(record);
+                count++;
+                objects.flush();
+                if (raw.size() >= TARGET_BLOCK_BYTES) {
+                    writer.append(encode(count, raw.toByteArray(), deflater));
+                    objects = null;
+                    count = 0;
+                }
+            }
+            if (count > 0) {
+                writer.append(encode(count, raw.toByteArray(), deflater));
+            }
+        } finally {
+            deflater.end();
+        }
+        writer.finish();
+    }
+
+    // Um bloco com todos os registros, pronto para Writer.append; nível 0 grava sem comprimir
+    public static byte[] encode(List<?> records, int level) throws IOException {
+        ByteArrayOutputStream raw = new ByteArrayOutputStream(TARGET_BLOCK_BYTES);
+        try (ObjectOutputStream objects = new ObjectOutputStream(raw)) {
+            for (Object record : records) {
+                objects.writeObject(record);
+            }
+        }
+        Deflater deflater = new Deflater(level, true);
+        try {
+            return encode(records.size(), raw.toByteArray(), deflater);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    // Lê todos os blocos, em paralelo, mantendo a ordem dos registros
+    public static Contents read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            Index index = readIndex(channel);
+            String store = Schema.storeOf(file.toString());
+            long[] offsets = index.offsets();
+            List<List<Object>> blocks;
+            try {
+                blocks = IntStream.range(0, offsets.length).parallel()
+                        .mapToObj(i -> {
+                            try {
+                                return deserialize(readBlock(channel, offsets[i]), store, index.schema());
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        })
+                        .toList();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            List<Object> records = new ArrayList<>();
+            for (List<Object> block : blocks) {
+                records.addAll(block);
+            }
+            return new Contents(index.schema(), records);
+        }
+    }
+
+    public static Index readIndex(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size < HEADER_SIZE_V1 + TRAILER_SIZE) {
+            throw new IOException("Arquivo em blocos truncado.");
+        }
+        ByteBuffer header = readFully(channel, 0, HEADER_SIZE_V1);
+        int version = header.get(MAGIC.length);
+        int schema;
+        if (version == VERSION) {
+            schema = readFully(channel, HEADER_SIZE_V1, 4).getInt();
+        } else if (version == 1) {
+            schema = Schema.INITIAL_VERSION;
+        } else {
+            throw new IOException("Versão de arquivo em blocos desconhecida: " + version);
+        }
+
+        ByteBuffer trailer = readFully(channel, size - TRAILER_SIZE, TRAILER_SIZE);
+        int count = trailer.getInt();
+        long indexPosition = trailer.getLong();
+        if (!ByteBuffer.wrap(MAGIC).equals(trailer.slice(12, MAGIC.length))
+                || count < 0 || indexPosition + (long) count * 8 + TRAILER_SIZE != size) {
+            throw new IOException("Índice do arquivo em blocos inválido ou truncado.");
+        }
+
+        ByteBuffer index = readFully(channel, indexPosition, count * 8);
+        long[] offsets = new long[count];
+        for (int i = 0; i < count; i++) {
+            offsets[i] = index.getLong();
+        }
+        return new Index(schema, offsets);
+    }
+
+    // Lê, descomprime e confere o CRC de um bloco; leituras posicionais, seguras entre threads
+    public static Block readBlock(FileChannel channel, long offset) throws IOException {
+        ByteBuffer header = readFully(channel, offset, BLOCK_HEADER_SIZE);
+        int records = header.getInt();
+        int rawLength = header.getInt();
+        int storedLength = header.getInt();
+        int checksum = header.getInt();
+        if (records < 0 || rawLength < 0 || storedLength < 0 || storedLength > rawLength) {
+            throw new IOException("Bloco inválido na posição " + offset);
+        }
+
+        byte[] stored = readFully(channel, offset + BLOCK_HEADER_SIZE, storedLength).array();
+        byte[] raw = stored;
+        if (storedLength < rawLength) {
+            raw = new byte[rawLength];
+            Inflater inflater = new Inflater(true);
+            try {
+                inflater.setInput(stored);
+                int inflated = 0;
+                while (inflated < rawLength) {
+                    int n = inflater.inflate(raw, inflated, rawLength - inflated);
+                    if (n == 0 && (inflater.finished() || inflater.needsInput())) break;
+                    inflated += n;
+                }
+                if (inflated != rawLength) {
+                    throw new IOException("Bloco corrompido na posição " + offset);
+                }
+            } catch (DataFormatException e) {
+                throw new IOException("Bloco corrompido na posição " + offset + ": " + e.getMessage());
+            } finally {
+                inflater.end();
+            }
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(raw, 0, rawLength);
+        if ((int) crc.getValue() != checksum) {
+            throw new IOException("Checksum não confere no bloco da posição " + offset);
+        }
+        return new Block(records, rawLength, raw);
+    }
+
+    // Registros de um bloco gravado na versão schema do arquivo "store"
+    public static List<Object> deserialize(Block block, String store, int schema) throws IOException {
+        List<Object> records = new ArrayList<>(block.records());
+        try (ObjectInputStream in = new SchemaInputStream(
+                new ByteArrayInputStream(block.raw(), 0, block.rawLength()), store, schema)) {
+            for (int i = 0; i < block.records(); i++) {
+                records.add(in.readObject());
+            }
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Classe desconhecida no arquivo: " + e.getMessage());
+        }
+        return records;
+    }
+
+    private static byte[] encode(int count, byte[] bytes, Deflater deflater) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+
+        byte[] compressed = new byte[bytes.length];
+        int length = 0;
+        boolean smaller = false;
+        if (bytes.length > 0) {
+            deflater.reset();
+            deflater.setInput(bytes);
+            deflater.finish();
+            while (!deflater.finished() && length < compressed.length) {
+                length += deflater.deflate(compressed, length, compressed.length - length);
+            }
+            // Só fica comprimido se couber em menos bytes que o original
+            smaller = deflater.finished() && length < bytes.length;
+        }
+        byte[] stored = smaller ? compressed : bytes;
+        int storedLength = smaller ? length : bytes.length;
+
+        ByteBuffer block = ByteBuffer.allocate(BLOCK_HEADER_SIZE + storedLength);
+        block.putInt(count);
+        block.putInt(bytes.length);
+        block.putInt(storedLength);
+        block.putInt((int) crc.getValue());
+        block.put(stored, 0, storedLength);
+        return block.array();
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Arquivo em blocos truncado.");
+            }
+        }
+        return buffer.flip();
+    }
+}
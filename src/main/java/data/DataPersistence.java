@@ -1,35 +1,133 @@
 package data;
 
+import metrics.MetricsRegistry;
+import metrics.Timer;
+import profiling.PersistenceFlushEvent;
+
 import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
 
 public class DataPersistence {
+    // Arquivos gravados com o dicionário inteiro do StringPool trazem este marcador e o String[] antes
+    // da lista. Não é mais gravado: os textos internados já são a mesma instância, e o fluxo de objetos
+    // grava cada instância uma vez só, o resto como referência; a leitura interna de novo (readObject).
+    private static final String DICTIONARY_SECTION = "codersrental:dictionary:1";
+    // Seguido do int com a versão do schema (ver Schema); vem antes do dicionário
+    private static final String SCHEMA_SECTION = "codersrental:schema";
 
     public static <T> void save(List<T> dataList, String fileName) {
-        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(new FileOutputStream(fileName))) {
-            objectOutputStream.writeObject(dataList);
+        Timer timer = MetricsRegistry.getInstance().timer("DataPersistence.save " + fileName);
+        PersistenceFlushEvent event = new PersistenceFlushEvent();
+        event.begin();
+        long start = System.nanoTime();
+        boolean failed = true;
+        // Grava num arquivo temporário e troca pelo definitivo: quem lê ou copia o arquivo
+        // (um backup, por exemplo) nunca encontra uma gravação pela metade
+        Path target = Path.of(fileName);
+        Path temporary = Path.of(fileName + ".tmp");
+        StorageCodec codec = StorageCodec.forFile(fileName);
+        int schema = Schema.currentOf(fileName);
+        try {
+            try (OutputStream out = new BufferedOutputStream(new FileOutputStream(temporary.toFile()))) {
+                if (codec.compressed()) {
+                    BlockFile.write(dataList, out, codec.level(), schema);
+                } else {
+                    write(dataList, out, schema);
+                }
+            }
+            replace(temporary, target);
+            failed = false;
 
         } catch (IOException e) {
             throw new RuntimeException("Erro ao gravar os dados: " + e.getMessage());
+        } finally {
+            timer.record(start, failed);
+            event.end();
+            if (event.shouldCommit()) {
+                event.file = fileName;
+                event.records = dataList.size();
+                event.bytes = new File(fileName).length();
+                event.succeeded = !failed;
+                event.commit();
+            }
         }
     }
 
 
+    // Mesmo formato do arquivo, em qualquer destino
+    public static <T> void write(List<T> dataList, OutputStream out, int schema) throws IOException {
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(out);
+        objectOutputStream.writeObject(SCHEMA_SECTION);
+        objectOutputStream.writeInt(schema);
+        objectOutputStream.writeObject(dataList);
+        objectOutputStream.flush();
+    }
+
+    public static void replace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
     public static <T> List<T> load(String fileName) {
         File arquivo = new File(fileName);
 
         if (!arquivo.exists()) {
             return new ArrayList<>();
         }
-        try (ObjectInputStream objectInputStream = new ObjectInputStream(new FileInputStream(fileName))) {
-            return (List<T>) objectInputStream.readObject();
+        Timer timer = MetricsRegistry.getInstance().timer("DataPersistence.load " + fileName);
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            BlockFile.Contents contents = read(arquivo.toPath());
+            // Arquivo de uma versão anterior: migra na carga; a próxima gravação já sai na versão atual
+            Schema.check(fileName, contents.schema());
+            Schema.upgrade(Schema.storeOf(fileName), contents.schema(), contents.records());
+            failed = false;
+            return (List<T>) contents.records();
 
+        } catch (InvalidClassException e) {
+            throw new RuntimeException("Erro ao ler os dados: " + fileName + " tem registros incompatíveis com as classes"
+                    + " atuais (" + e.getMessage() + "). Mudanças nas classes gravadas precisam de uma migração de schema.");
         } catch (IOException | ClassNotFoundException e) {
             throw new RuntimeException("Erro ao ler os dados: " + e.getMessage());
+        } finally {
+            timer.record(start, failed);
         }
 
     }
 
+    static BlockFile.Contents read(Path file) throws IOException, ClassNotFoundException {
+        return BlockFile.isBlockFile(file) ? BlockFile.read(file) : readStream(file.toFile());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BlockFile.Contents readStream(File arquivo) throws IOException, ClassNotFoundException {
+        try (SchemaInputStream objectInputStream = new SchemaInputStream(new FileInputStream(arquivo),
+                Schema.storeOf(arquivo.getPath()), Schema.INITIAL_VERSION)) {
+            Object section = objectInputStream.readObject();
+            int schema = Schema.INITIAL_VERSION;
+            if (SCHEMA_SECTION.equals(section)) {
+                schema = objectInputStream.readInt();
+                objectInputStream.version(schema);
+                section = objectInputStream.readObject();
+            }
+            // Arquivos antigos trazem só a lista, ou o dicionário antes dela; o dicionário é descartado,
+            // porque os textos da lista são internados ao serem lidos
+            if (DICTIONARY_SECTION.equals(section)) {
+                objectInputStream.readObject();
+                section = objectInputStream.readObject();
+            }
+            return new BlockFile.Contents(schema, (List<Object>) section);
+        }
+    }
+
 
 }
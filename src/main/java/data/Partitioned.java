@@ -0,0 +1,14 @@
+package data;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Marca uma alteração que só toca as partições (agências, veículos, clientes) que ela mesma trava com
+// StoreLock.partition. Com StoreLock.guard(..., true) ela não toma a trava de escrita global, e
+// alterações em partições diferentes rodam em paralelo; sem isso é tratada como qualquer alteração.
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Partitioned {
+}
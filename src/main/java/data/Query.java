@@ -0,0 +1,13 @@
+package data;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Marca um método de serviço que só lê os dados: StoreLock.guard o executa sob a trava de leitura.
+// Métodos sem a marca são tratados como alterações e tomam a de escrita.
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Query {
+}
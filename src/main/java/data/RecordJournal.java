@@ -0,0 +1,149 @@
+package data;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+// Diário só de acréscimo ao lado de um arquivo *-DB ("<arquivo>.journal"): cada alteração grava só o
+// registro alterado, em vez de regravar o arquivo inteiro. Quem usa o diário reaplica os registros
+// sobre o arquivo na carga e, de tempos em tempos, grava o arquivo e esvazia o diário (clear).
+//   cabeçalho: "CRJL", versão do schema dos registros (ver Schema)
+//   registro:  tamanho, CRC32, registro serializado sozinho
+// Um registro cortado no fim (queda no meio da gravação) é descartado na leitura.
+public class RecordJournal {
+    private static final byte[] MAGIC = {'C', 'R', 'J', 'L'};
+    private static final int HEADER_SIZE = MAGIC.length + 4;
+    private static final String SUFFIX = ".journal";
+
+    private final String dataFile;
+    private final Path file;
+    private FileChannel channel;
+    private int records;
+
+    public RecordJournal(String dataFile) {
+        this.dataFile = dataFile;
+        this.file = Path.of(fileOf(dataFile));
+    }
+
+    public static String fileOf(String dataFile) {
+        return dataFile + SUFFIX;
+    }
+
+    // Registros gravados, já migrados para a versão atual do schema
+    public synchronized List<Object> read() {
+        List<Object> found = new ArrayList<>();
+        if (!Files.exists(file)) {
+            return found;
+        }
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            byte[] magic = new byte[MAGIC.length];
+            in.readFully(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IOException("Diário inválido: " + file);
+            }
+            int schema = in.readInt();
+            Schema.check(dataFile, schema);
+            String store = Schema.storeOf(dataFile);
+            long remaining = Files.size(file) - HEADER_SIZE;
+            while (remaining >= 8) {
+                int length = in.readInt();
+                int checksum = in.readInt();
+                remaining -= 8;
+                if (length < 0 || length > remaining) {
+                    break;
+                }
+                byte[] record = new byte[length];
+                in.readFully(record);
+                remaining -= length;
+                CRC32 crc = new CRC32();
+                crc.update(record);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                try (ObjectInputStream objects = new SchemaInputStream(new ByteArrayInputStream(record), store, schema)) {
+                    found.add(objects.readObject());
+                }
+            }
+            Schema.upgrade(store, schema, found);
+        } catch (IOException | ClassNotFoundException e) {
+            throw new RuntimeException("Erro ao ler o diário " + file + ": " + e.getMessage());
+        }
+        records = found.size();
+        return found;
+    }
+
+    // A serialização acontece fora da trava; só a gravação no fim do arquivo é exclusiva
+    public void append(Object record) {
+        byte[] bytes;
+        try {
+            ByteArrayOutputStream raw = new ByteArrayOutputStream();
+            try (ObjectOutputStream objects = new ObjectOutputStream(raw)) {
+                objects.writeObject(record);
+            }
+            bytes = raw.toByteArray();
+        } catch (IOException e) {
+            throw new RuntimeException("Erro ao gravar os dados: " + e.getMessage());
+        }
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        ByteBuffer buffer = ByteBuffer.allocate(8 + bytes.length);
+        buffer.putInt(bytes.length).putInt((int) crc.getValue()).put(bytes).flip();
+
+        synchronized (this) {
+            try {
+                FileChannel out = open();
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                records++;
+            } catch (IOException e) {
+                throw new RuntimeException("Erro ao gravar os dados: " + e.getMessage());
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return records;
+    }
+
+    // Depois que o arquivo *-DB foi gravado com tudo o que o diário continha
+    public synchronized void clear() {
+        try {
+            if (channel != null) {
+                channel.close();
+                channel = null;
+            }
+            Files.deleteIfExists(file);
+            records = 0;
+        } catch (IOException e) {
+            throw new RuntimeException("Erro ao limpar o diário " + file + ": " + e.getMessage());
+        }
+    }
+
+    private FileChannel open() throws IOException {
+        if (channel == null) {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+            if (channel.size() == 0) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                header.put(MAGIC).putInt(Schema.currentOf(dataFile)).flip();
+                while (header.hasRemaining()) {
+                    channel.write(header);
+                }
+            }
+        }
+        return channel;
+    }
+}
@@ -0,0 +1,27 @@
+package data;
+
+import model.rental.Rental;
+
+import java.math.BigDecimal;
+
+// rental-DB 1 -> 2: locações passam a ter taxas; as gravadas antes não tinham nenhuma
+public class RentalFeesMigration implements SchemaMigration {
+    @Override
+    public String store() {
+        return "rental";
+    }
+
+    @Override
+    public int fromVersion() {
+        return 1;
+    }
+
+    @Override
+    public Object migrate(Object record) {
+        Rental rental = (Rental) record;
+        if (rental.getFees() == null) {
+            rental.setFees(BigDecimal.ZERO);
+        }
+        return rental;
+    }
+}
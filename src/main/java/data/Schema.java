@@ -0,0 +1,86 @@
+package data;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Versão do schema de cada arquivo *-DB. O número vai gravado no arquivo; ao ler um arquivo mais
+// antigo, os registros passam pelas migrações de cada versão até a atual. Para mudar uma classe
+// gravada, acrescente um SchemaMigration em MIGRATIONS e a versão do arquivo sobe sozinha; se a
+// mudança não é só acrescentar campos, o passo também diz quem lê as classes antigas (classes()).
+// Arquivos sem número (anteriores a este esquema) são da versão 1.
+public class Schema {
+    public static final int INITIAL_VERSION = 1;
+
+    // Em ordem de versão, por arquivo
+    private static final List<SchemaMigration> MIGRATIONS = List.of(
+            new RentalFeesMigration());
+
+    // O nome do arquivo é o que vem antes do primeiro '-' ("rental-DB", "shards/rental-<agência>-DB")
+    public static String storeOf(String fileName) {
+        String name = new File(fileName).getName();
+        int separator = name.indexOf('-');
+        return separator > 0 ? name.substring(0, separator) : name;
+    }
+
+    public static int current(String store) {
+        int version = INITIAL_VERSION;
+        for (SchemaMigration migration : MIGRATIONS) {
+            if (migration.store().equals(store) && migration.fromVersion() == version) {
+                version++;
+            }
+        }
+        return version;
+    }
+
+    public static int currentOf(String fileName) {
+        return current(storeOf(fileName));
+    }
+
+    // Leva os registros da versão from até a atual, no lugar
+    public static void upgrade(String store, int from, List<Object> records) {
+        List<SchemaMigration> steps = steps(store, from);
+        if (steps.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < records.size(); i++) {
+            Object record = records.get(i);
+            for (SchemaMigration step : steps) {
+                record = step.migrate(record);
+            }
+            records.set(i, record);
+        }
+    }
+
+    // Classes que leem os registros gravados na versão from; um passo posterior prevalece sobre o anterior
+    public static Map<String, Class<?>> classes(String store, int from) {
+        Map<String, Class<?>> classes = new HashMap<>();
+        for (SchemaMigration step : steps(store, from)) {
+            classes.putAll(step.classes());
+        }
+        return classes;
+    }
+
+    public static void check(String fileName, int version) throws IOException {
+        int current = currentOf(fileName);
+        if (version > current) {
+            throw new IOException("Arquivo " + fileName + " está na versão " + version
+                    + " do schema, mais nova que a suportada por esta aplicação (" + current + ").");
+        }
+    }
+
+    private static List<SchemaMigration> steps(String store, int from) {
+        List<SchemaMigration> steps = new ArrayList<>();
+        int version = from;
+        for (SchemaMigration migration : MIGRATIONS) {
+            if (migration.store().equals(store) && migration.fromVersion() == version) {
+                steps.add(migration);
+                version++;
+            }
+        }
+        return steps;
+    }
+}
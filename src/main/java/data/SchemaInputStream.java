@@ -0,0 +1,66 @@
+package data;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+// Lê registros gravados numa versão anterior do schema, antes que as classes atuais os recusem.
+// As migrações da versão em diante (ver SchemaMigration.classes) dizem qual classe lê cada nome gravado:
+// com os mesmos campos, a classe nova lê o registro direto (nome ou serialVersionUID mudaram);
+// senão, a classe indicada lê os campos como foram gravados e migrate converte o objeto depois.
+public class SchemaInputStream extends ObjectInputStream {
+    private final IntFunction<Map<String, Class<?>>> classesOf;
+    private Map<String, Class<?>> classes;
+
+    public SchemaInputStream(InputStream in, String store, int version) throws IOException {
+        this(in, from -> Schema.classes(store, from), version);
+    }
+
+    SchemaInputStream(InputStream in, IntFunction<Map<String, Class<?>>> classesOf, int version) throws IOException {
+        super(in);
+        this.classesOf = classesOf;
+        version(version);
+    }
+
+    // Arquivos em fluxo único gravam a versão no próprio fluxo, antes dos registros
+    public void version(int version) {
+        classes = classesOf.apply(version);
+    }
+
+    @Override
+    protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+        ObjectStreamClass stored = super.readClassDescriptor();
+        Class<?> target = classes.get(stored.getName());
+        if (target == null) {
+            return stored;
+        }
+        ObjectStreamClass current = ObjectStreamClass.lookup(target);
+        return current != null && sameFields(stored, current) ? current : stored;
+    }
+
+    @Override
+    protected Class<?> resolveClass(ObjectStreamClass descriptor) throws IOException, ClassNotFoundException {
+        Class<?> target = classes.get(descriptor.getName());
+        return target != null ? target : super.resolveClass(descriptor);
+    }
+
+    // Os campos vêm no fluxo na ordem da descrição; com os mesmos nomes e tipos, qualquer das duas lê os dados
+    private static boolean sameFields(ObjectStreamClass stored, ObjectStreamClass current) {
+        ObjectStreamField[] storedFields = stored.getFields();
+        ObjectStreamField[] currentFields = current.getFields();
+        if (storedFields.length != currentFields.length) {
+            return false;
+        }
+        for (int i = 0; i < storedFields.length; i++) {
+            if (!storedFields[i].getName().equals(currentFields[i].getName())
+                    || storedFields[i].getTypeCode() != currentFields[i].getTypeCode()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
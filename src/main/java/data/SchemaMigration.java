@@ -0,0 +1,22 @@
+package data;
+
+import java.util.Map;
+
+// Um passo de migração de um arquivo *-DB: converte um registro do schema fromVersion() para o seguinte.
+// Recebe o registro já lido com as classes atuais (campos novos chegam nulos ou zerados), então só
+// preenche ou converte o que mudou. Pode ser chamado por várias threads ao mesmo tempo, um bloco por thread.
+// Campos removidos são ignorados na leitura; classes renomeadas, com serialVersionUID novo ou com campos
+// de outro tipo precisam de classes() para serem lidas (ver SchemaInputStream).
+public interface SchemaMigration {
+    String store();
+
+    int fromVersion();
+
+    Object migrate(Object record);
+
+    // Nome gravado nesta versão -> classe que lê o registro: a classe nova, se os campos são os mesmos,
+    // ou uma cópia da classe antiga (mesmo nome simples e serialVersionUID) que migrate converte
+    default Map<String, Class<?>> classes() {
+        return Map.of();
+    }
+}
@@ -0,0 +1,195 @@
+package data;
+
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Atualiza os arquivos *-DB de um diretório (e de shards/) para a versão atual do schema, com a
+// aplicação parada, no mesmo formato em que a aplicação gravaria cada arquivo (ver StorageCodec).
+// Em blocos, o arquivo é reescrito numa única passada: os blocos são lidos, migrados e recodificados
+// em paralelo, um por núcleo, e gravados na ordem original, com só alguns blocos em memória por vez.
+// Um fluxo único de objetos precisa ser lido inteiro; aí a migração é dividida em fatias paralelas.
+// O arquivo só é trocado quando o novo está completo.
+public class SchemaMigrator {
+    private static final String SUFFIX = "-DB";
+    private static final String SHARDS_DIRECTORY = "shards";
+    private static final int RECORDS_PER_BLOCK = 512;
+
+    public record Result(String fileName, int fromVersion, int toVersion, long records, int blocks, long millis) {
+        public boolean migrated() {
+            return fromVersion != toVersion;
+        }
+    }
+
+    private record Encoded(int records, byte[] block) {
+    }
+
+    @FunctionalInterface
+    private interface BlockSource {
+        List<Object> read(int block) throws IOException;
+    }
+
+    public static List<Result> migrate(Path directory) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (Path dir : List.of(directory, directory.resolve(SHARDS_DIRECTORY))) {
+            String[] found = dir.toAbsolutePath().toFile().list((parent, name) -> name.endsWith(SUFFIX));
+            if (found != null) {
+                for (String name : found) {
+                    files.add(dir.resolve(name));
+                }
+            }
+        }
+        files.sort(null);
+
+        int threads = Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Result> results = new ArrayList<>();
+            for (Path file : files) {
+                results.add(migrate(file, executor, threads * 2));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Result migrate(Path file, ExecutorService executor, int window) throws IOException {
+        long start = System.nanoTime();
+        String fileName = file.toString();
+        String store = Schema.storeOf(fileName);
+        int target = Schema.current(store);
+        StorageCodec codec = StorageCodec.forFile(fileName);
+        Path temporary = Path.of(fileName + ".tmp");
+
+        // De blocos para blocos: nenhum bloco precisa de outro, então nem o arquivo inteiro vai para a memória
+        if (codec.compressed() && BlockFile.isBlockFile(file)) {
+            BlockFile.Index index;
+            long records;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                index = BlockFile.readIndex(channel);
+                Schema.check(fileName, index.schema());
+                if (index.schema() == target) {
+                    return new Result(fileName, target, target, -1, index.offsets().length, elapsedMillis(start));
+                }
+                long[] offsets = index.offsets();
+                records = rewrite(temporary, store, index.schema(), target, codec.level(), offsets.length,
+                        block -> BlockFile.deserialize(BlockFile.readBlock(channel, offsets[block]), store, index.schema()),
+                        executor, window);
+            }
+            DataPersistence.replace(temporary, file);
+            return new Result(fileName, index.schema(), target, records, index.offsets().length, elapsedMillis(start));
+        }
+
+        BlockFile.Contents contents;
+        try {
+            contents = DataPersistence.read(file);
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Classe desconhecida em " + fileName + ": " + e.getMessage());
+        }
+        Schema.check(fileName, contents.schema());
+        if (contents.schema() == target) {
+            return new Result(fileName, target, target, contents.records().size(), 0, elapsedMillis(start));
+        }
+
+        List<Object> all = contents.records();
+        int blocks = (all.size() + RECORDS_PER_BLOCK - 1) / RECORDS_PER_BLOCK;
+        if (codec.compressed()) {
+            long records = rewrite(temporary, store, contents.schema(), target, codec.level(), blocks,
+                    block -> new ArrayList<>(slice(all, block)), executor, window);
+            DataPersistence.replace(temporary, file);
+            return new Result(fileName, contents.schema(), target, records, blocks, elapsedMillis(start));
+        }
+
+        // Sem compressão o arquivo continua um fluxo único: só a migração dos registros é dividida
+        try {
+            List<Future<?>> slices = new ArrayList<>(blocks);
+            for (int block = 0; block < blocks; block++) {
+                List<Object> slice = slice(all, block);
+                slices.add(executor.submit(() -> Schema.upgrade(store, contents.schema(), slice)));
+            }
+            for (Future<?> slice : slices) {
+                slice.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Migração interrompida.", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Erro na migração: " + e.getCause().getMessage(), e.getCause());
+        }
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temporary))) {
+            DataPersistence.write(all, out, target);
+        }
+        DataPersistence.replace(temporary, file);
+        return new Result(fileName, contents.schema(), target, all.size(), 0, elapsedMillis(start));
+    }
+
+    private static List<Object> slice(List<Object> records, int block) {
+        return records.subList(block * RECORDS_PER_BLOCK, Math.min(records.size(), (block + 1) * RECORDS_PER_BLOCK));
+    }
+
+    // Até "window" blocos em andamento; o mais antigo é gravado antes de o próximo entrar na fila
+    private static long rewrite(Path temporary, String store, int from, int target, int level, int blocks,
+                                BlockSource source, ExecutorService executor, int window) throws IOException {
+        long records = 0;
+        boolean done = false;
+        Deque<Future<Encoded>> pending = new ArrayDeque<>();
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temporary))) {
+            BlockFile.Writer writer = new BlockFile.Writer(out, target);
+            for (int block = 0; block < blocks; block++) {
+                int current = block;
+                pending.add(executor.submit(() -> {
+                    List<Object> data = source.read(current);
+                    Schema.upgrade(store, from, data);
+                    return new Encoded(data.size(), BlockFile.encode(data, level));
+                }));
+                if (pending.size() >= window) {
+                    records += append(writer, pending.poll());
+                }
+            }
+            while (!pending.isEmpty()) {
+                records += append(writer, pending.poll());
+            }
+            writer.finish();
+            done = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Migração interrompida.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) throw ioException;
+            throw new IOException("Erro na migração: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            for (Future<Encoded> future : pending) {
+                future.cancel(true);
+            }
+            if (!done) {
+                Files.deleteIfExists(temporary);
+            }
+        }
+        return records;
+    }
+
+    private static int append(BlockFile.Writer writer, Future<Encoded> next)
+            throws IOException, InterruptedException, ExecutionException {
+        Encoded encoded = next.get();
+        writer.append(encoded.block());
+        return encoded.records();
+    }
+
+    private static long elapsedMillis(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -0,0 +1,56 @@
+package data;
+
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Arquivos do modo particionado: um por agência, no formato "<diretório>/<prefixo>-<agência>-DB"
+public class ShardFiles {
+    private static final String SUFFIX = "-DB";
+
+    private final File directory;
+    private final String prefix;
+
+    public ShardFiles(String directory, String prefix) {
+        this.directory = new File(directory);
+        this.prefix = prefix + "-";
+    }
+
+    // O diretório é compartilhado entre os repositórios: só as partições deste prefixo contam
+    public boolean exists() {
+        String[] names = directory.list((dir, name) -> isShard(name));
+        return names != null && names.length > 0;
+    }
+
+    public String fileOf(String agencyId) {
+        return new File(directory, prefix + agencyId + SUFFIX).getPath();
+    }
+
+    // Partições gravadas, por id da agência
+    public <T> Map<String, List<T>> loadAll() {
+        Map<String, List<T>> shards = new HashMap<>();
+        File[] files = directory.listFiles((dir, name) -> isShard(name));
+        if (files == null) {
+            return shards;
+        }
+        for (File file : files) {
+            String name = file.getName();
+            String agencyId = name.substring(prefix.length(), name.length() - SUFFIX.length());
+            shards.put(agencyId, DataPersistence.load(file.getPath()));
+        }
+        return shards;
+    }
+
+    private boolean isShard(String name) {
+        return name.startsWith(prefix) && name.endsWith(SUFFIX);
+    }
+
+    public <T> void save(String agencyId, List<T> data) {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new RuntimeException("Erro ao criar o diretório " + directory);
+        }
+        DataPersistence.save(data, fileOf(agencyId));
+    }
+}
@@ -0,0 +1,45 @@
+package data;
+
+import java.util.zip.Deflater;
+
+// Como cada arquivo *-DB é gravado:
+//   -Dcodersrental.compression=<off|deflate[:nível]>            padrão para todos os arquivos
+//   -Dcodersrental.compression.<arquivo>=<off|deflate[:nível]>  só para um (ver Schema.storeOf), ex.: .rental
+// "off" grava o fluxo de objetos como sempre; "deflate" grava em blocos comprimidos (ver BlockFile).
+// A leitura reconhece o formato pelo conteúdo, então trocar a opção vale a partir da próxima gravação.
+public record StorageCodec(boolean compressed, int level) {
+    private static final String PROPERTY = "codersrental.compression";
+    private static final int DEFAULT_LEVEL = Deflater.BEST_SPEED;
+
+    public static final StorageCodec OFF = new StorageCodec(false, 0);
+
+    public static StorageCodec forFile(String fileName) {
+        String store = Schema.storeOf(fileName);
+        String value = System.getProperty(PROPERTY + "." + store, System.getProperty(PROPERTY));
+        return value == null ? OFF : parse(value);
+    }
+
+    public static StorageCodec parse(String value) {
+        String[] parts = value.trim().toLowerCase().split(":");
+        switch (parts[0]) {
+            case "off" -> {
+                return OFF;
+            }
+            case "deflate" -> {
+                int level = DEFAULT_LEVEL;
+                if (parts.length > 1) {
+                    try {
+                        level = Integer.parseInt(parts[1]);
+                    } catch (NumberFormatException e) {
+                        level = -1;
+                    }
+                }
+                if (level < Deflater.BEST_SPEED || level > Deflater.BEST_COMPRESSION) {
+                    throw new IllegalArgumentException("Nível de compressão inválido: " + value + " (use de 1 a 9).");
+                }
+                return new StorageCodec(true, level);
+            }
+            default -> throw new IllegalArgumentException("Compressão desconhecida: " + value + " (use off ou deflate[:nível]).");
+        }
+    }
+}
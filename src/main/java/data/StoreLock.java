@@ -0,0 +1,122 @@
+package data;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+// Trava única dos dados em memória, compartilhados pela interface, pela API e pelo agendador.
+// Consultas correm em paralelo; alterações (que também gravam os arquivos) são exclusivas.
+// Alterações @Partitioned são a exceção: correm junto com as consultas e entre si, cada uma sob
+// as travas das suas partições, e só os retratos completos (ver snapshot) esperam por elas.
+// Ordem das travas: lock, partitioned, partições.
+public class StoreLock {
+    private static final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private static final ReentrantReadWriteLock partitioned = new ReentrantReadWriteLock();
+    private static final ReentrantLock[] partitions = new ReentrantLock[64];
+
+    static {
+        for (int i = 0; i < partitions.length; i++) {
+            partitions[i] = new ReentrantLock();
+        }
+    }
+
+    public static <T> T read(Supplier<T> action) {
+        lock.readLock().lock();
+        try {
+            return action.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static <T> T write(Supplier<T> action) {
+        lock.writeLock().lock();
+        try {
+            return action.get();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Leitura que não pode ver uma alteração @Partitioned pela metade (backup, exportação, retrato das réplicas)
+    public static <T> T snapshot(Supplier<T> action) {
+        lock.readLock().lock();
+        partitioned.writeLock().lock();
+        try {
+            return action.get();
+        } finally {
+            partitioned.writeLock().unlock();
+            lock.readLock().unlock();
+        }
+    }
+
+    // Trava as partições das chaves, sempre em ordem crescente para duas alterações não se bloquearem.
+    // Sob a trava de escrita global (modo não particionado) as partições já estão livres e isto não espera.
+    public static <T> T partition(Collection<String> keys, Supplier<T> action) {
+        boolean[] taken = new boolean[partitions.length];
+        for (String key : keys) {
+            taken[Math.floorMod(key.hashCode(), partitions.length)] = true;
+        }
+        int locked = 0;
+        try {
+            for (; locked < partitions.length; locked++) {
+                if (taken[locked]) partitions[locked].lock();
+            }
+            return action.get();
+        } finally {
+            while (--locked >= 0) {
+                if (taken[locked]) partitions[locked].unlock();
+            }
+        }
+    }
+
+    public static <T> T guard(Class<T> type, T target) {
+        return guard(type, target, false);
+    }
+
+    // Envolve um serviço: métodos marcados com @Query rodam sob a trava de leitura, os demais sob a de escrita.
+    // Consultas nunca chamam alterações, então a trava de leitura nunca precisa ser promovida.
+    // Com "partitionedWrites", os métodos @Partitioned rodam só sob as travas das próprias partições;
+    // só vale para repositórios cujas alterações são seguras entre threads (ver ShardedRentalRepository).
+    @SuppressWarnings("unchecked")
+    public static <T> T guard(Class<T> type, T target, boolean partitionedWrites) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return invoke(method, target, args);
+            }
+            if (method.isAnnotationPresent(Query.class)) {
+                return read(() -> invoke(method, target, args));
+            }
+            if (partitionedWrites && method.isAnnotationPresent(Partitioned.class)) {
+                return read(() -> partitionedWrite(() -> invoke(method, target, args)));
+            }
+            return write(() -> invoke(method, target, args));
+        });
+    }
+
+    private static <T> T partitionedWrite(Supplier<T> action) {
+        partitioned.readLock().lock();
+        try {
+            return action.get();
+        } finally {
+            partitioned.readLock().unlock();
+        }
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) throw runtimeException;
+            if (cause instanceof Error error) throw error;
+            throw new IllegalStateException(cause);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package enums;
+
+public enum ReservationStatus {
+    PENDING("Pendente"),
+    PICKED_UP("Retirada"),
+    CANCELLED("Cancelada");
+
+    private final String description;
+
+    ReservationStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,60 @@
+package events;
+
+import enums.CustomerType;
+import enums.VehicleType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Eventos publicados pelos serviços após cada alteração. Levam cópias dos valores relevantes,
+// não as entidades, porque os assinantes os processam depois, em outra thread.
+public sealed interface DomainEvent {
+
+    // Eventos do mesmo agregado são entregues na ordem em que foram publicados
+    String aggregateId();
+
+    record RentalCreated(String rentalId, String customerId, String vehicleId, VehicleType vehicleType,
+                         String pickUpAgencyId, LocalDateTime pickUpDate, LocalDateTime estimatedReturnDate)
+            implements DomainEvent {
+        public String aggregateId() {
+            return rentalId;
+        }
+    }
+
+    record RentalClosed(String rentalId, String vehicleId, VehicleType vehicleType, String pickUpAgencyId,
+                        String returnAgencyId, LocalDateTime actualReturnDate, BigDecimal totalCost)
+            implements DomainEvent {
+        public String aggregateId() {
+            return rentalId;
+        }
+    }
+
+    // Publicado no prazo e a cada dia de atraso, com o que os dias completos de atraso somam às diárias
+    // até ali (ver OverdueRentalScheduler); nada é cobrado além do total da locação
+    record RentalOverdue(String rentalId, String customerId, String vehicleId, String pickUpAgencyId,
+                         long daysLate, BigDecimal accruedLateFee) implements DomainEvent {
+        public String aggregateId() {
+            return rentalId;
+        }
+    }
+
+    record VehicleSaved(String vehicleId, VehicleType vehicleType, String agencyId, boolean available)
+            implements DomainEvent {
+        public String aggregateId() {
+            return vehicleId;
+        }
+    }
+
+    record VehicleMoved(String vehicleId, VehicleType vehicleType, String fromAgencyId, String toAgencyId)
+            implements DomainEvent {
+        public String aggregateId() {
+            return vehicleId;
+        }
+    }
+
+    record CustomerUpdated(String customerId, CustomerType customerType, String name) implements DomainEvent {
+        public String aggregateId() {
+            return customerId;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package events;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+// Barramento de eventos sobre um buffer circular sem travas, com vários publicadores.
+// Publicar é reservar uma sequência (CAS), gravar o evento na posição e marcá-la como publicada;
+// o serviço não espera os assinantes, a não ser quando o buffer enche (contrapressão).
+// Cada assinante tem uma thread própria que lê as posições publicadas em ordem e as entrega em lotes,
+// então a ordem de publicação, e com ela a ordem dentro de cada agregado, é preservada.
+// Assinantes não devem tomar a StoreLock: quem publica pode estar segurando a escrita à espera de espaço.
+public class EventBus {
+    private static final int DEFAULT_CAPACITY = 1 << 13;
+    private static final int MAX_BATCH = 256;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final DomainEvent[] slots;
+    private final AtomicLongArray published;
+    private final int mask;
+
+    private final AtomicLong claimed = new AtomicLong(-1);
+    // Menor sequência já consumida por todos, guardada para não percorrer os assinantes a cada publicação
+    private volatile long consumedByAll = -1;
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private volatile boolean running = true;
+
+    public EventBus() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public EventBus(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("A capacidade do barramento deve ser uma potência de dois.");
+        }
+        slots = new DomainEvent[capacity];
+        published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+        mask = capacity - 1;
+    }
+
+    // O assinante recebe só o que for publicado depois da inscrição
+    public void subscribe(String name, EventSubscriber subscriber) {
+        Subscription subscription = new Subscription(name, subscriber, claimed.get());
+        subscriptions.add(subscription);
+        consumedByAll = -1;
+        subscription.thread.start();
+    }
+
+    public void publish(DomainEvent event) {
+        long sequence = claimed.incrementAndGet();
+        long wrapPoint = sequence - slots.length;
+        if (wrapPoint > consumedByAll) {
+            awaitCapacity(wrapPoint);
+        }
+
+        int index = (int) (sequence & mask);
+        slots[index] = event;
+        published.set(index, sequence);
+
+        for (Subscription subscription : subscriptions) {
+            if (subscription.waiting) {
+                LockSupport.unpark(subscription.thread);
+            }
+        }
+    }
+
+    // Entrega o que já foi publicado e encerra as threads dos assinantes
+    public void stop() {
+        running = false;
+        for (Subscription subscription : subscriptions) {
+            LockSupport.unpark(subscription.thread);
+        }
+        for (Subscription subscription : subscriptions) {
+            try {
+                subscription.thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    public long getPublishedCount() {
+        return claimed.get() + 1;
+    }
+
+    // A posição que a sequência vai ocupar ainda guarda um evento que algum assinante não leu
+    private void awaitCapacity(long wrapPoint) {
+        long consumed;
+        while (wrapPoint > (consumed = minConsumed())) {
+            if (!running) return;
+            for (Subscription subscription : subscriptions) {
+                LockSupport.unpark(subscription.thread);
+            }
+            LockSupport.parkNanos(this, FULL_PARK_NANOS);
+        }
+        consumedByAll = consumed;
+    }
+
+    private long minConsumed() {
+        long min = Long.MAX_VALUE;
+        for (Subscription subscription : subscriptions) {
+            min = Math.min(min, subscription.sequence.get());
+        }
+        return min;
+    }
+
+    private final class Subscription implements Runnable {
+        private final String name;
+        private final EventSubscriber subscriber;
+        // Última sequência entregue a este assinante
+        private final AtomicLong sequence;
+        private final Thread thread;
+        private volatile boolean waiting;
+
+        private Subscription(String name, EventSubscriber subscriber, long start) {
+            this.name = name;
+            this.subscriber = subscriber;
+            this.sequence = new AtomicLong(start);
+            this.thread = new Thread(this, "events-" + name);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            List<DomainEvent> batch = new ArrayList<>(MAX_BATCH);
+            List<DomainEvent> view = Collections.unmodifiableList(batch);
+
+            while (true) {
+                long next = sequence.get() + 1;
+                for (long current = next; current < next + MAX_BATCH && isPublished(current); current++) {
+                    batch.add(slots[(int) (current & mask)]);
+                }
+
+                if (batch.isEmpty()) {
+                    if (!running) return;
+                    waiting = true;
+                    if (!isPublished(next) && running) {
+                        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                    }
+                    waiting = false;
+                    continue;
+                }
+
+                try {
+                    subscriber.onEvents(view);
+                } catch (RuntimeException e) {
+                    System.err.println("Erro no assinante de eventos '" + name + "': " + e.getMessage());
+                }
+                sequence.set(next + batch.size() - 1);
+                batch.clear();
+            }
+        }
+
+        private boolean isPublished(long sequence) {
+            return published.get((int) (sequence & mask)) == sequence;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package events;
+
+import java.util.List;
+
+public interface EventSubscriber {
+
+    // Recebe os eventos em lotes, na ordem de publicação; a lista só vale durante a chamada
+    void onEvents(List<DomainEvent> events);
+
+}
@@ -0,0 +1,232 @@
+package export;
+
+import api.JsonWriter;
+import export.ExportSnapshot.AgencyRow;
+import export.ExportSnapshot.CustomerRow;
+import export.ExportSnapshot.RentalRow;
+import export.ExportSnapshot.VehicleRow;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+// Exporta um retrato dos dados em NDJSON (um objeto por linha) ou CSV, linha a linha. O retrato ocupa
+// uma linha por registro (ver ExportSnapshot); a escrita em si usa só o buffer do ChannelWriter de cada
+// entidade e um JsonWriter reaproveitado, sem montar o arquivo em memória
+public class DataExporter {
+
+    public enum Entity {
+        AGENCIES("agencies"),
+        CUSTOMERS("customers"),
+        VEHICLES("vehicles"),
+        RENTALS("rentals");
+
+        private final String fileName;
+
+        Entity(String fileName) {
+            this.fileName = fileName;
+        }
+
+        public String getFileName() {
+            return fileName;
+        }
+
+        public static Entity fromName(String name) {
+            for (Entity entity : values()) {
+                if (entity.fileName.equalsIgnoreCase(name)) return entity;
+            }
+            throw new IllegalArgumentException("Entidade desconhecida: " + name);
+        }
+    }
+
+    private record Column<T>(String name, Function<T, Object> value) {
+    }
+
+    private static final List<Column<AgencyRow>> AGENCY_COLUMNS = List.of(
+            new Column<>("id", AgencyRow::id),
+            new Column<>("name", AgencyRow::name),
+            new Column<>("address", AgencyRow::address),
+            new Column<>("phone", AgencyRow::phone));
+
+    private static final List<Column<CustomerRow>> CUSTOMER_COLUMNS = List.of(
+            new Column<>("id", CustomerRow::id),
+            new Column<>("type", CustomerRow::type),
+            new Column<>("name", CustomerRow::name),
+            new Column<>("phone", CustomerRow::phone),
+            new Column<>("document", CustomerRow::document));
+
+    private static final List<Column<VehicleRow>> VEHICLE_COLUMNS = List.of(
+            new Column<>("id", VehicleRow::id),
+            new Column<>("type", VehicleRow::type),
+            new Column<>("plate", VehicleRow::plate),
+            new Column<>("model", VehicleRow::model),
+            new Column<>("brand", VehicleRow::brand),
+            new Column<>("available", VehicleRow::available),
+            new Column<>("agencyId", VehicleRow::agencyId),
+            new Column<>("dailyRate", VehicleRow::dailyRate));
+
+    private static final List<Column<RentalRow>> RENTAL_COLUMNS = List.of(
+            new Column<>("id", RentalRow::id),
+            new Column<>("customerId", RentalRow::customerId),
+            new Column<>("vehicleId", RentalRow::vehicleId),
+            new Column<>("pickUpAgencyId", RentalRow::pickUpAgencyId),
+            new Column<>("returnAgencyId", RentalRow::returnAgencyId),
+            new Column<>("pickUpDate", RentalRow::pickUpDate),
+            new Column<>("estimatedReturnDate", RentalRow::estimatedReturnDate),
+            new Column<>("actualReturnDate", RentalRow::actualReturnDate),
+            new Column<>("fees", RentalRow::fees),
+            new Column<>("totalCost", RentalRow::totalCost));
+
+    // Devolve o número de registros exportados
+    public static long export(ExportSnapshot snapshot, Entity entity, ExportFormat format, ChannelWriter out)
+            throws IOException {
+        return switch (entity) {
+            case AGENCIES -> write(snapshot.getAgencies(), AGENCY_COLUMNS, format, out);
+            case CUSTOMERS -> write(snapshot.getCustomers(), CUSTOMER_COLUMNS, format, out);
+            case VEHICLES -> write(snapshot.getVehicles(), VEHICLE_COLUMNS, format, out);
+            case RENTALS -> write(snapshot.getRentals(), RENTAL_COLUMNS, format, out);
+        };
+    }
+
+    // Um arquivo por entidade no diretório, gravados em paralelo a partir do mesmo retrato
+    public static Map<Entity, Long> exportAll(ExportSnapshot snapshot, Path directory, ExportFormat format)
+            throws IOException {
+        Files.createDirectories(directory);
+
+        ExecutorService executor = Executors.newFixedThreadPool(Entity.values().length);
+        try {
+            Map<Entity, Future<Long>> pending = new EnumMap<>(Entity.class);
+            for (Entity entity : Entity.values()) {
+                Path file = directory.resolve(entity.getFileName() + "." + format.getExtension());
+                pending.put(entity, executor.submit(() -> {
+                    try (ChannelWriter out = new ChannelWriter(FileChannel.open(file, StandardOpenOption.CREATE,
+                            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE))) {
+                        return export(snapshot, entity, format, out);
+                    }
+                }));
+            }
+
+            Map<Entity, Long> counts = new EnumMap<>(Entity.class);
+            for (Map.Entry<Entity, Future<Long>> entry : pending.entrySet()) {
+                counts.put(entry.getKey(), entry.getValue().get());
+            }
+            return counts;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Exportação interrompida.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) throw ioException;
+            throw new IOException("Erro na exportação: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static <T> long write(List<T> rows, List<Column<T>> columns, ExportFormat format, ChannelWriter out)
+            throws IOException {
+        if (format == ExportFormat.CSV) {
+            writeCsvHeader(columns, out);
+        }
+
+        JsonWriter json = new JsonWriter();
+        for (T row : rows) {
+            if (format == ExportFormat.NDJSON) {
+                writeJsonLine(row, columns, json.reset(), out);
+            } else {
+                writeCsvLine(row, columns, out);
+            }
+        }
+        out.flush();
+        return rows.size();
+    }
+
+    private static <T> void writeJsonLine(T row, List<Column<T>> columns, JsonWriter json, ChannelWriter out)
+            throws IOException {
+        json.beginObject();
+        for (Column<T> column : columns) {
+            json.name(column.name());
+            Object value = column.value().apply(row);
+            if (value == null) {
+                json.nullValue();
+            } else if (value instanceof Boolean bool) {
+                json.value(bool);
+            } else if (value instanceof BigDecimal number) {
+                json.value(number);
+            } else if (value instanceof LocalDateTime date) {
+                json.value(date);
+            } else {
+                json.value(value.toString());
+            }
+        }
+        json.endObject();
+        json.writeTo(out);
+        out.write('\n');
+    }
+
+    private static <T> void writeCsvHeader(List<Column<T>> columns, ChannelWriter out) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) out.write(',');
+            out.writeString(columns.get(i).name());
+        }
+        out.write('\n');
+    }
+
+    private static <T> void writeCsvLine(T row, List<Column<T>> columns, ChannelWriter out) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) out.write(',');
+            Object value = columns.get(i).value().apply(row);
+            if (value == null) continue;
+
+            String text;
+            if (value instanceof BigDecimal number) {
+                text = number.toPlainString();
+            } else if (value instanceof LocalDateTime date) {
+                // Mesma precisão de segundos do NDJSON
+                text = date.truncatedTo(ChronoUnit.SECONDS).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+            } else {
+                text = value.toString();
+            }
+            writeCsvField(text, out);
+        }
+        out.write('\n');
+    }
+
+    // Campos com vírgula, aspas ou quebra de linha vão entre aspas, com as aspas internas duplicadas
+    private static void writeCsvField(String text, ChannelWriter out) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < text.length() && !quote; i++) {
+            char c = text.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            out.writeString(text);
+            return;
+        }
+
+        out.write('"');
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '"') {
+                out.writeString(text.substring(start, i + 1));
+                out.write('"');
+                start = i + 1;
+            }
+        }
+        out.writeString(text.substring(start));
+        out.write('"');
+    }
+}
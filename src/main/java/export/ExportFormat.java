@@ -0,0 +1,23 @@
+package export;
+
+public enum ExportFormat {
+    NDJSON("ndjson"),
+    CSV("csv");
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static ExportFormat fromName(String name) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(name)) return format;
+        }
+        throw new IllegalArgumentException("Formato de exportação inválido: " + name + " (use ndjson ou csv).");
+    }
+}
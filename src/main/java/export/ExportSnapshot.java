@@ -0,0 +1,111 @@
+package export;
+
+import config.AppContext;
+import data.StoreLock;
+import model.agency.Agency;
+import model.customer.Customer;
+import model.rental.Rental;
+import model.vehicle.Vehicle;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Retrato consistente dos dados num instante. Veículos e locações são alterados no lugar,
+// então o retrato copia os campos de cada entidade para linhas imutáveis (sem serializar nada),
+// tudo sob uma única trava (StoreLock.snapshot): as alterações esperam só a cópia, não a exportação.
+public class ExportSnapshot {
+
+    public record AgencyRow(String id, String name, String address, String phone) {
+    }
+
+    public record CustomerRow(String id, String type, String name, String phone, String document) {
+    }
+
+    public record VehicleRow(String id, String type, String plate, String model, String brand, boolean available,
+                             String agencyId, BigDecimal dailyRate) {
+    }
+
+    // Locações em aberto têm o total calculado até a devolução prevista
+    public record RentalRow(String id, String customerId, String vehicleId, String pickUpAgencyId,
+                            String returnAgencyId, LocalDateTime pickUpDate, LocalDateTime estimatedReturnDate,
+                            LocalDateTime actualReturnDate, BigDecimal fees, BigDecimal totalCost) {
+    }
+
+    private final LocalDateTime takenAt;
+    private final List<AgencyRow> agencies;
+    private final List<CustomerRow> customers;
+    private final List<VehicleRow> vehicles;
+    private final List<RentalRow> rentals;
+
+    private ExportSnapshot(LocalDateTime takenAt, List<AgencyRow> agencies, List<CustomerRow> customers,
+                           List<VehicleRow> vehicles, List<RentalRow> rentals) {
+        this.takenAt = takenAt;
+        this.agencies = agencies;
+        this.customers = customers;
+        this.vehicles = vehicles;
+        this.rentals = rentals;
+    }
+
+    public static ExportSnapshot capture(AppContext context) {
+        return StoreLock.snapshot(() -> {
+            List<Agency> agencyList = context.getAgencyService().findAllAgencies();
+            List<Customer> customerList = context.getCustomerService().findAllCustomers();
+            List<Vehicle> vehicleList = context.getVehicleService().findAllVehicles();
+            List<Rental> rentalList = context.getRentalService().findAllRentals();
+
+            List<AgencyRow> agencies = new ArrayList<>(agencyList.size());
+            for (Agency agency : agencyList) {
+                agencies.add(new AgencyRow(agency.getId(), agency.getName(), agency.getAddress(), agency.getPhone()));
+            }
+
+            List<CustomerRow> customers = new ArrayList<>(customerList.size());
+            for (Customer customer : customerList) {
+                customers.add(new CustomerRow(customer.getId(), customer.getType().name(), customer.getName(),
+                        customer.getPhoneNumber(), customer.getDocumentId()));
+            }
+
+            List<VehicleRow> vehicles = new ArrayList<>(vehicleList.size());
+            for (Vehicle vehicle : vehicleList) {
+                vehicles.add(new VehicleRow(vehicle.getId(), vehicle.getType().name(), vehicle.getPlate(),
+                        vehicle.getModel(), vehicle.getBrand(), Boolean.TRUE.equals(vehicle.isAvailable()),
+                        idOf(vehicle.getAgency()), vehicle.getDailyRate()));
+            }
+
+            List<RentalRow> rentals = new ArrayList<>(rentalList.size());
+            for (Rental rental : rentalList) {
+                rentals.add(new RentalRow(rental.getId(), rental.getCustomer().getId(), rental.getVehicle().getId(),
+                        idOf(rental.getPickUpAgency()), idOf(rental.getReturnAgency()), rental.getPickUpDate(),
+                        rental.getEstimatedReturnDate(), rental.getActualReturnDate(), rental.getFees(),
+                        rental.calculateTotalCost()));
+            }
+
+            return new ExportSnapshot(LocalDateTime.now(), agencies, customers, vehicles, rentals);
+        });
+    }
+
+    private static String idOf(Agency agency) {
+        return agency != null ? agency.getId() : null;
+    }
+
+    public LocalDateTime getTakenAt() {
+        return takenAt;
+    }
+
+    public List<AgencyRow> getAgencies() {
+        return agencies;
+    }
+
+    public List<CustomerRow> getCustomers() {
+        return customers;
+    }
+
+    public List<VehicleRow> getVehicles() {
+        return vehicles;
+    }
+
+    public List<RentalRow> getRentals() {
+        return rentals;
+    }
+}
@@ -0,0 +1,47 @@
+package headless;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Uma linha do roteiro: "[rótulo =] operação arg1;arg2;..."
+public record Command(int lineNumber, String label, String operation, List<String> args) {
+
+    public static Command parse(String line, int lineNumber) {
+        String text = line.strip();
+        if (text.isEmpty() || text.startsWith("#")) {
+            return null;
+        }
+
+        String label = null;
+        int equals = text.indexOf('=');
+        if (equals >= 0 && !text.substring(0, equals).strip().contains(" ")) {
+            label = text.substring(0, equals).strip();
+            text = text.substring(equals + 1).strip();
+        }
+
+        int space = text.indexOf(' ');
+        String operation = (space < 0 ? text : text.substring(0, space)).toLowerCase();
+        List<String> args = new ArrayList<>();
+        if (space >= 0) {
+            for (String arg : text.substring(space + 1).split(";", -1)) {
+                args.add(arg.strip());
+            }
+        }
+
+        if (operation.isEmpty() || (label != null && label.isEmpty())) {
+            throw new IllegalArgumentException("Linha " + lineNumber + ": comando inválido.");
+        }
+        return new Command(lineNumber, label, operation, args);
+    }
+
+    public String arg(int index) {
+        if (index >= args.size() || args.get(index).isEmpty()) {
+            throw new IllegalArgumentException("'" + operation + "' espera o argumento " + (index + 1) + ".");
+        }
+        return args.get(index);
+    }
+
+    public String optionalArg(int index) {
+        return index < args.size() && !args.get(index).isEmpty() ? args.get(index) : null;
+    }
+}
@@ -0,0 +1,160 @@
+package headless;
+
+import config.AppContext;
+import dto.CreateAgencyDTO;
+import dto.CreateCustomerDTO;
+import dto.CreateRentalDTO;
+import dto.CreateVehicleDTO;
+import enums.CustomerType;
+import enums.VehicleType;
+import model.agency.Agency;
+import model.customer.Customer;
+import model.rental.Rental;
+import model.vehicle.Vehicle;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Executa os comandos do roteiro pelos mesmos serviços que as telas usam.
+// Referências "@rótulo" apontam para o id criado por um comando anterior; sem "@", o valor é usado como id
+// (ou, para agências, também como nome).
+public class CommandExecutor {
+    private static final int SEARCH_PAGE_SIZE = 10;
+    private static final int LIST_PAGE_SIZE = 20;
+
+    private final AppContext context;
+    private final Map<String, String> idsByLabel = new HashMap<>();
+
+    // Relógio virtual: cada retirada ou devolução avança um minuto,
+    // então locações em sequência do mesmo veículo não se sobrepõem
+    private LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+
+    public CommandExecutor(AppContext context) {
+        this.context = context;
+    }
+
+    public void execute(Command command) {
+        String id = switch (command.operation()) {
+            case "create-agency" -> createAgency(command);
+            case "create-customer" -> createCustomer(command);
+            case "create-vehicle" -> createVehicle(command);
+            case "rent" -> rent(command);
+            case "close" -> close(command);
+            case "search-customer" -> searchCustomer(command);
+            case "find-available" -> findAvailable(command);
+            case "list-open-rentals" -> listOpenRentals();
+            default -> throw new IllegalArgumentException("Operação desconhecida '" + command.operation() + "'.");
+        };
+
+        if (command.label() != null && id != null) {
+            idsByLabel.put(command.label(), id);
+        }
+    }
+
+    // create-agency nome;endereço;telefone
+    private String createAgency(Command command) {
+        CreateAgencyDTO dto = new CreateAgencyDTO(command.arg(0), command.arg(1), command.arg(2));
+        return context.getAgencyService().createAgency(dto).getId();
+    }
+
+    // create-customer PF|PJ;nome;telefone;documento
+    private String createCustomer(Command command) {
+        CustomerType type = switch (command.arg(0).toUpperCase()) {
+            case "PF", "INDIVIDUAL" -> CustomerType.INDIVIDUAL;
+            case "PJ", "LEGALENTITY" -> CustomerType.LEGALENTITY;
+            default -> throw new IllegalArgumentException("Tipo de cliente inválido: " + command.arg(0));
+        };
+        CreateCustomerDTO dto = new CreateCustomerDTO(type, command.arg(1), command.arg(2), command.arg(3));
+        return context.getCustomerService().createCustomer(dto).getId();
+    }
+
+    // create-vehicle agência;CAR|TRUCK|MOTORCYCLE;placa;modelo;marca
+    private String createVehicle(Command command) {
+        Agency agency = resolveAgency(command.arg(0));
+        VehicleType type = VehicleType.valueOf(command.arg(1).toUpperCase());
+        CreateVehicleDTO dto = new CreateVehicleDTO(type, command.arg(2), command.arg(3), command.arg(4), agency);
+        return context.getVehicleService().createVehicle(dto).getId();
+    }
+
+    // rent cliente;agência[;veículo[;dias]] — sem veículo, usa o primeiro disponível na agência
+    private String rent(Command command) {
+        Customer customer = context.getCustomerService().findCustomerById(resolve(command.arg(0)));
+        if (customer == null) throw new IllegalArgumentException("Cliente não encontrado: " + command.arg(0));
+
+        Agency agency = resolveAgency(command.arg(1));
+        String daysArg = command.optionalArg(3);
+        int days = daysArg == null ? 1 : Integer.parseInt(daysArg);
+
+        LocalDateTime pickUpDate = tick();
+        LocalDateTime estimatedReturnDate = pickUpDate.plusDays(days);
+
+        Vehicle vehicle;
+        String vehicleRef = command.optionalArg(2);
+        if (vehicleRef != null) {
+            vehicle = context.getVehicleService().findVehicleById(resolve(vehicleRef));
+        } else {
+            List<Vehicle> available = context.getVehicleService().findAvailable(agency.getId(), pickUpDate, estimatedReturnDate);
+            vehicle = available.isEmpty() ? null : available.get(0);
+        }
+        if (vehicle == null) throw new IllegalArgumentException("Nenhum veículo disponível na agência " + agency.getName());
+
+        CreateRentalDTO dto = new CreateRentalDTO(customer, vehicle, agency, pickUpDate, estimatedReturnDate);
+        return context.getRentalService().createRental(dto).getId();
+    }
+
+    // close locação;agência de devolução
+    private String close(Command command) {
+        Rental rental = context.getRentalService().findRentalById(resolve(command.arg(0)));
+        if (rental == null) throw new IllegalArgumentException("Locação não encontrada: " + command.arg(0));
+
+        Agency returnAgency = resolveAgency(command.arg(1));
+        return context.getRentalService().closeRental(rental, returnAgency, tick()).getId();
+    }
+
+    // search-customer termo
+    private String searchCustomer(Command command) {
+        context.getCustomerService().searchCustomers(command.arg(0), 0, SEARCH_PAGE_SIZE);
+        return null;
+    }
+
+    // find-available agência[;dias]
+    private String findAvailable(Command command) {
+        Agency agency = resolveAgency(command.arg(0));
+        String daysArg = command.optionalArg(1);
+        int days = daysArg == null ? 1 : Integer.parseInt(daysArg);
+        context.getVehicleService().findAvailable(agency.getId(), now, now.plusDays(days));
+        return null;
+    }
+
+    private String listOpenRentals() {
+        context.getRentalService().findRentalPage(rental -> rental.getActualReturnDate() == null, null, LIST_PAGE_SIZE);
+        return null;
+    }
+
+    private LocalDateTime tick() {
+        now = now.plusMinutes(1);
+        return now;
+    }
+
+    private String resolve(String reference) {
+        if (!reference.startsWith("@")) {
+            return reference;
+        }
+        String id = idsByLabel.get(reference.substring(1));
+        if (id == null) throw new IllegalArgumentException("Rótulo não definido: " + reference);
+        return id;
+    }
+
+    private Agency resolveAgency(String reference) {
+        Agency agency = context.getAgencyService().findAgencyById(resolve(reference));
+        if (agency == null && !reference.startsWith("@")) {
+            List<Agency> byName = context.getAgencyService().findAgencyByName(reference);
+            agency = byName.isEmpty() ? null : byName.get(0);
+        }
+        if (agency == null) throw new IllegalArgumentException("Agência não encontrada: " + reference);
+        return agency;
+    }
+}
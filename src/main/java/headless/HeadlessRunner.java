@@ -0,0 +1,171 @@
+package headless;
+
+import config.AppContext;
+import metrics.MetricsRegistry;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Modo sem interface para testes de carga:
+//   --headless <roteiro> [--warmup N] [--in-file | --off-heap] [--metrics]
+//   --headless --generate <operações> [--seed S] [--save-script <arquivo>] [--warmup N] [--in-file | --off-heap] [--metrics]
+// Sem --in-file os repositórios ficam em memória, para não alterar os arquivos *-DB.
+// Com --off-heap, clientes e locações ficam em registros fora do heap.
+// Com --metrics, imprime ao final as métricas dos serviços e da persistência.
+public class HeadlessRunner {
+    private static final int MAX_ERRORS_SHOWN = 10;
+
+    public static int run(String[] args) {
+        String scriptPath = null;
+        String saveScriptPath = null;
+        int generate = 0;
+        long seed = 42;
+        int warmup = 0;
+        boolean inFile = false;
+        boolean offHeap = false;
+        boolean printMetrics = false;
+
+        try {
+            for (int i = 1; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--generate" -> generate = Integer.parseInt(args[++i]);
+                    case "--seed" -> seed = Long.parseLong(args[++i]);
+                    case "--warmup" -> warmup = Integer.parseInt(args[++i]);
+                    case "--save-script" -> saveScriptPath = args[++i];
+                    case "--in-file" -> inFile = true;
+                    case "--off-heap" -> offHeap = true;
+                    case "--metrics" -> printMetrics = true;
+                    default -> {
+                        if (args[i].startsWith("--") || scriptPath != null) {
+                            throw new IllegalArgumentException("Argumento desconhecido: " + args[i]);
+                        }
+                        scriptPath = args[i];
+                    }
+                }
+            }
+            if ((scriptPath == null) == (generate <= 0)) {
+                throw new IllegalArgumentException("Informe um roteiro ou --generate <operações>.");
+            }
+            if (inFile && offHeap) {
+                throw new IllegalArgumentException("Use --in-file ou --off-heap, não os dois.");
+            }
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+            System.err.println(e instanceof ArrayIndexOutOfBoundsException ? "Argumento incompleto." : e.getMessage());
+            System.err.println("Uso: --headless <roteiro> | --generate <operações> [--seed S] [--save-script arquivo] [--warmup N] [--in-file | --off-heap] [--metrics]");
+            return 1;
+        }
+
+        List<Command> commands;
+        try {
+            List<String> lines = scriptPath != null
+                    ? Files.readAllLines(Path.of(scriptPath), StandardCharsets.UTF_8)
+                    : new WorkloadGenerator(seed).generate(generate);
+            if (saveScriptPath != null) {
+                Files.write(Path.of(saveScriptPath), lines, StandardCharsets.UTF_8);
+            }
+            commands = parse(lines);
+        } catch (IOException e) {
+            System.err.println("Erro ao ler ou gravar o roteiro: " + e.getMessage());
+            return 1;
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            return 1;
+        }
+
+        AppContext context = inFile ? AppContext.inFile() : offHeap ? AppContext.offHeap() : AppContext.inMemory();
+        context.start();
+        try {
+            execute(new CommandExecutor(context), commands, warmup);
+        } finally {
+            context.stop();
+        }
+        if (printMetrics) {
+            System.out.println();
+            System.out.print(MetricsRegistry.getInstance().dump());
+        }
+        return 0;
+    }
+
+    private static List<Command> parse(List<String> lines) {
+        List<Command> commands = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            Command command = Command.parse(lines.get(i), i + 1);
+            if (command != null) {
+                commands.add(command);
+            }
+        }
+        return commands;
+    }
+
+    private static void execute(CommandExecutor executor, List<Command> commands, int warmup) {
+        Map<String, OperationStats> statsByOperation = new LinkedHashMap<>();
+        List<String> errorMessages = new ArrayList<>();
+        int executed = 0;
+        long measuredStart = System.nanoTime();
+
+        for (Command command : commands) {
+            // Os primeiros comandos só aquecem o JIT e não entram nas estatísticas
+            boolean measured = executed++ >= warmup;
+            if (executed == warmup + 1) {
+                measuredStart = System.nanoTime();
+            }
+
+            long start = System.nanoTime();
+            try {
+                executor.execute(command);
+                if (measured) {
+                    statsFor(statsByOperation, command).record(System.nanoTime() - start);
+                }
+            } catch (RuntimeException e) {
+                if (measured) {
+                    statsFor(statsByOperation, command).recordError();
+                }
+                if (errorMessages.size() < MAX_ERRORS_SHOWN) {
+                    errorMessages.add("Linha " + command.lineNumber() + " (" + command.operation() + "): " + e.getMessage());
+                }
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - measuredStart;
+        printReport(statsByOperation, elapsedNanos, errorMessages);
+    }
+
+    private static OperationStats statsFor(Map<String, OperationStats> statsByOperation, Command command) {
+        return statsByOperation.computeIfAbsent(command.operation(), OperationStats::new);
+    }
+
+    private static void printReport(Map<String, OperationStats> statsByOperation, long elapsedNanos, List<String> errorMessages) {
+        int total = 0;
+        int errors = 0;
+        for (OperationStats stats : statsByOperation.values()) {
+            total += stats.getCount();
+            errors += stats.getErrors();
+        }
+        double seconds = elapsedNanos / 1_000_000_000.0;
+
+        System.out.printf("%-18s %8s %6s %11s %9s %9s %9s %9s %9s%n",
+                "Operação", "Qtde", "Erros", "ops/s", "média", "p50", "p90", "p99", "máx");
+        for (OperationStats stats : statsByOperation.values()) {
+            System.out.printf("%-18s %8d %6d %11.1f %9.3f %9.3f %9.3f %9.3f %9.3f%n",
+                    stats.getOperation(), stats.getCount(), stats.getErrors(), stats.getOpsPerSecond(),
+                    stats.getMeanMillis(), stats.percentileMillis(50), stats.percentileMillis(90),
+                    stats.percentileMillis(99), stats.percentileMillis(100));
+        }
+        System.out.println("(latências em ms; ops/s por operação considera só o tempo gasto nela)");
+        System.out.printf("%nTotal: %d operações com sucesso, %d erros em %.3f s (%.1f ops/s)%n",
+                total, errors, seconds, seconds == 0 ? 0 : total / seconds);
+
+        if (!errorMessages.isEmpty()) {
+            System.out.println("\nPrimeiros erros:");
+            for (String message : errorMessages) {
+                System.out.println("  " + message);
+            }
+        }
+    }
+}
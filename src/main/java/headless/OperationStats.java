@@ -0,0 +1,67 @@
+package headless;
+
+import java.util.Arrays;
+
+// Latências de um tipo de operação, guardadas em nanossegundos num vetor primitivo que cresce sob demanda
+public class OperationStats {
+    private final String operation;
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errors;
+    private long totalNanos;
+    private boolean sorted;
+
+    public OperationStats(String operation) {
+        this.operation = operation;
+    }
+
+    public void record(long nanos) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = nanos;
+        totalNanos += nanos;
+        sorted = false;
+    }
+
+    public void recordError() {
+        errors++;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getErrors() {
+        return errors;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public double getMeanMillis() {
+        return count == 0 ? 0 : totalNanos / (double) count / 1_000_000;
+    }
+
+    // Vazão que a operação sustentaria sozinha, sem contar o tempo gasto nas demais
+    public double getOpsPerSecond() {
+        return totalNanos == 0 ? 0 : count * 1_000_000_000.0 / totalNanos;
+    }
+
+    // Percentil pelo método do posto mais próximo; p entre 0 e 100
+    public double percentileMillis(double p) {
+        if (count == 0) return 0;
+        if (!sorted) {
+            Arrays.sort(latencies, 0, count);
+            sorted = true;
+        }
+        int rank = (int) Math.ceil(p / 100.0 * count);
+        int index = Math.min(Math.max(rank, 1), count) - 1;
+        return latencies[index] / 1_000_000.0;
+    }
+}
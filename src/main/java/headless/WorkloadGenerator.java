@@ -0,0 +1,139 @@
+package headless;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+// Gera um roteiro realista: cadastra agências, frota e clientes e depois mistura locações,
+// devoluções em outras agências, buscas de clientes e consultas de disponibilidade.
+// Acompanha o estado simulado para que cada comando gerado seja válido.
+public class WorkloadGenerator {
+    private static final int AGENCIES = 5;
+    private static final int VEHICLES_PER_AGENCY = 40;
+    private static final String[] VEHICLE_TYPES = {"CAR", "CAR", "CAR", "MOTORCYCLE", "TRUCK"};
+    private static final String[] BRANDS = {"Fiat", "Volkswagen", "Chevrolet", "Toyota", "Honda", "Renault"};
+    private static final String[] MODELS = {"Uno", "Gol", "Onix", "Corolla", "Civic", "Kwid", "Strada", "HB20"};
+    private static final String[] FIRST_NAMES = {"Ana", "Bruno", "Carla", "Daniel", "Eduarda", "Felipe", "Gabriela",
+            "Henrique", "Isabela", "João", "Larissa", "Marcos", "Natália", "Otávio", "Paula", "Rafael"};
+    private static final String[] LAST_NAMES = {"Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira",
+            "Alves", "Pereira", "Lima", "Gomes", "Costa", "Ribeiro", "Martins", "Carvalho"};
+
+    private final Random random;
+
+    public WorkloadGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    public List<String> generate(int operations) {
+        List<String> script = new ArrayList<>();
+        int customers = Math.max(50, operations / 10);
+
+        script.add("# Cadastro inicial");
+        for (int a = 0; a < AGENCIES; a++) {
+            script.add(String.format("a%d = create-agency Agência %d;Rua %d, %d;(11) 4000-%04d", a, a, a + 1, 100 + a, a));
+        }
+
+        Map<Integer, List<Integer>> freeVehiclesByAgency = new HashMap<>();
+        for (int a = 0; a < AGENCIES; a++) {
+            freeVehiclesByAgency.put(a, new ArrayList<>());
+        }
+        int vehicleCount = AGENCIES * VEHICLES_PER_AGENCY;
+        for (int v = 0; v < vehicleCount; v++) {
+            int agency = v % AGENCIES;
+            script.add(String.format("v%d = create-vehicle @a%d;%s;LT%05d;%s;%s", v, agency, pick(VEHICLE_TYPES), v,
+                    pick(MODELS), pick(BRANDS)));
+            freeVehiclesByAgency.get(agency).add(v);
+        }
+
+        List<String> customerNames = new ArrayList<>();
+        List<Integer> freeCustomers = new ArrayList<>();
+        for (int c = 0; c < customers; c++) {
+            String name = pick(FIRST_NAMES) + " " + pick(LAST_NAMES) + " " + pick(LAST_NAMES);
+            customerNames.add(name);
+            script.add(String.format("c%d = create-customer PF;%s;(11) 9%04d-%04d;%s", c, name, c / 10000, c % 10000,
+                    generateCpf(c)));
+            freeCustomers.add(c);
+        }
+
+        script.add("# Operações");
+        // Locações abertas: índice da locação -> {cliente, veículo}
+        List<int[]> openRentals = new ArrayList<>();
+        int rentalCount = 0;
+
+        for (int i = 0; i < operations; i++) {
+            int roll = random.nextInt(100);
+
+            if (roll < 40 && !freeCustomers.isEmpty()) {
+                int agency = random.nextInt(AGENCIES);
+                List<Integer> freeVehicles = freeVehiclesByAgency.get(agency);
+                if (!freeVehicles.isEmpty()) {
+                    int customer = freeCustomers.remove(random.nextInt(freeCustomers.size()));
+                    int vehicle = freeVehicles.remove(random.nextInt(freeVehicles.size()));
+                    script.add(String.format("r%d = rent @c%d;@a%d;@v%d;%d", rentalCount, customer, agency, vehicle,
+                            1 + random.nextInt(7)));
+                    openRentals.add(new int[]{rentalCount++, customer, vehicle});
+                    continue;
+                }
+            }
+
+            if (roll < 75 && !openRentals.isEmpty()) {
+                int[] rental = openRentals.remove(random.nextInt(openRentals.size()));
+                int returnAgency = random.nextInt(AGENCIES);
+                script.add(String.format("close @r%d;@a%d", rental[0], returnAgency));
+                freeCustomers.add(rental[1]);
+                freeVehiclesByAgency.get(returnAgency).add(rental[2]);
+                continue;
+            }
+
+            if (roll < 88) {
+                script.add("search-customer " + withTypo(customerNames.get(random.nextInt(customerNames.size()))));
+            } else if (roll < 96) {
+                script.add(String.format("find-available @a%d;%d", random.nextInt(AGENCIES), 1 + random.nextInt(7)));
+            } else {
+                script.add("list-open-rentals");
+            }
+        }
+
+        return script;
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    // Troca uma letra do primeiro nome, como um erro de digitação
+    private String withTypo(String name) {
+        String firstName = name.substring(0, name.indexOf(' '));
+        int position = random.nextInt(firstName.length());
+        char replacement = (char) ('a' + random.nextInt(26));
+        return firstName.substring(0, position) + replacement + firstName.substring(position + 1);
+    }
+
+    // CPF válido derivado de um número sequencial, com os dois dígitos verificadores calculados
+    static String generateCpf(int sequence) {
+        int[] digits = new int[11];
+        String base = String.format("%09d", 100_000_000 + sequence);
+        for (int i = 0; i < 9; i++) {
+            digits[i] = base.charAt(i) - '0';
+        }
+        digits[9] = verifier(digits, 9);
+        digits[10] = verifier(digits, 10);
+
+        StringBuilder cpf = new StringBuilder(11);
+        for (int digit : digits) {
+            cpf.append(digit);
+        }
+        return cpf.toString();
+    }
+
+    private static int verifier(int[] digits, int length) {
+        int sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += digits[i] * (length + 1 - i);
+        }
+        int verifier = 11 - (sum % 11);
+        return verifier >= 10 ? 0 : verifier;
+    }
+}
@@ -0,0 +1,11 @@
+package metrics;
+
+// Cache que aparece no diagnóstico ao lado dos timers
+public interface CacheMetrics {
+
+    String getPolicy();
+
+    CacheStats stats();
+
+    void resetStats();
+}
@@ -0,0 +1,9 @@
+package metrics;
+
+public record CacheStats(long hits, long misses, long evictions, int size, int maximumSize) {
+
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+}
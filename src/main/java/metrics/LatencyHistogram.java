@@ -0,0 +1,123 @@
+package metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Histograma de latências em nanossegundos com faixas log-lineares, no estilo do HdrHistogram:
+// cada potência de dois é dividida em 32 faixas, o que limita o erro de cada valor a cerca de 3%.
+// As contagens ficam em listras (uma por grupo de threads) para que threads diferentes
+// não disputem a mesma linha de cache; a leitura soma as listras.
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Acima de 2^40 ns (cerca de 18 minutos) tudo cai na última faixa
+    private static final int MAX_EXPONENT = 40;
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private static final int STRIPE_LENGTH = BUCKETS;
+    private static final int STRIPES =
+            Math.min(8, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1));
+
+    private final AtomicLongArray counts = new AtomicLongArray(STRIPES * STRIPE_LENGTH);
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_VALUE);
+        int stripe = (int) (Thread.currentThread().getId() & (STRIPES - 1)) * STRIPE_LENGTH;
+
+        counts.getAndIncrement(stripe + bucketOf(value));
+        if (value > max.get()) {
+            max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    public Snapshot snapshot() {
+        long[] merged = new long[BUCKETS];
+        long count = 0;
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            int offset = stripe * STRIPE_LENGTH;
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                long bucketCount = counts.get(offset + bucket);
+                merged[bucket] += bucketCount;
+                count += bucketCount;
+            }
+        }
+        return new Snapshot(merged, count, max.get());
+    }
+
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+        max.set(0);
+    }
+
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    // Valor representativo da faixa: o meio do intervalo que ela cobre
+    private static long valueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS);
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return lowest + width / 2;
+    }
+
+    public static final class Snapshot {
+        private final long[] buckets;
+        private final long count;
+        private final long max;
+
+        private Snapshot(long[] buckets, long count, long max) {
+            this.buckets = buckets;
+            this.count = count;
+            this.max = max;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        public long max() {
+            return max;
+        }
+
+        // Calculada pelas faixas, com a mesma precisão dos percentis
+        public double mean() {
+            if (count == 0) return 0;
+
+            double sum = 0;
+            for (int bucket = 0; bucket < buckets.length; bucket++) {
+                if (buckets[bucket] > 0) {
+                    sum += (double) buckets[bucket] * Math.min(valueOf(bucket), max);
+                }
+            }
+            return sum / count;
+        }
+
+        // Percentil entre 0 e 100, em nanossegundos
+        public long percentile(double percentile) {
+            if (count == 0) return 0;
+
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            long seen = 0;
+            for (int bucket = 0; bucket < buckets.length; bucket++) {
+                seen += buckets[bucket];
+                if (seen >= rank) {
+                    return Math.min(valueOf(bucket), max);
+                }
+            }
+            return max;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Registro único das métricas do processo, exibido na tela de diagnóstico e em GET /api/metrics
+public class MetricsRegistry {
+    private static MetricsRegistry instance;
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, CacheMetrics> caches = new ConcurrentHashMap<>();
+
+    private MetricsRegistry() {
+    }
+
+    public static synchronized MetricsRegistry getInstance() {
+        if (instance == null) {
+            instance = new MetricsRegistry();
+        }
+        return instance;
+    }
+
+    public Timer timer(String name) {
+        return timers.computeIfAbsent(name, Timer::new);
+    }
+
+    // Mede cada método da interface como "Tipo.método". Os timers são resolvidos na criação,
+    // então a chamada só paga os dois nanoTime e um incremento no histograma. Se o alvo já é um
+    // proxy (como o da StoreLock), o handler dele é chamado direto, sem uma segunda reflexão.
+    @SuppressWarnings("unchecked")
+    public <T> T instrument(Class<T> type, T target) {
+        Map<String, Timer> byMethod = new HashMap<>();
+        for (Method method : type.getMethods()) {
+            byMethod.put(method.getName(), timer(type.getSimpleName() + "." + method.getName()));
+        }
+
+        InvocationHandler delegate = Proxy.isProxyClass(target.getClass())
+                ? Proxy.getInvocationHandler(target)
+                : (proxy, method, args) -> invoke(method, target, args);
+
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return delegate.invoke(target, method, args);
+            }
+            Timer timer = byMethod.get(method.getName());
+            long start = System.nanoTime();
+            boolean failed = true;
+            try {
+                Object result = delegate.invoke(target, method, args);
+                failed = false;
+                return result;
+            } finally {
+                timer.record(start, failed);
+            }
+        });
+    }
+
+    // Um cache por nome; registrar de novo substitui o anterior (por exemplo, ao recriar o AppContext)
+    public void registerCache(String name, CacheMetrics cache) {
+        caches.put(name, cache);
+    }
+
+    public Map<String, CacheMetrics> getCaches() {
+        return new TreeMap<>(caches);
+    }
+
+    public List<Timer> getTimers() {
+        List<Timer> sorted = new ArrayList<>(timers.values());
+        sorted.sort(Comparator.comparing(Timer::getName));
+        return sorted;
+    }
+
+    public void reset() {
+        for (Timer timer : timers.values()) {
+            timer.reset();
+        }
+        for (CacheMetrics cache : caches.values()) {
+            cache.resetStats();
+        }
+    }
+
+    // Tabela em texto com uma linha por operação já chamada; latências em microssegundos
+    public String dump() {
+        StringBuilder text = new StringBuilder("Latências em microssegundos\n");
+        text.append(String.format("%-44s %10s %7s %10s %10s %10s %10s %10s%n",
+                "operação", "chamadas", "erros", "média", "p50", "p99", "p99.9", "máx"));
+        for (Timer timer : getTimers()) {
+            LatencyHistogram.Snapshot snapshot = timer.snapshot();
+            if (snapshot.count() == 0) continue;
+
+            text.append(String.format("%-44s %10d %7d %10.1f %10.1f %10.1f %10.1f %10.1f%n",
+                    timer.getName(), snapshot.count(), timer.getErrors(),
+                    snapshot.mean() / 1000, snapshot.percentile(50) / 1000.0, snapshot.percentile(99) / 1000.0,
+                    snapshot.percentile(99.9) / 1000.0, snapshot.max() / 1000.0));
+        }
+
+        Map<String, CacheMetrics> sortedCaches = getCaches();
+        if (!sortedCaches.isEmpty()) {
+            text.append(String.format("%nCaches%n%-44s %10s %10s %10s %10s %10s %7s%n",
+                    "cache", "política", "acertos", "faltas", "despejos", "tamanho", "acerto"));
+            sortedCaches.forEach((name, cache) -> {
+                CacheStats stats = cache.stats();
+                text.append(String.format("%-44s %10s %10d %10d %10d %10s %6.1f%%%n", name, cache.getPolicy(),
+                        stats.hits(), stats.misses(), stats.evictions(), stats.size() + "/" + stats.maximumSize(),
+                        stats.hitRate() * 100));
+            });
+        }
+        return text.toString();
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) throw runtimeException;
+            if (cause instanceof Error error) throw error;
+            throw new IllegalStateException(cause);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
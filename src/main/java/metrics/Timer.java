@@ -0,0 +1,43 @@
+package metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Chamadas, erros e latências de uma operação
+public class Timer {
+    private final String name;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+
+    Timer(String name) {
+        this.name = name;
+    }
+
+    public void record(long startNanos, boolean failed) {
+        recordElapsed(System.nanoTime() - startNanos, failed);
+    }
+
+    // Para durações medidas fora deste processo, como o atraso da réplica
+    public void recordElapsed(long elapsedNanos, boolean failed) {
+        histogram.record(elapsedNanos);
+        if (failed) {
+            errors.increment();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public LatencyHistogram.Snapshot snapshot() {
+        return histogram.snapshot();
+    }
+
+    void reset() {
+        histogram.reset();
+        errors.reset();
+    }
+}
@@ -1,22 +1,33 @@
 package model.agency;
 
+import utils.StringPool;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 
 public class Agency implements Serializable {
     private static final long serialVersionUID = 1L;
 
     private final String id;
-    private final String name;
-    private final String address;
+    // Não finais para que readObject troque pelos valores do dicionário
+    private String name;
+    private String address;
     private final String phone;
 
     public Agency(String id, String name, String address, String phone) {
         this.id = id;
-        this.name = name;
-        this.address = address;
+        this.name = StringPool.getInstance().intern(name);
+        this.address = StringPool.getInstance().intern(address);
         this.phone = phone;
     }
 
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        name = StringPool.getInstance().intern(name);
+        address = StringPool.getInstance().intern(address);
+    }
+
     public String getId() {
         return id;
     }
@@ -46,11 +46,11 @@ public abstract class Customer implements Serializable {
     @Override
     public String toString() {
         return "Customer{" +
-                "id='" + id + '\'' +
-                ", name='" + name + '\'' +
-                ", phoneNumber='" + phoneNumber + '\'' +
-                ", documentId='" + documentId + '\'' +
-                ", type=" + type +
+                "id='" + getId() + '\'' +
+                ", name='" + getName() + '\'' +
+                ", phoneNumber='" + getPhoneNumber() + '\'' +
+                ", documentId='" + getDocumentId() + '\'' +
+                ", type=" + getType() +
                 '}';
     }
 }
@@ -24,6 +24,8 @@ public class Rental implements Serializable {
     private Agency returnAgency;
     private final LocalDateTime estimatedReturnDate;
     private LocalDateTime actualReturnDate;
+    // Taxas cobradas além das diárias; incluído no schema 2 do rental-DB (ver data.RentalFeesMigration)
+    private BigDecimal fees = BigDecimal.ZERO;
 
     //constructor
     public Rental(String id, Customer customer, Vehicle vehicle, Agency pickUpAgency, LocalDateTime pickUpDate,
@@ -77,17 +79,25 @@ public class Rental implements Serializable {
         this.returnAgency = returnAgency;
     }
 
+    public BigDecimal getFees() {
+        return fees;
+    }
+
+    public void setFees(BigDecimal fees) {
+        this.fees = fees;
+    }
+
     // class methods
     public BigDecimal calculateTotalCost() {
         BigDecimal big;
         LocalDateTime dataEntrega =
-                this.actualReturnDate == null
-                        ? this.estimatedReturnDate : this.actualReturnDate;
+                getActualReturnDate() == null
+                        ? getEstimatedReturnDate() : getActualReturnDate();
 
-        long totalDias = DateTimeUtils.calculateDaysBetween(this.pickUpDate, dataEntrega);
+        long totalDias = DateTimeUtils.calculateDaysBetween(getPickUpDate(), dataEntrega);
 
         if (this.getVehicle().getType() == VehicleType.CAR) {
-            if (this.customer.getType() == CustomerType.INDIVIDUAL) {
+            if (getCustomer().getType() == CustomerType.INDIVIDUAL) {
                 if (totalDias > 3) {
                     big = this.getVehicle().getDailyRate().multiply(BigDecimal.valueOf(totalDias))
                             .multiply(BigDecimal.valueOf(0.95));
@@ -102,51 +112,52 @@ public class Rental implements Serializable {
                     big = this.getVehicle().getDailyRate().multiply(BigDecimal.valueOf(totalDias));
                 }
             }
-            return big;
+            return big.add(getFees());
         } else {
             big = this.getVehicle().getDailyRate().multiply(BigDecimal.valueOf(totalDias));
         }
-        return big;
+        return big.add(getFees());
     }
 
     public String generatePickupReceipt() {
         return "========== RECIBO DE ALUGUEL ==========\n" +
-                "Tipo de Cliente: " + customer.getType().getDescription() + "\n" +
-                "Documento: " + customer.getDocumentId() + "\n" +
-                "Cliente: " + customer.getName() + "\n" +
-                "Telefone: " + customer.getPhoneNumber() + "\n\n" +
+                "Tipo de Cliente: " + getCustomer().getType().getDescription() + "\n" +
+                "Documento: " + getCustomer().getDocumentId() + "\n" +
+                "Cliente: " + getCustomer().getName() + "\n" +
+                "Telefone: " + getCustomer().getPhoneNumber() + "\n\n" +
                 "=== DETALHES DO VEÍCULO ===\n" +
-                "Modelo: " + vehicle.getModel() + "\n" +
-                "Marca: " + vehicle.getBrand() + "\n" +
-                "Placa: " + vehicle.getPlate() + "\n\n" +
+                "Modelo: " + getVehicle().getModel() + "\n" +
+                "Marca: " + getVehicle().getBrand() + "\n" +
+                "Placa: " + getVehicle().getPlate() + "\n\n" +
                 "=== AGÊNCIA DE RETIRADA ===\n" +
-                "Nome: " + pickUpAgency.getName() + "\n" +
-                "Endereço: " + pickUpAgency.getAddress() + "\n" +
-                "Telefone: " + pickUpAgency.getPhone() + "\n" +
-                "Data de Retirada: " + pickUpDate.format(DateTimeFormatter.ofPattern("dd/MM/yyyy")) + "\n" +
+                "Nome: " + getPickUpAgency().getName() + "\n" +
+                "Endereço: " + getPickUpAgency().getAddress() + "\n" +
+                "Telefone: " + getPickUpAgency().getPhone() + "\n" +
+                "Data de Retirada: " + getPickUpDate().format(DateTimeFormatter.ofPattern("dd/MM/yyyy")) + "\n" +
                 "=======================================\n";
     }
 
     public String generateReturnReceipt() {
         return "========== RECIBO DE DEVOLUÇÃO ==========\n" +
-                "Tipo de Cliente: " + customer.getType().getDescription() + "\n" +
-                "Documento: " + customer.getDocumentId() + "\n" +
-                "Cliente: " + customer.getName() + "\n" +
-                "Telefone: " + customer.getPhoneNumber() + "\n\n" +
+                "Tipo de Cliente: " + getCustomer().getType().getDescription() + "\n" +
+                "Documento: " + getCustomer().getDocumentId() + "\n" +
+                "Cliente: " + getCustomer().getName() + "\n" +
+                "Telefone: " + getCustomer().getPhoneNumber() + "\n\n" +
                 "=== DETALHES DO VEÍCULO ===\n" +
-                "Modelo: " + vehicle.getModel() + "\n" +
-                "Marca: " + vehicle.getBrand() + "\n" +
-                "Placa: " + vehicle.getPlate() + "\n\n" +
+                "Modelo: " + getVehicle().getModel() + "\n" +
+                "Marca: " + getVehicle().getBrand() + "\n" +
+                "Placa: " + getVehicle().getPlate() + "\n\n" +
                 "=== AGÊNCIA DE DEVOLUÇÃO ===\n" +
-                "Nome: " + returnAgency.getName() + "\n" +
-                "Endereço: " + returnAgency.getAddress() + "\n" +
-                "Telefone: " + returnAgency.getPhone() + "\n" +
+                "Nome: " + getReturnAgency().getName() + "\n" +
+                "Endereço: " + getReturnAgency().getAddress() + "\n" +
+                "Telefone: " + getReturnAgency().getPhone() + "\n" +
                 "Data Estimada de Devolução: "
-                + estimatedReturnDate.format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm")) + "\n" +
+                + getEstimatedReturnDate().format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm")) + "\n" +
                 "Data Real de Devolução: "
-                + (actualReturnDate != null
-                ? actualReturnDate.format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm")) : "N/A") + "\n\n" +
+                + (getActualReturnDate() != null
+                ? getActualReturnDate().format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm")) : "N/A") + "\n\n" +
                 "=== VALOR DO ALUGUEL ===\n" +
+                (getFees().signum() != 0 ? "Taxas: R$ " + getFees() + "\n" : "") +
                 "Valor Total: R$ " + calculateTotalCost() + "\n" +
                 "==========================================\n";
     }
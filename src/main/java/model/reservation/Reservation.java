@@ -0,0 +1,89 @@
+package model.reservation;
+
+import enums.ReservationStatus;
+import model.agency.Agency;
+import model.customer.Customer;
+import model.vehicle.Vehicle;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+public class Reservation implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String id;
+    private final Customer customer;
+    private final Vehicle vehicle;
+    private final Agency pickUpAgency;
+    private final LocalDateTime pickUpDate;
+    private final LocalDateTime estimatedReturnDate;
+    private ReservationStatus status;
+    private String rentalId;
+
+    public Reservation(String id, Customer customer, Vehicle vehicle, Agency pickUpAgency, LocalDateTime pickUpDate,
+                       LocalDateTime estimatedReturnDate) {
+        this.id = id;
+        this.customer = customer;
+        this.vehicle = vehicle;
+        this.pickUpAgency = pickUpAgency;
+        this.pickUpDate = pickUpDate;
+        this.estimatedReturnDate = estimatedReturnDate;
+        this.status = ReservationStatus.PENDING;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Customer getCustomer() {
+        return customer;
+    }
+
+    public Vehicle getVehicle() {
+        return vehicle;
+    }
+
+    public Agency getPickUpAgency() {
+        return pickUpAgency;
+    }
+
+    public LocalDateTime getPickUpDate() {
+        return pickUpDate;
+    }
+
+    public LocalDateTime getEstimatedReturnDate() {
+        return estimatedReturnDate;
+    }
+
+    public ReservationStatus getStatus() {
+        return status;
+    }
+
+    public String getRentalId() {
+        return rentalId;
+    }
+
+    public void setStatus(ReservationStatus status) {
+        this.status = status;
+    }
+
+    public void setRentalId(String rentalId) {
+        this.rentalId = rentalId;
+    }
+
+    public String generateReservationReceipt() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+        return "========== RECIBO DE RESERVA ==========\n" +
+                "Cliente: " + customer.getName() + "\n" +
+                "Documento: " + customer.getDocumentId() + "\n\n" +
+                "=== DETALHES DO VEÍCULO ===\n" +
+                "Modelo: " + vehicle.getModel() + "\n" +
+                "Placa: " + vehicle.getPlate() + "\n\n" +
+                "=== AGÊNCIA DE RETIRADA ===\n" +
+                "Nome: " + pickUpAgency.getName() + "\n" +
+                "Data de Retirada: " + pickUpDate.format(formatter) + "\n" +
+                "Data Estimada de Devolução: " + estimatedReturnDate.format(formatter) + "\n" +
+                "=======================================\n";
+    }
+}
@@ -2,7 +2,10 @@ package model.vehicle;
 
 import enums.VehicleType;
 import model.agency.Agency;
+import utils.StringPool;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.math.BigDecimal;
 
@@ -11,8 +14,9 @@ public abstract class Vehicle implements Serializable {
 
     private final String id;
     private final String plate;
-    private final String model;
-    private final String brand;
+    // Não finais para que readObject troque pelos valores do dicionário
+    private String model;
+    private String brand;
     private boolean available;
     private Agency agency;
     private final VehicleType type;
@@ -20,13 +24,19 @@ public abstract class Vehicle implements Serializable {
     public Vehicle(String id, String plate, String model, String brand, Agency agency, VehicleType type) {
         this.id = id;
         this.plate = plate;
-        this.model = model;
-        this.brand = brand;
+        this.model = StringPool.getInstance().intern(model);
+        this.brand = StringPool.getInstance().intern(brand);
         this.available = true;
         this.agency = agency;
         this.type = type;
     }
 
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        model = StringPool.getInstance().intern(model);
+        brand = StringPool.getInstance().intern(brand);
+    }
+
     public Boolean isAvailable() {
         return available;
     }
@@ -0,0 +1,51 @@
+package profiling;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+// Gravação JFR iniciada pela linha de comando (--record). Usa o perfil "profile" do JDK,
+// liga os eventos do CodersRental e grava o arquivo quando a JVM é encerrada.
+public class FlightRecording {
+    private static final String EVENT_PREFIX = "codersrental.";
+
+    private final Recording recording;
+
+    private FlightRecording(Recording recording) {
+        this.recording = recording;
+    }
+
+    public static FlightRecording start(Path destination) throws IOException {
+        Recording recording;
+        try {
+            recording = new Recording(Configuration.getConfiguration("profile"));
+        } catch (ParseException e) {
+            throw new IOException("Configuração JFR inválida: " + e.getMessage());
+        }
+        recording.setName("codersrental");
+        recording.setToDisk(true);
+        recording.setDestination(destination);
+        recording.enable(EVENT_PREFIX + "RentalCreated");
+        recording.enable(EVENT_PREFIX + "PersistenceFlush");
+        recording.enable(EVENT_PREFIX + "RepositoryScan").withThreshold(Duration.ofNanos(20_000));
+        recording.start();
+        System.err.println("Gravando eventos JFR em " + destination);
+
+        FlightRecording flightRecording = new FlightRecording(recording);
+        Runtime.getRuntime().addShutdownHook(new Thread(flightRecording::stop, "jfr-recording"));
+        return flightRecording;
+    }
+
+    public synchronized void stop() {
+        if (recording.getState() == RecordingState.RUNNING) {
+            // stop() grava o arquivo de destino
+            recording.stop();
+            recording.close();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("codersrental.PersistenceFlush")
+@Label("Gravação de Arquivo")
+@Category({"CodersRental", "Persistência"})
+@Description("Gravação de uma lista inteira num arquivo *-DB por DataPersistence.save")
+public class PersistenceFlushEvent extends jdk.jfr.Event {
+    @Label("Arquivo")
+    public String file;
+
+    @Label("Registros")
+    public int records;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+    @Label("Sucesso")
+    public boolean succeeded;
+}
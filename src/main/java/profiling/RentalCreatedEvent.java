@@ -0,0 +1,27 @@
+package profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("codersrental.RentalCreated")
+@Label("Locação Criada")
+@Category({"CodersRental", "Locações"})
+@Description("Abertura de uma locação em RentalServiceImpl.createRental; a duração cobre a chamada inteira")
+public class RentalCreatedEvent extends jdk.jfr.Event {
+    @Label("Locação")
+    public String rentalId;
+
+    @Label("Cliente")
+    public String customerId;
+
+    @Label("Veículo")
+    public String vehicleId;
+
+    @Label("Tipo do veículo")
+    public String vehicleType;
+
+    @Label("Agência de retirada")
+    public String agencyId;
+}
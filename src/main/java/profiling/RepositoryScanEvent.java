@@ -0,0 +1,76 @@
+package profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+import java.util.List;
+
+// Varreduras lineares das listas dos repositórios. Desligado, o evento não custa mais que a checagem
+// de isEnabled; as contagens de linhas só são calculadas quando o evento vai ser gravado.
+@Name("codersrental.RepositoryScan")
+@Label("Varredura de Repositório")
+@Category({"CodersRental", "Repositórios"})
+@Description("Busca que percorre a lista de um repositório")
+@Threshold("20 us")
+public class RepositoryScanEvent extends jdk.jfr.Event {
+    @Label("Entidade")
+    public String entity;
+
+    @Label("Busca")
+    public String predicate;
+
+    @Label("Linhas percorridas")
+    public int rowsScanned;
+
+    @Label("Linhas encontradas")
+    public int rowsMatched;
+
+    public static RepositoryScanEvent begin(String entity, String predicate) {
+        RepositoryScanEvent event = new RepositoryScanEvent();
+        if (event.isEnabled()) {
+            event.entity = entity;
+            event.predicate = predicate;
+            event.begin();
+        }
+        return event;
+    }
+
+    // A busca parou no primeiro registro encontrado
+    public void found(List<?> source, Object match) {
+        end();
+        if (shouldCommit()) {
+            rowsScanned = source.indexOf(match) + 1;
+            rowsMatched = 1;
+            commit();
+        }
+    }
+
+    public void notFound(List<?> source) {
+        end();
+        if (shouldCommit()) {
+            rowsScanned = source.size();
+            commit();
+        }
+    }
+
+    public void matched(List<?> source, List<?> matches) {
+        end();
+        if (shouldCommit()) {
+            rowsScanned = source.size();
+            rowsMatched = matches.size();
+            commit();
+        }
+    }
+
+    public void matched(int scanned, int matches) {
+        end();
+        if (shouldCommit()) {
+            rowsScanned = scanned;
+            rowsMatched = matches;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package replication;
+
+import enums.ReservationStatus;
+import events.DomainEvent;
+import events.EventBus;
+import model.agency.Agency;
+import model.customer.Customer;
+import model.rental.Rental;
+import model.reservation.Reservation;
+import model.vehicle.Vehicle;
+import repository.agency.AgencyRepository;
+import repository.customer.CustomerRepository;
+import repository.rental.RentalPeriodIndex;
+import repository.rental.RentalRepository;
+import repository.reservation.ReservationRepository;
+import repository.vehicle.VehicleRepository;
+import service.customer.CustomerSearchIndex;
+import service.rental.OverdueRentalScheduler;
+
+// Aplica na réplica as entidades recebidas do primário. Os serviços não são chamados (eles gerariam
+// ids e datas novos), então os índices que os serviços mantêm são atualizados aqui, e o painel
+// recebe pelo barramento os mesmos eventos que o primário publicou.
+// Roda sob a escrita da StoreLock; os assinantes do barramento não a tomam, então publicar não trava.
+public class ReplicaApplier {
+    private final AgencyRepository agencyRepository;
+    private final VehicleRepository vehicleRepository;
+    private final CustomerRepository customerRepository;
+    private final RentalRepository rentalRepository;
+    private final ReservationRepository reservationRepository;
+    private final RentalPeriodIndex rentalPeriodIndex;
+    private final OverdueRentalScheduler overdueRentalScheduler;
+    private final CustomerSearchIndex customerSearchIndex;
+    private final EventBus eventBus;
+
+    public ReplicaApplier(AgencyRepository agencyRepository, VehicleRepository vehicleRepository,
+                          CustomerRepository customerRepository, RentalRepository rentalRepository,
+                          ReservationRepository reservationRepository, RentalPeriodIndex rentalPeriodIndex,
+                          OverdueRentalScheduler overdueRentalScheduler, CustomerSearchIndex customerSearchIndex,
+                          EventBus eventBus) {
+        this.agencyRepository = agencyRepository;
+        this.vehicleRepository = vehicleRepository;
+        this.customerRepository = customerRepository;
+        this.rentalRepository = rentalRepository;
+        this.reservationRepository = reservationRepository;
+        this.rentalPeriodIndex = rentalPeriodIndex;
+        this.overdueRentalScheduler = overdueRentalScheduler;
+        this.customerSearchIndex = customerSearchIndex;
+        this.eventBus = eventBus;
+    }
+
+    public void apply(Object entity) {
+        if (entity instanceof Agency agency) {
+            applyAgency(agency);
+        } else if (entity instanceof Customer customer) {
+            applyCustomer(customer);
+        } else if (entity instanceof Vehicle vehicle) {
+            applyVehicle(vehicle);
+        } else if (entity instanceof Rental rental) {
+            applyRental(rental);
+        } else if (entity instanceof Reservation reservation) {
+            applyReservation(reservation);
+        } else {
+            throw new IllegalArgumentException("Entidade desconhecida no log de replicação: "
+                    + (entity == null ? null : entity.getClass().getName()));
+        }
+    }
+
+    private void applyAgency(Agency agency) {
+        if (agencyRepository.findById(agency.getId()) == null) {
+            agencyRepository.save(agency);
+        } else {
+            agencyRepository.update(agency);
+        }
+    }
+
+    private void applyCustomer(Customer customer) {
+        boolean existed = customerRepository.findById(customer.getId()) != null;
+        if (existed) {
+            customerRepository.update(customer);
+        } else {
+            customerRepository.save(customer);
+        }
+        customerSearchIndex.add(customer);
+        if (existed) {
+            eventBus.publish(new DomainEvent.CustomerUpdated(customer.getId(), customer.getType(), customer.getName()));
+        }
+    }
+
+    private void applyVehicle(Vehicle vehicle) {
+        if (vehicleRepository.findById(vehicle.getId()) == null) {
+            vehicleRepository.save(vehicle);
+        } else {
+            vehicleRepository.update(vehicle);
+        }
+        eventBus.publish(new DomainEvent.VehicleSaved(vehicle.getId(), vehicle.getType(),
+                vehicle.getAgency() != null ? vehicle.getAgency().getId() : null,
+                Boolean.TRUE.equals(vehicle.isAvailable())));
+    }
+
+    private void applyRental(Rental rental) {
+        Rental previous = rentalRepository.findById(rental.getId());
+        boolean wasOpen = previous == null || previous.getActualReturnDate() == null;
+
+        if (previous == null) {
+            rentalRepository.save(rental);
+            eventBus.publish(new DomainEvent.RentalCreated(rental.getId(), rental.getCustomer().getId(),
+                    rental.getVehicle().getId(), rental.getVehicle().getType(), rental.getPickUpAgency().getId(),
+                    rental.getPickUpDate(), rental.getEstimatedReturnDate()));
+        } else {
+            rentalPeriodIndex.removeRental(previous);
+            rentalRepository.update(rental);
+        }
+        rentalPeriodIndex.addRental(rental);
+
+        if (rental.getActualReturnDate() == null) {
+            overdueRentalScheduler.schedule(rental);
+        } else if (wasOpen) {
+            overdueRentalScheduler.cancel(rental.getId());
+            eventBus.publish(new DomainEvent.RentalClosed(rental.getId(), rental.getVehicle().getId(),
+                    rental.getVehicle().getType(), rental.getPickUpAgency().getId(),
+                    rental.getReturnAgency() != null ? rental.getReturnAgency().getId() : null,
+                    rental.getActualReturnDate(), rental.calculateTotalCost()));
+        }
+    }
+
+    private void applyReservation(Reservation reservation) {
+        Reservation previous = reservationRepository.findById(reservation.getId());
+        if (previous == null) {
+            reservationRepository.save(reservation);
+        } else {
+            if (previous.getStatus() == ReservationStatus.PENDING) {
+                rentalPeriodIndex.remove(previous.getVehicle().getId(), previous.getId(), previous.getPickUpDate());
+            }
+            reservationRepository.update(reservation);
+        }
+        if (reservation.getStatus() == ReservationStatus.PENDING) {
+            rentalPeriodIndex.add(reservation.getVehicle().getId(), reservation.getId(),
+                    reservation.getPickUpDate(), reservation.getEstimatedReturnDate());
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package replication;
+
+import data.StoreLock;
+import metrics.MetricsRegistry;
+import metrics.Timer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Lado da réplica: conecta ao primário, pede as alterações a partir da última posição aplicada e as
+// aplica em lotes (um lote por batida do primário), cada lote sob uma única escrita da StoreLock.
+// Se a conexão cai, continua atendendo consultas com o que já tem e tenta reconectar.
+public class ReplicationClient {
+    private static final long RETRY_MILLIS = 1000;
+    private static final int CONNECT_TIMEOUT_MILLIS = 5000;
+    // Sem nenhuma batida nesse intervalo, o primário é dado como fora
+    private static final int READ_TIMEOUT_MILLIS = 5000;
+
+    public record Status(String primary, boolean connected, long position, long primaryPosition, long behind,
+                         long lagMillis, long millisSinceContact) {
+    }
+
+    private final String host;
+    private final int port;
+    private final ReplicaApplier applier;
+    private final Timer lagTimer = MetricsRegistry.getInstance().timer("Replicação.atraso");
+    private final Thread thread;
+
+    private volatile boolean running = true;
+    private volatile Socket socket;
+    private volatile boolean connected;
+    private volatile long epoch;
+    private volatile long position;
+    private volatile long primaryPosition;
+    private volatile long lagMillis;
+    private volatile long lastContact;
+
+    public ReplicationClient(String host, int port, ReplicaApplier applier) {
+        this.host = host;
+        this.port = port;
+        this.applier = applier;
+        this.thread = new Thread(this::run, "replication-client");
+        this.thread.setDaemon(true);
+    }
+
+    public void start() {
+        thread.start();
+    }
+
+    public void stop() {
+        running = false;
+        Socket current = socket;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (IOException ignored) {
+            }
+        }
+        thread.interrupt();
+    }
+
+    public Status getStatus() {
+        long applied = position;
+        long primary = Math.max(primaryPosition, applied);
+        long sinceContact = lastContact == 0 ? -1 : System.currentTimeMillis() - lastContact;
+        return new Status(host + ":" + port, connected, applied, primary, primary - applied, lagMillis, sinceContact);
+    }
+
+    // Espera a réplica alcançar a posição que o primário anunciou por último
+    public boolean awaitCaughtUp(long timeoutMillis) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (System.nanoTime() < deadline) {
+            if (connected && lastContact != 0 && position >= primaryPosition) {
+                return true;
+            }
+            Thread.sleep(10);
+        }
+        return false;
+    }
+
+    private void run() {
+        boolean warned = false;
+        while (running) {
+            try (Socket current = new Socket()) {
+                socket = current;
+                current.connect(new InetSocketAddress(host, port), CONNECT_TIMEOUT_MILLIS);
+                current.setTcpNoDelay(true);
+                current.setSoTimeout(READ_TIMEOUT_MILLIS);
+                warned = false;
+                follow(current);
+            } catch (IOException e) {
+                if (running && !warned) {
+                    System.err.println("Réplica sem conexão com o primário " + host + ":" + port + ": "
+                            + (e.getMessage() != null ? e.getMessage() : "conexão encerrada"));
+                    warned = true;
+                }
+            } catch (RuntimeException e) {
+                System.err.println("Erro ao aplicar alterações do primário: " + e.getMessage());
+            } finally {
+                connected = false;
+            }
+
+            if (!running) return;
+            try {
+                Thread.sleep(RETRY_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void follow(Socket current) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(current.getInputStream(), 1 << 16));
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(current.getOutputStream()));
+
+        out.writeUTF(ReplicationProtocol.HELLO);
+        out.writeLong(epoch);
+        out.writeLong(position);
+        out.flush();
+        long primaryEpoch = in.readLong();
+        connected = true;
+        System.out.println("Réplica conectada ao primário " + host + ":" + port);
+
+        List<ReplicationLog.Entry> pending = new ArrayList<>();
+        while (running) {
+            byte frame = in.readByte();
+            lastContact = System.currentTimeMillis();
+            switch (frame) {
+                case ReplicationProtocol.SNAPSHOT -> {
+                    long snapshotPosition = in.readLong();
+                    int count = in.readInt();
+                    List<ReplicationLog.Entry> entries = new ArrayList<>(count);
+                    for (int i = 0; i < count; i++) {
+                        entries.add(ReplicationProtocol.readEntry(in));
+                    }
+                    apply(entries);
+                    epoch = primaryEpoch;
+                    position = snapshotPosition;
+                    System.out.println("Réplica sincronizada: " + count + " registro(s) até a posição " + snapshotPosition);
+                    acknowledge(out);
+                }
+                case ReplicationProtocol.ENTRY -> {
+                    ReplicationLog.Entry entry = ReplicationProtocol.readEntry(in);
+                    if (entry.sequence() > position) {
+                        pending.add(entry);
+                    }
+                }
+                case ReplicationProtocol.HEARTBEAT -> {
+                    primaryPosition = in.readLong();
+                    in.readLong();
+                    if (!pending.isEmpty()) {
+                        apply(pending);
+                        ReplicationLog.Entry last = pending.get(pending.size() - 1);
+                        position = last.sequence();
+                        lagMillis = Math.max(0, System.currentTimeMillis() - last.timestamp());
+                        lagTimer.recordElapsed(TimeUnit.MILLISECONDS.toNanos(lagMillis), false);
+                        pending.clear();
+                        acknowledge(out);
+                    }
+                }
+                default -> throw new IOException("Quadro de replicação desconhecido: " + frame);
+            }
+        }
+    }
+
+    // Desserializa fora da trava; só a aplicação bloqueia as consultas da réplica
+    private void apply(List<ReplicationLog.Entry> entries) throws IOException {
+        List<Object> entities = new ArrayList<>(entries.size());
+        for (ReplicationLog.Entry entry : entries) {
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(entry.payload()))) {
+                entities.add(in.readObject());
+            } catch (ClassNotFoundException e) {
+                throw new IOException("Entidade desconhecida no log de replicação: " + e.getMessage());
+            }
+        }
+        StoreLock.write(() -> {
+            for (Object entity : entities) {
+                applier.apply(entity);
+            }
+            return null;
+        });
+    }
+
+    private void acknowledge(DataOutputStream out) throws IOException {
+        out.writeLong(position);
+        out.flush();
+    }
+}
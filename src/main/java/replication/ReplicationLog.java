@@ -0,0 +1,144 @@
+package replication;
+
+import data.StoreLock;
+import repository.Repository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Log das alterações do primário. Cada save/update dos repositórios registrados vira uma entrada
+// com a entidade serializada naquele instante (as entidades são alteradas no lugar, então não dá
+// para serializar depois). As entradas ficam num buffer circular: uma réplica que ficou mais atrás
+// do que o buffer alcança recebe de novo o retrato completo.
+public class ReplicationLog {
+    public static final int DEFAULT_CAPACITY = 1 << 14;
+
+    public record Entry(long sequence, long timestamp, byte[] payload) {
+    }
+
+    public record Snapshot(long position, List<Entry> entries) {
+    }
+
+    // Identifica esta execução do primário: as sequências recomeçam a cada processo
+    private final long epoch = System.currentTimeMillis();
+    private final Entry[] entries;
+    private final int mask;
+    private final List<Repository<?>> repositories = new CopyOnWriteArrayList<>();
+    private long lastSequence;
+
+    public ReplicationLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ReplicationLog(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("A capacidade do log deve ser uma potência de dois.");
+        }
+        entries = new Entry[capacity];
+        mask = capacity - 1;
+    }
+
+    // Envolve o repositório: save e update gravam e depois registram a entidade no log.
+    // As alterações correm sob a escrita da StoreLock, então a ordem do log é a ordem das alterações;
+    // as @Partitioned correm em paralelo, mas em partições diferentes, e a ordem entre elas não importa.
+    @SuppressWarnings("unchecked")
+    public <T, R extends Repository<T>> R record(Class<R> type, R target) {
+        repositories.add(target);
+
+        return (R) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Object result = invoke(method, target, args);
+            if (method.getDeclaringClass() != Object.class
+                    && (method.getName().equals("save") || method.getName().equals("update"))) {
+                append(args[0]);
+            }
+            return result;
+        });
+    }
+
+    public void append(Object entity) {
+        byte[] payload = serialize(entity);
+        synchronized (this) {
+            long sequence = ++lastSequence;
+            entries[(int) (sequence & mask)] = new Entry(sequence, System.currentTimeMillis(), payload);
+            notifyAll();
+        }
+    }
+
+    // Entradas depois de `sequence`, esperando até `timeoutMillis` se não houver nenhuma.
+    // Devolve null se alguma delas já saiu do buffer: a réplica precisa do retrato completo.
+    public synchronized List<Entry> readAfter(long sequence, int max, long timeoutMillis) throws InterruptedException {
+        if (sequence < firstRetained() - 1) {
+            return null;
+        }
+        if (lastSequence <= sequence && timeoutMillis > 0) {
+            wait(timeoutMillis);
+            if (sequence < firstRetained() - 1) {
+                return null;
+            }
+        }
+
+        List<Entry> found = new ArrayList<>((int) Math.min(max, Math.max(0, lastSequence - sequence)));
+        for (long next = sequence + 1; next <= lastSequence && found.size() < max; next++) {
+            found.add(entries[(int) (next & mask)]);
+        }
+        return found;
+    }
+
+    // Todas as entidades dos repositórios registrados e a posição do log a que correspondem
+    public Snapshot snapshot() {
+        return StoreLock.snapshot(() -> {
+            long position = getLastSequence();
+            long now = System.currentTimeMillis();
+            List<Entry> found = new ArrayList<>();
+            for (Repository<?> repository : repositories) {
+                for (Object entity : repository.findAll()) {
+                    found.add(new Entry(position, now, serialize(entity)));
+                }
+            }
+            return new Snapshot(position, found);
+        });
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public synchronized long getLastSequence() {
+        return lastSequence;
+    }
+
+    private long firstRetained() {
+        return Math.max(1, lastSequence - entries.length + 1);
+    }
+
+    private static byte[] serialize(Object entity) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(entity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível registrar a alteração no log de replicação.", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) throw runtimeException;
+            if (cause instanceof Error error) throw error;
+            throw new IllegalStateException(cause);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
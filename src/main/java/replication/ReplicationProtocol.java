@@ -0,0 +1,55 @@
+package replication;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+// Quadros trocados entre primário e réplica pelo socket.
+//   réplica -> primário: HELLO, a época e a última sequência aplicadas; depois ACK a cada lote aplicado
+//   primário -> réplica: SNAPSHOT (posição e quantidade, seguido das entradas), ENTRY e HEARTBEAT
+class ReplicationProtocol {
+    static final String HELLO = "codersrental:replication:1";
+
+    static final byte SNAPSHOT = 1;
+    static final byte ENTRY = 2;
+    static final byte HEARTBEAT = 3;
+
+    static void writeEntries(DataOutputStream out, List<ReplicationLog.Entry> entries) throws IOException {
+        for (ReplicationLog.Entry entry : entries) {
+            out.writeByte(ENTRY);
+            writeEntry(out, entry);
+        }
+    }
+
+    static void writeSnapshot(DataOutputStream out, ReplicationLog.Snapshot snapshot) throws IOException {
+        out.writeByte(SNAPSHOT);
+        out.writeLong(snapshot.position());
+        out.writeInt(snapshot.entries().size());
+        for (ReplicationLog.Entry entry : snapshot.entries()) {
+            writeEntry(out, entry);
+        }
+    }
+
+    // A posição do primário e o relógio dele, para a réplica medir o atraso mesmo sem alterações
+    static void writeHeartbeat(DataOutputStream out, long position) throws IOException {
+        out.writeByte(HEARTBEAT);
+        out.writeLong(position);
+        out.writeLong(System.currentTimeMillis());
+    }
+
+    static ReplicationLog.Entry readEntry(DataInputStream in) throws IOException {
+        long sequence = in.readLong();
+        long timestamp = in.readLong();
+        byte[] payload = new byte[in.readInt()];
+        in.readFully(payload);
+        return new ReplicationLog.Entry(sequence, timestamp, payload);
+    }
+
+    private static void writeEntry(DataOutputStream out, ReplicationLog.Entry entry) throws IOException {
+        out.writeLong(entry.sequence());
+        out.writeLong(entry.timestamp());
+        out.writeInt(entry.payload().length);
+        out.write(entry.payload());
+    }
+}
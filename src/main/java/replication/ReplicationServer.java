@@ -0,0 +1,170 @@
+package replication;
+
+import utils.VirtualThreads;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Lado primário: cada réplica conectada tem uma thread que lê o log a partir da última posição
+// enviada e escreve as entradas no socket, e outra que lê as confirmações (ACK) da réplica.
+// Nenhuma das duas toma a StoreLock, exceto para tirar o retrato completo.
+public class ReplicationServer {
+    private static final int MAX_FOLLOWERS = 16;
+    private static final int MAX_BATCH = 512;
+    private static final long HEARTBEAT_MILLIS = 1000;
+
+    public record FollowerStatus(String address, long acknowledged, long behind) {
+    }
+
+    private static final class Follower {
+        private final Socket socket;
+        private volatile long acknowledged;
+
+        private Follower(Socket socket) {
+            this.socket = socket;
+        }
+    }
+
+    private final ReplicationLog log;
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor;
+    private final List<Follower> followers = new CopyOnWriteArrayList<>();
+    private final Thread acceptThread;
+
+    public ReplicationServer(ReplicationLog log, int port) throws IOException {
+        this.log = log;
+        this.serverSocket = new ServerSocket(port);
+        this.executor = VirtualThreads.newPerTaskExecutor("replication-follower", MAX_FOLLOWERS * 2);
+        this.acceptThread = new Thread(this::accept, "replication-accept");
+        this.acceptThread.setDaemon(true);
+    }
+
+    public void start() {
+        acceptThread.start();
+    }
+
+    public void stop() {
+        try {
+            serverSocket.close();
+        } catch (IOException ignored) {
+        }
+        for (Follower follower : followers) {
+            close(follower.socket);
+        }
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public ReplicationLog getLog() {
+        return log;
+    }
+
+    public List<FollowerStatus> getFollowers() {
+        long position = log.getLastSequence();
+        List<FollowerStatus> statuses = new ArrayList<>();
+        for (Follower follower : followers) {
+            statuses.add(new FollowerStatus(follower.socket.getRemoteSocketAddress().toString(),
+                    follower.acknowledged, Math.max(0, position - follower.acknowledged)));
+        }
+        return statuses;
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (SocketException e) {
+                return;
+            } catch (IOException e) {
+                continue;
+            }
+
+            if (followers.size() >= MAX_FOLLOWERS) {
+                close(socket);
+                continue;
+            }
+            executor.execute(() -> ship(socket));
+        }
+    }
+
+    private void ship(Socket socket) {
+        Follower follower = new Follower(socket);
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 1 << 16));
+
+            if (!ReplicationProtocol.HELLO.equals(in.readUTF())) {
+                return;
+            }
+            long epoch = in.readLong();
+            long applied = in.readLong();
+            out.writeLong(log.getEpoch());
+
+            // Réplica nova ou de outra execução do primário: as sequências dela não valem aqui
+            long position = epoch == log.getEpoch() ? applied : -1;
+            follower.acknowledged = Math.max(position, 0);
+            followers.add(follower);
+            executor.execute(() -> readAcknowledgements(follower, in));
+
+            while (!socket.isClosed()) {
+                List<ReplicationLog.Entry> entries = position < 0
+                        ? null
+                        : log.readAfter(position, MAX_BATCH, HEARTBEAT_MILLIS);
+                if (entries == null) {
+                    ReplicationLog.Snapshot snapshot = log.snapshot();
+                    ReplicationProtocol.writeSnapshot(out, snapshot);
+                    position = snapshot.position();
+                } else if (!entries.isEmpty()) {
+                    ReplicationProtocol.writeEntries(out, entries);
+                    position = entries.get(entries.size() - 1).sequence();
+                }
+                ReplicationProtocol.writeHeartbeat(out, log.getLastSequence());
+                out.flush();
+            }
+        } catch (IOException ignored) {
+            // Réplica desconectada; ela volta a pedir a partir da última posição aplicada
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            followers.remove(follower);
+        }
+    }
+
+    private void readAcknowledgements(Follower follower, DataInputStream in) {
+        try {
+            while (true) {
+                follower.acknowledged = in.readLong();
+            }
+        } catch (IOException e) {
+            close(follower.socket);
+        }
+    }
+
+    private static void close(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package repository;
+
+import utils.EntityId;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+// As listas dos repositórios só crescem no final: primeiro vêm os ids antigos (UUID),
+// carregados dos arquivos, e depois os ids novos em ordem crescente. Assim a faixa
+// de criação é localizada por busca binária, sem percorrer a lista.
+public class IdRange {
+
+    public static <T> List<T> createdBetween(List<T> source, Function<T, String> idOf, Instant from, Instant to) {
+        checkPeriod(from, to);
+        int firstCompact = firstCompact(source, idOf);
+        int start = lowerBound(source, idOf, firstCompact, EntityId.lowerBound(from));
+        int end = lowerBound(source, idOf, start, EntityId.lowerBound(to));
+        return new ArrayList<>(source.subList(start, end));
+    }
+
+    public static void checkPeriod(Instant from, Instant to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("Período inválido: a data inicial deve ser anterior à final.");
+        }
+    }
+
+    private static <T> int firstCompact(List<T> source, Function<T, String> idOf) {
+        int low = 0;
+        int high = source.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (EntityId.isCompact(idOf.apply(source.get(middle)))) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    private static <T> int lowerBound(List<T> source, Function<T, String> idOf, int low, String id) {
+        int high = source.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (idOf.apply(source.get(middle)).compareTo(id) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
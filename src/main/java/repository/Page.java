@@ -0,0 +1,141 @@
+package repository;
+
+import profiling.RepositoryScanEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.function.Predicate;
+
+public record Page<T>(List<T> items, String nextCursor) {
+    private static final String CURSOR_PREFIX = "p:";
+    private static final String KEY_CURSOR_PREFIX = "k:";
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    // Os repositórios só acrescentam ao final da lista e atualizam no lugar,
+    // então a posição de inserção é uma chave de ordenação estável para o cursor.
+    // O custo de uma página depende do limite (e do filtro), não do total de registros.
+    public static <T> Page<T> of(List<T> source, Predicate<T> filter, String cursor, int limit) {
+        return of(source, filter, cursor, limit, null);
+    }
+
+    // Página de um repositório: registra a varredura como RepositoryScanEvent
+    public static <T> Page<T> of(String entity, List<T> source, Predicate<T> filter, String cursor, int limit) {
+        return of(source, filter, cursor, limit, RepositoryScanEvent.begin(entity, "findPage"));
+    }
+
+    private static <T> Page<T> of(List<T> source, Predicate<T> filter, String cursor, int limit,
+                                  RepositoryScanEvent scan) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("O limite da página deve ser positivo.");
+        }
+
+        List<T> items = new ArrayList<>(limit);
+        int position = decodeCursor(cursor);
+        int first = position;
+        int size = source.size();
+
+        while (position < size && items.size() < limit) {
+            T item = source.get(position++);
+            if (filter == null || filter.test(item)) {
+                items.add(item);
+            }
+        }
+
+        String next = null;
+        while (position < size) {
+            if (filter == null || filter.test(source.get(position))) {
+                next = encodeCursor(position);
+                break;
+            }
+            position++;
+        }
+
+        if (scan != null) {
+            scan.matched(Math.min(position + 1, size) - first, items.size());
+        }
+        return new Page<>(items, next);
+    }
+
+    // Página de um mapa ordenado (ver ShardedRentalRepository): o cursor é a chave do próximo item,
+    // então inserções concorrentes em outras posições não deslocam as páginas seguintes
+    public static <T> Page<T> of(String entity, NavigableMap<String, T> source, Predicate<T> filter, String cursor,
+                                 int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("O limite da página deve ser positivo.");
+        }
+        RepositoryScanEvent scan = RepositoryScanEvent.begin(entity, "findPage");
+
+        String first = cursor == null || cursor.isEmpty() ? null : decode(cursor, KEY_CURSOR_PREFIX);
+        Iterator<Map.Entry<String, T>> entries = (first == null ? source : source.tailMap(first, true))
+                .entrySet().iterator();
+        List<T> items = new ArrayList<>(limit);
+        String next = null;
+        int scanned = 0;
+        while (entries.hasNext()) {
+            Map.Entry<String, T> entry = entries.next();
+            scanned++;
+            if (filter != null && !filter.test(entry.getValue())) {
+                continue;
+            }
+            if (items.size() == limit) {
+                next = encode(KEY_CURSOR_PREFIX + entry.getKey());
+                break;
+            }
+            items.add(entry.getValue());
+        }
+
+        scan.matched(scanned, items.size());
+        return new Page<>(items, next);
+    }
+
+    private static String encodeCursor(int position) {
+        return encode(CURSOR_PREFIX + position);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String cursor, String prefix) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(prefix)) {
+                throw new IllegalArgumentException("Cursor inválido: " + cursor);
+            }
+            return raw.substring(prefix.length());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + cursor);
+        }
+    }
+
+    private static int decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(CURSOR_PREFIX)) {
+                throw new IllegalArgumentException("Cursor inválido: " + cursor);
+            }
+            int position = Integer.parseInt(raw.substring(CURSOR_PREFIX.length()));
+            if (position < 0) {
+                throw new IllegalArgumentException("Cursor inválido: " + cursor);
+            }
+            return position;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + cursor);
+        }
+    }
+}
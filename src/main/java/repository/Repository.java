@@ -1,6 +1,7 @@
 package repository;
 
 import java.util.List;
+import java.util.function.Predicate;
 
 public interface Repository<T> {
 
@@ -11,4 +12,6 @@ public interface Repository<T> {
     T findById(String id);
 
     List<T> findAll();
+
+    Page<T> findPage(Predicate<T> filter, String cursor, int limit);
 }
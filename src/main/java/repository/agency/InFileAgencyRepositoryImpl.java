@@ -2,9 +2,12 @@ package repository.agency;
 
 import data.DataPersistence;
 import model.agency.Agency;
+import profiling.RepositoryScanEvent;
+import repository.Page;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
 public class InFileAgencyRepositoryImpl implements AgencyRepository {
     private static AgencyRepository instance;
@@ -48,11 +51,14 @@ public class InFileAgencyRepositoryImpl implements AgencyRepository {
 
     @Override
     public Agency findById(String id) {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Agency", "findById");
         for (Agency agency : agencies) {
             if (agency.getId().equals(id)) {
+                scan.found(agencies, agency);
                 return agency;
             }
         }
+        scan.notFound(agencies);
         return null;
     }
 
@@ -61,6 +67,11 @@ public class InFileAgencyRepositoryImpl implements AgencyRepository {
         return agencies;
     }
 
+    @Override
+    public Page<Agency> findPage(Predicate<Agency> filter, String cursor, int limit) {
+        return Page.of("Agency", agencies, filter, cursor, limit);
+    }
+
     @Override
     public List<Agency> searchByName(String name) {
         List<Agency> temp = new ArrayList<>();
@@ -74,11 +85,14 @@ public class InFileAgencyRepositoryImpl implements AgencyRepository {
 
     @Override
     public Agency findByName(String name) {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Agency", "findByName");
         for (Agency agency : agencies) {
             if (agency.getName().equals(name)) {
+                scan.found(agencies, agency);
                 return agency;
             }
         }
+        scan.notFound(agencies);
         return null;
     }
 }
@@ -1,9 +1,12 @@
 package repository.agency;
 
 import model.agency.Agency;
+import profiling.RepositoryScanEvent;
+import repository.Page;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
 public class InMemoryAgencyRepositoryImpl implements AgencyRepository {
     private static AgencyRepository instance;
@@ -41,11 +44,14 @@ public class InMemoryAgencyRepositoryImpl implements AgencyRepository {
 
     @Override
     public Agency findById(String id) {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Agency", "findById");
         for (Agency agency : agencies) {
             if (agency.getId().equals(id)) {
+                scan.found(agencies, agency);
                 return agency;
             }
         }
+        scan.notFound(agencies);
         return null;
     }
 
@@ -54,6 +60,11 @@ public class InMemoryAgencyRepositoryImpl implements AgencyRepository {
         return agencies;
     }
 
+    @Override
+    public Page<Agency> findPage(Predicate<Agency> filter, String cursor, int limit) {
+        return Page.of("Agency", agencies, filter, cursor, limit);
+    }
+
     @Override
     public List<Agency> searchByName(String name) {
         List<Agency> temp = new ArrayList<>();
@@ -67,11 +78,14 @@ public class InMemoryAgencyRepositoryImpl implements AgencyRepository {
 
     @Override
     public Agency findByName(String name) {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Agency", "findByName");
         for (Agency agency : agencies) {
             if (agency.getName().equals(name)) {
+                scan.found(agencies, agency);
                 return agency;
             }
         }
+        scan.notFound(agencies);
         return null;
     }
 }
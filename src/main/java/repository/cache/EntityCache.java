@@ -0,0 +1,20 @@
+package repository.cache;
+
+import metrics.CacheMetrics;
+
+public interface EntityCache<V> extends CacheMetrics {
+
+    // Conta acerto ou falta
+    V get(String key);
+
+    void put(String key, V value);
+
+    void invalidate(String key);
+
+    static <V> EntityCache<V> create(EvictionPolicy policy, int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("O tamanho do cache deve ser positivo.");
+        }
+        return policy == EvictionPolicy.LRU ? new LruCache<>(maximumSize) : new TinyLfuCache<>(maximumSize);
+    }
+}
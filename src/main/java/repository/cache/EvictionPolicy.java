@@ -0,0 +1,17 @@
+package repository.cache;
+
+import java.util.Locale;
+
+public enum EvictionPolicy {
+    LRU,
+    // Janela LRU pequena + LRU segmentado, com admissão pela frequência estimada (W-TinyLFU)
+    TINY_LFU;
+
+    public static EvictionPolicy fromName(String name) {
+        return switch (name.toLowerCase(Locale.ROOT)) {
+            case "lru" -> LRU;
+            case "tinylfu", "tiny-lfu", "w-tinylfu" -> TINY_LFU;
+            default -> throw new IllegalArgumentException("Política de cache desconhecida: " + name);
+        };
+    }
+}
@@ -0,0 +1,61 @@
+package repository.cache;
+
+// Count-min sketch com quatro linhas de contadores de 4 bits (até 15), usado pelo W-TinyLFU para
+// estimar quantas vezes cada chave foi pedida. A cada 10 × tamanho incrementos todos os contadores
+// caem pela metade, para que a popularidade antiga envelheça.
+class FrequencySketch {
+    private static final int ROWS = 4;
+    private static final int MAX_COUNT = 15;
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L};
+
+    private final byte[][] counters;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int maximumSize) {
+        int width = Integer.highestOneBit(Math.max(16, maximumSize - 1) << 1);
+        counters = new byte[ROWS][width];
+        mask = width - 1;
+        sampleSize = Math.max(10 * maximumSize, 10);
+    }
+
+    void increment(String key) {
+        int hash = key.hashCode();
+        boolean added = false;
+        for (int row = 0; row < ROWS; row++) {
+            int index = indexOf(hash, row);
+            if (counters[row][index] < MAX_COUNT) {
+                counters[row][index]++;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            halve();
+        }
+    }
+
+    int frequency(String key) {
+        int hash = key.hashCode();
+        int frequency = MAX_COUNT;
+        for (int row = 0; row < ROWS; row++) {
+            frequency = Math.min(frequency, counters[row][indexOf(hash, row)]);
+        }
+        return frequency;
+    }
+
+    private void halve() {
+        for (byte[] row : counters) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] >>= 1;
+            }
+        }
+        additions /= 2;
+    }
+
+    private int indexOf(int hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,67 @@
+package repository.cache;
+
+import metrics.CacheStats;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// LRU clássico sobre um LinkedHashMap em ordem de acesso
+class LruCache<V> implements EntityCache<V> {
+    private final int maximumSize;
+    private final LinkedHashMap<String, V> entries;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    LruCache(int maximumSize) {
+        this.maximumSize = maximumSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                if (size() > LruCache.this.maximumSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public synchronized V get(String key) {
+        V value = entries.get(key);
+        if (value == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return value;
+    }
+
+    @Override
+    public synchronized void put(String key, V value) {
+        entries.put(key, value);
+    }
+
+    @Override
+    public synchronized void invalidate(String key) {
+        entries.remove(key);
+    }
+
+    @Override
+    public String getPolicy() {
+        return "LRU";
+    }
+
+    @Override
+    public synchronized CacheStats stats() {
+        return new CacheStats(hits, misses, evictions, entries.size(), maximumSize);
+    }
+
+    @Override
+    public synchronized void resetStats() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+}
@@ -0,0 +1,67 @@
+package repository.cache;
+
+import metrics.MetricsRegistry;
+import repository.Repository;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.Function;
+
+// Cache de leitura na frente de qualquer repositório, sem mudar os serviços: findById consulta o
+// cache e, na falta, o repositório; save e update gravam no repositório e invalidam o id.
+// As demais consultas passam direto. As estatísticas aparecem no diagnóstico pelo nome.
+public class RepositoryCache {
+
+    @SuppressWarnings("unchecked")
+    public static <T, R extends Repository<T>> R wrap(Class<R> type, R target, String name,
+                                                      Function<T, String> idOf, EntityCache<T> cache) {
+        MetricsRegistry.getInstance().registerCache(name, cache);
+
+        return (R) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return invoke(method, target, args);
+            }
+            switch (method.getName()) {
+                case "findById" -> {
+                    String id = (String) args[0];
+                    if (id == null) {
+                        return invoke(method, target, args);
+                    }
+                    T cached = cache.get(id);
+                    if (cached != null) {
+                        return cached;
+                    }
+                    T loaded = (T) invoke(method, target, args);
+                    if (loaded != null) {
+                        cache.put(id, loaded);
+                    }
+                    return loaded;
+                }
+                case "save", "update" -> {
+                    try {
+                        return invoke(method, target, args);
+                    } finally {
+                        cache.invalidate(idOf.apply((T) args[0]));
+                    }
+                }
+                default -> {
+                    return invoke(method, target, args);
+                }
+            }
+        });
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) throw runtimeException;
+            if (cause instanceof Error error) throw error;
+            throw new IllegalStateException(cause);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
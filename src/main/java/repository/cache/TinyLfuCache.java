@@ -0,0 +1,187 @@
+package repository.cache;
+
+import metrics.CacheStats;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// W-TinyLFU: entradas novas passam por uma janela LRU de ~1% do tamanho; ao sair dela disputam
+// lugar com a vítima do LRU principal (segmentado em prova e protegido) e fica a de maior
+// frequência estimada. Rajadas de chaves vistas uma vez só não expulsam as chaves populares.
+class TinyLfuCache<V> implements EntityCache<V> {
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+
+    private static final class Node<V> {
+        private final String key;
+        private V value;
+        private int queue;
+        private Node<V> previous;
+        private Node<V> next;
+
+        private Node(String key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    // Lista duplamente ligada com sentinela: a cabeça é a entrada usada há mais tempo
+    private static final class Queue<V> {
+        private final Node<V> sentinel = new Node<>(null, null);
+        private int size;
+
+        private Queue() {
+            sentinel.previous = sentinel;
+            sentinel.next = sentinel;
+        }
+
+        private Node<V> head() {
+            return size == 0 ? null : sentinel.next;
+        }
+
+        private void addLast(Node<V> node) {
+            node.previous = sentinel.previous;
+            node.next = sentinel;
+            sentinel.previous.next = node;
+            sentinel.previous = node;
+            size++;
+        }
+
+        private void remove(Node<V> node) {
+            node.previous.next = node.next;
+            node.next.previous = node.previous;
+            node.previous = null;
+            node.next = null;
+            size--;
+        }
+    }
+
+    private final int maximumSize;
+    private final int windowMaximum;
+    private final int protectedMaximum;
+    private final Map<String, Node<V>> entries = new HashMap<>();
+    private final Queue<V> window = new Queue<>();
+    private final Queue<V> probation = new Queue<>();
+    private final Queue<V> protectedQueue = new Queue<>();
+    private final FrequencySketch sketch;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    TinyLfuCache(int maximumSize) {
+        this.maximumSize = maximumSize;
+        this.windowMaximum = Math.max(1, maximumSize / 100);
+        this.protectedMaximum = (maximumSize - windowMaximum) * 8 / 10;
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    @Override
+    public synchronized V get(String key) {
+        sketch.increment(key);
+        Node<V> node = entries.get(key);
+        if (node == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        touch(node);
+        return node.value;
+    }
+
+    @Override
+    public synchronized void put(String key, V value) {
+        Node<V> node = entries.get(key);
+        if (node != null) {
+            node.value = value;
+            touch(node);
+            return;
+        }
+
+        node = new Node<>(key, value);
+        entries.put(key, node);
+        node.queue = WINDOW;
+        window.addLast(node);
+
+        if (window.size > windowMaximum) {
+            Node<V> candidate = window.head();
+            window.remove(candidate);
+            candidate.queue = PROBATION;
+            probation.addLast(candidate);
+            if (entries.size() > maximumSize) {
+                evict(candidate);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void invalidate(String key) {
+        Node<V> node = entries.remove(key);
+        if (node != null) {
+            queueOf(node).remove(node);
+        }
+    }
+
+    @Override
+    public String getPolicy() {
+        return "W-TinyLFU";
+    }
+
+    @Override
+    public synchronized CacheStats stats() {
+        return new CacheStats(hits, misses, evictions, entries.size(), maximumSize);
+    }
+
+    @Override
+    public synchronized void resetStats() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    // O candidato que saiu da janela disputa com a entrada mais antiga do LRU principal
+    private void evict(Node<V> candidate) {
+        Node<V> victim = probation.head();
+        if (victim == candidate || victim == null) {
+            victim = protectedQueue.head() != null ? protectedQueue.head() : candidate;
+        }
+        Node<V> evicted = victim != candidate && sketch.frequency(candidate.key) > sketch.frequency(victim.key)
+                ? victim : candidate;
+        queueOf(evicted).remove(evicted);
+        entries.remove(evicted.key);
+        evictions++;
+    }
+
+    private void touch(Node<V> node) {
+        switch (node.queue) {
+            case WINDOW -> {
+                window.remove(node);
+                window.addLast(node);
+            }
+            case PROBATION -> {
+                probation.remove(node);
+                node.queue = PROTECTED;
+                protectedQueue.addLast(node);
+                // O protegido cheio devolve a entrada mais antiga para a prova
+                if (protectedQueue.size > protectedMaximum) {
+                    Node<V> demoted = protectedQueue.head();
+                    protectedQueue.remove(demoted);
+                    demoted.queue = PROBATION;
+                    probation.addLast(demoted);
+                }
+            }
+            default -> {
+                protectedQueue.remove(node);
+                protectedQueue.addLast(node);
+            }
+        }
+    }
+
+    private Queue<V> queueOf(Node<V> node) {
+        return switch (node.queue) {
+            case WINDOW -> window;
+            case PROBATION -> probation;
+            default -> protectedQueue;
+        };
+    }
+}
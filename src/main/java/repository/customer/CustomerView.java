@@ -0,0 +1,70 @@
+package repository.customer;
+
+import enums.CustomerType;
+import model.customer.Customer;
+import model.customer.Individual;
+import model.customer.LegalEntity;
+
+// Cliente guardado em OffHeapCustomerRepository. O registro não muda depois de gravado:
+// uma atualização grava outro registro, e as visões antigas continuam com os dados antigos,
+// como os objetos substituídos nos demais repositórios.
+final class CustomerView extends Customer {
+    private static final long serialVersionUID = 1L;
+
+    private final transient OffHeapCustomerRepository store;
+    private final transient int slot;
+
+    CustomerView(OffHeapCustomerRepository store, int slot) {
+        super(null, null, null, null, null);
+        this.store = store;
+        this.slot = slot;
+    }
+
+    // O documento vem do registro, que é imutável
+    @Override
+    public void setDocumentId(String documentId) {
+    }
+
+    @Override
+    public String getId() {
+        return store.idAt(slot);
+    }
+
+    @Override
+    public String getName() {
+        return store.nameAt(slot);
+    }
+
+    @Override
+    public String getPhoneNumber() {
+        return store.phoneNumberAt(slot);
+    }
+
+    @Override
+    public String getDocumentId() {
+        return store.documentIdAt(slot);
+    }
+
+    @Override
+    public CustomerType getType() {
+        return store.typeAt(slot);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof CustomerView view && view.store == store && view.slot == slot;
+    }
+
+    @Override
+    public int hashCode() {
+        return slot;
+    }
+
+    // Serializado (arquivos, cópias de segurança) como um cliente comum
+    private Object writeReplace() {
+        if (getType() == CustomerType.LEGALENTITY) {
+            return new LegalEntity(getId(), getName(), getPhoneNumber(), getDocumentId(), getType());
+        }
+        return new Individual(getId(), getName(), getPhoneNumber(), getDocumentId(), getType());
+    }
+}
@@ -2,9 +2,12 @@ package repository.customer;
 
 import data.DataPersistence;
 import model.customer.Customer;
+import profiling.RepositoryScanEvent;
+import repository.Page;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
 public class InFileCustomerRepositoryImpl implements CustomerRepository {
     private static CustomerRepository instance;
@@ -47,11 +50,14 @@ public class InFileCustomerRepositoryImpl implements CustomerRepository {
 
     @Override
     public Customer findById(String id) {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Customer", "findById");
         for (Customer customer : customers) {
             if (customer.getId().equals(id)) {
+                scan.found(customers, customer);
                 return customer;
             }
         }
+        scan.notFound(customers);
         return null;
     }
 
@@ -65,25 +71,35 @@ public class InFileCustomerRepositoryImpl implements CustomerRepository {
         return temp;
     }
 
+    @Override
+    public Page<Customer> findPage(Predicate<Customer> filter, String cursor, int limit) {
+        return Page.of("Customer", customers, filter, cursor, limit);
+    }
+
 
     @Override
     public List<Customer> findByName(String name) {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Customer", "findByName");
         List<Customer> temp = new ArrayList<>();
         for (Customer customer : customers) {
             if (customer.getName().contains(name)) {
                 temp.add(customer);
             }
         }
+        scan.matched(customers, temp);
         return temp;
     }
 
     @Override
     public Customer findByDocument(String document) {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Customer", "findByDocument");
         for (Customer customer : customers) {
             if (customer.getDocumentId().equals(document)) {
+                scan.found(customers, customer);
                 return customer;
             }
         }
+        scan.notFound(customers);
         return null;
     }
 }
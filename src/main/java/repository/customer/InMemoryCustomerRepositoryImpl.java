@@ -1,9 +1,12 @@
 package repository.customer;
 
 import model.customer.Customer;
+import profiling.RepositoryScanEvent;
+import repository.Page;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
 public class InMemoryCustomerRepositoryImpl implements CustomerRepository {
     private static CustomerRepository instance;
@@ -42,11 +45,14 @@ public class InMemoryCustomerRepositoryImpl implements CustomerRepository {
 
     @Override
     public Customer findById(String id) {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Customer", "findById");
         for (Customer customer : customers) {
             if (customer.getId().equals(id)) {
+                scan.found(customers, customer);
                 return customer;
             }
         }
+        scan.notFound(customers);
         return null;
     }
 
@@ -60,24 +66,34 @@ public class InMemoryCustomerRepositoryImpl implements CustomerRepository {
         return temp;
     }
 
+    @Override
+    public Page<Customer> findPage(Predicate<Customer> filter, String cursor, int limit) {
+        return Page.of("Customer", customers, filter, cursor, limit);
+    }
+
     @Override
     public List<Customer> findByName(String name) {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Customer", "findByName");
         List<Customer> temp = new ArrayList<>();
         for (Customer customer : customers) {
             if (customer.getName().contains(name)) {
                 temp.add(customer);
             }
         }
+        scan.matched(customers, temp);
         return temp;
     }
 
     @Override
     public Customer findByDocument(String document) {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Customer", "findByDocument");
         for (Customer customer : customers) {
             if (customer.getDocumentId().equals(document)) {
+                scan.found(customers, customer);
                 return customer;
             }
         }
+        scan.notFound(customers);
         return null;
     }
 }
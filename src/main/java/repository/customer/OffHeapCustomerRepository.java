@@ -0,0 +1,221 @@
+package repository.customer;
+
+import enums.CustomerType;
+import model.customer.Customer;
+import profiling.RepositoryScanEvent;
+import repository.Page;
+import repository.offheap.IdKeys;
+import repository.offheap.RecordArena;
+import repository.offheap.StringArena;
+import utils.LongIntHashMap;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+// Clientes em registros de 40 bytes fora do heap, com os textos num StringArena e o id numérico
+// num mapa primitivo. A posição de cada cliente na listagem fica em `order`; atualizar grava um
+// registro novo e troca o slot daquela posição.
+public class OffHeapCustomerRepository implements CustomerRepository {
+    private static final int KEY = 0;
+    private static final int NAME = 8;
+    private static final int PHONE_NUMBER = 16;
+    private static final int DOCUMENT_ID = 24;
+    private static final int POSITION = 32;
+    private static final int TYPE = 36;
+    private static final int RECORD_SIZE = 40;
+
+    private static final CustomerType[] TYPES = CustomerType.values();
+
+    private static CustomerRepository instance;
+
+    private final RecordArena records = new RecordArena(RECORD_SIZE);
+    private final StringArena strings = new StringArena();
+    private final LongIntHashMap slotsByKey = new LongIntHashMap();
+    // Hash do documento -> slot. Só depois de uma colisão entre documentos diferentes
+    // uma busca sem resultado no mapa precisa percorrer os registros
+    private final LongIntHashMap slotsByDocument = new LongIntHashMap();
+    private boolean documentCollisions;
+    private final IdKeys keys = new IdKeys();
+    private volatile int[] order = new int[16];
+    private volatile int size;
+    private final List<Customer> customers = new Views();
+
+    OffHeapCustomerRepository() {
+    }
+
+    public static CustomerRepository getInstance() {
+        if (instance == null) {
+            instance = new OffHeapCustomerRepository();
+        }
+        return instance;
+    }
+
+    @Override
+    public void saveData() {
+    }
+
+    @Override
+    public Customer save(Customer customer) {
+        int position = size;
+        if (position == order.length) {
+            order = Arrays.copyOf(order, position * 2);
+        }
+        int slot = write(customer, position);
+        order[position] = slot;
+        size = position + 1;
+        return new CustomerView(this, slot);
+    }
+
+    @Override
+    public Customer update(Customer customer) {
+        int current = findSlotByDocument(customer.getDocumentId());
+        if (current == LongIntHashMap.MISSING) {
+            return null;
+        }
+        int position = records.getInt(current, POSITION);
+        int slot = write(customer, position);
+        order[position] = slot;
+        return new CustomerView(this, slot);
+    }
+
+    @Override
+    public Customer findById(String id) {
+        long key = keys.findKey(id);
+        int slot = key == IdKeys.NO_KEY ? LongIntHashMap.MISSING : slotsByKey.get(key);
+        return slot == LongIntHashMap.MISSING ? null : new CustomerView(this, slot);
+    }
+
+    @Override
+    public List<Customer> findAll() {
+        return customers;
+    }
+
+    @Override
+    public Page<Customer> findPage(Predicate<Customer> filter, String cursor, int limit) {
+        return Page.of("Customer", customers, filter, cursor, limit);
+    }
+
+    @Override
+    public List<Customer> findByName(String name) {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Customer", "findByName");
+        List<Customer> temp = new ArrayList<>();
+        int count = size;
+        for (int position = 0; position < count; position++) {
+            int slot = order[position];
+            if (nameAt(slot).contains(name)) {
+                temp.add(new CustomerView(this, slot));
+            }
+        }
+        scan.matched(count, temp.size());
+        return temp;
+    }
+
+    @Override
+    public Customer findByDocument(String document) {
+        int slot = findSlotByDocument(document);
+        return slot == LongIntHashMap.MISSING ? null : new CustomerView(this, slot);
+    }
+
+    public long getAllocatedBytes() {
+        return records.getAllocatedBytes() + strings.getAllocatedBytes();
+    }
+
+    String idAt(int slot) {
+        return keys.idOf(records.getLong(slot, KEY));
+    }
+
+    String nameAt(int slot) {
+        return strings.get(records.getLong(slot, NAME));
+    }
+
+    String phoneNumberAt(int slot) {
+        return strings.get(records.getLong(slot, PHONE_NUMBER));
+    }
+
+    String documentIdAt(int slot) {
+        return strings.get(records.getLong(slot, DOCUMENT_ID));
+    }
+
+    CustomerType typeAt(int slot) {
+        byte type = records.getByte(slot, TYPE);
+        return type < 0 ? null : TYPES[type];
+    }
+
+    private int write(Customer customer, int position) {
+        int slot = records.allocate();
+        long key = keys.keyOf(customer.getId());
+        records.putLong(slot, KEY, key);
+        records.putLong(slot, NAME, strings.add(customer.getName()));
+        records.putLong(slot, PHONE_NUMBER, strings.add(customer.getPhoneNumber()));
+        records.putLong(slot, DOCUMENT_ID, strings.add(customer.getDocumentId()));
+        records.putInt(slot, POSITION, position);
+        records.putByte(slot, TYPE, (byte) (customer.getType() == null ? -1 : customer.getType().ordinal()));
+        slotsByKey.put(key, slot);
+        if (customer.getDocumentId() != null) {
+            long hash = documentHash(customer.getDocumentId());
+            int previous = slotsByDocument.get(hash);
+            if (previous != LongIntHashMap.MISSING && isCurrent(previous)
+                    && !customer.getDocumentId().equals(documentIdAt(previous))) {
+                documentCollisions = true;
+            }
+            slotsByDocument.put(hash, slot);
+        }
+        return slot;
+    }
+
+    private int findSlotByDocument(String document) {
+        if (document == null) {
+            return LongIntHashMap.MISSING;
+        }
+        int slot = slotsByDocument.get(documentHash(document));
+        if (slot != LongIntHashMap.MISSING && isCurrent(slot) && document.equals(documentIdAt(slot))) {
+            return slot;
+        }
+        if (!documentCollisions) {
+            return LongIntHashMap.MISSING;
+        }
+
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Customer", "findByDocument");
+        int count = size;
+        for (int position = 0; position < count; position++) {
+            int candidate = order[position];
+            if (document.equals(documentIdAt(candidate))) {
+                scan.matched(position + 1, 1);
+                return candidate;
+            }
+        }
+        scan.matched(count, 0);
+        return LongIntHashMap.MISSING;
+    }
+
+    private boolean isCurrent(int slot) {
+        return order[records.getInt(slot, POSITION)] == slot;
+    }
+
+    // FNV-1a de 64 bits sobre os caracteres
+    private static long documentHash(String document) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < document.length(); i++) {
+            hash ^= document.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private class Views extends AbstractList<Customer> {
+        @Override
+        public Customer get(int index) {
+            Objects.checkIndex(index, size());
+            return new CustomerView(OffHeapCustomerRepository.this, order[index]);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package repository.offheap;
+
+import utils.EntityId;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Converte ids em chaves long. Ids novos já são números (EntityId); os antigos (UUID ou outro
+// texto) recebem chaves negativas sequenciais e ficam numa tabela à parte.
+public class IdKeys {
+    public static final long NO_KEY = Long.MIN_VALUE;
+
+    private final Map<String, Long> legacyKeys = new HashMap<>();
+    private final List<String> legacyIds = new ArrayList<>();
+
+    // Chamado sob a trava de escrita dos repositórios
+    public long keyOf(String id) {
+        if (id == null) {
+            throw new IllegalArgumentException("Id obrigatório.");
+        }
+        if (EntityId.isCompact(id)) {
+            return EntityId.decode(id);
+        }
+        return legacyKeys.computeIfAbsent(id, legacy -> {
+            legacyIds.add(legacy);
+            return (long) -legacyIds.size();
+        });
+    }
+
+    // Como keyOf, mas sem registrar ids antigos desconhecidos
+    public long findKey(String id) {
+        if (id == null) {
+            return NO_KEY;
+        }
+        if (EntityId.isCompact(id)) {
+            return EntityId.decode(id);
+        }
+        return legacyKeys.getOrDefault(id, NO_KEY);
+    }
+
+    public String idOf(long key) {
+        if (key >= 0) {
+            return EntityId.encode(key);
+        }
+        return legacyIds.get((int) (-key - 1));
+    }
+}
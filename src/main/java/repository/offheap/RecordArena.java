@@ -0,0 +1,78 @@
+package repository.offheap;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+// Registros de tamanho fixo em buffers diretos (fora do heap), alocados em blocos de
+// 2^16 registros. O slot de um registro nunca muda; os campos são lidos e gravados
+// por deslocamento dentro do registro.
+public class RecordArena {
+    private static final int CHUNK_BITS = 16;
+    private static final int CHUNK_MASK = (1 << CHUNK_BITS) - 1;
+
+    private final int recordSize;
+    // Leitores sem a trava de escrita enxergam sempre um array completo
+    private volatile ByteBuffer[] chunks = new ByteBuffer[0];
+    private volatile int size;
+
+    public RecordArena(int recordSize) {
+        this.recordSize = recordSize;
+    }
+
+    // Chamado sob a trava de escrita dos repositórios
+    public int allocate() {
+        int slot = size;
+        if ((slot >>> CHUNK_BITS) == chunks.length) {
+            ByteBuffer[] grown = Arrays.copyOf(chunks, chunks.length + 1);
+            grown[chunks.length] = ByteBuffer.allocateDirect(recordSize << CHUNK_BITS).order(ByteOrder.nativeOrder());
+            chunks = grown;
+        }
+        size = slot + 1;
+        return slot;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getLong(int slot, int offset) {
+        return chunk(slot).getLong(position(slot, offset));
+    }
+
+    public void putLong(int slot, int offset, long value) {
+        chunk(slot).putLong(position(slot, offset), value);
+    }
+
+    public int getInt(int slot, int offset) {
+        return chunk(slot).getInt(position(slot, offset));
+    }
+
+    public void putInt(int slot, int offset, int value) {
+        chunk(slot).putInt(position(slot, offset), value);
+    }
+
+    public byte getByte(int slot, int offset) {
+        return chunk(slot).get(position(slot, offset));
+    }
+
+    public void putByte(int slot, int offset, byte value) {
+        chunk(slot).put(position(slot, offset), value);
+    }
+
+    // Memória fora do heap ocupada pelos blocos já alocados
+    public long getAllocatedBytes() {
+        return (long) chunks.length * (recordSize << CHUNK_BITS);
+    }
+
+    private ByteBuffer chunk(int slot) {
+        if (slot < 0 || slot >= size) {
+            throw new IndexOutOfBoundsException("Registro inexistente: " + slot);
+        }
+        return chunks[slot >>> CHUNK_BITS];
+    }
+
+    private int position(int slot, int offset) {
+        return (slot & CHUNK_MASK) * recordSize + offset;
+    }
+}
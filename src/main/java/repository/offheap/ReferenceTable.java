@@ -0,0 +1,47 @@
+package repository.offheap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// Objetos referenciados pelos registros (cliente, veículo, agência), guardados uma vez por id;
+// o registro guarda só o índice. Vale sempre o objeto mais recente recebido para o id.
+public class ReferenceTable<T> {
+    public static final int NONE = -1;
+
+    private final Function<T, String> idOf;
+    private final List<T> values = new ArrayList<>();
+    private final Map<String, Integer> indexById = new HashMap<>();
+
+    public ReferenceTable(Function<T, String> idOf) {
+        this.idOf = idOf;
+    }
+
+    // Chamado sob a trava de escrita dos repositórios
+    public int indexOf(T value) {
+        if (value == null) {
+            return NONE;
+        }
+        Integer index = indexById.get(idOf.apply(value));
+        if (index != null) {
+            if (values.get(index) != value) {
+                values.set(index, value);
+            }
+            return index;
+        }
+        values.add(value);
+        indexById.put(idOf.apply(value), values.size() - 1);
+        return values.size() - 1;
+    }
+
+    public int find(String id) {
+        Integer index = id == null ? null : indexById.get(id);
+        return index == null ? NONE : index;
+    }
+
+    public T get(int index) {
+        return index == NONE ? null : values.get(index);
+    }
+}
@@ -0,0 +1,56 @@
+package repository.offheap;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Textos em UTF-8 acrescentados a buffers diretos de 1 MiB. Cada texto é identificado por um
+// long com bloco, deslocamento e tamanho; nada é sobrescrito, então um texto substituído
+// continua ocupando espaço até o processo terminar.
+public class StringArena {
+    public static final long NULL = -1;
+
+    private static final int CHUNK_BITS = 20;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final long FIELD_MASK = CHUNK_SIZE - 1;
+
+    private volatile ByteBuffer[] chunks = new ByteBuffer[0];
+    private int position = CHUNK_SIZE;
+
+    // Chamado sob a trava de escrita dos repositórios
+    public long add(String value) {
+        if (value == null) {
+            return NULL;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length >= CHUNK_SIZE) {
+            throw new IllegalArgumentException("Texto longo demais para o armazenamento fora do heap.");
+        }
+        if (position + bytes.length > CHUNK_SIZE) {
+            ByteBuffer[] grown = Arrays.copyOf(chunks, chunks.length + 1);
+            grown[chunks.length] = ByteBuffer.allocateDirect(CHUNK_SIZE);
+            chunks = grown;
+            position = 0;
+        }
+        int chunk = chunks.length - 1;
+        chunks[chunk].put(position, bytes);
+        long handle = ((long) chunk << (2 * CHUNK_BITS)) | ((long) position << CHUNK_BITS) | bytes.length;
+        position += bytes.length;
+        return handle;
+    }
+
+    public String get(long handle) {
+        if (handle == NULL) {
+            return null;
+        }
+        int chunk = (int) (handle >>> (2 * CHUNK_BITS));
+        int offset = (int) ((handle >>> CHUNK_BITS) & FIELD_MASK);
+        byte[] bytes = new byte[(int) (handle & FIELD_MASK)];
+        chunks[chunk].get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public long getAllocatedBytes() {
+        return (long) chunks.length * CHUNK_SIZE;
+    }
+}
@@ -1,10 +1,15 @@
 package repository.rental;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
 import model.customer.Customer;
 import model.rental.Rental;
+import profiling.RepositoryScanEvent;
+import repository.IdRange;
+import repository.Page;
 
 public class InMemoryRentalRepository implements RentalRepository {
     private static RentalRepository instance;
@@ -44,10 +49,14 @@ public class InMemoryRentalRepository implements RentalRepository {
 
     @Override
     public Rental findById(String id) {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Rental", "findById");
         for (Rental r : rentals) {
-            if (r.getId().equals(id))
+            if (r.getId().equals(id)) {
+                scan.found(rentals, r);
                 return r;
+            }
         }
+        scan.notFound(rentals);
         return null;
     }
 
@@ -56,33 +65,49 @@ public class InMemoryRentalRepository implements RentalRepository {
         return this.rentals;
     }
 
+    @Override
+    public Page<Rental> findPage(Predicate<Rental> filter, String cursor, int limit) {
+        return Page.of("Rental", rentals, filter, cursor, limit);
+    }
+
     @Override
     public List<Rental> findByCustomer(Customer customer) {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Rental", "findByCustomer");
         ArrayList<Rental> rentalsFound = new ArrayList<>();
         for (Rental r : rentals) {
             if (r.getCustomer() == customer)
                 rentalsFound.add(r);
         }
+        scan.matched(rentals, rentalsFound);
         return rentalsFound;
     }
 
+    @Override
+    public List<Rental> findCreatedBetween(Instant from, Instant to) {
+        return IdRange.createdBetween(rentals, Rental::getId, from, to);
+    }
+
     @Override
     public List<Rental> findOpenRentals() {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Rental", "findOpenRentals");
         List<Rental> openRentals = new ArrayList<>();
         for (Rental r : rentals) {
             if (r.getActualReturnDate() == null)
                 openRentals.add(r);
         }
+        scan.matched(rentals, openRentals);
         return openRentals;
     }
 
     @Override
     public List<Rental> findClosedRentals() {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Rental", "findClosedRentals");
         List<Rental> closedRentals = new ArrayList<>();
         for (Rental r : rentals) {
             if (r.getActualReturnDate() != null)
                 closedRentals.add(r);
         }
+        scan.matched(rentals, closedRentals);
         return closedRentals;
     }
 
@@ -0,0 +1,245 @@
+package repository.rental;
+
+import model.agency.Agency;
+import model.customer.Customer;
+import model.rental.Rental;
+import model.vehicle.Vehicle;
+import profiling.RepositoryScanEvent;
+import repository.IdRange;
+import repository.Page;
+import repository.offheap.IdKeys;
+import repository.offheap.RecordArena;
+import repository.offheap.ReferenceTable;
+import utils.DateTimeUtils;
+import utils.LongIntHashMap;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+// Locações em registros de 64 bytes fora do heap, indexadas pelo id numérico num mapa primitivo.
+// Cliente, veículo e agências ficam no heap, uma vez por id, e o registro guarda só o índice deles.
+// Os dados vivem só enquanto o processo roda, como no repositório em memória.
+public class OffHeapRentalRepository implements RentalRepository {
+    private static final int KEY = 0;
+    private static final int PICK_UP_DATE = 8;
+    private static final int ESTIMATED_RETURN_DATE = 16;
+    private static final int ACTUAL_RETURN_DATE = 24;
+    private static final int CUSTOMER = 32;
+    private static final int VEHICLE = 36;
+    private static final int PICK_UP_AGENCY = 40;
+    private static final int RETURN_AGENCY = 44;
+    // Taxas como BigDecimal: valor sem escala e escala; os 4 bytes finais só alinham o registro
+    private static final int FEES_UNSCALED = 48;
+    private static final int FEES_SCALE = 56;
+    private static final int RECORD_SIZE = 64;
+
+    private static final long NO_DATE = Long.MIN_VALUE;
+
+    private static RentalRepository instance;
+
+    private final RecordArena records = new RecordArena(RECORD_SIZE);
+    private final LongIntHashMap slotsByKey = new LongIntHashMap();
+    private final IdKeys keys = new IdKeys();
+    private final ReferenceTable<Customer> customers = new ReferenceTable<>(Customer::getId);
+    private final ReferenceTable<Vehicle> vehicles = new ReferenceTable<>(Vehicle::getId);
+    private final ReferenceTable<Agency> agencies = new ReferenceTable<>(Agency::getId);
+    private final List<Rental> rentals = new Views();
+
+    OffHeapRentalRepository() {
+    }
+
+    public static RentalRepository getInstance() {
+        if (instance == null) {
+            instance = new OffHeapRentalRepository();
+        }
+        return instance;
+    }
+
+    @Override
+    public void saveData() {
+    }
+
+    @Override
+    public Rental save(Rental entity) {
+        int slot = records.allocate();
+        long key = keys.keyOf(entity.getId());
+        records.putLong(slot, KEY, key);
+        records.putLong(slot, PICK_UP_DATE, encodeDate(entity.getPickUpDate()));
+        records.putLong(slot, ESTIMATED_RETURN_DATE, encodeDate(entity.getEstimatedReturnDate()));
+        records.putInt(slot, CUSTOMER, customers.indexOf(entity.getCustomer()));
+        records.putInt(slot, VEHICLE, vehicles.indexOf(entity.getVehicle()));
+        records.putInt(slot, PICK_UP_AGENCY, agencies.indexOf(entity.getPickUpAgency()));
+        writeReturnAgency(slot, entity.getReturnAgency());
+        writeActualReturnDate(slot, entity.getActualReturnDate());
+        writeFees(slot, entity.getFees());
+        slotsByKey.put(key, slot);
+        return new RentalView(this, slot);
+    }
+
+    @Override
+    public Rental update(Rental entity) {
+        int slot = slotOf(entity.getId());
+        if (slot == LongIntHashMap.MISSING) {
+            return null;
+        }
+        // Uma visão deste repositório já gravou as alterações no registro
+        if (!(entity instanceof RentalView view && view.belongsTo(this))) {
+            writeReturnAgency(slot, entity.getReturnAgency());
+            writeActualReturnDate(slot, entity.getActualReturnDate());
+            writeFees(slot, entity.getFees());
+        }
+        return entity;
+    }
+
+    @Override
+    public Rental findById(String id) {
+        int slot = slotOf(id);
+        return slot == LongIntHashMap.MISSING ? null : new RentalView(this, slot);
+    }
+
+    @Override
+    public List<Rental> findAll() {
+        return rentals;
+    }
+
+    @Override
+    public Page<Rental> findPage(Predicate<Rental> filter, String cursor, int limit) {
+        return Page.of("Rental", rentals, filter, cursor, limit);
+    }
+
+    @Override
+    public List<Rental> findByCustomer(Customer customer) {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Rental", "findByCustomer");
+        List<Rental> rentalsFound = new ArrayList<>();
+        int customerIndex = customers.find(customer.getId());
+        int size = records.size();
+        if (customerIndex != ReferenceTable.NONE) {
+            for (int slot = 0; slot < size; slot++) {
+                if (records.getInt(slot, CUSTOMER) == customerIndex)
+                    rentalsFound.add(new RentalView(this, slot));
+            }
+        }
+        scan.matched(size, rentalsFound.size());
+        return rentalsFound;
+    }
+
+    @Override
+    public List<Rental> findCreatedBetween(Instant from, Instant to) {
+        return IdRange.createdBetween(rentals, Rental::getId, from, to);
+    }
+
+    @Override
+    public List<Rental> findOpenRentals() {
+        return findByReturn("findOpenRentals", true);
+    }
+
+    @Override
+    public List<Rental> findClosedRentals() {
+        return findByReturn("findClosedRentals", false);
+    }
+
+    private List<Rental> findByReturn(String predicate, boolean open) {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Rental", predicate);
+        List<Rental> rentalsFound = new ArrayList<>();
+        int size = records.size();
+        for (int slot = 0; slot < size; slot++) {
+            if ((records.getLong(slot, ACTUAL_RETURN_DATE) == NO_DATE) == open)
+                rentalsFound.add(new RentalView(this, slot));
+        }
+        scan.matched(size, rentalsFound.size());
+        return rentalsFound;
+    }
+
+    // Memória fora do heap ocupada pelos registros
+    public long getAllocatedBytes() {
+        return records.getAllocatedBytes();
+    }
+
+    String idAt(int slot) {
+        return keys.idOf(records.getLong(slot, KEY));
+    }
+
+    Customer customerAt(int slot) {
+        return customers.get(records.getInt(slot, CUSTOMER));
+    }
+
+    Vehicle vehicleAt(int slot) {
+        return vehicles.get(records.getInt(slot, VEHICLE));
+    }
+
+    Agency pickUpAgencyAt(int slot) {
+        return agencies.get(records.getInt(slot, PICK_UP_AGENCY));
+    }
+
+    Agency returnAgencyAt(int slot) {
+        return agencies.get(records.getInt(slot, RETURN_AGENCY));
+    }
+
+    LocalDateTime pickUpDateAt(int slot) {
+        return decodeDate(records.getLong(slot, PICK_UP_DATE));
+    }
+
+    LocalDateTime estimatedReturnDateAt(int slot) {
+        return decodeDate(records.getLong(slot, ESTIMATED_RETURN_DATE));
+    }
+
+    LocalDateTime actualReturnDateAt(int slot) {
+        return decodeDate(records.getLong(slot, ACTUAL_RETURN_DATE));
+    }
+
+    BigDecimal feesAt(int slot) {
+        return BigDecimal.valueOf(records.getLong(slot, FEES_UNSCALED), records.getInt(slot, FEES_SCALE));
+    }
+
+    void writeFees(int slot, BigDecimal fees) {
+        BigDecimal value = fees == null ? BigDecimal.ZERO : fees;
+        BigInteger unscaled = value.unscaledValue();
+        if (unscaled.bitLength() > 63) {
+            throw new IllegalArgumentException("Taxas fora do intervalo suportado: " + fees);
+        }
+        records.putLong(slot, FEES_UNSCALED, unscaled.longValue());
+        records.putInt(slot, FEES_SCALE, value.scale());
+    }
+
+    void writeActualReturnDate(int slot, LocalDateTime actualReturnDate) {
+        records.putLong(slot, ACTUAL_RETURN_DATE, encodeDate(actualReturnDate));
+    }
+
+    void writeReturnAgency(int slot, Agency returnAgency) {
+        records.putInt(slot, RETURN_AGENCY, agencies.indexOf(returnAgency));
+    }
+
+    private int slotOf(String id) {
+        long key = keys.findKey(id);
+        return key == IdKeys.NO_KEY ? LongIntHashMap.MISSING : slotsByKey.get(key);
+    }
+
+    private static long encodeDate(LocalDateTime date) {
+        return date == null ? NO_DATE : DateTimeUtils.toEpochNano(date);
+    }
+
+    private static LocalDateTime decodeDate(long value) {
+        return value == NO_DATE ? null : DateTimeUtils.fromEpochNano(value);
+    }
+
+    // findAll sem materializar a lista: cada posição vira uma visão só quando é lida
+    private class Views extends AbstractList<Rental> {
+        @Override
+        public Rental get(int index) {
+            Objects.checkIndex(index, size());
+            return new RentalView(OffHeapRentalRepository.this, index);
+        }
+
+        @Override
+        public int size() {
+            return records.size();
+        }
+    }
+}
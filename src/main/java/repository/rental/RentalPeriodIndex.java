@@ -0,0 +1,137 @@
+package repository.rental;
+
+import model.rental.Rental;
+import utils.DateTimeUtils;
+import utils.IntervalTree;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// Índice dos períodos ocupados (locações e reservas) de cada veículo, com uma árvore de intervalos por veículo.
+// Locações abertas ocupam até a data estimada de devolução; encerradas, até a devolução real.
+// Uma locação atrasada (ver occupyUntilReturn) ocupa o veículo sem fim, até ser encerrada.
+public class RentalPeriodIndex {
+    private static final LocalDateTime OPEN_END = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private final Map<String, IntervalTree<String>> periodsByVehicle = new ConcurrentHashMap<>();
+    private final Set<String> overdueRentalIds = ConcurrentHashMap.newKeySet();
+
+    public RentalPeriodIndex(List<Rental> rentals) {
+        for (Rental rental : rentals) {
+            addRental(rental);
+        }
+    }
+
+    public void addRental(Rental rental) {
+        if (rental.getActualReturnDate() != null) {
+            overdueRentalIds.remove(rental.getId());
+        }
+        add(rental.getVehicle().getId(), rental.getId(), rental.getPickUpDate(), endOf(rental));
+    }
+
+    public void removeRental(Rental rental) {
+        remove(rental.getVehicle().getId(), rental.getId(), rental.getPickUpDate());
+    }
+
+    // Passou da devolução prevista sem ser encerrada: ninguém sabe quando o veículo volta, então
+    // nenhuma reserva ou locação pode ocupá-lo até o encerramento (chamado pelo OverdueRentalScheduler)
+    public void occupyUntilReturn(Rental rental) {
+        withVehicleLock(rental.getVehicle().getId(), () -> {
+            if (rental.getActualReturnDate() == null && overdueRentalIds.add(rental.getId())) {
+                removeRental(rental);
+                addRental(rental);
+            }
+            return null;
+        });
+    }
+
+    public boolean tryBookRental(Rental rental) {
+        return tryBook(rental.getVehicle().getId(), rental.getId(), rental.getPickUpDate(), endOf(rental));
+    }
+
+    public void add(String vehicleId, String bookingId, LocalDateTime start, LocalDateTime end) {
+        IntervalTree<String> periods = periodsFor(vehicleId);
+        synchronized (periods) {
+            periods.add(bookingId, startOf(start), endOf(start, end), bookingId);
+        }
+    }
+
+    // Verifica e ocupa o período numa única operação, sob o bloqueio do veículo
+    public boolean tryBook(String vehicleId, String bookingId, LocalDateTime start, LocalDateTime end) {
+        validatePeriod(start, end);
+        IntervalTree<String> periods = periodsFor(vehicleId);
+        synchronized (periods) {
+            if (periods.overlaps(startOf(start), endOf(start, end))) {
+                return false;
+            }
+            periods.add(bookingId, startOf(start), endOf(start, end), bookingId);
+            return true;
+        }
+    }
+
+    // O bloqueio é reentrante, então a ação pode liberar e ocupar períodos do mesmo veículo atomicamente
+    public <R> R withVehicleLock(String vehicleId, Supplier<R> action) {
+        IntervalTree<String> periods = periodsFor(vehicleId);
+        synchronized (periods) {
+            return action.get();
+        }
+    }
+
+    public void remove(String vehicleId, String bookingId, LocalDateTime start) {
+        IntervalTree<String> periods = periodsByVehicle.get(vehicleId);
+        if (periods == null) return;
+
+        synchronized (periods) {
+            periods.remove(bookingId, DateTimeUtils.toEpochSecond(start));
+        }
+    }
+
+    public boolean isAvailable(String vehicleId, LocalDateTime from, LocalDateTime to) {
+        validatePeriod(from, to);
+        IntervalTree<String> periods = periodsByVehicle.get(vehicleId);
+        if (periods == null) return true;
+
+        synchronized (periods) {
+            return !periods.overlaps(DateTimeUtils.toEpochSecond(from), DateTimeUtils.toEpochSecond(to));
+        }
+    }
+
+    public List<String> findBookings(String vehicleId, LocalDateTime from, LocalDateTime to) {
+        validatePeriod(from, to);
+        IntervalTree<String> periods = periodsByVehicle.get(vehicleId);
+        if (periods == null) return new ArrayList<>();
+
+        synchronized (periods) {
+            return periods.findOverlapping(DateTimeUtils.toEpochSecond(from), DateTimeUtils.toEpochSecond(to));
+        }
+    }
+
+    private IntervalTree<String> periodsFor(String vehicleId) {
+        return periodsByVehicle.computeIfAbsent(vehicleId, id -> new IntervalTree<>());
+    }
+
+    private long startOf(LocalDateTime start) {
+        return DateTimeUtils.toEpochSecond(start);
+    }
+
+    // Devoluções no mesmo instante da retirada ainda ocupam o veículo por um segundo
+    private long endOf(LocalDateTime start, LocalDateTime end) {
+        return Math.max(DateTimeUtils.toEpochSecond(end), DateTimeUtils.toEpochSecond(start) + 1);
+    }
+
+    private LocalDateTime endOf(Rental rental) {
+        if (rental.getActualReturnDate() != null) return rental.getActualReturnDate();
+        return overdueRentalIds.contains(rental.getId()) ? OPEN_END : rental.getEstimatedReturnDate();
+    }
+
+    private void validatePeriod(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("Período inválido: a data inicial deve ser anterior à final.");
+        }
+    }
+}
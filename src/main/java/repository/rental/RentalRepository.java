@@ -4,6 +4,7 @@ import model.customer.Customer;
 import model.rental.Rental;
 import repository.Repository;
 
+import java.time.Instant;
 import java.util.List;
 
 public interface RentalRepository extends Repository<Rental> {
@@ -12,6 +13,9 @@ public interface RentalRepository extends Repository<Rental> {
 
     List<Rental> findByCustomer(Customer customer);
 
+    // Locações com id novo criadas em [from, to); ids antigos (UUID) não têm data e ficam de fora
+    List<Rental> findCreatedBetween(Instant from, Instant to);
+
     List<Rental> findOpenRentals();
 
     List<Rental> findClosedRentals();
@@ -0,0 +1,112 @@
+package repository.rental;
+
+import model.agency.Agency;
+import model.customer.Customer;
+import model.rental.Rental;
+import model.vehicle.Vehicle;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Locação guardada em OffHeapRentalRepository: os getters leem o registro e os setters gravam nele,
+// então o objeto só carrega o repositório e o slot
+final class RentalView extends Rental {
+    private static final long serialVersionUID = 1L;
+
+    private final transient OffHeapRentalRepository store;
+    private final transient int slot;
+
+    RentalView(OffHeapRentalRepository store, int slot) {
+        super(null, null, null, null, null, null);
+        this.store = store;
+        this.slot = slot;
+    }
+
+    int getSlot() {
+        return slot;
+    }
+
+    boolean belongsTo(OffHeapRentalRepository repository) {
+        return store == repository;
+    }
+
+    @Override
+    public String getId() {
+        return store.idAt(slot);
+    }
+
+    @Override
+    public Customer getCustomer() {
+        return store.customerAt(slot);
+    }
+
+    @Override
+    public Vehicle getVehicle() {
+        return store.vehicleAt(slot);
+    }
+
+    @Override
+    public Agency getPickUpAgency() {
+        return store.pickUpAgencyAt(slot);
+    }
+
+    @Override
+    public Agency getReturnAgency() {
+        return store.returnAgencyAt(slot);
+    }
+
+    @Override
+    public LocalDateTime getPickUpDate() {
+        return store.pickUpDateAt(slot);
+    }
+
+    @Override
+    public LocalDateTime getEstimatedReturnDate() {
+        return store.estimatedReturnDateAt(slot);
+    }
+
+    @Override
+    public LocalDateTime getActualReturnDate() {
+        return store.actualReturnDateAt(slot);
+    }
+
+    @Override
+    public BigDecimal getFees() {
+        return store.feesAt(slot);
+    }
+
+    @Override
+    public void setFees(BigDecimal fees) {
+        store.writeFees(slot, fees);
+    }
+
+    @Override
+    public void setActualReturnDate(LocalDateTime actualReturnDate) {
+        store.writeActualReturnDate(slot, actualReturnDate);
+    }
+
+    @Override
+    public void setReturnAgency(Agency returnAgency) {
+        store.writeReturnAgency(slot, returnAgency);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof RentalView view && view.store == store && view.slot == slot;
+    }
+
+    @Override
+    public int hashCode() {
+        return slot;
+    }
+
+    // Serializada (arquivos, cópias de segurança) como uma locação comum
+    private Object writeReplace() {
+        Rental copy = new Rental(getId(), getCustomer(), getVehicle(), getPickUpAgency(), getPickUpDate(),
+                getEstimatedReturnDate());
+        copy.setReturnAgency(getReturnAgency());
+        copy.setActualReturnDate(getActualReturnDate());
+        copy.setFees(getFees());
+        return copy;
+    }
+}
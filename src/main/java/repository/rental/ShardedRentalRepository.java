@@ -0,0 +1,223 @@
+package repository.rental;
+
+import data.DataPersistence;
+import data.ShardFiles;
+import model.customer.Customer;
+import model.rental.Rental;
+import profiling.RepositoryScanEvent;
+import repository.IdRange;
+import repository.Page;
+import utils.EntityId;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+
+// Locações particionadas pela agência de retirada, que nunca muda: abrir ou encerrar uma locação
+// regrava só o arquivo daquela agência. Listas e arquivos de cada partição ficam sob a trava dela,
+// e os mapas globais são concorrentes, então locações em agências diferentes são gravadas em paralelo
+// (ver @Partitioned em RentalService). O mapa global ordena pela criação (ver EntityId.orderKey)
+// para findAll, a paginação e findCreatedBetween; as locações em aberto têm um mapa próprio.
+public class ShardedRentalRepository implements RentalRepository {
+    private static final String DIRECTORY = "shards";
+    private static final String LEGACY_FILE = "rental-DB";
+
+    private static RentalRepository instance;
+
+    private final ShardFiles files;
+    private final String legacyFile;
+    private final Map<String, Shard> shards = new ConcurrentHashMap<>();
+    private final Map<String, Shard> shardByRentalId = new ConcurrentHashMap<>();
+    private final NavigableMap<String, Rental> rentals = new ConcurrentSkipListMap<>();
+    private final NavigableMap<String, Rental> openRentals = new ConcurrentSkipListMap<>();
+
+    private static final class Shard {
+        private final String agencyId;
+        private final List<Rental> rentals = new ArrayList<>();
+
+        private Shard(String agencyId) {
+            this.agencyId = agencyId;
+        }
+    }
+
+    private ShardedRentalRepository() {
+        this(DIRECTORY, LEGACY_FILE);
+    }
+
+    ShardedRentalRepository(String directory, String legacyFile) {
+        this.files = new ShardFiles(directory, "rental");
+        this.legacyFile = legacyFile;
+        loadData();
+    }
+
+    public static RentalRepository getInstance() {
+        if (instance == null) {
+            instance = new ShardedRentalRepository();
+        }
+        return instance;
+    }
+
+    // Grava todas as partições, em paralelo
+    @Override
+    public void saveData() {
+        shards.values().parallelStream().forEach(this::saveShard);
+    }
+
+    private void loadData() {
+        if (!files.exists()) {
+            // Primeira execução no modo particionado: divide o arquivo global
+            for (Rental rental : DataPersistence.<Rental>load(legacyFile)) {
+                shardOf(agencyIdOf(rental)).rentals.add(rental);
+            }
+            saveData();
+        } else {
+            files.<Rental>loadAll().forEach((agencyId, list) -> shardOf(agencyId).rentals.addAll(list));
+        }
+
+        for (Shard shard : shards.values()) {
+            for (Rental rental : shard.rentals) {
+                index(rental);
+                shardByRentalId.put(rental.getId(), shard);
+            }
+        }
+    }
+
+    @Override
+    public Rental save(Rental entity) {
+        Shard shard = shardOf(agencyIdOf(entity));
+        synchronized (shard) {
+            shard.rentals.add(entity);
+        }
+        index(entity);
+        shardByRentalId.put(entity.getId(), shard);
+        saveShard(shard);
+        return entity;
+    }
+
+    @Override
+    public Rental update(Rental entity) {
+        Shard shard = shardByRentalId.get(entity.getId());
+        if (shard == null) {
+            return null;
+        }
+        synchronized (shard) {
+            replace(shard.rentals, entity);
+        }
+        index(entity);
+        saveShard(shard);
+        return entity;
+    }
+
+    @Override
+    public Rental findById(String id) {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Rental", "findById");
+        Shard shard = id == null ? null : shardByRentalId.get(id);
+        if (shard == null) {
+            scan.matched(0, 0);
+            return null;
+        }
+        synchronized (shard) {
+            for (Rental r : shard.rentals) {
+                if (r.getId().equals(id)) {
+                    scan.found(shard.rentals, r);
+                    return r;
+                }
+            }
+            scan.notFound(shard.rentals);
+        }
+        return null;
+    }
+
+    // Cópia em ordem de criação: o mapa pode mudar enquanto quem chamou percorre a lista
+    @Override
+    public List<Rental> findAll() {
+        return new ArrayList<>(rentals.values());
+    }
+
+    @Override
+    public Page<Rental> findPage(Predicate<Rental> filter, String cursor, int limit) {
+        return Page.of("Rental", rentals, filter, cursor, limit);
+    }
+
+    @Override
+    public List<Rental> findByCustomer(Customer customer) {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Rental", "findByCustomer");
+        ArrayList<Rental> rentalsFound = new ArrayList<>();
+        for (Rental r : rentals.values()) {
+            if (r.getCustomer() == customer)
+                rentalsFound.add(r);
+        }
+        scan.matched(rentals.size(), rentalsFound.size());
+        return rentalsFound;
+    }
+
+    // Só ids novos têm o instante de criação; a faixa deles é um trecho contíguo do mapa
+    @Override
+    public List<Rental> findCreatedBetween(Instant from, Instant to) {
+        IdRange.checkPeriod(from, to);
+        String first = EntityId.orderKey(EntityId.lowerBound(from));
+        String end = EntityId.orderKey(EntityId.lowerBound(to));
+        return new ArrayList<>(rentals.subMap(first, end).values());
+    }
+
+    @Override
+    public List<Rental> findOpenRentals() {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Rental", "findOpenRentals");
+        List<Rental> found = new ArrayList<>(openRentals.values());
+        scan.matched(found.size(), found.size());
+        return found;
+    }
+
+    @Override
+    public List<Rental> findClosedRentals() {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Rental", "findClosedRentals");
+        List<Rental> closedRentals = new ArrayList<>();
+        for (Rental r : rentals.values()) {
+            if (r.getActualReturnDate() != null)
+                closedRentals.add(r);
+        }
+        scan.matched(rentals.size(), closedRentals.size());
+        return closedRentals;
+    }
+
+    private void index(Rental rental) {
+        String key = EntityId.orderKey(rental.getId());
+        rentals.put(key, rental);
+        if (rental.getActualReturnDate() == null) {
+            openRentals.put(key, rental);
+        } else {
+            openRentals.remove(key);
+        }
+    }
+
+    private Shard shardOf(String agencyId) {
+        return shards.computeIfAbsent(agencyId, Shard::new);
+    }
+
+    private void saveShard(Shard shard) {
+        synchronized (shard) {
+            files.save(shard.agencyId, shard.rentals);
+        }
+    }
+
+    private static String agencyIdOf(Rental rental) {
+        if (rental.getPickUpAgency() == null) {
+            throw new IllegalArgumentException("Locação sem agência de retirada não pode ser gravada no modo particionado.");
+        }
+        return rental.getPickUpAgency().getId();
+    }
+
+    private static void replace(List<Rental> list, Rental entity) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i).getId().equals(entity.getId())) {
+                list.set(i, entity);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package repository.reservation;
+
+import data.DataPersistence;
+import data.RecordJournal;
+import enums.ReservationStatus;
+import model.reservation.Reservation;
+import profiling.RepositoryScanEvent;
+import repository.Page;
+import utils.EntityId;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+// Reservas chegam de vários balcões ao mesmo tempo. Cada reserva nova ou alterada vai só para o
+// diário (ver RecordJournal), então reservas de veículos diferentes não esperam a regravação do
+// arquivo inteiro; os mapas são concorrentes e ordenados pela criação (ver EntityId.orderKey).
+// O arquivo reservation-DB absorve o diário na carga e quando o diário passa do tamanho dos dados.
+public class InFileReservationRepository implements ReservationRepository {
+    private static final String FILE = "reservation-DB";
+    private static final int MIN_JOURNAL_RECORDS = 1024;
+
+    private static ReservationRepository instance;
+
+    private final NavigableMap<String, Reservation> reservations = new ConcurrentSkipListMap<>();
+    private final NavigableMap<String, Reservation> pendingReservations = new ConcurrentSkipListMap<>();
+    private final RecordJournal journal = new RecordJournal(FILE);
+    // Gravações no diário dividem a trava; só a absorção do diário pelo arquivo é exclusiva
+    private final ReentrantReadWriteLock compaction = new ReentrantReadWriteLock();
+
+    private InFileReservationRepository() {
+        loadData();
+    }
+
+    public static synchronized ReservationRepository getInstance() {
+        if (instance == null) {
+            instance = new InFileReservationRepository();
+        }
+        return instance;
+    }
+
+    public void saveData() {
+        compaction.writeLock().lock();
+        try {
+            DataPersistence.save(new ArrayList<>(reservations.values()), FILE);
+            journal.clear();
+        } finally {
+            compaction.writeLock().unlock();
+        }
+    }
+
+    private void loadData() {
+        for (Reservation reservation : DataPersistence.<Reservation>load(FILE)) {
+            index(reservation);
+        }
+        // Os registros do diário são mais novos que o arquivo e substituem a versão dele
+        List<Object> journaled = journal.read();
+        for (Object reservation : journaled) {
+            index((Reservation) reservation);
+        }
+        if (!journaled.isEmpty()) {
+            saveData();
+        } else {
+            journal.clear();
+        }
+    }
+
+    @Override
+    public Reservation save(Reservation entity) {
+        return write(entity);
+    }
+
+    @Override
+    public Reservation update(Reservation entity) {
+        if (!reservations.containsKey(EntityId.orderKey(entity.getId()))) {
+            return null;
+        }
+        return write(entity);
+    }
+
+    private Reservation write(Reservation entity) {
+        compaction.readLock().lock();
+        try {
+            journal.append(entity);
+            index(entity);
+        } finally {
+            compaction.readLock().unlock();
+        }
+        if (journalTooLarge()) {
+            compaction.writeLock().lock();
+            try {
+                // Outra gravação pode ter absorvido o diário enquanto esta esperava
+                if (journalTooLarge()) {
+                    saveData();
+                }
+            } finally {
+                compaction.writeLock().unlock();
+            }
+        }
+        return entity;
+    }
+
+    private boolean journalTooLarge() {
+        return journal.size() > Math.max(MIN_JOURNAL_RECORDS, reservations.size());
+    }
+
+    @Override
+    public Reservation findById(String id) {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Reservation", "findById");
+        Reservation reservation = id == null ? null : reservations.get(EntityId.orderKey(id));
+        scan.matched(1, reservation != null ? 1 : 0);
+        return reservation;
+    }
+
+    @Override
+    public List<Reservation> findAll() {
+        return new ArrayList<>(reservations.values());
+    }
+
+    @Override
+    public Page<Reservation> findPage(Predicate<Reservation> filter, String cursor, int limit) {
+        return Page.of("Reservation", reservations, filter, cursor, limit);
+    }
+
+    @Override
+    public List<Reservation> findByVehicleId(String vehicleId) {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Reservation", "findByVehicleId");
+        List<Reservation> found = new ArrayList<>();
+        int scanned = 0;
+        for (Reservation reservation : reservations.values()) {
+            scanned++;
+            if (reservation.getVehicle().getId().equals(vehicleId))
+                found.add(reservation);
+        }
+        scan.matched(scanned, found.size());
+        return found;
+    }
+
+    @Override
+    public List<Reservation> findPendingReservations() {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Reservation", "findPendingReservations");
+        List<Reservation> pending = new ArrayList<>(pendingReservations.values());
+        scan.matched(pending.size(), pending.size());
+        return pending;
+    }
+
+    private void index(Reservation reservation) {
+        String key = EntityId.orderKey(reservation.getId());
+        reservations.put(key, reservation);
+        if (reservation.getStatus() == ReservationStatus.PENDING) {
+            pendingReservations.put(key, reservation);
+        } else {
+            pendingReservations.remove(key);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package repository.reservation;
+
+import enums.ReservationStatus;
+import model.reservation.Reservation;
+import profiling.RepositoryScanEvent;
+import repository.Page;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+// Reservas chegam de vários balcões ao mesmo tempo, por isso o acesso é sincronizado
+public class InMemoryReservationRepository implements ReservationRepository {
+    private static ReservationRepository instance;
+    private final List<Reservation> reservations;
+
+    private InMemoryReservationRepository() {
+        this.reservations = new ArrayList<>();
+    }
+
+    public static synchronized ReservationRepository getInstance() {
+        if (instance == null) {
+            instance = new InMemoryReservationRepository();
+        }
+        return instance;
+    }
+
+    @Override
+    public void saveData() {
+    }
+
+    @Override
+    public synchronized Reservation save(Reservation entity) {
+        reservations.add(entity);
+        return entity;
+    }
+
+    @Override
+    public synchronized Reservation update(Reservation entity) {
+        for (int i = 0; i < reservations.size(); i++) {
+            if (reservations.get(i).getId().equals(entity.getId())) {
+                reservations.set(i, entity);
+                return entity;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public synchronized Reservation findById(String id) {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Reservation", "findById");
+        for (Reservation reservation : reservations) {
+            if (reservation.getId().equals(id)) {
+                scan.found(reservations, reservation);
+                return reservation;
+            }
+        }
+        scan.notFound(reservations);
+        return null;
+    }
+
+    @Override
+    public synchronized List<Reservation> findAll() {
+        return new ArrayList<>(reservations);
+    }
+
+    @Override
+    public synchronized Page<Reservation> findPage(Predicate<Reservation> filter, String cursor, int limit) {
+        return Page.of("Reservation", reservations, filter, cursor, limit);
+    }
+
+    @Override
+    public synchronized List<Reservation> findByVehicleId(String vehicleId) {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Reservation", "findByVehicleId");
+        List<Reservation> found = new ArrayList<>();
+        for (Reservation reservation : reservations) {
+            if (reservation.getVehicle().getId().equals(vehicleId))
+                found.add(reservation);
+        }
+        scan.matched(reservations, found);
+        return found;
+    }
+
+    @Override
+    public synchronized List<Reservation> findPendingReservations() {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Reservation", "findPendingReservations");
+        List<Reservation> pending = new ArrayList<>();
+        for (Reservation reservation : reservations) {
+            if (reservation.getStatus() == ReservationStatus.PENDING)
+                pending.add(reservation);
+        }
+        scan.matched(reservations, pending);
+        return pending;
+    }
+}
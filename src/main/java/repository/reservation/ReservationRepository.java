@@ -0,0 +1,16 @@
+package repository.reservation;
+
+import model.reservation.Reservation;
+import repository.Repository;
+
+import java.util.List;
+
+public interface ReservationRepository extends Repository<Reservation> {
+
+    void saveData();
+
+    List<Reservation> findByVehicleId(String vehicleId);
+
+    List<Reservation> findPendingReservations();
+
+}
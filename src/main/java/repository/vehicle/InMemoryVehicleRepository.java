@@ -1,10 +1,13 @@
 package repository.vehicle;
 
 import model.vehicle.Vehicle;
+import profiling.RepositoryScanEvent;
+import repository.Page;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Predicate;
 
 public class InMemoryVehicleRepository implements VehicleRepository {
     private static VehicleRepository instance;
@@ -45,11 +48,14 @@ public class InMemoryVehicleRepository implements VehicleRepository {
 
     @Override
     public Vehicle findById(String id) {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Vehicle", "findById");
         for (Vehicle vehicle : vehicles) {
             if (vehicle.getId().equals(id)) {
+                scan.found(vehicles, vehicle);
                 return vehicle;
             }
         }
+        scan.notFound(vehicles);
         return null;
     }
 
@@ -58,46 +64,60 @@ public class InMemoryVehicleRepository implements VehicleRepository {
         return vehicles;
     }
 
+    @Override
+    public Page<Vehicle> findPage(Predicate<Vehicle> filter, String cursor, int limit) {
+        return Page.of("Vehicle", vehicles, filter, cursor, limit);
+    }
+
     @Override
     public Vehicle findByPlate(String plate) {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Vehicle", "findByPlate");
         for (Vehicle vehicle : vehicles) {
             if (vehicle.getPlate().equalsIgnoreCase(plate)) {
+                scan.found(vehicles, vehicle);
                 return vehicle;
             }
         }
+        scan.notFound(vehicles);
         return null;
     }
 
     @Override
     public List<Vehicle> findByModel(String model) {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Vehicle", "findByModel");
         List<Vehicle> vehiclesFoundByModel = new ArrayList<>();
         for (Vehicle vehicle : vehicles) {
             if (vehicle.getModel().toLowerCase().contains(model.toLowerCase())) {
                 vehiclesFoundByModel.add(vehicle);
             }
         }
+        scan.matched(vehicles, vehiclesFoundByModel);
         return vehiclesFoundByModel;
     }
 
     @Override
     public List<Vehicle> findByAgencyId(String agencyId) {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Vehicle", "findByAgencyId");
         List<Vehicle> vehiclesFound = new ArrayList<>();
         for (Vehicle vehicle : vehicles) {
             if (vehicle.getAgency().getId().equalsIgnoreCase(agencyId)) {
                 vehiclesFound.add(vehicle);
             }
         }
+        scan.matched(vehicles, vehiclesFound);
         return vehiclesFound;
     }
 
     @Override
     public List<Vehicle> findAvailableVehiclesByAgencyId(String agencyId) {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Vehicle", "findAvailableVehiclesByAgencyId");
         List<Vehicle> availableVehicles = new ArrayList<>();
         for (Vehicle vehicle : vehicles) {
             if (vehicle.getAgency().getId().equalsIgnoreCase(agencyId) && vehicle.isAvailable()) {
                 availableVehicles.add(vehicle);
             }
         }
+        scan.matched(vehicles, availableVehicles);
         return availableVehicles;
     }
 }
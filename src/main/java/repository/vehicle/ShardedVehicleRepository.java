@@ -0,0 +1,313 @@
+package repository.vehicle;
+
+import data.DataPersistence;
+import data.ShardFiles;
+import model.vehicle.Vehicle;
+import profiling.RepositoryScanEvent;
+import repository.Page;
+import utils.EntityId;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+
+// Veículos particionados por agência: cada partição tem sua lista e seu arquivo, e gravar um
+// veículo regrava só o arquivo da agência dele. O mapa global guarda a ordem de cadastro para
+// findAll e a paginação; o índice id -> agência leva findById direto à partição.
+// Listas e arquivos de cada partição ficam sob a trava da própria partição e os mapas globais
+// são concorrentes, então agências diferentes gravam em paralelo (ver @Partitioned).
+public class ShardedVehicleRepository implements VehicleRepository {
+    private static final String DIRECTORY = "shards";
+    private static final String LEGACY_FILE = "vehicle-DB";
+    // Transferência entre agências em andamento, um arquivo por veículo ("vehicle-move-<id>"):
+    // id do veículo, agência de origem e agência de destino, uma por linha
+    private static final String MOVE_JOURNAL = "vehicle-move";
+
+    private static VehicleRepository instance;
+
+    private final String directory;
+    private final String legacyFile;
+    private final ShardFiles files;
+    private final Map<String, Shard> shards = new ConcurrentHashMap<>();
+    private final Map<String, String> agencyByVehicleId = new ConcurrentHashMap<>();
+    private final NavigableMap<String, Vehicle> vehicles = new ConcurrentSkipListMap<>();
+
+    private static final class Shard {
+        private final String agencyId;
+        private final List<Vehicle> vehicles = new ArrayList<>();
+
+        private Shard(String agencyId) {
+            this.agencyId = agencyId;
+        }
+    }
+
+    private ShardedVehicleRepository() {
+        this(DIRECTORY, LEGACY_FILE);
+    }
+
+    ShardedVehicleRepository(String directory, String legacyFile) {
+        this.directory = directory;
+        this.legacyFile = legacyFile;
+        this.files = new ShardFiles(directory, "vehicle");
+        loadData();
+    }
+
+    public static VehicleRepository getInstance() {
+        if (instance == null) {
+            instance = new ShardedVehicleRepository();
+        }
+        return instance;
+    }
+
+    // Grava todas as partições, em paralelo
+    @Override
+    public void saveData() {
+        shards.values().parallelStream().forEach(this::saveShard);
+    }
+
+    private void loadData() {
+        if (!files.exists()) {
+            // Primeira execução no modo particionado: divide o arquivo global
+            for (Vehicle vehicle : DataPersistence.<Vehicle>load(legacyFile)) {
+                shardOf(agencyIdOf(vehicle)).vehicles.add(vehicle);
+            }
+            saveData();
+        } else {
+            files.<Vehicle>loadAll().forEach((agencyId, list) -> shardOf(agencyId).vehicles.addAll(list));
+            recoverMoves();
+        }
+
+        for (Shard shard : shards.values()) {
+            for (Vehicle vehicle : shard.vehicles) {
+                vehicles.put(EntityId.orderKey(vehicle.getId()), vehicle);
+                agencyByVehicleId.put(vehicle.getId(), shard.agencyId);
+            }
+        }
+    }
+
+    private void recoverMoves() {
+        // Versões anteriores tinham um só diário, gravado como um arquivo *-DB
+        File legacy = new File(directory, MOVE_JOURNAL);
+        if (legacy.exists()) {
+            recoverMove(DataPersistence.load(legacy.getPath()));
+            legacy.delete();
+        }
+        File[] journals = new File(directory).listFiles((dir, name) -> name.startsWith(MOVE_JOURNAL + "-")
+                && !name.endsWith(".tmp"));
+        if (journals == null) {
+            return;
+        }
+        for (File journal : journals) {
+            try {
+                recoverMove(Files.readAllLines(journal.toPath(), StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new RuntimeException("Erro ao ler " + journal + ": " + e.getMessage());
+            }
+            journal.delete();
+        }
+    }
+
+    // Uma transferência interrompida pode ter deixado o veículo também na partição de origem.
+    // Se ele já chegou ao destino, a cópia da origem é descartada; senão, fica onde estava.
+    private void recoverMove(List<String> move) {
+        String vehicleId = move.get(0);
+        Shard source = shards.get(move.get(1));
+        Shard target = shards.get(move.get(2));
+        boolean arrived = target != null && target.vehicles.stream().anyMatch(v -> v.getId().equals(vehicleId));
+        if (arrived && source != null && source.vehicles.removeIf(v -> v.getId().equals(vehicleId))) {
+            saveShard(source);
+        }
+    }
+
+    @Override
+    public Vehicle save(Vehicle entity) {
+        Shard shard = add(entity);
+        saveShard(shard);
+        return entity;
+    }
+
+    // A mudança de agência (devolução em outra agência) transfere o veículo entre as partições
+    @Override
+    public Vehicle update(Vehicle entity) {
+        String currentAgencyId = agencyByVehicleId.get(entity.getId());
+        if (currentAgencyId == null) {
+            return null;
+        }
+        Shard source = shards.get(currentAgencyId);
+        String targetAgencyId = agencyIdOf(entity);
+        vehicles.put(EntityId.orderKey(entity.getId()), entity);
+
+        if (targetAgencyId.equals(currentAgencyId)) {
+            synchronized (source) {
+                replace(source.vehicles, entity);
+            }
+            saveShard(source);
+            return entity;
+        }
+
+        Shard target = shardOf(targetAgencyId);
+        Path journal = Path.of(directory, MOVE_JOURNAL + "-" + entity.getId());
+        writeJournal(journal, List.of(entity.getId(), currentAgencyId, targetAgencyId));
+        // Travas sempre na mesma ordem (pelo id da agência) para duas transferências não se bloquearem
+        Shard first = currentAgencyId.compareTo(targetAgencyId) < 0 ? source : target;
+        Shard second = first == source ? target : source;
+        synchronized (first) {
+            synchronized (second) {
+                source.vehicles.removeIf(v -> v.getId().equals(entity.getId()));
+                target.vehicles.add(entity);
+                agencyByVehicleId.put(entity.getId(), targetAgencyId);
+            }
+        }
+        saveShard(target);
+        saveShard(source);
+        journal.toFile().delete();
+        return entity;
+    }
+
+    @Override
+    public Vehicle findById(String id) {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Vehicle", "findById");
+        String agencyId = id == null ? null : agencyByVehicleId.get(id);
+        Shard shard = agencyId == null ? null : shards.get(agencyId);
+        if (shard == null) {
+            scan.matched(0, 0);
+            return null;
+        }
+        synchronized (shard) {
+            for (Vehicle vehicle : shard.vehicles) {
+                if (vehicle.getId().equals(id)) {
+                    scan.found(shard.vehicles, vehicle);
+                    return vehicle;
+                }
+            }
+            scan.notFound(shard.vehicles);
+        }
+        return null;
+    }
+
+    // Cópia em ordem de cadastro: o mapa pode mudar enquanto quem chamou percorre a lista
+    @Override
+    public List<Vehicle> findAll() {
+        return new ArrayList<>(vehicles.values());
+    }
+
+    @Override
+    public Page<Vehicle> findPage(Predicate<Vehicle> filter, String cursor, int limit) {
+        return Page.of("Vehicle", vehicles, filter, cursor, limit);
+    }
+
+    @Override
+    public Vehicle findByPlate(String plate) {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Vehicle", "findByPlate");
+        int scanned = 0;
+        for (Vehicle vehicle : vehicles.values()) {
+            scanned++;
+            if (vehicle.getPlate().equalsIgnoreCase(plate)) {
+                scan.matched(scanned, 1);
+                return vehicle;
+            }
+        }
+        scan.matched(scanned, 0);
+        return null;
+    }
+
+    @Override
+    public List<Vehicle> findByModel(String model) {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Vehicle", "findByModel");
+        List<Vehicle> vehiclesFoundByModel = new ArrayList<>();
+        for (Vehicle vehicle : vehicles.values()) {
+            if (vehicle.getModel().toLowerCase().contains(model.toLowerCase())) {
+                vehiclesFoundByModel.add(vehicle);
+            }
+        }
+        scan.matched(vehicles.size(), vehiclesFoundByModel.size());
+        return vehiclesFoundByModel;
+    }
+
+    @Override
+    public List<Vehicle> findByAgencyId(String agencyId) {
+        return findInShard("findByAgencyId", agencyId, false);
+    }
+
+    @Override
+    public List<Vehicle> findAvailableVehiclesByAgencyId(String agencyId) {
+        return findInShard("findAvailableVehiclesByAgencyId", agencyId, true);
+    }
+
+    private List<Vehicle> findInShard(String predicate, String agencyId, boolean onlyAvailable) {
+        RepositoryScanEvent scan = RepositoryScanEvent.begin("Vehicle", predicate);
+        List<Vehicle> vehiclesFound = new ArrayList<>();
+        Shard shard = agencyId == null ? null : shards.get(agencyId);
+        if (shard == null) {
+            scan.matched(0, 0);
+            return vehiclesFound;
+        }
+        synchronized (shard) {
+            for (Vehicle vehicle : shard.vehicles) {
+                if (!onlyAvailable || vehicle.isAvailable()) {
+                    vehiclesFound.add(vehicle);
+                }
+            }
+            scan.matched(shard.vehicles, vehiclesFound);
+        }
+        return vehiclesFound;
+    }
+
+    private Shard add(Vehicle vehicle) {
+        Shard shard = shardOf(agencyIdOf(vehicle));
+        synchronized (shard) {
+            shard.vehicles.add(vehicle);
+        }
+        vehicles.put(EntityId.orderKey(vehicle.getId()), vehicle);
+        agencyByVehicleId.put(vehicle.getId(), shard.agencyId);
+        return shard;
+    }
+
+    private Shard shardOf(String agencyId) {
+        return shards.computeIfAbsent(agencyId, Shard::new);
+    }
+
+    // Cada partição é gravada sob a sua própria trava: agências diferentes gravam em paralelo
+    private void saveShard(Shard shard) {
+        synchronized (shard) {
+            files.save(shard.agencyId, shard.vehicles);
+        }
+    }
+
+    private static String agencyIdOf(Vehicle vehicle) {
+        if (vehicle.getAgency() == null) {
+            throw new IllegalArgumentException("Veículo sem agência não pode ser gravado no modo particionado.");
+        }
+        return vehicle.getAgency().getId();
+    }
+
+    private static void replace(List<Vehicle> list, Vehicle entity) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i).getId().equals(entity.getId())) {
+                list.set(i, entity);
+                return;
+            }
+        }
+    }
+
+    // Grava o diário inteiro ou nada, como os arquivos *-DB
+    private static void writeJournal(Path journal, List<String> move) {
+        Path temporary = Path.of(journal + ".tmp");
+        try {
+            Files.createDirectories(journal.getParent());
+            Files.write(temporary, move, StandardCharsets.UTF_8);
+            DataPersistence.replace(temporary, journal);
+        } catch (IOException e) {
+            throw new RuntimeException("Erro ao gravar " + journal + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package server;
+
+import config.AppContext;
+import utils.VirtualThreads;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Servidor de terminais: carrega os repositórios uma vez e atende vários balcões por socket
+// (ex.: "nc servidor 4000" ou "telnet servidor 4000"), cada um na sua thread virtual
+public class TerminalServer {
+    private static final int MAX_SESSIONS = 256;
+    private static final int IDLE_TIMEOUT_MILLIS = 30 * 60 * 1000;
+
+    private final AppContext context;
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor;
+    private final AtomicInteger activeSessions = new AtomicInteger();
+
+    public TerminalServer(AppContext context, int port) throws IOException {
+        this.context = context;
+        this.serverSocket = new ServerSocket(port);
+        this.executor = VirtualThreads.newPerTaskExecutor("terminal-session", MAX_SESSIONS);
+    }
+
+    // Bloqueia aceitando conexões até stop()
+    public void serve() throws IOException {
+        while (!serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (SocketException e) {
+                if (serverSocket.isClosed()) return;
+                throw e;
+            }
+
+            if (activeSessions.incrementAndGet() > MAX_SESSIONS) {
+                activeSessions.decrementAndGet();
+                reject(socket);
+                continue;
+            }
+
+            socket.setSoTimeout(IDLE_TIMEOUT_MILLIS);
+            socket.setTcpNoDelay(true);
+            executor.execute(new TerminalSession(socket, context, activeSessions::decrementAndGet));
+        }
+    }
+
+    public void stop() {
+        try {
+            serverSocket.close();
+        } catch (IOException ignored) {
+        }
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    private void reject(Socket socket) {
+        try (socket; OutputStream out = socket.getOutputStream()) {
+            out.write("Limite de sessões atingido. Tente novamente mais tarde.\n".getBytes(StandardCharsets.UTF_8));
+        } catch (IOException ignored) {
+        }
+    }
+}
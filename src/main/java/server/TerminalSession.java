@@ -0,0 +1,54 @@
+package server;
+
+import config.AppContext;
+import ui.flow.FlowController;
+import ui.screens.MainMenuScreen;
+import ui.utils.Console;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+
+// Um balcão conectado: fluxo de telas, Scanner e console próprios sobre o socket,
+// com os serviços (e os dados) compartilhados pelo AppContext do servidor
+public class TerminalSession implements Runnable {
+    private static final int OUTPUT_BUFFER_SIZE = 8 * 1024;
+
+    private final Socket socket;
+    private final AppContext context;
+    private final Runnable onClose;
+
+    public TerminalSession(Socket socket, AppContext context, Runnable onClose) {
+        this.socket = socket;
+        this.context = context;
+        this.onClose = onClose;
+    }
+
+    @Override
+    public void run() {
+        try (socket) {
+            PrintStream out = new PrintStream(new BufferedOutputStream(socket.getOutputStream(), OUTPUT_BUFFER_SIZE),
+                    false, StandardCharsets.UTF_8);
+            Scanner scanner = new Scanner(Console.flushingInput(socket.getInputStream()), StandardCharsets.UTF_8);
+
+            Console.bind(new Console(out));
+            try {
+                FlowController flowController = new FlowController();
+                flowController.start(new MainMenuScreen(flowController, scanner, context));
+            } catch (NoSuchElementException | IllegalStateException e) {
+                // O cliente desconectou ou ficou ocioso além do limite
+            } finally {
+                Console.flush();
+                Console.unbind();
+            }
+        } catch (IOException e) {
+            System.err.println("Erro na sessão " + socket.getRemoteSocketAddress() + ": " + e.getMessage());
+        } finally {
+            onClose.run();
+        }
+    }
+}
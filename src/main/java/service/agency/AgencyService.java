@@ -1,9 +1,12 @@
 package service.agency;
 
+import data.Query;
 import dto.CreateAgencyDTO;
 import model.agency.Agency;
+import repository.Page;
 
 import java.util.List;
+import java.util.function.Predicate;
 
 public interface AgencyService {
 
@@ -11,10 +14,16 @@ public interface AgencyService {
 
     Agency updateAgency(Agency agency);
 
+    @Query
     Agency findAgencyById(String id);
 
+    @Query
     List<Agency> findAllAgencies();
 
+    @Query
     List<Agency> findAgencyByName(String name);
 
+    @Query
+    Page<Agency> findAgencyPage(Predicate<Agency> filter, String cursor, int limit);
+
 }
@@ -2,10 +2,12 @@ package service.agency;
 
 import dto.CreateAgencyDTO;
 import model.agency.Agency;
+import repository.Page;
 import repository.agency.AgencyRepository;
+import utils.IdGenerator;
 
 import java.util.List;
-import java.util.UUID;
+import java.util.function.Predicate;
 
 public class AgencyServiceImpl implements AgencyService {
 
@@ -22,7 +24,7 @@ public class AgencyServiceImpl implements AgencyService {
 
         Agency newAgency = null;
 
-        String agencyId = UUID.randomUUID().toString();
+        String agencyId = IdGenerator.getInstance().nextId();
 
         if (existAgency == null) {
             newAgency = new Agency(
@@ -67,4 +69,9 @@ public class AgencyServiceImpl implements AgencyService {
         return agencyRepository.searchByName(name);
     }
 
+    @Override
+    public Page<Agency> findAgencyPage(Predicate<Agency> filter, String cursor, int limit) {
+        return agencyRepository.findPage(filter, cursor, limit);
+    }
+
 }
@@ -0,0 +1,120 @@
+package service.customer;
+
+import model.customer.Customer;
+import utils.BKTree;
+import utils.StringDistance;
+import utils.Validator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class CustomerSearchIndex {
+    public static final int MAX_NAME_DISTANCE = 2;
+    public static final int MAX_DOCUMENT_DISTANCE = 2;
+    private static final int MIN_TOKEN_LENGTH = 3;
+
+    private final BKTree<Customer> names = new BKTree<>(StringDistance::levenshtein);
+    // A OSA (StringDistance.damerau) não é métrica e faria a árvore podar ramos com resultados;
+    // a árvore usa a Damerau-Levenshtein e os encontrados são ordenados pela OSA
+    private final BKTree<Customer> documents = new BKTree<>(StringDistance::damerauLevenshtein);
+    private final Map<String, Customer> indexedById = new HashMap<>();
+
+    public CustomerSearchIndex(List<Customer> customers) {
+        for (Customer customer : customers) {
+            add(customer);
+        }
+    }
+
+    public synchronized void add(Customer customer) {
+        remove(customer.getId());
+
+        for (String key : nameKeys(customer.getName())) {
+            names.add(key, customer);
+        }
+        if (customer.getDocumentId() != null) {
+            documents.add(customer.getDocumentId(), customer);
+        }
+        indexedById.put(customer.getId(), customer);
+    }
+
+    public synchronized void remove(String customerId) {
+        Customer indexed = indexedById.remove(customerId);
+        if (indexed == null) return;
+
+        for (String key : nameKeys(indexed.getName())) {
+            names.remove(key, indexed);
+        }
+        if (indexed.getDocumentId() != null) {
+            documents.remove(indexed.getDocumentId(), indexed);
+        }
+    }
+
+    public synchronized List<Customer> search(String query, int page, int pageSize) {
+        if (page < 0 || pageSize <= 0) {
+            throw new IllegalArgumentException("Página inválida");
+        }
+
+        Map<String, Integer> bestDistance = new HashMap<>();
+        Map<String, Customer> candidates = new HashMap<>();
+
+        if (isDocument(query)) {
+            String document = Validator.sanitizeDocument(query);
+            List<BKTree.Match<Customer>> matches = new ArrayList<>();
+            for (BKTree.Match<Customer> match : documents.search(document, MAX_DOCUMENT_DISTANCE)) {
+                int distance = StringDistance.damerau(document, match.key());
+                if (distance <= MAX_DOCUMENT_DISTANCE) {
+                    matches.add(new BKTree.Match<>(match.key(), match.value(), distance));
+                }
+            }
+            collect(matches, bestDistance, candidates);
+        } else {
+            collect(names.search(StringDistance.normalize(query), MAX_NAME_DISTANCE), bestDistance, candidates);
+        }
+
+        List<Customer> ranked = new ArrayList<>(candidates.values());
+        ranked.sort(Comparator
+                .comparingInt((Customer customer) -> bestDistance.get(customer.getId()))
+                .thenComparing(Customer::getName)
+                .thenComparing(Customer::getId));
+
+        int start = page * pageSize;
+        if (start >= ranked.size()) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(ranked.subList(start, Math.min(start + pageSize, ranked.size())));
+    }
+
+    private boolean isDocument(String query) {
+        return query.replaceAll("[.\\-/\\s]", "").matches("\\d+");
+    }
+
+    private void collect(List<BKTree.Match<Customer>> matches, Map<String, Integer> bestDistance,
+                         Map<String, Customer> candidates) {
+        for (BKTree.Match<Customer> match : matches) {
+            String id = match.value().getId();
+            Integer current = bestDistance.get(id);
+            if (current == null || match.distance() < current) {
+                bestDistance.put(id, match.distance());
+                candidates.put(id, match.value());
+            }
+        }
+    }
+
+    // Indexa o nome completo e cada parte do nome, para que "joao" encontre "João da Silva"
+    private List<String> nameKeys(String name) {
+        List<String> keys = new ArrayList<>();
+        String normalized = StringDistance.normalize(name);
+        if (normalized.isEmpty()) return keys;
+
+        keys.add(normalized);
+        for (String token : normalized.split(" ")) {
+            if (token.length() >= MIN_TOKEN_LENGTH && !keys.contains(token)) {
+                keys.add(token);
+            }
+        }
+        return keys;
+    }
+}
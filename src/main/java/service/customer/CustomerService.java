@@ -1,9 +1,12 @@
 package service.customer;
 
+import data.Query;
 import dto.CreateCustomerDTO;
 import model.customer.Customer;
+import repository.Page;
 
 import java.util.List;
+import java.util.function.Predicate;
 
 public interface CustomerService {
 
@@ -11,11 +14,21 @@ public interface CustomerService {
 
     Customer updateCustomer(Customer customer);
 
+    @Query
     Customer findCustomerById(String id);
 
+    @Query
     List<Customer> findAllCustomers();
 
+    @Query
     List<Customer> findCustomerByName(String name);
 
+    @Query
     Customer findCustomerByDocument(String document);
+
+    @Query
+    Page<Customer> findCustomerPage(Predicate<Customer> filter, String cursor, int limit);
+
+    @Query
+    List<Customer> searchCustomers(String query, int page, int pageSize);
 }
@@ -1,24 +1,32 @@
 package service.customer;
 
 import dto.CreateCustomerDTO;
+import events.DomainEvent;
+import events.EventBus;
 import exceptions.DuplicateDocumentException;
 import exceptions.InvalidDocumentException;
 import model.customer.Customer;
 import model.customer.Individual;
 import model.customer.LegalEntity;
+import repository.Page;
 import repository.customer.CustomerRepository;
 import enums.CustomerType;
+import utils.IdGenerator;
 import utils.Validator;
 
 import java.util.List;
-import java.util.UUID;
+import java.util.function.Predicate;
 
 public class CustomerServiceImpl implements CustomerService {
 
     private CustomerRepository customerRepository;
+    private final CustomerSearchIndex searchIndex;
+    private final EventBus eventBus;
 
-    public CustomerServiceImpl(CustomerRepository customerRepository) {
+    public CustomerServiceImpl(CustomerRepository customerRepository, CustomerSearchIndex searchIndex, EventBus eventBus) {
         this.customerRepository = customerRepository;
+        this.searchIndex = searchIndex;
+        this.eventBus = eventBus;
     }
 
     @Override
@@ -34,7 +42,7 @@ public class CustomerServiceImpl implements CustomerService {
 
         Customer newCustomer = null;
 
-        String customerId = UUID.randomUUID().toString();
+        String customerId = IdGenerator.getInstance().nextId();
 
         if (customerDTO.type().equals(CustomerType.LEGALENTITY)) {
             if (Validator.isValidCnpj(customerDTO.documentId())) {
@@ -65,6 +73,7 @@ public class CustomerServiceImpl implements CustomerService {
 
         if (newCustomer != null) {
             customerRepository.save(newCustomer);
+            searchIndex.add(newCustomer);
             return newCustomer;
         }
 
@@ -83,8 +92,12 @@ public class CustomerServiceImpl implements CustomerService {
         if (existCustomer != null && !existCustomer.getId().equals(customer.getId())) {
             throw new DuplicateDocumentException("Documento já Cadastrado");
         }
-        return customerRepository.update(customer);
-
+        Customer updatedCustomer = customerRepository.update(customer);
+        if (updatedCustomer != null) {
+            searchIndex.add(customer);
+            eventBus.publish(new DomainEvent.CustomerUpdated(customer.getId(), customer.getType(), customer.getName()));
+        }
+        return updatedCustomer;
     }
 
     @Override
@@ -108,4 +121,17 @@ public class CustomerServiceImpl implements CustomerService {
         return customerRepository.findByDocument(document);
     }
 
+    @Override
+    public Page<Customer> findCustomerPage(Predicate<Customer> filter, String cursor, int limit) {
+        return customerRepository.findPage(filter, cursor, limit);
+    }
+
+    @Override
+    public List<Customer> searchCustomers(String query, int page, int pageSize) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Busca vazia");
+        }
+        return searchIndex.search(query.trim(), page, pageSize);
+    }
+
 }
@@ -0,0 +1,177 @@
+package service.dashboard;
+
+import enums.VehicleType;
+import events.DomainEvent;
+import events.EventSubscriber;
+import model.rental.Rental;
+import model.vehicle.Vehicle;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Contadores do painel mantidos a cada evento, em O(1), em vez de recalculados a cada consulta.
+// Os lotes de eventos chegam por uma única thread e marcam uma versão (ímpar durante a escrita);
+// a leitura não trava: copia os contadores e repete a cópia se a versão mudou no meio, como um seqlock.
+public class DashboardView implements EventSubscriber {
+    private static final VehicleType[] VEHICLE_TYPES = VehicleType.values();
+
+    public record Snapshot(Map<String, Long> openRentalsByAgency,
+                           Map<String, Map<VehicleType, Long>> availableVehiclesByAgency,
+                           LocalDate day, long rentalsClosedToday, BigDecimal revenueToday) {
+    }
+
+    // Como cada veículo está contado hoje, para desfazer a contagem quando ele muda
+    private record Counted(String agencyId, VehicleType type, boolean available) {
+    }
+
+    private final Clock clock;
+    private final AtomicLong version = new AtomicLong();
+
+    private final Map<String, AtomicLong> openRentalsByAgency = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLongArray> availableVehiclesByAgency = new ConcurrentHashMap<>();
+    private final Map<String, Counted> countedVehicles = new HashMap<>();
+
+    private final AtomicLong revenueDay = new AtomicLong();
+    private final AtomicLong rentalsClosedToday = new AtomicLong();
+    private final AtomicLong revenueTodayCents = new AtomicLong();
+
+    public DashboardView(List<Rental> rentals, List<Vehicle> vehicles, Clock clock) {
+        this.clock = clock;
+        revenueDay.set(today());
+
+        for (Vehicle vehicle : vehicles) {
+            countVehicle(vehicle.getId(), vehicle.getType(), vehicle.getAgency() != null ? vehicle.getAgency().getId() : null,
+                    Boolean.TRUE.equals(vehicle.isAvailable()));
+        }
+        for (Rental rental : rentals) {
+            if (rental.getActualReturnDate() == null) {
+                openRentals(rental.getPickUpAgency().getId()).incrementAndGet();
+            } else if (rental.getActualReturnDate().toLocalDate().toEpochDay() == today()) {
+                countRevenue(rental.getActualReturnDate(), rental.calculateTotalCost());
+            }
+        }
+    }
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        beginWrite();
+        try {
+            for (DomainEvent event : events) {
+                apply(event);
+            }
+        } finally {
+            endWrite();
+        }
+    }
+
+    private void apply(DomainEvent event) {
+        if (event instanceof DomainEvent.RentalCreated created) {
+            openRentals(created.pickUpAgencyId()).incrementAndGet();
+            Counted vehicle = countedVehicles.get(created.vehicleId());
+            countVehicle(created.vehicleId(), created.vehicleType(),
+                    vehicle != null ? vehicle.agencyId() : created.pickUpAgencyId(), false);
+        } else if (event instanceof DomainEvent.RentalClosed closed) {
+            openRentals(closed.pickUpAgencyId()).decrementAndGet();
+            countVehicle(closed.vehicleId(), closed.vehicleType(), closed.returnAgencyId(), true);
+            countRevenue(closed.actualReturnDate(), closed.totalCost());
+        } else if (event instanceof DomainEvent.VehicleSaved saved) {
+            countVehicle(saved.vehicleId(), saved.vehicleType(), saved.agencyId(), saved.available());
+        } else if (event instanceof DomainEvent.VehicleMoved moved) {
+            Counted vehicle = countedVehicles.get(moved.vehicleId());
+            countVehicle(moved.vehicleId(), moved.vehicleType(), moved.toAgencyId(), vehicle == null || vehicle.available());
+        }
+    }
+
+    public Snapshot snapshot() {
+        while (true) {
+            long before = version.get();
+            if ((before & 1) == 0) {
+                Snapshot snapshot = copy();
+                if (version.get() == before) {
+                    return snapshot;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private Snapshot copy() {
+        Map<String, Long> openRentals = new TreeMap<>();
+        openRentalsByAgency.forEach((agencyId, count) -> {
+            if (count.get() > 0) openRentals.put(agencyId, count.get());
+        });
+
+        Map<String, Map<VehicleType, Long>> availableVehicles = new TreeMap<>();
+        availableVehiclesByAgency.forEach((agencyId, counts) -> {
+            Map<VehicleType, Long> byType = new EnumMap<>(VehicleType.class);
+            for (VehicleType type : VEHICLE_TYPES) {
+                byType.put(type, counts.get(type.ordinal()));
+            }
+            availableVehicles.put(agencyId, byType);
+        });
+
+        // Sem fechamentos desde a virada do dia, a receita de hoje ainda não foi zerada
+        long day = revenueDay.get();
+        boolean current = day == today();
+        return new Snapshot(openRentals, availableVehicles, LocalDate.now(clock),
+                current ? rentalsClosedToday.get() : 0,
+                BigDecimal.valueOf(current ? revenueTodayCents.get() : 0, 2));
+    }
+
+    private void beginWrite() {
+        version.incrementAndGet();
+    }
+
+    private void endWrite() {
+        version.incrementAndGet();
+    }
+
+    private AtomicLong openRentals(String agencyId) {
+        return openRentalsByAgency.computeIfAbsent(agencyId, id -> new AtomicLong());
+    }
+
+    private AtomicLongArray availableVehicles(String agencyId) {
+        return availableVehiclesByAgency.computeIfAbsent(agencyId, id -> new AtomicLongArray(VEHICLE_TYPES.length));
+    }
+
+    private void countVehicle(String vehicleId, VehicleType type, String agencyId, boolean available) {
+        Counted previous = countedVehicles.get(vehicleId);
+        if (previous != null && previous.available() && previous.agencyId() != null) {
+            availableVehicles(previous.agencyId()).decrementAndGet(previous.type().ordinal());
+        }
+
+        if (available && agencyId != null) {
+            availableVehicles(agencyId).incrementAndGet(type.ordinal());
+        }
+        countedVehicles.put(vehicleId, new Counted(agencyId, type, available));
+    }
+
+    // Só conta devoluções datadas de hoje; a primeira devolução depois da virada do dia zera o total
+    private void countRevenue(LocalDateTime returnDate, BigDecimal totalCost) {
+        long today = today();
+        if (revenueDay.get() != today) {
+            revenueDay.set(today);
+            rentalsClosedToday.set(0);
+            revenueTodayCents.set(0);
+        }
+        if (returnDate.toLocalDate().toEpochDay() != today) return;
+
+        rentalsClosedToday.incrementAndGet();
+        revenueTodayCents.addAndGet(totalCost.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue());
+    }
+
+    private long today() {
+        return LocalDate.now(clock).toEpochDay();
+    }
+}
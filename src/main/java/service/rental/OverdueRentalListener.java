@@ -0,0 +1,11 @@
+package service.rental;
+
+import model.rental.Rental;
+
+import java.math.BigDecimal;
+
+public interface OverdueRentalListener {
+
+    void onOverdue(Rental rental, long daysLate, BigDecimal accruedLateFee);
+
+}
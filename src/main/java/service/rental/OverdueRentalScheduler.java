@@ -0,0 +1,175 @@
+package service.rental;
+
+import model.rental.Rental;
+import utils.DateTimeUtils;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Mantém as locações abertas ordenadas pelo próximo prazo (TreeSet, O(log n) para incluir e remover)
+// e usa uma única thread daemon que dorme até o prazo mais próximo. Ao vencer, dispara o evento de
+// atraso e agenda o próximo para um dia depois, até a locação ser encerrada. A multa acumulada é só
+// informativa: dias completos de atraso vezes a diária, que Rental.calculateTotalCost já cobra na devolução.
+public class OverdueRentalScheduler {
+    private static final long SECONDS_PER_DAY = 24 * 60 * 60;
+
+    private record Deadline(long dueAt, String rentalId) implements Comparable<Deadline> {
+        @Override
+        public int compareTo(Deadline other) {
+            int byDueAt = Long.compare(dueAt, other.dueAt);
+            return byDueAt != 0 ? byDueAt : rentalId.compareTo(other.rentalId);
+        }
+    }
+
+    private record Tracked(Rental rental, Deadline deadline, boolean overdue, long daysLate, BigDecimal accruedLateFee) {
+    }
+
+    public record OverdueStatus(Rental rental, long daysLate, BigDecimal accruedLateFee) {
+    }
+
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final TreeSet<Deadline> deadlines = new TreeSet<>();
+    private final Map<String, Tracked> trackedById = new HashMap<>();
+    private final List<OverdueRentalListener> listeners = new CopyOnWriteArrayList<>();
+
+    private Thread worker;
+    private volatile boolean running;
+
+    public OverdueRentalScheduler(Clock clock) {
+        this.clock = clock;
+    }
+
+    public void addListener(OverdueRentalListener listener) {
+        listeners.add(listener);
+    }
+
+    public void start() {
+        lock.lock();
+        try {
+            if (running) return;
+            running = true;
+            worker = new Thread(this::run, "overdue-rental-scheduler");
+            worker.setDaemon(true);
+            worker.start();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void stop() {
+        lock.lock();
+        try {
+            running = false;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void schedule(Rental rental) {
+        if (rental.getActualReturnDate() != null) return;
+
+        Deadline deadline = new Deadline(DateTimeUtils.toEpochSecond(rental.getEstimatedReturnDate()), rental.getId());
+        lock.lock();
+        try {
+            remove(rental.getId());
+            trackedById.put(rental.getId(), new Tracked(rental, deadline, false, 0, BigDecimal.ZERO));
+            deadlines.add(deadline);
+            if (deadlines.first() == deadline) {
+                changed.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void cancel(String rentalId) {
+        lock.lock();
+        try {
+            remove(rentalId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<OverdueStatus> findOverdue() {
+        List<OverdueStatus> overdue = new ArrayList<>();
+        lock.lock();
+        try {
+            for (Tracked tracked : trackedById.values()) {
+                if (tracked.overdue()) {
+                    overdue.add(new OverdueStatus(tracked.rental(), tracked.daysLate(), tracked.accruedLateFee()));
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return overdue;
+    }
+
+    private void remove(String rentalId) {
+        Tracked tracked = trackedById.remove(rentalId);
+        if (tracked != null) {
+            deadlines.remove(tracked.deadline());
+        }
+    }
+
+    private void run() {
+        while (running) {
+            OverdueStatus fired = null;
+
+            lock.lock();
+            try {
+                if (deadlines.isEmpty()) {
+                    changed.await();
+                    continue;
+                }
+
+                Deadline next = deadlines.first();
+                long waitSeconds = next.dueAt() - DateTimeUtils.toEpochSecond(LocalDateTime.now(clock));
+                if (waitSeconds > 0) {
+                    changed.await(waitSeconds, TimeUnit.SECONDS);
+                    continue;
+                }
+
+                deadlines.pollFirst();
+                Tracked tracked = trackedById.get(next.rentalId());
+                // O primeiro disparo é no próprio prazo, ainda sem nenhum dia completo de atraso
+                long daysLate = (next.dueAt() - DateTimeUtils.toEpochSecond(tracked.rental().getEstimatedReturnDate()))
+                        / SECONDS_PER_DAY;
+                BigDecimal accruedLateFee = tracked.rental().getVehicle().getDailyRate().multiply(BigDecimal.valueOf(daysLate));
+
+                Deadline following = new Deadline(next.dueAt() + SECONDS_PER_DAY, next.rentalId());
+                trackedById.put(next.rentalId(), new Tracked(tracked.rental(), following, true, daysLate, accruedLateFee));
+                deadlines.add(following);
+
+                fired = new OverdueStatus(tracked.rental(), daysLate, accruedLateFee);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            for (OverdueRentalListener listener : listeners) {
+                try {
+                    listener.onOverdue(fired.rental(), fired.daysLate(), fired.accruedLateFee());
+                } catch (RuntimeException e) {
+                    // Um ouvinte com erro não pode parar o agendador
+                }
+            }
+        }
+    }
+}
@@ -1,30 +1,51 @@
 package service.rental;
 
+import data.Partitioned;
+import data.Query;
 import model.agency.Agency;
 import model.customer.Customer;
 import model.rental.Rental;
+import repository.Page;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Predicate;
 
 import dto.CreateRentalDTO;
 
 public interface RentalService {
 
+    @Partitioned
     Rental createRental(CreateRentalDTO rentalDto);
 
+    @Partitioned
     Rental closeRental(Rental rentalToClose, Agency returnAgency, LocalDateTime actualReturnDate);
 
     Rental updateRental(Rental rental);
 
+    @Query
     Rental findRentalById(String id);
 
+    @Query
     List<Rental> findAllRentals();
 
+    @Query
     List<Rental> findRentalByCustomer(Customer customer);
 
+    @Query
+    List<Rental> findRentalsCreatedBetween(Instant from, Instant to);
+
+    @Query
     List<Rental> findOpenRentals();
 
+    @Query
     List<Rental> findClosedRentals();
 
+    @Query
+    List<OverdueRentalScheduler.OverdueStatus> findOverdueRentals();
+
+    @Query
+    Page<Rental> findRentalPage(Predicate<Rental> filter, String cursor, int limit);
+
 }
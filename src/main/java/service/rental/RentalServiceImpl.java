@@ -1,29 +1,64 @@
 package service.rental;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.UUID;
+import java.util.function.Predicate;
 
+import data.StoreLock;
 import dto.CreateRentalDTO;
+import events.DomainEvent;
+import events.EventBus;
 import model.agency.Agency;
 import model.customer.Customer;
 import model.rental.Rental;
+import model.vehicle.Vehicle;
+import profiling.RentalCreatedEvent;
+import repository.Page;
+import repository.rental.RentalPeriodIndex;
 import repository.rental.RentalRepository;
 import repository.vehicle.VehicleRepository;
+import utils.IdGenerator;
 
 public class RentalServiceImpl implements RentalService {
 
     private final RentalRepository rentalRepository;
     private final VehicleRepository vehicleRepository;
+    private final RentalPeriodIndex rentalPeriodIndex;
+    private final OverdueRentalScheduler overdueRentalScheduler;
+    private final EventBus eventBus;
 
-    public RentalServiceImpl(RentalRepository rentalRepository, VehicleRepository vehicleRepository) {
+    public RentalServiceImpl(RentalRepository rentalRepository, VehicleRepository vehicleRepository,
+                             RentalPeriodIndex rentalPeriodIndex, OverdueRentalScheduler overdueRentalScheduler,
+                             EventBus eventBus) {
         this.rentalRepository = rentalRepository;
         this.vehicleRepository = vehicleRepository;
+        this.rentalPeriodIndex = rentalPeriodIndex;
+        this.overdueRentalScheduler = overdueRentalScheduler;
+        this.eventBus = eventBus;
+
+        for (Rental rental : rentalRepository.findOpenRentals()) {
+            overdueRentalScheduler.schedule(rental);
+        }
     }
 
+    // Partições tocadas por uma locação: a agência de retirada (arquivo da locação), a do veículo
+    // (arquivo do veículo), o veículo e o cliente, que só pode ter uma locação em aberto
     @Override
     public Rental createRental(CreateRentalDTO rentalDTO) {
-        String rentalId = UUID.randomUUID().toString();
+        return StoreLock.partition(partitionsOf(rentalDTO), () -> doCreateRental(rentalDTO));
+    }
+
+    // Quem abre a locação por dentro de outra alteração (ver ReservationServiceImpl) trava estas mesmas partições antes
+    public static List<String> partitionsOf(CreateRentalDTO rentalDTO) {
+        return List.of(partitionOf(rentalDTO.pickUpAgency()), partitionOf(rentalDTO.vehicle().getAgency()),
+                "vehicle:" + rentalDTO.vehicle().getId(), "customer:" + rentalDTO.customer().getId());
+    }
+
+    private Rental doCreateRental(CreateRentalDTO rentalDTO) {
+        RentalCreatedEvent event = new RentalCreatedEvent();
+        event.begin();
+        String rentalId = IdGenerator.getInstance().nextId();
         Rental newRental = null;
 
         // verificar se o cliente já tem uma locação em aberto
@@ -34,21 +69,61 @@ public class RentalServiceImpl implements RentalService {
             }
         }
 
+        // um veículo ainda não devolvido continua locado, mesmo depois da devolução prevista
+        if (!rentalDTO.vehicle().isAvailable()) {
+            throw new IllegalArgumentException("Veículo não está disponível para locação!");
+        }
+
         newRental = new Rental(rentalId, rentalDTO.customer(), rentalDTO.vehicle(), rentalDTO.pickUpAgency(), rentalDTO.pickUpDate(), rentalDTO.estimatedReturnDate());
-        newRental.getVehicle().setAvailable(false);
-        rentalRepository.save(newRental);
 
-        // chamar o saveData do repositório de veículos
-        vehicleRepository.saveData();
+        if (!rentalPeriodIndex.tryBookRental(newRental)) {
+            throw new IllegalArgumentException("Veículo já está reservado ou locado neste período!");
+        }
 
+        newRental.getVehicle().setAvailable(false);
+        try {
+            rentalRepository.save(newRental);
+        } catch (RuntimeException e) {
+            // a locação não foi gravada: o período e o veículo voltam a ficar livres
+            rentalPeriodIndex.removeRental(newRental);
+            newRental.getVehicle().setAvailable(true);
+            throw e;
+        }
+        overdueRentalScheduler.schedule(newRental);
+
+        // grava o veículo pelo repositório, que no modo particionado regrava só a agência dele
+        vehicleRepository.update(newRental.getVehicle());
+
+        eventBus.publish(new DomainEvent.RentalCreated(newRental.getId(), newRental.getCustomer().getId(),
+                newRental.getVehicle().getId(), newRental.getVehicle().getType(), newRental.getPickUpAgency().getId(),
+                newRental.getPickUpDate(), newRental.getEstimatedReturnDate()));
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.rentalId = newRental.getId();
+            event.customerId = newRental.getCustomer().getId();
+            event.vehicleId = newRental.getVehicle().getId();
+            event.vehicleType = String.valueOf(newRental.getVehicle().getType());
+            event.agencyId = newRental.getPickUpAgency().getId();
+            event.commit();
+        }
         return newRental;
     }
 
+    // A devolução também regrava a agência de destino do veículo
     @Override
     public Rental closeRental(Rental rentalToClose, Agency returnAgency, LocalDateTime actualReturnDate) {
         Rental existingRental = rentalRepository.findById(rentalToClose.getId());
         if (existingRental == null) throw new IllegalArgumentException("Locacao nao existe!");
 
+        Vehicle vehicle = existingRental.getVehicle();
+        List<String> partitions = List.of(partitionOf(existingRental.getPickUpAgency()),
+                partitionOf(vehicle.getAgency()), partitionOf(returnAgency), "vehicle:" + vehicle.getId(),
+                "customer:" + existingRental.getCustomer().getId());
+        return StoreLock.partition(partitions, () -> doCloseRental(existingRental, returnAgency, actualReturnDate));
+    }
+
+    private Rental doCloseRental(Rental existingRental, Agency returnAgency, LocalDateTime actualReturnDate) {
         if (existingRental.getActualReturnDate() != null) {
             throw new IllegalArgumentException("Locacao ja foi fechada!");
         }
@@ -58,17 +133,40 @@ public class RentalServiceImpl implements RentalService {
             throw new IllegalArgumentException("Data de devolução não pode ser menor que a data de locação!");
         }
 
-        existingRental.setReturnAgency(returnAgency);
-        existingRental.setActualReturnDate(actualReturnDate);
+        rentalPeriodIndex.withVehicleLock(existingRental.getVehicle().getId(), () -> {
+            rentalPeriodIndex.removeRental(existingRental);
+            existingRental.setReturnAgency(returnAgency);
+            existingRental.setActualReturnDate(actualReturnDate);
+            rentalPeriodIndex.addRental(existingRental);
+            return existingRental;
+        });
+
+        // Sem multa à parte: calculateTotalCost cobra a diária de cada dia até a devolução informada,
+        // então os dias de atraso já entram no total (e uma devolução retroativa no prazo não paga nada a mais)
+        overdueRentalScheduler.cancel(existingRental.getId());
 
         // Atualizar estado do veículo
+        Agency previousAgency = existingRental.getVehicle().getAgency();
         existingRental.getVehicle().setAgency(returnAgency);
         existingRental.getVehicle().setAvailable(true);
-        vehicleRepository.saveData();
-
-        return rentalRepository.update(existingRental);
+        // Devolução em outra agência: o repositório particionado transfere o veículo entre as partições
+        vehicleRepository.update(existingRental.getVehicle());
+
+        Rental closedRental = rentalRepository.update(existingRental);
+        Vehicle vehicle = existingRental.getVehicle();
+        eventBus.publish(new DomainEvent.RentalClosed(existingRental.getId(), vehicle.getId(), vehicle.getType(),
+                existingRental.getPickUpAgency().getId(), returnAgency.getId(), actualReturnDate,
+                existingRental.calculateTotalCost()));
+        if (previousAgency == null || !previousAgency.getId().equals(returnAgency.getId())) {
+            eventBus.publish(new DomainEvent.VehicleMoved(vehicle.getId(), vehicle.getType(),
+                    previousAgency != null ? previousAgency.getId() : null, returnAgency.getId()));
+        }
+        return closedRental;
     }
 
+    private static String partitionOf(Agency agency) {
+        return "agency:" + (agency != null ? agency.getId() : "");
+    }
 
     @Override
     public Rental updateRental(Rental rental) {
@@ -97,6 +195,11 @@ public class RentalServiceImpl implements RentalService {
         return rentalRepository.findByCustomer(customer);
     }
 
+    @Override
+    public List<Rental> findRentalsCreatedBetween(Instant from, Instant to) {
+        return rentalRepository.findCreatedBetween(from, to);
+    }
+
     @Override
     public List<Rental> findOpenRentals() {
         return rentalRepository.findOpenRentals();
@@ -106,4 +209,14 @@ public class RentalServiceImpl implements RentalService {
     public List<Rental> findClosedRentals() {
         return rentalRepository.findClosedRentals();
     }
+
+    @Override
+    public List<OverdueRentalScheduler.OverdueStatus> findOverdueRentals() {
+        return overdueRentalScheduler.findOverdue();
+    }
+
+    @Override
+    public Page<Rental> findRentalPage(Predicate<Rental> filter, String cursor, int limit) {
+        return rentalRepository.findPage(filter, cursor, limit);
+    }
 }
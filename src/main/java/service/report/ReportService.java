@@ -0,0 +1,34 @@
+package service.report;
+
+import enums.CustomerType;
+import enums.VehicleType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ReportService {
+
+    record AgencyRevenue(String agencyId, String agencyName, long rentals, BigDecimal revenue) {
+    }
+
+    record DailyRevenue(LocalDate day, VehicleType vehicleType, CustomerType customerType, long rentals,
+                        BigDecimal revenue) {
+    }
+
+    record FleetUtilization(VehicleType vehicleType, long vehicles, long rentedSeconds, long availableSeconds) {
+        public double utilization() {
+            return availableSeconds == 0 ? 0 : (double) rentedSeconds / availableSeconds;
+        }
+    }
+
+    // Receita das locações encerradas (pela data de devolução) no período [from, to), por agência de retirada
+    List<AgencyRevenue> findRevenueByAgency(LocalDateTime from, LocalDateTime to);
+
+    // Receita por dia de devolução, tipo de veículo e tipo de cliente; só devolve as combinações com locações
+    List<DailyRevenue> findDailyRevenue(LocalDateTime from, LocalDateTime to);
+
+    // Fração do tempo do período em que a frota atual de cada tipo esteve locada
+    List<FleetUtilization> findFleetUtilization(LocalDateTime from, LocalDateTime to);
+}
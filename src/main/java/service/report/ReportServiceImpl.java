@@ -0,0 +1,255 @@
+package service.report;
+
+import data.StoreLock;
+import enums.CustomerType;
+import enums.VehicleType;
+import model.agency.Agency;
+import model.rental.Rental;
+import model.vehicle.Vehicle;
+import repository.agency.AgencyRepository;
+import repository.rental.RentalRepository;
+import repository.vehicle.VehicleRepository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Os relatórios copiam as referências das locações sob a trava de leitura e agregam fora dela,
+// em paralelo (fork-join das streams paralelas), com acumuladores de long em centavos por fatia.
+// Uma locação encerrada durante a agregação pode entrar no relatório como aberta ou como encerrada.
+public class ReportServiceImpl implements ReportService {
+    private static final int MAX_DAILY_REPORT_DAYS = 366;
+    private static final long SECONDS_PER_DAY = 24 * 60 * 60;
+
+    private static final VehicleType[] VEHICLE_TYPES = VehicleType.values();
+    private static final CustomerType[] CUSTOMER_TYPES = CustomerType.values();
+
+    private final RentalRepository rentalRepository;
+    private final VehicleRepository vehicleRepository;
+    private final AgencyRepository agencyRepository;
+    private final Clock clock;
+
+    public ReportServiceImpl(RentalRepository rentalRepository, VehicleRepository vehicleRepository,
+                             AgencyRepository agencyRepository, Clock clock) {
+        this.rentalRepository = rentalRepository;
+        this.vehicleRepository = vehicleRepository;
+        this.agencyRepository = agencyRepository;
+        this.clock = clock;
+    }
+
+    @Override
+    public List<AgencyRevenue> findRevenueByAgency(LocalDateTime from, LocalDateTime to) {
+        validatePeriod(from, to);
+
+        List<Agency> agencies = StoreLock.read(() -> new ArrayList<>(agencyRepository.findAll()));
+        Rental[] rentals = snapshotRentals();
+
+        Map<String, Integer> indexById = new HashMap<>();
+        for (int i = 0; i < agencies.size(); i++) {
+            indexById.put(agencies.get(i).getId(), i);
+        }
+        int slots = agencies.size();
+
+        Totals totals = Arrays.stream(rentals).parallel().collect(
+                () -> new Totals(slots),
+                (acc, rental) -> {
+                    LocalDateTime returned = rental.getActualReturnDate();
+                    if (returned == null || returned.isBefore(from) || !returned.isBefore(to)) return;
+
+                    Integer index = indexById.get(rental.getPickUpAgency().getId());
+                    if (index == null) return;
+                    acc.add(index, rental, returned);
+                },
+                Totals::merge);
+
+        List<AgencyRevenue> report = new ArrayList<>(slots);
+        for (int i = 0; i < slots; i++) {
+            Agency agency = agencies.get(i);
+            report.add(new AgencyRevenue(agency.getId(), agency.getName(), totals.counts[i],
+                    BigDecimal.valueOf(totals.cents[i], 2)));
+        }
+        report.sort(Comparator.comparing(AgencyRevenue::revenue).reversed()
+                .thenComparing(AgencyRevenue::agencyName));
+        return report;
+    }
+
+    @Override
+    public List<DailyRevenue> findDailyRevenue(LocalDateTime from, LocalDateTime to) {
+        validatePeriod(from, to);
+
+        long firstDay = from.toLocalDate().toEpochDay();
+        long lastDay = to.minusNanos(1).toLocalDate().toEpochDay();
+        int days = (int) Math.min(lastDay - firstDay + 1, Integer.MAX_VALUE);
+        if (days > MAX_DAILY_REPORT_DAYS) {
+            throw new IllegalArgumentException("O relatório diário aceita no máximo " + MAX_DAILY_REPORT_DAYS + " dias.");
+        }
+
+        Rental[] rentals = snapshotRentals();
+        int slots = days * VEHICLE_TYPES.length * CUSTOMER_TYPES.length;
+
+        Totals totals = Arrays.stream(rentals).parallel().collect(
+                () -> new Totals(slots),
+                (acc, rental) -> {
+                    LocalDateTime returned = rental.getActualReturnDate();
+                    if (returned == null || returned.isBefore(from) || !returned.isBefore(to)) return;
+
+                    int day = (int) (returned.toLocalDate().toEpochDay() - firstDay);
+                    int slot = (day * VEHICLE_TYPES.length + rental.getVehicle().getType().ordinal())
+                            * CUSTOMER_TYPES.length + rental.getCustomer().getType().ordinal();
+                    acc.add(slot, rental, returned);
+                },
+                Totals::merge);
+
+        List<DailyRevenue> report = new ArrayList<>();
+        for (int slot = 0; slot < slots; slot++) {
+            if (totals.counts[slot] == 0) continue;
+
+            int customerType = slot % CUSTOMER_TYPES.length;
+            int vehicleType = (slot / CUSTOMER_TYPES.length) % VEHICLE_TYPES.length;
+            int day = slot / (CUSTOMER_TYPES.length * VEHICLE_TYPES.length);
+            report.add(new DailyRevenue(LocalDate.ofEpochDay(firstDay + day), VEHICLE_TYPES[vehicleType],
+                    CUSTOMER_TYPES[customerType], totals.counts[slot], BigDecimal.valueOf(totals.cents[slot], 2)));
+        }
+        return report;
+    }
+
+    @Override
+    public List<FleetUtilization> findFleetUtilization(LocalDateTime from, LocalDateTime to) {
+        validatePeriod(from, to);
+
+        long[] fleet = StoreLock.read(() -> {
+            long[] counts = new long[VEHICLE_TYPES.length];
+            for (Vehicle vehicle : vehicleRepository.findAll()) {
+                counts[vehicle.getType().ordinal()]++;
+            }
+            return counts;
+        });
+        Rental[] rentals = snapshotRentals();
+
+        long windowStart = toEpochSecond(from);
+        long windowEnd = toEpochSecond(to);
+        // Locações abertas ocupam o veículo até agora
+        long now = toEpochSecond(LocalDateTime.now(clock));
+
+        long[] rented = Arrays.stream(rentals).parallel().collect(
+                () -> new long[VEHICLE_TYPES.length],
+                (acc, rental) -> {
+                    long start = toEpochSecond(rental.getPickUpDate());
+                    LocalDateTime returned = rental.getActualReturnDate();
+                    long end = returned != null ? toEpochSecond(returned) : Math.max(start, now);
+
+                    long overlap = Math.min(end, windowEnd) - Math.max(start, windowStart);
+                    if (overlap > 0) {
+                        acc[rental.getVehicle().getType().ordinal()] += overlap;
+                    }
+                },
+                (left, right) -> {
+                    for (int i = 0; i < left.length; i++) left[i] += right[i];
+                });
+
+        List<FleetUtilization> report = new ArrayList<>(VEHICLE_TYPES.length);
+        for (VehicleType type : VEHICLE_TYPES) {
+            int i = type.ordinal();
+            report.add(new FleetUtilization(type, fleet[i], rented[i], fleet[i] * (windowEnd - windowStart)));
+        }
+        return report;
+    }
+
+    // Copia só as referências: a agregação não segura a trava enquanto percorre milhões de locações
+    private Rental[] snapshotRentals() {
+        return StoreLock.read(() -> rentalRepository.findAll().toArray(new Rental[0]));
+    }
+
+    private void validatePeriod(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("Período inválido: a data inicial deve ser anterior à final.");
+        }
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    // Mesma regra de Rental.calculateTotalCost, em centavos, sem criar BigDecimal por locação
+    private static final class Pricing {
+        private final long[] dailyRateCents = new long[VEHICLE_TYPES.length];
+
+        private Pricing() {
+            Arrays.fill(dailyRateCents, -1);
+        }
+
+        private long totalCents(Rental rental, LocalDateTime end) {
+            Vehicle vehicle = rental.getVehicle();
+            long days = wholeDaysBetween(rental.getPickUpDate(), end);
+            long cents = dailyRateCents(vehicle) * days;
+
+            if (vehicle.getType() == VehicleType.CAR) {
+                if (rental.getCustomer().getType() == CustomerType.INDIVIDUAL) {
+                    if (days > 3) cents = percentOf(cents, 95);
+                } else if (days > 5) {
+                    cents = percentOf(cents, 90);
+                }
+            }
+            BigDecimal fees = rental.getFees();
+            if (fees.signum() != 0) {
+                cents += fees.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+            }
+            return cents;
+        }
+
+        // A diária é uma constante de cada tipo de veículo
+        private long dailyRateCents(Vehicle vehicle) {
+            int type = vehicle.getType().ordinal();
+            long rate = dailyRateCents[type];
+            if (rate < 0) {
+                rate = vehicle.getDailyRate().movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+                dailyRateCents[type] = rate;
+            }
+            return rate;
+        }
+
+        private static long percentOf(long cents, long percent) {
+            return (cents * percent + 50) / 100;
+        }
+
+        // Equivale a Duration.between(start, end).toDays(), sem alocar
+        private static long wholeDaysBetween(LocalDateTime start, LocalDateTime end) {
+            long seconds = toEpochSecond(end) - toEpochSecond(start);
+            if (end.getNano() < start.getNano()) seconds--;
+            return seconds / SECONDS_PER_DAY;
+        }
+    }
+
+    // Receita e quantidade de locações por posição (agência, ou dia × tipo de veículo × tipo de cliente)
+    private static final class Totals {
+        private final Pricing pricing = new Pricing();
+        private final long[] cents;
+        private final long[] counts;
+
+        private Totals(int slots) {
+            cents = new long[slots];
+            counts = new long[slots];
+        }
+
+        private void add(int slot, Rental rental, LocalDateTime returned) {
+            cents[slot] += pricing.totalCents(rental, returned);
+            counts[slot]++;
+        }
+
+        private void merge(Totals other) {
+            for (int i = 0; i < cents.length; i++) {
+                cents[i] += other.cents[i];
+                counts[i] += other.counts[i];
+            }
+        }
+    }
+}
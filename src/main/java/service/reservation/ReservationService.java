@@ -0,0 +1,37 @@
+package service.reservation;
+
+import data.Partitioned;
+import data.Query;
+import dto.CreateReservationDTO;
+import model.rental.Rental;
+import model.reservation.Reservation;
+import repository.Page;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Predicate;
+
+public interface ReservationService {
+
+    @Partitioned
+    Reservation createReservation(CreateReservationDTO reservationDTO);
+
+    @Partitioned
+    Reservation cancelReservation(String reservationId);
+
+    @Partitioned
+    Rental pickUpReservation(String reservationId, LocalDateTime pickUpDate);
+
+    @Query
+    Reservation findReservationById(String id);
+
+    @Query
+    List<Reservation> findPendingReservations();
+
+    @Query
+    List<Reservation> findAllReservations();
+
+    @Query
+    Page<Reservation> findReservationPage(Predicate<Reservation> filter, String cursor, int limit);
+
+}
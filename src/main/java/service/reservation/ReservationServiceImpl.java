@@ -0,0 +1,162 @@
+package service.reservation;
+
+import data.StoreLock;
+import dto.CreateRentalDTO;
+import dto.CreateReservationDTO;
+import enums.ReservationStatus;
+import model.rental.Rental;
+import model.reservation.Reservation;
+import repository.Page;
+import repository.rental.RentalPeriodIndex;
+import repository.reservation.ReservationRepository;
+import service.rental.RentalService;
+import service.rental.RentalServiceImpl;
+import utils.IdGenerator;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Predicate;
+
+public class ReservationServiceImpl implements ReservationService {
+
+    private final ReservationRepository reservationRepository;
+    private final RentalService rentalService;
+    private final RentalPeriodIndex rentalPeriodIndex;
+
+    public ReservationServiceImpl(ReservationRepository reservationRepository, RentalService rentalService,
+                                  RentalPeriodIndex rentalPeriodIndex) {
+        this.reservationRepository = reservationRepository;
+        this.rentalService = rentalService;
+        this.rentalPeriodIndex = rentalPeriodIndex;
+
+        for (Reservation reservation : reservationRepository.findPendingReservations()) {
+            rentalPeriodIndex.add(reservation.getVehicle().getId(), reservation.getId(),
+                    reservation.getPickUpDate(), reservation.getEstimatedReturnDate());
+        }
+    }
+
+    @Override
+    public Reservation createReservation(CreateReservationDTO reservationDTO) {
+        if (reservationDTO.customer() == null || reservationDTO.vehicle() == null || reservationDTO.pickUpAgency() == null) {
+            throw new IllegalArgumentException("Cliente, veículo e agência são obrigatórios!");
+        }
+        if (reservationDTO.pickUpDate() == null || !reservationDTO.pickUpDate().isAfter(LocalDateTime.now())) {
+            throw new IllegalArgumentException("A data de retirada da reserva deve ser futura!");
+        }
+
+        Reservation newReservation = new Reservation(
+                IdGenerator.getInstance().nextId(),
+                reservationDTO.customer(),
+                reservationDTO.vehicle(),
+                reservationDTO.pickUpAgency(),
+                reservationDTO.pickUpDate(),
+                reservationDTO.estimatedReturnDate());
+
+        // Reservas de veículos diferentes não se esperam (ver @Partitioned)
+        return StoreLock.partition(List.of(partitionOf(newReservation)), () -> {
+            if (!rentalPeriodIndex.tryBook(newReservation.getVehicle().getId(), newReservation.getId(),
+                    newReservation.getPickUpDate(), newReservation.getEstimatedReturnDate())) {
+                throw new IllegalArgumentException("Veículo já está reservado ou locado neste período!");
+            }
+
+            try {
+                return reservationRepository.save(newReservation);
+            } catch (RuntimeException e) {
+                releasePeriod(newReservation);
+                throw e;
+            }
+        });
+    }
+
+    @Override
+    public Reservation cancelReservation(String reservationId) {
+        Reservation reservation = findExisting(reservationId);
+
+        return StoreLock.partition(List.of(partitionOf(reservation)), () ->
+                rentalPeriodIndex.withVehicleLock(reservation.getVehicle().getId(), () -> {
+                    ensurePending(reservation);
+                    reservation.setStatus(ReservationStatus.CANCELLED);
+                    releasePeriod(reservation);
+                    return reservationRepository.update(reservation);
+                }));
+    }
+
+    @Override
+    public Rental pickUpReservation(String reservationId, LocalDateTime pickUpDate) {
+        Reservation reservation = findExisting(reservationId);
+
+        if (!pickUpDate.isBefore(reservation.getEstimatedReturnDate())) {
+            throw new IllegalArgumentException("O período da reserva já terminou!");
+        }
+
+        CreateRentalDTO rentalDTO = new CreateRentalDTO(
+                reservation.getCustomer(),
+                reservation.getVehicle(),
+                reservation.getPickUpAgency(),
+                pickUpDate,
+                reservation.getEstimatedReturnDate());
+
+        // Libera o período da reserva e abre a locação sob o mesmo bloqueio do veículo,
+        // para que nenhuma outra reserva ocupe o intervalo no meio da troca. As partições da
+        // locação são travadas antes, na mesma ordem em que createRental as travaria.
+        return StoreLock.partition(RentalServiceImpl.partitionsOf(rentalDTO), () ->
+                rentalPeriodIndex.withVehicleLock(reservation.getVehicle().getId(), () -> {
+                    ensurePending(reservation);
+                    releasePeriod(reservation);
+
+                    Rental rental;
+                    try {
+                        rental = rentalService.createRental(rentalDTO);
+                    } catch (RuntimeException e) {
+                        rentalPeriodIndex.add(reservation.getVehicle().getId(), reservation.getId(),
+                                reservation.getPickUpDate(), reservation.getEstimatedReturnDate());
+                        throw e;
+                    }
+
+                    reservation.setStatus(ReservationStatus.PICKED_UP);
+                    reservation.setRentalId(rental.getId());
+                    reservationRepository.update(reservation);
+                    return rental;
+                }));
+    }
+
+    @Override
+    public Reservation findReservationById(String id) {
+        return reservationRepository.findById(id);
+    }
+
+    @Override
+    public List<Reservation> findPendingReservations() {
+        return reservationRepository.findPendingReservations();
+    }
+
+    @Override
+    public List<Reservation> findAllReservations() {
+        return reservationRepository.findAll();
+    }
+
+    @Override
+    public Page<Reservation> findReservationPage(Predicate<Reservation> filter, String cursor, int limit) {
+        return reservationRepository.findPage(filter, cursor, limit);
+    }
+
+    private Reservation findExisting(String reservationId) {
+        Reservation reservation = reservationRepository.findById(reservationId);
+        if (reservation == null) throw new IllegalArgumentException("Reserva não existe!");
+        return reservation;
+    }
+
+    private void ensurePending(Reservation reservation) {
+        if (reservation.getStatus() != ReservationStatus.PENDING) {
+            throw new IllegalArgumentException("Reserva já foi " + reservation.getStatus().getDescription().toLowerCase() + "!");
+        }
+    }
+
+    private static String partitionOf(Reservation reservation) {
+        return "vehicle:" + reservation.getVehicle().getId();
+    }
+
+    private void releasePeriod(Reservation reservation) {
+        rentalPeriodIndex.remove(reservation.getVehicle().getId(), reservation.getId(), reservation.getPickUpDate());
+    }
+}
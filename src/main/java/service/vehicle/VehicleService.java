@@ -1,9 +1,14 @@
 package service.vehicle;
 
+import data.Query;
 import dto.CreateVehicleDTO;
 import model.vehicle.Vehicle;
+import repository.Page;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 public interface VehicleService {
 
@@ -11,15 +16,30 @@ public interface VehicleService {
 
     Vehicle updateVehicle(Vehicle vehicle);
 
+    @Query
     Vehicle findVehicleById(String id);
 
+    @Query
     List<Vehicle> findAllVehicles();
 
+    @Query
     Vehicle findVehicleByPlate(String plate);
 
+    @Query
     List<Vehicle> findVehicleByModel(String model);
 
+    @Query
     List<Vehicle> findVehicleByAgencyId(String agencyId);
 
+    @Query
     List<Vehicle> findAvailableVehiclesByAgencyId(String agencyId);
+
+    @Query
+    List<Vehicle> findAvailable(String agencyId, LocalDateTime from, LocalDateTime to);
+
+    @Query
+    Map<String, List<Vehicle>> findAvailableInAgencies(List<String> agencyIds, LocalDateTime from, LocalDateTime to);
+
+    @Query
+    Page<Vehicle> findVehiclePage(Predicate<Vehicle> filter, String cursor, int limit);
 }
@@ -1,22 +1,35 @@
 package service.vehicle;
 
 import dto.CreateVehicleDTO;
+import events.DomainEvent;
+import events.EventBus;
 import model.vehicle.Car;
 import model.vehicle.Motorcycle;
 import model.vehicle.Truck;
 import model.vehicle.Vehicle;
+import repository.Page;
+import repository.rental.RentalPeriodIndex;
 import repository.vehicle.VehicleRepository;
 import enums.VehicleType;
+import utils.IdGenerator;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.function.Predicate;
 
 public class VehicleServiceImpl implements VehicleService {
 
     private final VehicleRepository vehicleRepository;
+    private final RentalPeriodIndex rentalPeriodIndex;
+    private final EventBus eventBus;
 
-    public VehicleServiceImpl(VehicleRepository vehicleRepository) {
+    public VehicleServiceImpl(VehicleRepository vehicleRepository, RentalPeriodIndex rentalPeriodIndex, EventBus eventBus) {
         this.vehicleRepository = vehicleRepository;
+        this.rentalPeriodIndex = rentalPeriodIndex;
+        this.eventBus = eventBus;
     }
 
     @Override
@@ -28,7 +41,7 @@ public class VehicleServiceImpl implements VehicleService {
 
         Vehicle newVehicle = null;
 
-        String newVehicleId = UUID.randomUUID().toString();
+        String newVehicleId = IdGenerator.getInstance().nextId();
 
         if (vehicleDTO.type() == VehicleType.CAR) {
             newVehicle = new Car(newVehicleId,
@@ -53,6 +66,7 @@ public class VehicleServiceImpl implements VehicleService {
 
         if (newVehicle != null) {
             vehicleRepository.save(newVehicle);
+            notifySaved(newVehicle);
             return newVehicle;
         }
 
@@ -65,7 +79,17 @@ public class VehicleServiceImpl implements VehicleService {
         if (vehicleFoundByPlate != null && !vehicleFoundByPlate.getId().equals(vehicle.getId())) {
             throw new IllegalArgumentException("Placa já existe!");
         }
-        return vehicleRepository.update(vehicle);
+        Vehicle updatedVehicle = vehicleRepository.update(vehicle);
+        if (updatedVehicle != null) {
+            notifySaved(updatedVehicle);
+        }
+        return updatedVehicle;
+    }
+
+    private void notifySaved(Vehicle vehicle) {
+        eventBus.publish(new DomainEvent.VehicleSaved(vehicle.getId(), vehicle.getType(),
+                vehicle.getAgency() != null ? vehicle.getAgency().getId() : null,
+                Boolean.TRUE.equals(vehicle.isAvailable())));
     }
 
     @Override
@@ -97,4 +121,33 @@ public class VehicleServiceImpl implements VehicleService {
     public List<Vehicle> findAvailableVehiclesByAgencyId(String agencyId) {
         return vehicleRepository.findAvailableVehiclesByAgencyId(agencyId);
     }
+
+    @Override
+    public List<Vehicle> findAvailable(String agencyId, LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("Período inválido: a data inicial deve ser anterior à final.");
+        }
+
+        List<Vehicle> availableVehicles = new ArrayList<>();
+        for (Vehicle vehicle : vehicleRepository.findByAgencyId(agencyId)) {
+            if (rentalPeriodIndex.isAvailable(vehicle.getId(), from, to)) {
+                availableVehicles.add(vehicle);
+            }
+        }
+        return availableVehicles;
+    }
+
+    @Override
+    public Map<String, List<Vehicle>> findAvailableInAgencies(List<String> agencyIds, LocalDateTime from, LocalDateTime to) {
+        Map<String, List<Vehicle>> availableByAgency = new LinkedHashMap<>();
+        for (String agencyId : agencyIds) {
+            availableByAgency.put(agencyId, findAvailable(agencyId, from, to));
+        }
+        return availableByAgency;
+    }
+
+    @Override
+    public Page<Vehicle> findVehiclePage(Predicate<Vehicle> filter, String cursor, int limit) {
+        return vehicleRepository.findPage(filter, cursor, limit);
+    }
 }
@@ -1,14 +1,40 @@
 package ui.core;
 
 import ui.flow.FlowController;
+import ui.flow.Navigation;
 
 public abstract class Screen {
 
     protected final FlowController flowController;
 
+    private Navigation navigation;
+
     public Screen(FlowController flowController) {
         this.flowController = flowController;
     }
 
-    public abstract void show();
+    public abstract Navigation show();
+
+    protected void navigateTo(Screen screen) {
+        navigation = Navigation.goTo(screen);
+    }
+
+    protected void goBack() {
+        navigation = Navigation.back();
+    }
+
+    protected void exit() {
+        navigation = Navigation.exit();
+    }
+
+    protected boolean isLeaving() {
+        return navigation != null;
+    }
+
+    // Uma tela que termina sem pedir navegação volta para a anterior
+    protected Navigation takeNavigation() {
+        Navigation result = navigation != null ? navigation : Navigation.back();
+        navigation = null;
+        return result;
+    }
 }
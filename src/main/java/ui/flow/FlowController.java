@@ -5,6 +5,8 @@ import ui.core.Screen;
 import java.util.ArrayDeque;
 import java.util.Deque;
 
+// Despachante iterativo: cada tela devolve para onde navegar e o laço abaixo aplica o resultado,
+// então a pilha de chamadas não cresce com a navegação, por mais longa que seja a sessão.
 public class FlowController {
     private final Deque<Screen> screenStack;
 
@@ -12,23 +14,38 @@ public class FlowController {
         screenStack = new ArrayDeque<>();
     }
 
-    public void goTo(Screen screen) {
-        if (screen == null) {
+    public void start(Screen rootScreen) {
+        if (rootScreen == null) {
             throw new IllegalArgumentException("A tela não pode ser nula.");
         }
-        screenStack.push(screen);
-        screen.show();
-    }
+        screenStack.clear();
+        screenStack.push(rootScreen);
 
-    public void goBack() {
-        if (screenStack.size() <= 1) {
-            return;
+        while (!screenStack.isEmpty()) {
+            Navigation navigation = screenStack.peek().show();
+
+            switch (navigation.getType()) {
+                case GO_TO -> screenStack.push(navigation.getTarget());
+                case BACK -> {
+                    // A tela inicial só é encerrada por um pedido explícito de saída
+                    if (screenStack.size() > 1) {
+                        screenStack.pop();
+                    }
+                }
+                case EXIT -> screenStack.clear();
+            }
         }
+    }
 
-        screenStack.pop();
-        Screen previousScreen = screenStack.peek();
-        if (previousScreen != null) {
-            previousScreen.show();
+    // Telas de seleção abertas por um formulário: executam até o fim e devolvem o controle a quem chamou
+    public void showModal(Screen screen) {
+        if (screen == null) {
+            throw new IllegalArgumentException("A tela não pode ser nula.");
         }
+        screen.show();
+    }
+
+    public int getDepth() {
+        return screenStack.size();
     }
 }
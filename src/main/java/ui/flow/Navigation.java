@@ -0,0 +1,46 @@
+package ui.flow;
+
+import ui.core.Screen;
+
+public final class Navigation {
+
+    public enum Type {
+        GO_TO,
+        BACK,
+        EXIT
+    }
+
+    private static final Navigation BACK = new Navigation(Type.BACK, null);
+    private static final Navigation EXIT = new Navigation(Type.EXIT, null);
+
+    private final Type type;
+    private final Screen target;
+
+    private Navigation(Type type, Screen target) {
+        this.type = type;
+        this.target = target;
+    }
+
+    public static Navigation goTo(Screen screen) {
+        if (screen == null) {
+            throw new IllegalArgumentException("A tela não pode ser nula.");
+        }
+        return new Navigation(Type.GO_TO, screen);
+    }
+
+    public static Navigation back() {
+        return BACK;
+    }
+
+    public static Navigation exit() {
+        return EXIT;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Screen getTarget() {
+        return target;
+    }
+}
@@ -1,24 +1,25 @@
 package ui.screens;
 
+import config.AppContext;
 import exceptions.DataInputInterruptedException;
-import repository.agency.InFileAgencyRepositoryImpl;
-import repository.customer.InFileCustomerRepositoryImpl;
-import repository.rental.InFileRentalRepository;
-import repository.vehicle.InFileVehicleRepository;
 import service.agency.AgencyService;
-import service.agency.AgencyServiceImpl;
 import service.customer.CustomerService;
-import service.customer.CustomerServiceImpl;
 import service.rental.RentalService;
-import service.rental.RentalServiceImpl;
+import service.dashboard.DashboardView;
+import service.report.ReportService;
+import service.reservation.ReservationService;
 import service.vehicle.VehicleService;
-import service.vehicle.VehicleServiceImpl;
+import ui.utils.Borders;
+import ui.utils.Console;
 import ui.utils.Header;
 import ui.core.Screen;
 import ui.flow.FlowController;
+import ui.flow.Navigation;
 import ui.screens.agency.AgencyMenuScreen;
 import ui.screens.customer.CustomerMenuScreen;
+import ui.screens.diagnostics.DiagnosticsScreen;
 import ui.screens.rental.RentalMenuScreen;
+import ui.screens.report.ReportMenuScreen;
 import ui.screens.vehicle.VehicleMenuScreen;
 import ui.utils.Input;
 import ui.utils.Output;
@@ -28,7 +29,6 @@ import ui.utils.ScreenUtils;
 import java.util.Scanner;
 
 public class MainMenuScreen extends Screen {
-    private static final int MAX_LINE_LENGTH = 65;
     private final Scanner scanner;
 
     private String errorMessage = "";
@@ -37,35 +37,25 @@ public class MainMenuScreen extends Screen {
     private final VehicleService vehicleService;
     private final CustomerService customerService;
     private final RentalService rentalService;
+    private final ReservationService reservationService;
+    private final ReportService reportService;
+    private final DashboardView dashboardView;
 
-    public MainMenuScreen(FlowController flowController, Scanner scanner) {
+    public MainMenuScreen(FlowController flowController, Scanner scanner, AppContext context) {
         super(flowController);
         this.scanner = scanner;
 
-        agencyService = createAgencyService();
-        vehicleService = createVehicleService();
-        customerService = createCustomerService();
-        rentalService = createRentalService();
-    }
-
-    private AgencyService createAgencyService() {
-        return new AgencyServiceImpl(InFileAgencyRepositoryImpl.getInstance());
-    }
-
-    private VehicleService createVehicleService() {
-        return new VehicleServiceImpl(InFileVehicleRepository.getInstance());
-    }
-
-    private CustomerService createCustomerService() {
-        return new CustomerServiceImpl(InFileCustomerRepositoryImpl.getInstance());
-    }
-
-    private RentalService createRentalService() {
-        return new RentalServiceImpl(InFileRentalRepository.getInstance(), InFileVehicleRepository.getInstance());
+        agencyService = context.getAgencyService();
+        vehicleService = context.getVehicleService();
+        customerService = context.getCustomerService();
+        rentalService = context.getRentalService();
+        reservationService = context.getReservationService();
+        reportService = context.getReportService();
+        dashboardView = context.getDashboardView();
     }
 
     @Override
-    public void show() {
+    public Navigation show() {
         Result<Integer> option;
 
         do {
@@ -82,7 +72,9 @@ public class MainMenuScreen extends Screen {
             handleMenuOption(option.getValue());
 
             if (option.getValue() == 0) break;
-        } while (true);
+        } while (!isLeaving());
+
+        return takeNavigation();
     }
 
     private void displayMenuOptions() {
@@ -92,18 +84,20 @@ public class MainMenuScreen extends Screen {
                 "[ 2 ] - Veículos",
                 "[ 3 ] - Clientes",
                 "[ 4 ] - Locações",
+                "[ 5 ] - Relatórios",
+                "[ 6 ] - Diagnóstico",
                 "[ 0 ] - Sair"
         };
 
-        String emptyLine = "║    " + " ".repeat(MAX_LINE_LENGTH) + "    ║";
-        String bottomLine = "╚════" + "═".repeat(MAX_LINE_LENGTH) + "════╝";
+        String emptyLine = Borders.EMPTY_LINE;
+        String bottomLine = Borders.BOTTOM_LINE;
 
-        System.out.println(emptyLine);
+        Console.println(emptyLine);
         for (String option : menuOptions) {
-            System.out.printf("║    %-65s    ║%n", option);
+            Console.printf("║    %-65s    ║%n", option);
         }
-        System.out.println(emptyLine);
-        System.out.println(bottomLine);
+        Console.println(emptyLine);
+        Console.println(bottomLine);
     }
 
     private void displayPendingMessages() {
@@ -127,20 +121,20 @@ public class MainMenuScreen extends Screen {
             case 2 -> navigateTo(new VehicleMenuScreen(flowController, scanner, agencyService, vehicleService));
             case 3 -> navigateTo(new CustomerMenuScreen(flowController, scanner, customerService));
             case 4 -> navigateTo(new RentalMenuScreen(
-                    flowController, scanner, agencyService, customerService, vehicleService, rentalService));
+                    flowController, scanner, agencyService, customerService, vehicleService, rentalService,
+                    reservationService));
+            case 5 -> navigateTo(new ReportMenuScreen(flowController, scanner, reportService, dashboardView,
+                    agencyService));
+            case 6 -> navigateTo(new DiagnosticsScreen(flowController, scanner));
             case 0 -> exitApp();
             default -> errorMessage = "Opção inválida! Por favor, informe uma opção do menu...";
         }
     }
 
-    private void navigateTo(Screen screen) {
-        flowController.goTo(screen);
-    }
 
     private void exitApp() {
         ScreenUtils.clearScreen();
         Output.info("Obrigado por utilizar o sistema de locação de veículos!");
-        scanner.close();
-        System.exit(0);
+        exit();
     }
 }
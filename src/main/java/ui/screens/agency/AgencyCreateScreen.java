@@ -3,9 +3,12 @@ package ui.screens.agency;
 import dto.CreateAgencyDTO;
 import exceptions.DataInputInterruptedException;
 import service.agency.AgencyService;
+import ui.utils.Borders;
+import ui.utils.Console;
 import ui.utils.Header;
 import ui.core.Screen;
 import ui.flow.FlowController;
+import ui.flow.Navigation;
 import ui.utils.Input;
 import ui.utils.Output;
 import ui.utils.Result;
@@ -15,7 +18,6 @@ import java.util.Scanner;
 import java.util.function.Consumer;
 
 public class AgencyCreateScreen extends Screen {
-    private static final int MAX_LINE_LENGTH = 65;
     private final Scanner scanner;
     private final AgencyService agencyService;
 
@@ -34,7 +36,7 @@ public class AgencyCreateScreen extends Screen {
     }
 
     @Override
-    public void show() {
+    public Navigation show() {
         do {
             ScreenUtils.clearScreen();
             Header.show("Cadastro de Agência", null);
@@ -43,7 +45,9 @@ public class AgencyCreateScreen extends Screen {
             Output.info("'V' para voltar campo, 'C' para cancelar o cadastro.");
             displayPendingMessages();
             handleCurrentField();
-        } while (true);
+        } while (!isLeaving());
+
+        return takeNavigation();
     }
 
     private void displayAgencyRegistration() {
@@ -53,15 +57,15 @@ public class AgencyCreateScreen extends Screen {
                 String.format("Telefone: %s", phone.isEmpty() ? "" : phone)
         };
 
-        String emptyLine = "║    " + " ".repeat(MAX_LINE_LENGTH) + "    ║";
-        String bottomLine = "╚════" + "═".repeat(MAX_LINE_LENGTH) + "════╝";
+        String emptyLine = Borders.EMPTY_LINE;
+        String bottomLine = Borders.BOTTOM_LINE;
 
-        System.out.println(emptyLine);
+        Console.println(emptyLine);
         for (String field : fields) {
-            System.out.printf("║    %-65s    ║%n", field);
+            Console.printf("║    %-65s    ║%n", field);
         }
-        System.out.println(emptyLine);
-        System.out.println(bottomLine);
+        Console.println(emptyLine);
+        Console.println(bottomLine);
     }
 
     private void displayPendingMessages() {
@@ -115,7 +119,7 @@ public class AgencyCreateScreen extends Screen {
                 return;
             }
         }
-        flowController.goBack();
+        goBack();
     }
 
     private void registerAgency() {
@@ -140,6 +144,6 @@ public class AgencyCreateScreen extends Screen {
     }
 
     private void cancelRegistration() {
-        flowController.goBack();
+        goBack();
     }
 }
@@ -2,19 +2,21 @@ package ui.screens.agency;
 
 import model.agency.Agency;
 import service.agency.AgencyService;
+import ui.utils.Borders;
+import ui.utils.Console;
 import ui.utils.Header;
 import ui.core.Screen;
 import ui.flow.FlowController;
+import ui.flow.Navigation;
 import ui.utils.Input;
 import ui.utils.Output;
+import ui.utils.PageNavigator;
 import ui.utils.ScreenUtils;
 
 import java.util.List;
 import java.util.Scanner;
-import java.util.stream.Collectors;
 
 public class AgencyListScreen extends Screen {
-    private static final int MAX_LINE_LENGTH = 65;
     private final Scanner scanner;
     private final AgencyService agencyService;
 
@@ -23,11 +25,10 @@ public class AgencyListScreen extends Screen {
     private Agency selectedAgency;
     private boolean agencySelected = false;
 
-    private int currentPage = 0;
     private static final int PAGE_SIZE = 2;
 
     private String searchQuery = "";
-    private List<Agency> filteredAgencies;
+    private PageNavigator<Agency> navigator;
 
     private String errorMessage = "";
 
@@ -40,14 +41,13 @@ public class AgencyListScreen extends Screen {
     }
 
     @Override
-    public void show() {
-        List<Agency> agencies = agencyService.findAllAgencies();
-        this.filteredAgencies = agencies;
+    public Navigation show() {
+        navigator = new PageNavigator<>(PAGE_SIZE, (cursor, limit) -> agencyService.findAgencyPage(null, cursor, limit));
 
         do {
             ScreenUtils.clearScreen();
 
-            listPaginatedAgencies(filteredAgencies, currentPage);
+            listPaginatedAgencies(navigator.getItems());
 
             Output.info("'X' para voltar");
 
@@ -57,11 +57,13 @@ public class AgencyListScreen extends Screen {
             displayPendingMessages();
             String input = Input.getAsString(scanner, promptMessage, true, false);
 
-            if (processInputCommands(input, agencies)) {
+            if (processInputCommands(input)) {
                 break;
             }
 
         } while (!agencySelected);
+
+        return takeNavigation();
     }
 
     private void displayPendingMessages() {
@@ -73,7 +75,7 @@ public class AgencyListScreen extends Screen {
         }
     }
 
-    private void listPaginatedAgencies(List<Agency> agencies, int page) {
+    private void listPaginatedAgencies(List<Agency> agencies) {
         if (isModal) {
             Header.show("Selecione uma agência para continuar...", null);
         } else {
@@ -81,7 +83,7 @@ public class AgencyListScreen extends Screen {
         }
 
         if (!searchQuery.isEmpty()) {
-            System.out.println("║  Filtro: " + searchQuery);
+            Console.println("║  Filtro: " + searchQuery);
         }
 
         if (agencies.isEmpty()) {
@@ -89,30 +91,26 @@ public class AgencyListScreen extends Screen {
             return;
         }
 
-        int totalPages = (int) Math.ceil((double) agencies.size() / PAGE_SIZE);
-        int start = page * PAGE_SIZE;
-        int end = Math.min(start + PAGE_SIZE, agencies.size());
-
-        String emptyLine = "║    " + " ".repeat(MAX_LINE_LENGTH) + "    ║";
-        String bottomLine = "╚════" + "═".repeat(MAX_LINE_LENGTH) + "════╝";
+        String emptyLine = Borders.EMPTY_LINE;
+        String bottomLine = Borders.BOTTOM_LINE;
 
-        System.out.println(emptyLine);
-        System.out.printf("║ %-3s │ %-23s │ %-23s │ %-13s ║%n", "Nº", "Nome", "Endereço", "Telefone");
-        System.out.println("╟─────┼─────────────────────────┼─────────────────────────┼───────────────╢");
+        Console.println(emptyLine);
+        Console.printf("║ %-3s │ %-23s │ %-23s │ %-13s ║%n", "Nº", "Nome", "Endereço", "Telefone");
+        Console.println("╟─────┼─────────────────────────┼─────────────────────────┼───────────────╢");
 
-        for (int i = start; i < end; i++) {
+        for (int i = 0; i < agencies.size(); i++) {
             Agency agency = agencies.get(i);
-            System.out.printf("║ %-3d │ %-23s │ %-23s │ %-13s ║%n",
-                    (i + 1),
+            Console.printf("║ %-3d │ %-23s │ %-23s │ %-13s ║%n",
+                    navigator.getFirstItemNumber() + i,
                     limitString(agency.getName(), 23),
                     limitString(agency.getAddress(), 23),
                     limitString(agency.getPhone(), 13));
         }
 
-        System.out.println(emptyLine);
-        System.out.println(bottomLine);
+        Console.println(emptyLine);
+        Console.println(bottomLine);
 
-        System.out.println("\nPágina " + (page + 1) + " de " + totalPages + "\n");
+        Console.println("\nPágina " + navigator.getPageNumber() + (navigator.hasNext() ? "" : " (última)") + "\n");
 
         Output.info("'F' para filtrar, 'L' para limpar filtro.");
         Output.info("'A' para avançar página, 'V' para voltar página");
@@ -125,47 +123,42 @@ public class AgencyListScreen extends Screen {
         return str;
     }
 
-    private boolean processInputCommands(String input, List<Agency> agencies) {
+    private boolean processInputCommands(String input) {
         switch (input.toLowerCase()) {
             case "v":
-                if (currentPage > 0) {
-                    currentPage--;
-                }
+                navigator.previous();
                 break;
             case "a":
-                if (currentPage < (int) Math.ceil((double) filteredAgencies.size() / PAGE_SIZE) - 1) {
-                    currentPage++;
-                }
+                navigator.next();
                 break;
             case "f":
-                if (filteredAgencies.isEmpty())
+                if (navigator.isEmpty())
                     break;
 
-                searchAgencies(agencies);
+                searchAgencies();
                 break;
             case "l":
                 if (!searchQuery.isEmpty()) {
                     searchQuery = "";
-                    filteredAgencies = agencies;
-                    currentPage = 0;
+                    navigator.reset((cursor, limit) -> agencyService.findAgencyPage(null, cursor, limit));
                 }
                 break;
             case "x":
-                back();
+                goBack();
                 return true;
             default:
                 if (isModal) {
                     try {
-                        int agencyIndex = Integer.parseInt(input) - 1;
-                        if (agencyIndex >= 0 && agencyIndex < filteredAgencies.size()) {
-                            selectAgency(filteredAgencies.get(agencyIndex));
+                        Agency agency = navigator.getByNumber(Integer.parseInt(input));
+                        if (agency != null) {
+                            selectAgency(agency);
                             agencySelected = true;
                             return true;
                         } else {
-                            System.out.println("Opção inválida.");
+                            Console.println("Opção inválida.");
                         }
                     } catch (NumberFormatException e) {
-                        System.out.println("Entrada inválida. Tente novamente.");
+                        Console.println("Entrada inválida. Tente novamente.");
                     }
                 }
                 return false;
@@ -173,20 +166,19 @@ public class AgencyListScreen extends Screen {
         return false;
     }
 
-    private void searchAgencies(List<Agency> agencies) {
+    private void searchAgencies() {
 
         searchQuery = Input.getAsString(scanner, "Filtrar por nome da agência: ", true, false);
         searchQuery = searchQuery.trim().toLowerCase();
 
-        filteredAgencies = agencies.stream()
-                .filter(agency -> agency.getName().toLowerCase().contains(searchQuery))
-                .collect(Collectors.toList());
-        currentPage = 0;
+        String query = searchQuery;
+        navigator.reset((cursor, limit) -> agencyService.findAgencyPage(
+                agency -> agency.getName().toLowerCase().contains(query), cursor, limit));
 
-        if (filteredAgencies.isEmpty()) {
+        if (navigator.isEmpty()) {
             errorMessage = "Nenhuma agência encontrada com o nome: " + searchQuery;
             searchQuery = "";
-            filteredAgencies = agencies;
+            navigator.reset((cursor, limit) -> agencyService.findAgencyPage(null, cursor, limit));
         }
     }
 
@@ -195,9 +187,6 @@ public class AgencyListScreen extends Screen {
         this.agencySelected = true;
     }
 
-    private void back() {
-        flowController.goBack();
-    }
 
     public Agency getSelectedAgency() {
         return selectedAgency;
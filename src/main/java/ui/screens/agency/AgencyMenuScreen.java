@@ -2,9 +2,12 @@ package ui.screens.agency;
 
 import exceptions.DataInputInterruptedException;
 import service.agency.AgencyService;
+import ui.utils.Borders;
+import ui.utils.Console;
 import ui.utils.Header;
 import ui.core.Screen;
 import ui.flow.FlowController;
+import ui.flow.Navigation;
 import ui.utils.Input;
 import ui.utils.Output;
 import ui.utils.Result;
@@ -13,7 +16,6 @@ import ui.utils.ScreenUtils;
 import java.util.Scanner;
 
 public class AgencyMenuScreen extends Screen {
-    private static final int MAX_LINE_LENGTH = 65; // Ajuste conforme necessário
     private final Scanner scanner;
     private final AgencyService agencyService;
 
@@ -26,7 +28,7 @@ public class AgencyMenuScreen extends Screen {
     }
 
     @Override
-    public void show() {
+    public Navigation show() {
         Result<Integer> option;
         do {
             ScreenUtils.clearScreen();
@@ -41,7 +43,9 @@ public class AgencyMenuScreen extends Screen {
             handleMenuOption(option.getValue());
 
             if (option.getValue() == 0) break;
-        } while (true);
+        } while (!isLeaving());
+
+        return takeNavigation();
     }
 
     private void displayMenuOptions() {
@@ -54,15 +58,15 @@ public class AgencyMenuScreen extends Screen {
                 "[ 0 ] - Voltar"
         };
 
-        String emptyLine = "║    " + " ".repeat(MAX_LINE_LENGTH) + "    ║";
-        String bottomLine = "╚════" + "═".repeat(MAX_LINE_LENGTH) + "════╝";
+        String emptyLine = Borders.EMPTY_LINE;
+        String bottomLine = Borders.BOTTOM_LINE;
 
-        System.out.println(emptyLine);
+        Console.println(emptyLine);
         for (String field : fields) {
-            System.out.printf("║    %-65s    ║%n", field);
+            Console.printf("║    %-65s    ║%n", field);
         }
-        System.out.println(emptyLine);
-        System.out.println(bottomLine);
+        Console.println(emptyLine);
+        Console.println(bottomLine);
     }
 
     private void displayPendingMessages() {
@@ -87,12 +91,9 @@ public class AgencyMenuScreen extends Screen {
             case 1 -> navigateTo(new AgencyCreateScreen(flowController, scanner, agencyService));
             case 2 -> navigateTo(new AgencyListScreen(flowController, scanner, agencyService, false));
             case 3 -> navigateTo(new AgencyUpdateScreen(flowController, scanner, agencyService));
-            case 0 -> flowController.goBack();
+            case 0 -> goBack();
             default -> errorMessage = "Opção inválida! Por favor, informe uma opção do menu...";
         }
     }
 
-    private void navigateTo(Screen screen) {
-        flowController.goTo(screen);
-    }
 }
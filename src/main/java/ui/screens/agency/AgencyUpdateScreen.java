@@ -3,9 +3,12 @@ package ui.screens.agency;
 import exceptions.DataInputInterruptedException;
 import model.agency.Agency;
 import service.agency.AgencyService;
+import ui.utils.Borders;
+import ui.utils.Console;
 import ui.utils.Header;
 import ui.core.Screen;
 import ui.flow.FlowController;
+import ui.flow.Navigation;
 import ui.utils.Input;
 import ui.utils.Output;
 import ui.utils.Result;
@@ -14,7 +17,6 @@ import ui.utils.ScreenUtils;
 import java.util.Scanner;
 
 public class AgencyUpdateScreen extends Screen {
-    private static final int MAX_LINE_LENGTH = 65;
     private final Scanner scanner;
     private final AgencyService agencyService;
     private Agency agencyToUpdate;
@@ -36,7 +38,7 @@ public class AgencyUpdateScreen extends Screen {
     }
 
     @Override
-    public void show() {
+    public Navigation show() {
         do {
             ScreenUtils.clearScreen();
             Header.show("Editar Agência", null);
@@ -56,7 +58,7 @@ public class AgencyUpdateScreen extends Screen {
 
                         AgencyListScreen agencyListScreen =
                                 new AgencyListScreen(flowController, scanner, agencyService, true);
-                        flowController.goTo(agencyListScreen);
+                        flowController.showModal(agencyListScreen);
 
                         agencyToUpdate = agencyListScreen.getSelectedAgency();
                         if (agencyToUpdate != null) {
@@ -64,15 +66,13 @@ public class AgencyUpdateScreen extends Screen {
                             address = agencyToUpdate.getAddress();
                             phone = agencyToUpdate.getPhone();
                         }
-
-                        flowController.goBack();
                     }
 
                     if (agencyToUpdate == null) {
                         Output.error("Você precisa selecionar uma agência válida!\n\n");
 
-                        System.out.println("1 - Tentar novamente");
-                        System.out.println("2 - Cancelar...");
+                        Console.println("1 - Tentar novamente");
+                        Console.println("2 - Cancelar...");
 
                         Result<Integer> option = getUserOption();
 
@@ -113,7 +113,9 @@ public class AgencyUpdateScreen extends Screen {
                 }
                 case 4 -> confirmUpdate();
             }
-        } while (true);
+        } while (!isLeaving());
+
+        return takeNavigation();
     }
 
     private Result<Integer> getUserOption() {
@@ -140,15 +142,15 @@ public class AgencyUpdateScreen extends Screen {
                 String.format("Telefone: %s", phone.isEmpty() ? "" : phone)
         };
 
-        String emptyLine = "║    " + " ".repeat(MAX_LINE_LENGTH) + "    ║";
-        String bottomLine = "╚════" + "═".repeat(MAX_LINE_LENGTH) + "════╝";
+        String emptyLine = Borders.EMPTY_LINE;
+        String bottomLine = Borders.BOTTOM_LINE;
 
-        System.out.println(emptyLine);
+        Console.println(emptyLine);
         for (String field : fields) {
-            System.out.printf("║    %-65s    ║%n", field);
+            Console.printf("║    %-65s    ║%n", field);
         }
-        System.out.println(emptyLine);
-        System.out.println(bottomLine);
+        Console.println(emptyLine);
+        Console.println(bottomLine);
     }
 
     private void confirmUpdate() {
@@ -173,7 +175,7 @@ public class AgencyUpdateScreen extends Screen {
             scanner.nextLine();
         }
         scanner.nextLine();
-        flowController.goBack();
+        goBack();
     }
 
     private void updateAgency() {
@@ -205,7 +207,7 @@ public class AgencyUpdateScreen extends Screen {
     }
 
     private void cancelUpdate() {
-        flowController.goBack();
+        goBack();
     }
 
 }
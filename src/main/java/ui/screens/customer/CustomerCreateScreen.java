@@ -3,9 +3,12 @@ package ui.screens.customer;
 import dto.CreateCustomerDTO;
 import enums.CustomerType;
 import service.customer.CustomerService;
+import ui.utils.Borders;
+import ui.utils.Console;
 import ui.utils.Header;
 import ui.core.Screen;
 import ui.flow.FlowController;
+import ui.flow.Navigation;
 import ui.utils.Input;
 import ui.utils.Output;
 import ui.utils.Result;
@@ -14,7 +17,6 @@ import ui.utils.ScreenUtils;
 import java.util.Scanner;
 
 public class CustomerCreateScreen extends Screen {
-    private static final int MAX_LINE_LENGTH = 65;
     private final Scanner scanner;
 
     private final CustomerService customerService;
@@ -34,7 +36,7 @@ public class CustomerCreateScreen extends Screen {
     }
 
     @Override
-    public void show() {
+    public Navigation show() {
         do {
             ScreenUtils.clearScreen();
 
@@ -47,15 +49,15 @@ public class CustomerCreateScreen extends Screen {
 
             switch (currentField) {
                 case 0 -> {
-                    String emptyLine = "║  " + " ".repeat(25) + "  ║";
-                    String bottomLine = "╚══" + "═".repeat(25) + "══╝";
+                    String emptyLine = Borders.boxEmptyLine(25);
+                    String bottomLine = Borders.boxBottomLine(25);
 
-                    System.out.println(emptyLine);
+                    Console.println(emptyLine);
                     for (CustomerType type : CustomerType.values()) {
-                        System.out.printf("║  [ %d ] - %-15s    ║%n", type.ordinal(), type.getDescription());
+                        Console.printf("║  [ %d ] - %-15s    ║%n", type.ordinal(), type.getDescription());
                     }
-                    System.out.println(emptyLine);
-                    System.out.println(bottomLine);
+                    Console.println(emptyLine);
+                    Console.println(bottomLine);
 
                     Result<Integer> inputType = Input.getAsInt(scanner, "Tipo: ", false);
                     if (inputType.isFailure()) {
@@ -102,7 +104,9 @@ public class CustomerCreateScreen extends Screen {
 
                 case 4 -> confirmRegistration();
             }
-        } while (true);
+        } while (!isLeaving());
+
+        return takeNavigation();
     }
 
     private void displayCustomerRegistration() {
@@ -116,15 +120,15 @@ public class CustomerCreateScreen extends Screen {
                 "Telefone: " + (phoneNumber.isEmpty() ? "" : phoneNumber)
         };
 
-        String emptyLine = "║    " + " ".repeat(MAX_LINE_LENGTH) + "    ║";
-        String bottomLine = "╚════" + "═".repeat(MAX_LINE_LENGTH) + "════╝";
+        String emptyLine = Borders.EMPTY_LINE;
+        String bottomLine = Borders.BOTTOM_LINE;
 
-        System.out.println(emptyLine);
+        Console.println(emptyLine);
         for(String field : fields) {
-            System.out.printf("║    %-65s    ║%n", field);
+            Console.printf("║    %-65s    ║%n", field);
         }
-        System.out.println(emptyLine);
-        System.out.println(bottomLine);
+        Console.println(emptyLine);
+        Console.println(bottomLine);
     }
 
     private void confirmRegistration() {
@@ -141,17 +145,17 @@ public class CustomerCreateScreen extends Screen {
                 customerService.createCustomer(createCustomerDTO);
             } catch (Exception e) {
                 Output.error(e.getMessage());
-                System.out.println("Cadastro cancelado.");
+                Console.println("Cadastro cancelado.");
                 scanner.nextLine();
                 return;
             }
 
-            System.out.println("Cadastro realizado com sucesso!");
+            Console.println("Cadastro realizado com sucesso!");
         } else {
-            System.out.println("Cadastro cancelado.");
+            Console.println("Cadastro cancelado.");
         }
         scanner.nextLine();
-        flowController.goBack();
+        goBack();
     }
 
     private boolean processInputCommands(String input) {
@@ -168,7 +172,7 @@ public class CustomerCreateScreen extends Screen {
     }
 
     private void cancelRegistration() {
-        flowController.goBack();
+        goBack();
     }
 
 }
@@ -1,20 +1,23 @@
 package ui.screens.customer;
 
 import model.customer.Customer;
+import repository.Page;
 import service.customer.CustomerService;
+import ui.utils.Borders;
+import ui.utils.Console;
 import ui.utils.Header;
 import ui.core.Screen;
 import ui.flow.FlowController;
+import ui.flow.Navigation;
 import ui.utils.Input;
 import ui.utils.Output;
+import ui.utils.PageNavigator;
 import ui.utils.ScreenUtils;
 
 import java.util.List;
 import java.util.Scanner;
-import java.util.stream.Collectors;
 
 public class CustomerListScreen extends Screen {
-    private static final int MAX_LINE_LENGTH = 65;
     private final Scanner scanner;
     private final CustomerService customerService;
     private final boolean isModal;
@@ -23,9 +26,9 @@ public class CustomerListScreen extends Screen {
 
     private String searchQuery = "";
 
-    private int currentPage = 0;
     private static final int PAGE_SIZE = 2;
-    private List<Customer> filteredCustomers;
+    private static final int MAX_SEARCH_RESULTS = 50;
+    private PageNavigator<Customer> navigator;
 
     public CustomerListScreen(
             FlowController flowController,
@@ -41,14 +44,13 @@ public class CustomerListScreen extends Screen {
     private boolean customerSelected = false;
 
     @Override
-    public void show() {
-        List<model.customer.Customer> customers = customerService.findAllCustomers();
-        this.filteredCustomers = customers;
+    public Navigation show() {
+        navigator = new PageNavigator<>(PAGE_SIZE, this::loadAllCustomers);
 
         do {
             ScreenUtils.clearScreen();
 
-            listPaginatedCustomers(filteredCustomers, currentPage);
+            listPaginatedCustomers(navigator.getItems());
 
             Output.info("'X' para voltar");
 
@@ -57,14 +59,16 @@ public class CustomerListScreen extends Screen {
 
             String input = Input.getAsString(scanner, promptMessage, true, false);
 
-            if (processInputCommands(input, customers)) {
+            if (processInputCommands(input)) {
                 break;
             }
 
         } while (!customerSelected);
+
+        return takeNavigation();
     }
 
-    private void listPaginatedCustomers(List<Customer> customers, int page) {
+    private void listPaginatedCustomers(List<Customer> customers) {
         if (isModal) {
             Header.show("Selecione um cliente para continuar...", null);
         } else {
@@ -72,7 +76,7 @@ public class CustomerListScreen extends Screen {
         }
 
         if (!searchQuery.isEmpty()) {
-            System.out.println("║  Filtro: " + searchQuery);
+            Console.println("║  Filtro: " + searchQuery);
         }
 
         if (customers.isEmpty()) {
@@ -80,30 +84,26 @@ public class CustomerListScreen extends Screen {
             return;
         }
 
-        int totalPages = (int) Math.ceil((double) customers.size() / PAGE_SIZE);
-        int start = page * PAGE_SIZE;
-        int end = Math.min(start + PAGE_SIZE, customers.size());
-
-        String emptyLine = "║    " + " ".repeat(MAX_LINE_LENGTH) + "    ║";
-        String bottomLine = "╚════" + "═".repeat(MAX_LINE_LENGTH) + "════╝";
+        String emptyLine = Borders.EMPTY_LINE;
+        String bottomLine = Borders.BOTTOM_LINE;
 
-        System.out.println(emptyLine);
-        System.out.printf("║ %-3s │ %-23s │ %-23s │ %-13s ║%n", "Nº", "Nome", "Documento", "Telefone");
-        System.out.println("╟─────┼─────────────────────────┼─────────────────────────┼───────────────╢");
+        Console.println(emptyLine);
+        Console.printf("║ %-3s │ %-23s │ %-23s │ %-13s ║%n", "Nº", "Nome", "Documento", "Telefone");
+        Console.println("╟─────┼─────────────────────────┼─────────────────────────┼───────────────╢");
 
-        for (int i = start; i < end; i++) {
+        for (int i = 0; i < customers.size(); i++) {
             Customer customer = customers.get(i);
-            System.out.printf("║ %-3d │ %-23s │ %-23s │ %-13s ║%n",
-                    (i + 1),
+            Console.printf("║ %-3d │ %-23s │ %-23s │ %-13s ║%n",
+                    navigator.getFirstItemNumber() + i,
                     limitString(customer.getName(), 23),
                     limitString(customer.getDocumentId(), 23),
                     limitString(customer.getPhoneNumber(), 13));
         }
 
-        System.out.println(emptyLine);
-        System.out.println(bottomLine);
+        Console.println(emptyLine);
+        Console.println(bottomLine);
 
-        System.out.println("\nPágina " + (page + 1) + " de " + totalPages + "\n");
+        Console.println("\nPágina " + navigator.getPageNumber() + (navigator.hasNext() ? "" : " (última)") + "\n");
 
         Output.info("'F' para filtrar, 'L' para limpar filtro.");
         Output.info("'A' para avançar página, 'V' para voltar página");
@@ -116,47 +116,42 @@ public class CustomerListScreen extends Screen {
         return str;
     }
 
-    private boolean processInputCommands(String input, List<Customer> customers) {
+    private boolean processInputCommands(String input) {
         switch (input.toLowerCase()) {
             case "v":
-                if (currentPage > 0) {
-                    currentPage--;
-                }
+                navigator.previous();
                 break;
             case "a":
-                if (currentPage < (int) Math.ceil((double) filteredCustomers.size() / PAGE_SIZE) - 1) {
-                    currentPage++;
-                }
+                navigator.next();
                 break;
             case "f":
-                if (filteredCustomers.isEmpty())
+                if (navigator.isEmpty())
                     break;
 
-                searchCustomers(customers);
+                searchCustomers();
                 break;
             case "l":
                 if (!searchQuery.isEmpty()) {
                     searchQuery = "";
-                    filteredCustomers = customers;
-                    currentPage = 0;
+                    navigator.reset(this::loadAllCustomers);
                 }
                 break;
             case "x":
-                back();
+                goBack();
                 return true;
             default:
                 if (isModal) {
                     try {
-                        int customerIndex = Integer.parseInt(input) - 1;
-                        if (customerIndex >= 0 && customerIndex < filteredCustomers.size()) {
-                            selectCustomer(filteredCustomers.get(customerIndex));
+                        Customer customer = navigator.getByNumber(Integer.parseInt(input));
+                        if (customer != null) {
+                            selectCustomer(customer);
                             customerSelected = true;
                             return true;
                         } else {
-                            System.out.println("Opção inválida.");
+                            Console.println("Opção inválida.");
                         }
                     } catch (NumberFormatException e) {
-                        System.out.println("Entrada inválida. Tente novamente.");
+                        Console.println("Entrada inválida. Tente novamente.");
                     }
                 }
                 return false;
@@ -164,22 +159,30 @@ public class CustomerListScreen extends Screen {
         return false;
     }
 
-    private void searchCustomers(List<Customer> customers) {
+    private Page<Customer> loadAllCustomers(String cursor, int limit) {
+        return customerService.findCustomerPage(null, cursor, limit);
+    }
+
+    private void searchCustomers() {
         searchQuery = Input.getAsString(scanner, "Filtrar por nome de cliente: ", true, false);
 
-        filteredCustomers = customers.stream()
-                .filter(agency -> agency.getName().toLowerCase().contains(searchQuery))
-                .collect(Collectors.toList());
+        String query = searchQuery;
+        navigator.reset((cursor, limit) -> customerService.findCustomerPage(
+                customer -> customer.getName().toLowerCase().contains(query.toLowerCase()), cursor, limit));
 
-        currentPage = 0;
+        // Sem resultado exato, tenta a busca tolerante a erros de digitação
+        if (navigator.isEmpty() && !searchQuery.isBlank()) {
+            List<Customer> ranked = customerService.searchCustomers(searchQuery, 0, MAX_SEARCH_RESULTS);
+            navigator.reset((cursor, limit) -> Page.of(ranked, null, cursor, limit));
+        }
 
-        if (filteredCustomers.isEmpty()) {
-            System.out.println("Nenhum cliente encontrado com o nome: " + searchQuery);
+        if (navigator.isEmpty()) {
+            Console.println("Nenhum cliente encontrado com o nome: " + searchQuery);
             searchQuery = "";
-            filteredCustomers = customers;
+            navigator.reset(this::loadAllCustomers);
         }
 
-        System.out.println("Pressione Enter para continuar.");
+        Console.println("Pressione Enter para continuar.");
         scanner.nextLine();
     }
 
@@ -188,9 +191,6 @@ public class CustomerListScreen extends Screen {
         this.customerSelected = true;
     }
 
-    private void back() {
-        flowController.goBack();
-    }
 
     public Customer getSelectedCustomer() {
         return selectedCustomer;
@@ -2,9 +2,12 @@ package ui.screens.customer;
 
 import exceptions.DataInputInterruptedException;
 import service.customer.CustomerService;
+import ui.utils.Borders;
+import ui.utils.Console;
 import ui.utils.Header;
 import ui.core.Screen;
 import ui.flow.FlowController;
+import ui.flow.Navigation;
 import ui.utils.Input;
 import ui.utils.Output;
 import ui.utils.Result;
@@ -13,7 +16,6 @@ import ui.utils.ScreenUtils;
 import java.util.Scanner;
 
 public class CustomerMenuScreen extends Screen {
-    private static final int MAX_LINE_LENGTH = 65;
     private final Scanner scanner;
 
     private final CustomerService customerService;
@@ -28,7 +30,7 @@ public class CustomerMenuScreen extends Screen {
     }
 
     @Override
-    public void show() {
+    public Navigation show() {
         Result<Integer> option;
         do {
             ScreenUtils.clearScreen();
@@ -44,7 +46,9 @@ public class CustomerMenuScreen extends Screen {
             handleMenuOption(option.getValue());
 
             if (option.getValue() == 0) break;
-        } while (true);
+        } while (!isLeaving());
+
+        return takeNavigation();
     }
 
     private void handleMenuOption(int option) {
@@ -55,7 +59,7 @@ public class CustomerMenuScreen extends Screen {
 
             case 3 -> navigateTo(new CustomerUpdateScreen(flowController, scanner, customerService));
 
-            case 0 -> flowController.goBack();
+            case 0 -> goBack();
 
             default -> errorMessage = "Opção inválida! Por favor, informe uma opção do menu...";
 
@@ -87,19 +91,16 @@ public class CustomerMenuScreen extends Screen {
                 "[ 0 ] - Voltar"
         };
 
-        String emptyLine = "║    " + " ".repeat(MAX_LINE_LENGTH) + "    ║";
-        String bottomLine = "╚════" + "═".repeat(MAX_LINE_LENGTH) + "════╝";
+        String emptyLine = Borders.EMPTY_LINE;
+        String bottomLine = Borders.BOTTOM_LINE;
 
-        System.out.println(emptyLine);
+        Console.println(emptyLine);
         for (String field : fields) {
-            System.out.printf("║    %-65s    ║%n", field);
+            Console.printf("║    %-65s    ║%n", field);
         }
-        System.out.println(emptyLine);
-        System.out.println(bottomLine);
+        Console.println(emptyLine);
+        Console.println(bottomLine);
     }
 
-    private void navigateTo(Screen screen) {
-        flowController.goTo(screen);
-    }
 
 }
@@ -3,9 +3,12 @@ package ui.screens.customer;
 import enums.CustomerType;
 import model.customer.Customer;
 import service.customer.CustomerService;
+import ui.utils.Borders;
+import ui.utils.Console;
 import ui.utils.Header;
 import ui.core.Screen;
 import ui.flow.FlowController;
+import ui.flow.Navigation;
 import ui.utils.Input;
 import ui.utils.Output;
 import ui.utils.Result;
@@ -14,7 +17,6 @@ import ui.utils.ScreenUtils;
 import java.util.Scanner;
 
 public class CustomerUpdateScreen extends Screen {
-    private static final int MAX_LINE_LENGTH = 65;
     private final Scanner scanner;
     private final CustomerService customerService;
     private Customer customerToUpdate;
@@ -35,7 +37,7 @@ public class CustomerUpdateScreen extends Screen {
     }
 
     @Override
-    public void show() {
+    public Navigation show() {
         do {
             ScreenUtils.clearScreen();
 
@@ -51,7 +53,7 @@ public class CustomerUpdateScreen extends Screen {
                         isSelectionListCalled = true;
 
                         CustomerListScreen customerListScreen = new CustomerListScreen(flowController, scanner, customerService, true);
-                        flowController.goTo(customerListScreen);
+                        flowController.showModal(customerListScreen);
 
                         customerToUpdate = customerListScreen.getSelectedCustomer();
                         if (customerToUpdate != null) {
@@ -59,15 +61,13 @@ public class CustomerUpdateScreen extends Screen {
                             phone = customerToUpdate.getPhoneNumber();
                             document = customerToUpdate.getDocumentId();
                         }
-
-                        flowController.goBack();
                     }
 
                     if (customerToUpdate == null) {
                         Output.error("Você precisa selecionar um válido!");
 
-                        System.out.println("1 - Tentar novamente");
-                        System.out.println("2 - Cancelar o cadastro");
+                        Console.println("1 - Tentar novamente");
+                        Console.println("2 - Cancelar o cadastro");
 
                         Result<Integer> option = Input.getAsInt(scanner, "Escolha uma opção: ", false);
                         switch (option.getValue()) {
@@ -103,7 +103,9 @@ public class CustomerUpdateScreen extends Screen {
                 }
                 case 4 -> confirmUpdate();
             }
-        } while (true);
+        } while (!isLeaving());
+
+        return takeNavigation();
     }
 
     private void displayCustomerUpdateForm() {
@@ -119,15 +121,15 @@ public class CustomerUpdateScreen extends Screen {
         };
 
 
-        String emptyLine = "║    " + " ".repeat(MAX_LINE_LENGTH) + "    ║";
-        String bottomLine = "╚════" + "═".repeat(MAX_LINE_LENGTH) + "════╝";
+        String emptyLine = Borders.EMPTY_LINE;
+        String bottomLine = Borders.BOTTOM_LINE;
 
-        System.out.println(emptyLine);
+        Console.println(emptyLine);
         for (String field : fields) {
-            System.out.printf("║    %-65s    ║%n", field);
+            Console.printf("║    %-65s    ║%n", field);
         }
-        System.out.println(emptyLine);
-        System.out.println(bottomLine);
+        Console.println(emptyLine);
+        Console.println(bottomLine);
     }
 
     private void confirmUpdate() {
@@ -141,7 +143,7 @@ public class CustomerUpdateScreen extends Screen {
                 customerService.updateCustomer(customerToUpdate);
             } catch (Exception e) {
                 Output.error(e.getMessage());
-                System.out.println("... cancelado.");
+                Console.println("... cancelado.");
                 scanner.nextLine();
                 return;
             }
@@ -152,7 +154,7 @@ public class CustomerUpdateScreen extends Screen {
             Output.info("Edição cancelada.");
         }
         scanner.nextLine();
-        flowController.goBack();
+        goBack();
     }
 
     private boolean processInputCommands(String input) {
@@ -169,7 +171,7 @@ public class CustomerUpdateScreen extends Screen {
     }
 
     private void cancelUpdate() {
-        flowController.goBack();
+        goBack();
     }
 
 }
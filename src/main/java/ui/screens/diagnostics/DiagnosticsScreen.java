@@ -0,0 +1,97 @@
+package ui.screens.diagnostics;
+
+import metrics.CacheMetrics;
+import metrics.CacheStats;
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
+import metrics.Timer;
+import ui.core.Screen;
+import ui.flow.FlowController;
+import ui.flow.Navigation;
+import ui.utils.Borders;
+import ui.utils.Console;
+import ui.utils.Header;
+import ui.utils.Input;
+import ui.utils.Output;
+import ui.utils.ScreenUtils;
+
+import java.util.Map;
+import java.util.Scanner;
+
+public class DiagnosticsScreen extends Screen {
+    private final Scanner scanner;
+    private final MetricsRegistry metrics = MetricsRegistry.getInstance();
+
+    public DiagnosticsScreen(FlowController flowController, Scanner scanner) {
+        super(flowController);
+        this.scanner = scanner;
+    }
+
+    @Override
+    public Navigation show() {
+        do {
+            ScreenUtils.clearScreen();
+            Header.show("Diagnóstico", null);
+            showTimers();
+            showCaches();
+
+            Output.info("Enter para atualizar, 'Z' para zerar as métricas, 'X' para voltar");
+            String input = Input.getAsString(scanner, "Opção: ", true, false);
+
+            if (input.equalsIgnoreCase("x")) {
+                goBack();
+            } else if (input.equalsIgnoreCase("z")) {
+                metrics.reset();
+            }
+        } while (!isLeaving());
+
+        return takeNavigation();
+    }
+
+    private void showTimers() {
+        Console.println(Borders.EMPTY_LINE);
+        Console.printf("║ %-32s │ %7s │ %5s │ %7s │ %8s ║%n", "Operação", "Chamad.", "Erros", "p50 µs", "p99 µs");
+        Console.println("╟──────────────────────────────────┼─────────┼───────┼─────────┼──────────╢");
+
+        boolean empty = true;
+        for (Timer timer : metrics.getTimers()) {
+            LatencyHistogram.Snapshot snapshot = timer.snapshot();
+            if (snapshot.count() == 0) continue;
+
+            empty = false;
+            Console.printf("║ %-32s │ %7d │ %5d │ %7.1f │ %8.1f ║%n", limitString(timer.getName(), 32),
+                    snapshot.count(), timer.getErrors(), snapshot.percentile(50) / 1000.0,
+                    snapshot.percentile(99) / 1000.0);
+        }
+        if (empty) {
+            Console.printf("║ %-71s ║%n", "Nenhuma operação registrada ainda.");
+        }
+
+        Console.println(Borders.EMPTY_LINE);
+        Console.println(Borders.BOTTOM_LINE);
+    }
+
+    private void showCaches() {
+        Map<String, CacheMetrics> caches = metrics.getCaches();
+        if (caches.isEmpty()) return;
+
+        Console.println(Borders.EMPTY_LINE);
+        Console.printf("║ %-15s │ %-9s │ %9s │ %9s │ %8s │ %6s ║%n",
+                "Cache", "Política", "Acertos", "Faltas", "Despejos", "Acerto");
+        Console.println("╟─────────────────┼───────────┼───────────┼───────────┼──────────┼────────╢");
+        caches.forEach((name, cache) -> {
+            CacheStats stats = cache.stats();
+            Console.printf("║ %-15s │ %-9s │ %9d │ %9d │ %8d │ %5.1f%% ║%n", limitString(name, 15), cache.getPolicy(),
+                    stats.hits(), stats.misses(), stats.evictions(), stats.hitRate() * 100);
+        });
+        Console.println(Borders.EMPTY_LINE);
+        Console.println(Borders.BOTTOM_LINE);
+    }
+
+    private String limitString(String str, int maxLength) {
+        if (str.length() > maxLength) {
+            return str.substring(0, maxLength - 3) + "...";
+        }
+        return str;
+    }
+}
@@ -2,11 +2,15 @@ package ui.screens.rental;
 
 import model.rental.Rental;
 import service.rental.RentalService;
+import ui.utils.Borders;
+import ui.utils.Console;
 import ui.utils.Header;
 import ui.core.Screen;
 import ui.flow.FlowController;
+import ui.flow.Navigation;
 import ui.utils.Input;
 import ui.utils.Output;
+import ui.utils.PageNavigator;
 import ui.utils.ScreenUtils;
 
 import java.time.format.DateTimeFormatter;
@@ -14,16 +18,14 @@ import java.util.List;
 import java.util.Scanner;
 
 public class OpenRentalListScreen extends Screen {
-    private static final int MAX_LINE_LENGTH = 65;
     private final Scanner scanner;
     private final RentalService rentalService;
     private final boolean isModal;
 
     private Rental selectedRental;
 
-    private int currentPage = 0;
     private static final int PAGE_SIZE = 2;
-    private List<Rental> filteredRentals;
+    private PageNavigator<Rental> navigator;
 
     public OpenRentalListScreen(FlowController flowController, Scanner scanner, RentalService rentalService, boolean isModal) {
         super(flowController);
@@ -35,14 +37,14 @@ public class OpenRentalListScreen extends Screen {
     private boolean rentalSelected = false;
 
     @Override
-    public void show() {
-        List<Rental> rentals = rentalService.findOpenRentals();
-        this.filteredRentals = rentals;
+    public Navigation show() {
+        navigator = new PageNavigator<>(PAGE_SIZE,
+                (cursor, limit) -> rentalService.findRentalPage(rental -> rental.getActualReturnDate() == null, cursor, limit));
 
         do {
             ScreenUtils.clearScreen();
 
-            listPaginatedRentals(filteredRentals, currentPage);
+            listPaginatedRentals(navigator.getItems());
 
             Output.info("'X' para voltar");
 
@@ -51,18 +53,17 @@ public class OpenRentalListScreen extends Screen {
 
             String input = Input.getAsString(scanner, promptMessage, true, false);
 
-            if (processInputCommands(input, rentals)) {
+            if (processInputCommands(input)) {
                 break;
             }
 
         } while (!rentalSelected);
+
+        return takeNavigation();
     }
 
-    private void listPaginatedRentals(List<Rental> rentals, int page) {
+    private void listPaginatedRentals(List<Rental> rentals) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
-        int totalPages = (int) Math.ceil((double) rentals.size() / PAGE_SIZE);
-        int start = page * PAGE_SIZE;
-        int end = Math.min(start + PAGE_SIZE, rentals.size());
 
         if (isModal) {
             Header.show("Selecione uma locação para continuar...", null);
@@ -75,26 +76,26 @@ public class OpenRentalListScreen extends Screen {
             return;
         }
 
-        String emptyLine = "║    " + " ".repeat(MAX_LINE_LENGTH) + "    ║";
-        String bottomLine = "╚════" + "═".repeat(MAX_LINE_LENGTH) + "════╝";
+        String emptyLine = Borders.EMPTY_LINE;
+        String bottomLine = Borders.BOTTOM_LINE;
 
-        System.out.println(emptyLine);
-        System.out.printf("║ %-3s │ %-27s │ %-16s │ %-16s ║%n", "Nº", "Cliente", "Data Início", "Data Estimada");
-        System.out.println("╟─────┼─────────────────────────────┼──────────────────┼──────────────────╢");
+        Console.println(emptyLine);
+        Console.printf("║ %-3s │ %-27s │ %-16s │ %-16s ║%n", "Nº", "Cliente", "Data Início", "Data Estimada");
+        Console.println("╟─────┼─────────────────────────────┼──────────────────┼──────────────────╢");
 
-        for (int i = start; i < end; i++) {
+        for (int i = 0; i < rentals.size(); i++) {
             Rental rental = rentals.get(i);
-            System.out.printf("║ %-3d │ %-27s │ %-16s │ %-16s ║%n",
-                    (i + 1),
+            Console.printf("║ %-3d │ %-27s │ %-16s │ %-16s ║%n",
+                    navigator.getFirstItemNumber() + i,
                     limitString(rental.getCustomer().getName(), 27),
                     limitString(rental.getPickUpDate().format(formatter), 16),
                     limitString(rental.getEstimatedReturnDate().format(formatter), 16));
         }
 
-        System.out.println(emptyLine);
-        System.out.println(bottomLine);
+        Console.println(emptyLine);
+        Console.println(bottomLine);
 
-        System.out.println("\nPágina " + (page + 1) + " de " + totalPages + "\n");
+        Console.println("\nPágina " + navigator.getPageNumber() + (navigator.hasNext() ? "" : " (última)") + "\n");
 
         Output.info("'A' para avançar página, 'V' para voltar página");
 
@@ -107,36 +108,32 @@ public class OpenRentalListScreen extends Screen {
         return str;
     }
 
-    private boolean processInputCommands(String input, List<Rental> rentals) {
+    private boolean processInputCommands(String input) {
         switch (input.toLowerCase()) {
             case "v":
-                if (currentPage > 0) {
-                    currentPage--;
-                }
+                navigator.previous();
                 break;
 
             case "a":
-                if (currentPage < (int) Math.ceil((double) filteredRentals.size() / PAGE_SIZE) - 1) {
-                    currentPage++;
-                }
+                navigator.next();
                 break;
 
             case "x":
-                back();
+                goBack();
                 return true;
 
             default:
                 try {
-                    int vehicleIndex = Integer.parseInt(input) - 1;
-                    if (vehicleIndex >= 0 && vehicleIndex < filteredRentals.size()) {
-                        selectRental(filteredRentals.get(vehicleIndex));
+                    Rental rental = navigator.getByNumber(Integer.parseInt(input));
+                    if (rental != null) {
+                        selectRental(rental);
                         rentalSelected = true;
                         return true;
                     } else {
-                        System.out.println("Opção inválida.");
+                        Console.println("Opção inválida.");
                     }
                 } catch (NumberFormatException e) {
-                    System.out.println("Entrada inválida. Tente novamente.");
+                    Console.println("Entrada inválida. Tente novamente.");
                 }
                 break;
         }
@@ -148,9 +145,6 @@ public class OpenRentalListScreen extends Screen {
         this.rentalSelected = true;
     }
 
-    private void back() {
-        flowController.goBack();
-    }
 
     public Rental getSelectedRental() {
         return selectedRental;
@@ -4,9 +4,12 @@ import model.agency.Agency;
 import model.rental.Rental;
 import service.agency.AgencyService;
 import service.rental.RentalService;
+import ui.utils.Borders;
+import ui.utils.Console;
 import ui.utils.Header;
 import ui.core.Screen;
 import ui.flow.FlowController;
+import ui.flow.Navigation;
 import ui.screens.agency.AgencyListScreen;
 import ui.utils.Input;
 import ui.utils.Output;
@@ -18,7 +21,6 @@ import java.time.format.DateTimeFormatter;
 import java.util.Scanner;
 
 public class RentalCloseScreen extends Screen {
-    private static final int MAX_LINE_LENGTH = 65;
     private final Scanner scanner;
 
     private final AgencyService agencyService;
@@ -49,7 +51,7 @@ public class RentalCloseScreen extends Screen {
     }
 
     @Override
-    public void show() {
+    public Navigation show() {
         do {
             ScreenUtils.clearScreen();
 
@@ -71,11 +73,9 @@ public class RentalCloseScreen extends Screen {
                         isRentalSelectionListCalled = true;
 
                         OpenRentalListScreen openRentalListScreen = new OpenRentalListScreen(flowController, scanner, rentalService, true);
-                        flowController.goTo(openRentalListScreen);
+                        flowController.showModal(openRentalListScreen);
 
                         rentalToClose = openRentalListScreen.getSelectedRental();
-
-                        flowController.goBack();
                     }
 
                     if (rentalToClose == null) {
@@ -91,11 +91,9 @@ public class RentalCloseScreen extends Screen {
                         isAgencySelectionListCalled = true;
 
                         AgencyListScreen agencyListScreen = new AgencyListScreen(flowController, scanner, agencyService, true);
-                        flowController.goTo(agencyListScreen);
+                        flowController.showModal(agencyListScreen);
 
                         returnAgency = agencyListScreen.getSelectedAgency();
-
-                        flowController.goBack();
                     }
 
                     if (returnAgency == null) {
@@ -124,7 +122,9 @@ public class RentalCloseScreen extends Screen {
 
                 case 3 -> confirmClose();
             }
-        } while (true);
+        } while (!isLeaving());
+
+        return takeNavigation();
     }
 
     private void displayPendingMessages() {
@@ -148,16 +148,16 @@ public class RentalCloseScreen extends Screen {
                 "Data de Retorno: " + (returnDate != null ? returnDate.format(formatter) : ""),
         };
 
-        String emptyLine = "║    " + " ".repeat(MAX_LINE_LENGTH) + "    ║";
-        String bottomLine = "╚════" + "═".repeat(MAX_LINE_LENGTH) + "════╝";
+        String emptyLine = Borders.EMPTY_LINE;
+        String bottomLine = Borders.BOTTOM_LINE;
 
-        System.out.println(emptyLine);
+        Console.println(emptyLine);
 
         for (String field : fields) {
-            System.out.printf("║    %-65s    ║%n", field);
+            Console.printf("║    %-65s    ║%n", field);
         }
-        System.out.println(emptyLine);
-        System.out.println(bottomLine);
+        Console.println(emptyLine);
+        Console.println(bottomLine);
     }
 
     private void confirmClose() {
@@ -176,10 +176,10 @@ public class RentalCloseScreen extends Screen {
 
             showReceipt(rentalToClose);
         } else {
-            System.out.println("Cancelada.");
+            Console.println("Cancelada.");
         }
         scanner.nextLine();
-        flowController.goBack();
+        goBack();
     }
 
     private void closeRental() {
@@ -187,7 +187,7 @@ public class RentalCloseScreen extends Screen {
     }
 
     private void showReceipt(Rental rental) {
-        System.out.println(rental.generateReturnReceipt());
+        Console.println(rental.generateReturnReceipt());
     }
 
     private void handleError(String message) {
@@ -209,7 +209,7 @@ public class RentalCloseScreen extends Screen {
     }
 
     private void cancelRegistration() {
-        flowController.goBack();
+        goBack();
     }
 
     private void handleFieldSelectionError() {
@@ -219,15 +219,15 @@ public class RentalCloseScreen extends Screen {
                 "  [ 3 ] - Cancelar"
         };
 
-        String emptyLine = "║  " + " ".repeat(40) + "  ║";
-        String bottomLine = "╚══" + "═".repeat(40) + "══╝";
+        String emptyLine = Borders.boxEmptyLine(40);
+        String bottomLine = Borders.boxBottomLine(40);
 
-        System.out.println(emptyLine);
+        Console.println(emptyLine);
         for (String option : options) {
-            System.out.printf("║  %-40s  ║%n", option);
+            Console.printf("║  %-40s  ║%n", option);
         }
-        System.out.println(emptyLine);
-        System.out.println(bottomLine);
+        Console.println(emptyLine);
+        Console.println(bottomLine);
 
         Result<Integer> option = Input.getAsInt(scanner, "Escolha uma opção: ", false);
         switch (option.getValue()) {
@@ -1,22 +1,29 @@
 package ui.screens.rental;
 
 import dto.CreateRentalDTO;
+import dto.CreateReservationDTO;
 import enums.CustomerType;
 import model.agency.Agency;
 import model.customer.Customer;
 import model.rental.Rental;
+import model.reservation.Reservation;
 import model.vehicle.Vehicle;
 import service.agency.AgencyService;
 import service.customer.CustomerService;
 import service.rental.RentalService;
+import service.reservation.ReservationService;
 import service.vehicle.VehicleService;
+import ui.utils.Borders;
+import ui.utils.Console;
 import ui.utils.Header;
 import ui.core.Screen;
 import ui.flow.FlowController;
+import ui.flow.Navigation;
 import ui.screens.agency.AgencyListScreen;
 import ui.screens.customer.CustomerListScreen;
 import ui.screens.vehicle.VehicleListScreen;
 import ui.utils.Input;
+import ui.utils.InputUtils;
 import ui.utils.Output;
 import ui.utils.Result;
 import ui.utils.ScreenUtils;
@@ -29,13 +36,13 @@ import java.time.format.DateTimeFormatter;
 import java.util.Scanner;
 
 public class RentalCreateScreen extends Screen {
-    private static final int MAX_LINE_LENGTH = 65;
     private final Scanner scanner;
 
     private final AgencyService agencyService;
     private final VehicleService vehicleService;
     private final CustomerService customerService;
     private final RentalService rentalService;
+    private final ReservationService reservationService;
 
     private Agency selectedAgency;
     private Customer selectedCustomer;
@@ -58,17 +65,19 @@ public class RentalCreateScreen extends Screen {
     public RentalCreateScreen(FlowController flowController,
                               Scanner scanner, AgencyService agencyService,
                               VehicleService vehicleService,
-                              CustomerService customerService, RentalService rentalService) {
+                              CustomerService customerService, RentalService rentalService,
+                              ReservationService reservationService) {
         super(flowController);
         this.scanner = scanner;
         this.agencyService = agencyService;
         this.vehicleService = vehicleService;
         this.customerService = customerService;
         this.rentalService = rentalService;
+        this.reservationService = reservationService;
     }
 
     @Override
-    public void show() {
+    public Navigation show() {
         do {
             ScreenUtils.clearScreen();
 
@@ -84,11 +93,9 @@ public class RentalCreateScreen extends Screen {
                         isAgencySelectionListCalled = true;
 
                         AgencyListScreen agencyListScreen = new AgencyListScreen(flowController, scanner, agencyService, true);
-                        flowController.goTo(agencyListScreen);
+                        flowController.showModal(agencyListScreen);
 
                         selectedAgency = agencyListScreen.getSelectedAgency();
-
-                        flowController.goBack();
                     }
 
                     if (selectedAgency == null) {
@@ -104,11 +111,9 @@ public class RentalCreateScreen extends Screen {
                         isVehicleSelectionListCalled = true;
 
                         VehicleListScreen vehicleListScreen = new VehicleListScreen(flowController, scanner, vehicleService, true, selectedAgency.getId());
-                        flowController.goTo(vehicleListScreen);
+                        flowController.showModal(vehicleListScreen);
 
                         selectedVehicle = vehicleListScreen.getSelectedVehicle();
-
-                        flowController.goBack();
                     }
 
                     if (selectedVehicle == null) {
@@ -125,11 +130,9 @@ public class RentalCreateScreen extends Screen {
                         isCustomerSelectionListCalled = true;
 
                         CustomerListScreen customerListScreen = new CustomerListScreen(flowController, scanner, customerService, true);
-                        flowController.goTo(customerListScreen);
+                        flowController.showModal(customerListScreen);
 
                         selectedCustomer = customerListScreen.getSelectedCustomer();
-
-                        flowController.goBack();
                     }
 
                     if (selectedVehicle == null) {
@@ -141,7 +144,22 @@ public class RentalCreateScreen extends Screen {
                     currentField = 3;
                 }
                 case 3 -> {
-                    startDate = LocalDateTime.now();
+                    startDate = null;
+
+                    // Data futura gera uma reserva; vazio retira o veículo agora
+                    while (startDate == null) {
+                        String startInput = Input.getAsString(scanner, "Data de retirada (dd/MM/yyyy HH:mm, vazio para agora): ", true, false);
+                        if (startInput.isEmpty()) {
+                            startDate = LocalDateTime.now();
+                            break;
+                        }
+                        Result<LocalDateTime> startResult = InputUtils.parseDateTime(startInput);
+                        if (startResult.isFailure()) {
+                            Output.error(startResult.getErrorMessage());
+                            continue;
+                        }
+                        startDate = startResult.getValue();
+                    }
 
                     estimatedEndDate = null;
 
@@ -166,7 +184,9 @@ public class RentalCreateScreen extends Screen {
 
                 case 5 -> confirmRegistration();
             }
-        } while (true);
+        } while (!isLeaving());
+
+        return takeNavigation();
     }
 
     private void displayRentalRegistration() {
@@ -181,15 +201,15 @@ public class RentalCreateScreen extends Screen {
                         : "")
         };
 
-        String emptyLine = "║    " + " ".repeat(MAX_LINE_LENGTH) + "    ║";
-        String bottomLine = "╚════" + "═".repeat(MAX_LINE_LENGTH) + "════╝";
+        String emptyLine = Borders.EMPTY_LINE;
+        String bottomLine = Borders.BOTTOM_LINE;
 
-        System.out.println(emptyLine);
+        Console.println(emptyLine);
         for (String field : fields) {
-            System.out.printf("║    %-65s    ║%n", field);
+            Console.printf("║    %-65s    ║%n", field);
         }
-        System.out.println(emptyLine);
-        System.out.println(bottomLine);
+        Console.println(emptyLine);
+        Console.println(bottomLine);
     }
 
     private void confirmRegistration() {
@@ -199,18 +219,26 @@ public class RentalCreateScreen extends Screen {
         if (input.equalsIgnoreCase("s")) {
             // Chamar o serviço de cadastro
 
-            CreateRentalDTO createRentalDTO = new CreateRentalDTO(
-                    selectedCustomer, selectedVehicle, selectedAgency, startDate, estimatedEndDate
-            );
-
             try {
-                Rental createdRental = rentalService.createRental(createRentalDTO);
+                if (startDate.isAfter(LocalDateTime.now())) {
+                    Reservation createdReservation = reservationService.createReservation(new CreateReservationDTO(
+                            selectedCustomer, selectedVehicle, selectedAgency, startDate, estimatedEndDate
+                    ));
 
-                showReceipt(createdRental);
+                    Console.println(createdReservation.generateReservationReceipt());
+                } else {
+                    CreateRentalDTO createRentalDTO = new CreateRentalDTO(
+                            selectedCustomer, selectedVehicle, selectedAgency, startDate, estimatedEndDate
+                    );
+
+                    Rental createdRental = rentalService.createRental(createRentalDTO);
+
+                    showReceipt(createdRental);
+                }
 
             } catch (Exception e) {
                 Output.error(e.getMessage());
-                System.out.println("... cancelado.");
+                Console.println("... cancelado.");
                 scanner.nextLine();
                 cancelRegistration();
                 return;
@@ -218,14 +246,14 @@ public class RentalCreateScreen extends Screen {
 
 
         } else {
-            System.out.println("Cancelada.");
+            Console.println("Cancelada.");
         }
         scanner.nextLine();
-        flowController.goBack();
+        goBack();
     }
 
     private void showReceipt(Rental rental) {
-        System.out.println(rental.generatePickupReceipt());
+        Console.println(rental.generatePickupReceipt());
     }
 
     private boolean processInputCommands(String input) {
@@ -242,7 +270,7 @@ public class RentalCreateScreen extends Screen {
     }
 
     private void cancelRegistration() {
-        flowController.goBack();
+        goBack();
     }
 
     private void handleFieldSelectionError() {
@@ -252,15 +280,15 @@ public class RentalCreateScreen extends Screen {
                 "  [ 3 ] - Cancelar"
         };
 
-        String emptyLine = "║  " + " ".repeat(40) + "  ║";
-        String bottomLine = "╚══" + "═".repeat(40) + "══╝";
+        String emptyLine = Borders.boxEmptyLine(40);
+        String bottomLine = Borders.boxBottomLine(40);
 
-        System.out.println(emptyLine);
+        Console.println(emptyLine);
         for (String option : options) {
-            System.out.printf("║  %-40s  ║%n", option);
+            Console.printf("║  %-40s  ║%n", option);
         }
-        System.out.println(emptyLine);
-        System.out.println(bottomLine);
+        Console.println(emptyLine);
+        Console.println(bottomLine);
 
         Result<Integer> option = Input.getAsInt(scanner, "Escolha uma opção: ", false);
         switch (option.getValue()) {
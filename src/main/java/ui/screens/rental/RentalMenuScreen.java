@@ -4,10 +4,14 @@ import exceptions.DataInputInterruptedException;
 import service.agency.AgencyService;
 import service.customer.CustomerService;
 import service.rental.RentalService;
+import service.reservation.ReservationService;
 import service.vehicle.VehicleService;
+import ui.utils.Borders;
+import ui.utils.Console;
 import ui.utils.Header;
 import ui.core.Screen;
 import ui.flow.FlowController;
+import ui.flow.Navigation;
 import ui.utils.Input;
 import ui.utils.Output;
 import ui.utils.Result;
@@ -16,28 +20,30 @@ import ui.utils.ScreenUtils;
 import java.util.Scanner;
 
 public class RentalMenuScreen extends Screen {
-    private static final int MAX_LINE_LENGTH = 65;
     private final Scanner scanner;
 
     private final AgencyService agencyService;
     private final CustomerService customerService;
     private final VehicleService vehicleService;
     private final RentalService rentalService;
+    private final ReservationService reservationService;
 
     private String errorMessage = "";
 
     public RentalMenuScreen(FlowController flowController,
-                            Scanner scanner, AgencyService agencyService, CustomerService customerService, VehicleService vehicleService, RentalService rentalService) {
+                            Scanner scanner, AgencyService agencyService, CustomerService customerService, VehicleService vehicleService, RentalService rentalService,
+                            ReservationService reservationService) {
         super(flowController);
         this.scanner = scanner;
         this.agencyService = agencyService;
         this.customerService = customerService;
         this.vehicleService = vehicleService;
         this.rentalService = rentalService;
+        this.reservationService = reservationService;
     }
 
     @Override
-    public void show() {
+    public Navigation show() {
         Result<Integer> option;
         do {
             ScreenUtils.clearScreen();
@@ -53,23 +59,29 @@ public class RentalMenuScreen extends Screen {
             handleMenuOption(option.getValue());
 
             if (option.getValue() == 0) break;
-        } while (true);
+        } while (!isLeaving());
 
+        return takeNavigation();
     }
 
     private void handleMenuOption(int option) {
         switch (option) {
             case 1 ->
-                    navigateTo(new RentalCreateScreen(flowController, scanner, agencyService, vehicleService, customerService, rentalService));
+                    navigateTo(new RentalCreateScreen(flowController, scanner, agencyService, vehicleService, customerService, rentalService, reservationService));
             case 2 -> navigateTo(new RentalCloseScreen(flowController, scanner, agencyService, rentalService));
             case 3 -> navigateTo(new OpenRentalListScreen(flowController, scanner, rentalService, false));
             case 4 -> navigateTo(new ClosedRentalListScreen(flowController, scanner, rentalService, false));
-            case 0 -> flowController.goBack();
+            case 5 -> navigateTo(new ReservationPickUpScreen(flowController, scanner, reservationService));
+            case 0 -> goBack();
             default -> errorMessage = "Opção inválida! Por favor, informe uma opção do menu...";
         }
     }
 
     private void displayPendingMessages() {
+        int overdueRentals = rentalService.findOverdueRentals().size();
+        if (overdueRentals > 0) {
+            Output.info(String.format("%d locação(ões) em atraso.", overdueRentals));
+        }
         if (!errorMessage.isEmpty()) {
             Output.error(errorMessage);
             errorMessage = "";
@@ -92,21 +104,19 @@ public class RentalMenuScreen extends Screen {
                 "[ 2 ] - Encerrar Locação",
                 "[ 3 ] - Visualizar Locações Ativas",
                 "[ 4 ] - Visualizar Locações Encerradas",
+                "[ 5 ] - Retirar ou Cancelar Reserva",
                 "[ 0 ] - Voltar"
         };
 
-        String emptyLine = "║    " + " ".repeat(MAX_LINE_LENGTH) + "    ║";
-        String bottomLine = "╚════" + "═".repeat(MAX_LINE_LENGTH) + "════╝";
+        String emptyLine = Borders.EMPTY_LINE;
+        String bottomLine = Borders.BOTTOM_LINE;
 
-        System.out.println(emptyLine);
+        Console.println(emptyLine);
         for (String field : fields) {
-            System.out.printf("║    %-65s    ║%n", field);
+            Console.printf("║    %-65s    ║%n", field);
         }
-        System.out.println(emptyLine);
-        System.out.println(bottomLine);
+        Console.println(emptyLine);
+        Console.println(bottomLine);
     }
 
-    private void navigateTo(Screen screen) {
-        flowController.goTo(screen);
-    }
 }
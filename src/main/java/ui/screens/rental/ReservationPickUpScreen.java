@@ -0,0 +1,153 @@
+package ui.screens.rental;
+
+import enums.ReservationStatus;
+import model.rental.Rental;
+import model.reservation.Reservation;
+import service.reservation.ReservationService;
+import ui.core.Screen;
+import ui.flow.FlowController;
+import ui.flow.Navigation;
+import ui.utils.Borders;
+import ui.utils.Console;
+import ui.utils.Header;
+import ui.utils.Input;
+import ui.utils.Output;
+import ui.utils.PageNavigator;
+import ui.utils.ScreenUtils;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Scanner;
+
+public class ReservationPickUpScreen extends Screen {
+    private final Scanner scanner;
+    private final ReservationService reservationService;
+
+    private static final int PAGE_SIZE = 2;
+    private PageNavigator<Reservation> navigator;
+
+    private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+    public ReservationPickUpScreen(FlowController flowController, Scanner scanner, ReservationService reservationService) {
+        super(flowController);
+        this.scanner = scanner;
+        this.reservationService = reservationService;
+    }
+
+    @Override
+    public Navigation show() {
+        navigator = new PageNavigator<>(PAGE_SIZE, (cursor, limit) -> reservationService.findReservationPage(
+                reservation -> reservation.getStatus() == ReservationStatus.PENDING, cursor, limit));
+
+        do {
+            ScreenUtils.clearScreen();
+
+            listPaginatedReservations(navigator.getItems());
+
+            Output.info("'X' para voltar");
+
+            String input = Input.getAsString(scanner, "Selecione uma reserva pelo número ou utilize os comandos acima: ", true, false);
+
+            if (processInputCommands(input)) {
+                break;
+            }
+
+        } while (!isLeaving());
+
+        return takeNavigation();
+    }
+
+    private void listPaginatedReservations(List<Reservation> reservations) {
+        Header.show("Reservas Pendentes", null);
+
+        if (reservations.isEmpty()) {
+            Output.info("Nenhuma reserva pendente encontrada.\n");
+            return;
+        }
+
+        String emptyLine = Borders.EMPTY_LINE;
+        String bottomLine = Borders.BOTTOM_LINE;
+
+        Console.println(emptyLine);
+        Console.printf("║ %-3s │ %-27s │ %-16s │ %-16s ║%n", "Nº", "Cliente", "Retirada", "Devolução");
+        Console.println("╟─────┼─────────────────────────────┼──────────────────┼──────────────────╢");
+
+        for (int i = 0; i < reservations.size(); i++) {
+            Reservation reservation = reservations.get(i);
+            Console.printf("║ %-3d │ %-27s │ %-16s │ %-16s ║%n",
+                    navigator.getFirstItemNumber() + i,
+                    limitString(reservation.getCustomer().getName(), 27),
+                    limitString(reservation.getPickUpDate().format(formatter), 16),
+                    limitString(reservation.getEstimatedReturnDate().format(formatter), 16));
+        }
+
+        Console.println(emptyLine);
+        Console.println(bottomLine);
+
+        Console.println("\nPágina " + navigator.getPageNumber() + (navigator.hasNext() ? "" : " (última)") + "\n");
+
+        Output.info("'A' para avançar página, 'V' para voltar página");
+    }
+
+    private String limitString(String str, int maxLength) {
+        if (str.length() > maxLength) {
+            return str.substring(0, maxLength - 3) + "...";
+        }
+        return str;
+    }
+
+    private boolean processInputCommands(String input) {
+        switch (input.toLowerCase()) {
+            case "v":
+                navigator.previous();
+                break;
+
+            case "a":
+                navigator.next();
+                break;
+
+            case "x":
+                goBack();
+                return true;
+
+            default:
+                try {
+                    Reservation reservation = navigator.getByNumber(Integer.parseInt(input));
+                    if (reservation != null) {
+                        handleReservation(reservation);
+                        navigator.reload();
+                    } else {
+                        Console.println("Opção inválida.");
+                    }
+                } catch (NumberFormatException e) {
+                    Console.println("Entrada inválida. Tente novamente.");
+                }
+                break;
+        }
+        return false;
+    }
+
+    private void handleReservation(Reservation reservation) {
+        Console.println(reservation.generateReservationReceipt());
+
+        String input = Input.getAsString(scanner, "'R' para retirar o veículo, 'C' para cancelar a reserva: ", true, false);
+
+        try {
+            if (input.equalsIgnoreCase("r")) {
+                Rental rental = reservationService.pickUpReservation(reservation.getId(), LocalDateTime.now());
+                Console.println(rental.generatePickupReceipt());
+            } else if (input.equalsIgnoreCase("c")) {
+                reservationService.cancelReservation(reservation.getId());
+                Output.info("Reserva cancelada.");
+            } else {
+                return;
+            }
+        } catch (Exception e) {
+            Output.error(e.getMessage());
+        }
+
+        Console.println("Pressione Enter para continuar.");
+        scanner.nextLine();
+    }
+}
@@ -0,0 +1,246 @@
+package ui.screens.report;
+
+import enums.VehicleType;
+import exceptions.DataInputInterruptedException;
+import model.agency.Agency;
+import service.agency.AgencyService;
+import service.dashboard.DashboardView;
+import service.report.ReportService;
+import service.report.ReportService.AgencyRevenue;
+import service.report.ReportService.DailyRevenue;
+import service.report.ReportService.FleetUtilization;
+import ui.core.Screen;
+import ui.flow.FlowController;
+import ui.flow.Navigation;
+import ui.utils.Borders;
+import ui.utils.Console;
+import ui.utils.Header;
+import ui.utils.Input;
+import ui.utils.Output;
+import ui.utils.Result;
+import ui.utils.ScreenUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Scanner;
+import java.util.Set;
+import java.util.TreeSet;
+
+public class ReportMenuScreen extends Screen {
+    private static final int DEFAULT_PERIOD_DAYS = 30;
+    private static final long SECONDS_PER_HOUR = 60 * 60;
+
+    private final Scanner scanner;
+    private final ReportService reportService;
+    private final DashboardView dashboardView;
+    private final AgencyService agencyService;
+
+    private final DateTimeFormatter dayFormatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private String errorMessage = "";
+
+    public ReportMenuScreen(FlowController flowController, Scanner scanner, ReportService reportService,
+                            DashboardView dashboardView, AgencyService agencyService) {
+        super(flowController);
+        this.scanner = scanner;
+        this.reportService = reportService;
+        this.dashboardView = dashboardView;
+        this.agencyService = agencyService;
+    }
+
+    @Override
+    public Navigation show() {
+        Result<Integer> option;
+        do {
+            ScreenUtils.clearScreen();
+            displayMenuOptions();
+            displayPendingMessages();
+
+            option = getUserOption();
+            if (option.isFailure()) {
+                errorMessage = option.getErrorMessage();
+                continue;
+            }
+
+            handleMenuOption(option.getValue());
+
+            if (option.getValue() == 0) break;
+        } while (!isLeaving());
+
+        return takeNavigation();
+    }
+
+    private void handleMenuOption(int option) {
+        switch (option) {
+            case 1 -> runReport("Receita por Agência", this::showRevenueByAgency);
+            case 2 -> runReport("Receita Diária por Tipo", this::showDailyRevenue);
+            case 3 -> runReport("Utilização da Frota", this::showFleetUtilization);
+            case 4 -> showDashboard();
+            case 0 -> goBack();
+            default -> errorMessage = "Opção inválida! Por favor, informe uma opção do menu...";
+        }
+    }
+
+    private interface Report {
+        void show(LocalDateTime from, LocalDateTime to);
+    }
+
+    // O período é sempre "os últimos N dias", terminando no fim do dia de hoje
+    private void runReport(String title, Report report) {
+        String input = Input.getAsString(scanner,
+                "Período em dias (Enter para " + DEFAULT_PERIOD_DAYS + "): ", true, false);
+
+        int days;
+        try {
+            days = input.isBlank() ? DEFAULT_PERIOD_DAYS : Integer.parseInt(input.trim());
+        } catch (NumberFormatException e) {
+            errorMessage = "Informe um número de dias válido.";
+            return;
+        }
+        if (days <= 0) {
+            errorMessage = "O período deve ter ao menos um dia.";
+            return;
+        }
+
+        LocalDateTime to = LocalDate.now().plusDays(1).atStartOfDay();
+        LocalDateTime from = to.minusDays(days);
+
+        ScreenUtils.clearScreen();
+        Header.show(title, null);
+        try {
+            Console.println(String.format("Período: %s a %s%n", from.format(dayFormatter), to.minusDays(1).format(dayFormatter)));
+            report.show(from, to);
+        } catch (IllegalArgumentException e) {
+            Output.error(e.getMessage());
+        }
+
+        Console.println("Pressione Enter para continuar.");
+        scanner.nextLine();
+    }
+
+    private void showRevenueByAgency(LocalDateTime from, LocalDateTime to) {
+        List<AgencyRevenue> report = reportService.findRevenueByAgency(from, to);
+        if (report.isEmpty()) {
+            Output.info("Nenhuma agência cadastrada.\n");
+            return;
+        }
+
+        Console.println(Borders.EMPTY_LINE);
+        Console.printf("║ %-40s │ %9s │ %16s ║%n", "Agência", "Locações", "Receita (R$)");
+        Console.println("╟──────────────────────────────────────────┼───────────┼──────────────────╢");
+        for (AgencyRevenue row : report) {
+            Console.printf("║ %-40s │ %9d │ %16.2f ║%n", limitString(row.agencyName(), 40), row.rentals(), row.revenue());
+        }
+        Console.println(Borders.EMPTY_LINE);
+        Console.println(Borders.BOTTOM_LINE);
+    }
+
+    private void showDailyRevenue(LocalDateTime from, LocalDateTime to) {
+        List<DailyRevenue> report = reportService.findDailyRevenue(from, to);
+        if (report.isEmpty()) {
+            Output.info("Nenhuma locação encerrada no período.\n");
+            return;
+        }
+
+        Console.println(Borders.EMPTY_LINE);
+        Console.printf("║ %-10s │ %-10s │ %-16s │ %6s │ %17s ║%n", "Dia", "Veículo", "Cliente", "Qtd.", "Receita (R$)");
+        Console.println("╟────────────┼────────────┼──────────────────┼────────┼───────────────────╢");
+        for (DailyRevenue row : report) {
+            Console.printf("║ %-10s │ %-10s │ %-16s │ %6d │ %17.2f ║%n", row.day().format(dayFormatter),
+                    row.vehicleType().getDescription(), row.customerType().getDescription(), row.rentals(), row.revenue());
+        }
+        Console.println(Borders.EMPTY_LINE);
+        Console.println(Borders.BOTTOM_LINE);
+    }
+
+    private void showFleetUtilization(LocalDateTime from, LocalDateTime to) {
+        List<FleetUtilization> report = reportService.findFleetUtilization(from, to);
+
+        Console.println(Borders.EMPTY_LINE);
+        Console.printf("║ %-12s │ %8s │ %14s │ %14s │ %11s ║%n", "Tipo", "Veículos", "Horas locadas", "Horas frota", "Utilização");
+        Console.println("╟──────────────┼──────────┼────────────────┼────────────────┼─────────────╢");
+        for (FleetUtilization row : report) {
+            Console.printf("║ %-12s │ %8d │ %14d │ %14d │ %10.1f%% ║%n", row.vehicleType().getDescription(), row.vehicles(),
+                    row.rentedSeconds() / SECONDS_PER_HOUR, row.availableSeconds() / SECONDS_PER_HOUR,
+                    row.utilization() * 100);
+        }
+        Console.println(Borders.EMPTY_LINE);
+        Console.println(Borders.BOTTOM_LINE);
+    }
+
+    private void showDashboard() {
+        DashboardView.Snapshot snapshot = dashboardView.snapshot();
+
+        ScreenUtils.clearScreen();
+        Header.show("Painel do Dia", null);
+        Console.println(String.format("Hoje (%s): %d devolução(ões), receita de R$ %.2f%n",
+                snapshot.day().format(dayFormatter), snapshot.rentalsClosedToday(), snapshot.revenueToday()));
+
+        Set<String> agencyIds = new TreeSet<>(snapshot.openRentalsByAgency().keySet());
+        agencyIds.addAll(snapshot.availableVehiclesByAgency().keySet());
+
+        Console.println(Borders.EMPTY_LINE);
+        Console.printf("║ %-30s │ %8s │ %7s │ %8s │ %6s ║%n", "Agência", "Abertas", "Carros", "Caminh.", "Motos");
+        Console.println("╟────────────────────────────────┼──────────┼─────────┼──────────┼────────╢");
+        for (String agencyId : agencyIds) {
+            Agency agency = agencyService.findAgencyById(agencyId);
+            Map<VehicleType, Long> available = snapshot.availableVehiclesByAgency().getOrDefault(agencyId, Map.of());
+            Console.printf("║ %-30s │ %8d │ %7d │ %8d │ %6d ║%n",
+                    limitString(agency != null ? agency.getName() : agencyId, 30),
+                    snapshot.openRentalsByAgency().getOrDefault(agencyId, 0L),
+                    available.getOrDefault(VehicleType.CAR, 0L),
+                    available.getOrDefault(VehicleType.TRUCK, 0L),
+                    available.getOrDefault(VehicleType.MOTORCYCLE, 0L));
+        }
+        Console.println(Borders.EMPTY_LINE);
+        Console.println(Borders.BOTTOM_LINE);
+        Output.info("Veículos disponíveis por tipo em cada agência.");
+
+        Console.println("Pressione Enter para continuar.");
+        scanner.nextLine();
+    }
+
+    private String limitString(String str, int maxLength) {
+        if (str.length() > maxLength) {
+            return str.substring(0, maxLength - 3) + "...";
+        }
+        return str;
+    }
+
+    private void displayPendingMessages() {
+        if (!errorMessage.isEmpty()) {
+            Output.error(errorMessage);
+            errorMessage = "";
+        }
+    }
+
+    private Result<Integer> getUserOption() {
+        try {
+            return Input.getAsInt(scanner, "Escolha uma opção: ", false);
+        } catch (DataInputInterruptedException e) {
+            return Result.fail(e.getMessage());
+        }
+    }
+
+    private void displayMenuOptions() {
+        Header.show("Menu Relatórios", null);
+
+        String[] fields = {
+                "[ 1 ] - Receita por Agência",
+                "[ 2 ] - Receita Diária por Tipo de Veículo e Cliente",
+                "[ 3 ] - Utilização da Frota",
+                "[ 4 ] - Painel do Dia",
+                "[ 0 ] - Voltar"
+        };
+
+        Console.println(Borders.EMPTY_LINE);
+        for (String field : fields) {
+            Console.printf("║    %-65s    ║%n", field);
+        }
+        Console.println(Borders.EMPTY_LINE);
+        Console.println(Borders.BOTTOM_LINE);
+    }
+}
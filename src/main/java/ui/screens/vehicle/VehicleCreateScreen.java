@@ -5,9 +5,12 @@ import enums.VehicleType;
 import model.agency.Agency;
 import service.agency.AgencyService;
 import service.vehicle.VehicleService;
+import ui.utils.Borders;
+import ui.utils.Console;
 import ui.utils.Header;
 import ui.core.Screen;
 import ui.flow.FlowController;
+import ui.flow.Navigation;
 import ui.screens.agency.AgencyListScreen;
 import ui.utils.Input;
 import ui.utils.Output;
@@ -17,7 +20,6 @@ import ui.utils.ScreenUtils;
 import java.util.Scanner;
 
 public class VehicleCreateScreen extends Screen {
-    private static final int MAX_LINE_LENGTH = 65;
     private final Scanner scanner;
 
     private final AgencyService agencyService;
@@ -43,7 +45,7 @@ public class VehicleCreateScreen extends Screen {
     }
 
     @Override
-    public void show() {
+    public Navigation show() {
         do {
             ScreenUtils.clearScreen();
 
@@ -56,15 +58,15 @@ public class VehicleCreateScreen extends Screen {
 
             switch (currentField) {
                 case 0 -> {
-                    String emptyLine = "║  " + " ".repeat(25) + "  ║";
-                    String bottomLine = "╚══" + "═".repeat(25) + "══╝";
+                    String emptyLine = Borders.boxEmptyLine(25);
+                    String bottomLine = Borders.boxBottomLine(25);
 
-                    System.out.println(emptyLine);
+                    Console.println(emptyLine);
                     for (VehicleType type : VehicleType.values()) {
-                        System.out.printf("║  [ %d ] - %-15s    ║%n", type.ordinal(), type.getDescription());
+                        Console.printf("║  [ %d ] - %-15s    ║%n", type.ordinal(), type.getDescription());
                     }
-                    System.out.println(emptyLine);
-                    System.out.println(bottomLine);
+                    Console.println(emptyLine);
+                    Console.println(bottomLine);
 
                     Result<Integer> inputType = Input.getAsInt(scanner, "Tipo: ", false);
 
@@ -113,19 +115,17 @@ public class VehicleCreateScreen extends Screen {
                         isSelectionListCalled = true;
 
                         AgencyListScreen agencyListScreen = new AgencyListScreen(flowController, scanner, agencyService, true);
-                        flowController.goTo(agencyListScreen);
+                        flowController.showModal(agencyListScreen);
 
                         selectedAgency = agencyListScreen.getSelectedAgency();
-
-                        flowController.goBack();
                     }
 
                     if (selectedAgency == null) {
                         Output.error("Você precisa selecionar uma agência válida!");
 
-                        System.out.println("1 - Voltar para o campo anterior");
-                        System.out.println("2 - Tentar novamente");
-                        System.out.println("3 - Cancelar o cadastro");
+                        Console.println("1 - Voltar para o campo anterior");
+                        Console.println("2 - Tentar novamente");
+                        Console.println("3 - Cancelar o cadastro");
 
                         Result<Integer> option = Input.getAsInt(scanner, "Escolha uma opção: ", false);
                         switch (option.getValue()) {
@@ -146,7 +146,9 @@ public class VehicleCreateScreen extends Screen {
                 }
                 case 5 -> confirmRegistration();
             }
-        } while (true);
+        } while (!isLeaving());
+
+        return takeNavigation();
     }
 
     private void displayVehicleRegistration() {
@@ -162,15 +164,15 @@ public class VehicleCreateScreen extends Screen {
                 "Agência: " + agencyName
         };
 
-        String emptyLine = "║    " + " ".repeat(MAX_LINE_LENGTH) + "    ║";
-        String bottomLine = "╚════" + "═".repeat(MAX_LINE_LENGTH) + "════╝";
+        String emptyLine = Borders.EMPTY_LINE;
+        String bottomLine = Borders.BOTTOM_LINE;
 
-        System.out.println(emptyLine);
+        Console.println(emptyLine);
         for (String field : fields) {
-            System.out.printf("║    %-65s    ║%n", field);
+            Console.printf("║    %-65s    ║%n", field);
         }
-        System.out.println(emptyLine);
-        System.out.println(bottomLine);
+        Console.println(emptyLine);
+        Console.println(bottomLine);
     }
 
     private void confirmRegistration() {
@@ -187,17 +189,17 @@ public class VehicleCreateScreen extends Screen {
                 vehicleService.createVehicle(createVehicleDTO);
             } catch (Exception e) {
                 Output.error(e.getMessage());
-                System.out.println("... cancelado.");
+                Console.println("... cancelado.");
                 scanner.nextLine();
                 return;
             }
 
-            System.out.println("Cadastro realizado com sucesso!");
+            Console.println("Cadastro realizado com sucesso!");
         } else {
-            System.out.println("Cadastro cancelado.");
+            Console.println("Cadastro cancelado.");
         }
         scanner.nextLine();
-        flowController.goBack();
+        goBack();
     }
 
     private boolean processInputCommands(String input) {
@@ -214,7 +216,7 @@ public class VehicleCreateScreen extends Screen {
     }
 
     private void cancelRegistration() {
-        flowController.goBack();
+        goBack();
     }
 
 }
@@ -1,20 +1,23 @@
 package ui.screens.vehicle;
 
 import model.vehicle.Vehicle;
+import repository.Page;
 import service.vehicle.VehicleService;
+import ui.utils.Borders;
+import ui.utils.Console;
 import ui.utils.Header;
 import ui.core.Screen;
 import ui.flow.FlowController;
+import ui.flow.Navigation;
 import ui.utils.Input;
 import ui.utils.Output;
+import ui.utils.PageNavigator;
 import ui.utils.ScreenUtils;
 
 import java.util.List;
 import java.util.Scanner;
-import java.util.stream.Collectors;
 
 public class VehicleListScreen extends Screen {
-    private static final int MAX_LINE_LENGTH = 65;
     private final Scanner scanner;
     private final VehicleService vehicleService;
     private final boolean isModal;
@@ -23,9 +26,8 @@ public class VehicleListScreen extends Screen {
     private Vehicle selectedVehicle;
     private String searchQuery = "";
 
-    private int currentPage = 0;
     private static final int PAGE_SIZE = 2;
-    private List<Vehicle> filteredVehicles;
+    private PageNavigator<Vehicle> navigator;
 
     public VehicleListScreen(FlowController flowController, Scanner scanner, VehicleService vehicleService, boolean isModal, String agencyIdToFilter) {
         super(flowController);
@@ -38,19 +40,13 @@ public class VehicleListScreen extends Screen {
     private boolean vehicleSelected = false;
 
     @Override
-    public void show() {
-        List<Vehicle> vehicles;
-        if (agencyIdToFilter != null) {
-            vehicles = vehicleService.findAvailableVehiclesByAgencyId(agencyIdToFilter);
-        } else {
-            vehicles = vehicleService.findAllVehicles();
-        }
-        this.filteredVehicles = vehicles;
+    public Navigation show() {
+        navigator = new PageNavigator<>(PAGE_SIZE, (cursor, limit) -> loadVehicles("", cursor, limit));
 
         do {
             ScreenUtils.clearScreen();
 
-            listPaginatedAgencies(filteredVehicles, currentPage);
+            listPaginatedAgencies(navigator.getItems());
 
             Output.info("'X' para voltar");
 
@@ -59,17 +55,16 @@ public class VehicleListScreen extends Screen {
 
             String input = Input.getAsString(scanner, promptMessage, true, false);
 
-            if (processInputCommands(input, vehicles)) {
+            if (processInputCommands(input)) {
                 break;
             }
 
         } while (!vehicleSelected);
+
+        return takeNavigation();
     }
 
-    private void listPaginatedAgencies(List<Vehicle> vehicles, int page) {
-        int totalPages = (int) Math.ceil((double) vehicles.size() / PAGE_SIZE);
-        int start = page * PAGE_SIZE;
-        int end = Math.min(start + PAGE_SIZE, vehicles.size());
+    private void listPaginatedAgencies(List<Vehicle> vehicles) {
 
         if (isModal) {
             Header.show("Selecione um veículo para continuar...", null);
@@ -79,7 +74,7 @@ public class VehicleListScreen extends Screen {
 
 
         if (!searchQuery.isEmpty()) {
-            System.out.println("║  Filtro: " + searchQuery);
+            Console.println("║  Filtro: " + searchQuery);
         }
 
         if (vehicles.isEmpty()) {
@@ -87,17 +82,17 @@ public class VehicleListScreen extends Screen {
             return;
         }
 
-        String emptyLine = "║    " + " ".repeat(MAX_LINE_LENGTH) + "    ║";
-        String bottomLine = "╚════" + "═".repeat(MAX_LINE_LENGTH) + "════╝";
+        String emptyLine = Borders.EMPTY_LINE;
+        String bottomLine = Borders.BOTTOM_LINE;
 
-        System.out.println(emptyLine);
-        System.out.printf("║ %-3s │ %-10s │ %-10s │ %-12s │ %-12s │ %-9s ║%n", "Nº", "Tipo", "Placa", "Modelo", "Marca", "Diária");
-        System.out.println("╟─────┼────────────┼────────────┼──────────────┼──────────────┼───────────╢");
+        Console.println(emptyLine);
+        Console.printf("║ %-3s │ %-10s │ %-10s │ %-12s │ %-12s │ %-9s ║%n", "Nº", "Tipo", "Placa", "Modelo", "Marca", "Diária");
+        Console.println("╟─────┼────────────┼────────────┼──────────────┼──────────────┼───────────╢");
 
-        for (int i = start; i < end; i++) {
+        for (int i = 0; i < vehicles.size(); i++) {
             Vehicle vehicle = vehicles.get(i);
-            System.out.printf("║ %-3d │ %-10s │ %-10s │ %-12s │ %-12s │ %9s ║%n",
-                    (i + 1),
+            Console.printf("║ %-3d │ %-10s │ %-10s │ %-12s │ %-12s │ %9s ║%n",
+                    navigator.getFirstItemNumber() + i,
                     limitString(vehicle.getType().getDescription(), 10),
                     limitString(vehicle.getPlate(), 10),
                     limitString(vehicle.getModel(), 12),
@@ -105,10 +100,10 @@ public class VehicleListScreen extends Screen {
                     limitString(vehicle.getDailyRate().toString(), 9));
         }
 
-        System.out.println(emptyLine);
-        System.out.println(bottomLine);
+        Console.println(emptyLine);
+        Console.println(bottomLine);
 
-        System.out.println("\nPágina " + (page + 1) + " de " + totalPages + "\n");
+        Console.println("\nPágina " + navigator.getPageNumber() + (navigator.hasNext() ? "" : " (última)") + "\n");
 
         Output.info("'F' para filtrar, 'L' para limpar filtro.");
         Output.info("'A' para avançar página, 'V' para voltar página");
@@ -122,69 +117,71 @@ public class VehicleListScreen extends Screen {
         return str;
     }
 
-    private boolean processInputCommands(String input, List<Vehicle> vehicles) {
+    private boolean processInputCommands(String input) {
         switch (input.toLowerCase()) {
             case "v":
-                if (currentPage > 0) {
-                    currentPage--;
-                }
+                navigator.previous();
                 break;
 
             case "a":
-                if (currentPage < (int) Math.ceil((double) filteredVehicles.size() / PAGE_SIZE) - 1) {
-                    currentPage++;
-                }
+                navigator.next();
                 break;
 
             case "f":
-                searchVehicles(vehicles);
+                searchVehicles();
                 break;
 
             case "l":
-                filteredVehicles = vehicles;
-                currentPage = 0;
+                searchQuery = "";
+                navigator.reset((cursor, limit) -> loadVehicles("", cursor, limit));
                 break;
 
             case "x":
-                back();
+                goBack();
                 return true;
 
             default:
                 try {
-                    int vehicleIndex = Integer.parseInt(input) - 1;
-                    if (vehicleIndex >= 0 && vehicleIndex < filteredVehicles.size()) {
-                        selectVehicle(filteredVehicles.get(vehicleIndex));
+                    Vehicle vehicle = navigator.getByNumber(Integer.parseInt(input));
+                    if (vehicle != null) {
+                        selectVehicle(vehicle);
                         vehicleSelected = true;
                         return true;
                     } else {
-                        System.out.println("Opção inválida.");
+                        Console.println("Opção inválida.");
                     }
                 } catch (NumberFormatException e) {
-                    System.out.println("Entrada inválida. Tente novamente.");
+                    Console.println("Entrada inválida. Tente novamente.");
                 }
                 break;
         }
         return false;
     }
 
-    private void searchVehicles(List<Vehicle> vehicles) {
-        System.out.println("Digite o modelo que deseja buscar: ");
-        searchQuery = scanner.nextLine().trim().toLowerCase();
+    private Page<Vehicle> loadVehicles(String model, String cursor, int limit) {
+        return vehicleService.findVehiclePage(vehicle -> {
+            if (agencyIdToFilter != null
+                    && (!vehicle.getAgency().getId().equalsIgnoreCase(agencyIdToFilter) || !vehicle.isAvailable())) {
+                return false;
+            }
+            return model.isEmpty() || vehicle.getModel().toLowerCase().contains(model);
+        }, cursor, limit);
+    }
 
-        filteredVehicles = vehicles.stream()
-                .filter(vehicle -> vehicle.getModel().toLowerCase().contains(searchQuery))
-                .collect(Collectors.toList());
+    private void searchVehicles() {
+        Console.println("Digite o modelo que deseja buscar: ");
+        searchQuery = scanner.nextLine().trim().toLowerCase();
 
-        currentPage = 0;
+        String query = searchQuery;
+        navigator.reset((cursor, limit) -> loadVehicles(query, cursor, limit));
 
-        if (filteredVehicles.isEmpty()) {
-            System.out.println("Nenhum veículo encontrado com o modelo: " + searchQuery);
-            filteredVehicles = vehicles;
-        } else {
-            System.out.println(filteredVehicles.size() + " veículo(s) encontrado(s).");
+        if (navigator.isEmpty()) {
+            Console.println("Nenhum veículo encontrado com o modelo: " + searchQuery);
+            searchQuery = "";
+            navigator.reset((cursor, limit) -> loadVehicles("", cursor, limit));
         }
 
-        System.out.println("Pressione Enter para continuar.");
+        Console.println("Pressione Enter para continuar.");
         scanner.nextLine();
     }
 
@@ -193,9 +190,6 @@ public class VehicleListScreen extends Screen {
         this.vehicleSelected = true;
     }
 
-    private void back() {
-        flowController.goBack();
-    }
 
     public Vehicle getSelectedVehicle() {
         return selectedVehicle;
@@ -3,9 +3,12 @@ package ui.screens.vehicle;
 import exceptions.DataInputInterruptedException;
 import service.agency.AgencyService;
 import service.vehicle.VehicleService;
+import ui.utils.Borders;
+import ui.utils.Console;
 import ui.utils.Header;
 import ui.core.Screen;
 import ui.flow.FlowController;
+import ui.flow.Navigation;
 import ui.utils.Input;
 import ui.utils.Output;
 import ui.utils.Result;
@@ -14,7 +17,6 @@ import ui.utils.ScreenUtils;
 import java.util.Scanner;
 
 public class VehicleMenuScreen extends Screen {
-    private static final int MAX_LINE_LENGTH = 65;
     private final Scanner scanner;
 
     private final AgencyService agencyService;
@@ -31,7 +33,7 @@ public class VehicleMenuScreen extends Screen {
     }
 
     @Override
-    public void show() {
+    public Navigation show() {
         Result<Integer> option;
         do {
             ScreenUtils.clearScreen();
@@ -48,7 +50,9 @@ public class VehicleMenuScreen extends Screen {
             handleMenuOption(option.getValue());
 
             if (option.getValue() == 0) break;
-        } while (true);
+        } while (!isLeaving());
+
+        return takeNavigation();
     }
 
     private void handleMenuOption(int option) {
@@ -56,7 +60,7 @@ public class VehicleMenuScreen extends Screen {
             case 1 -> navigateTo(new VehicleCreateScreen(flowController, scanner, agencyService, vehicleService));
             case 2 -> navigateTo(new VehicleListScreen(flowController, scanner, vehicleService, false, null));
             case 3 -> navigateTo(new VehicleUpdateScreen(flowController, scanner, vehicleService));
-            case 0 -> flowController.goBack();
+            case 0 -> goBack();
             default -> errorMessage = "Opção inválida! Por favor, informe uma opção do menu...";
         }
     }
@@ -86,18 +90,15 @@ public class VehicleMenuScreen extends Screen {
             "[ 0 ] - Voltar"
         };
 
-        String emptyLine = "║    " + " ".repeat(MAX_LINE_LENGTH) + "    ║";
-        String bottomLine = "╚════" + "═".repeat(MAX_LINE_LENGTH) + "════╝";
+        String emptyLine = Borders.EMPTY_LINE;
+        String bottomLine = Borders.BOTTOM_LINE;
 
-        System.out.println(emptyLine);
+        Console.println(emptyLine);
         for (String option : options) {
-            System.out.printf("║    %-65s    ║%n", option);
+            Console.printf("║    %-65s    ║%n", option);
         }
-        System.out.println(emptyLine);
-        System.out.println(bottomLine);
+        Console.println(emptyLine);
+        Console.println(bottomLine);
     }
 
-    private void navigateTo(Screen screen) {
-        flowController.goTo(screen);
-    }
 }
@@ -5,9 +5,12 @@ import model.vehicle.Motorcycle;
 import model.vehicle.Truck;
 import model.vehicle.Vehicle;
 import service.vehicle.VehicleService;
+import ui.utils.Borders;
+import ui.utils.Console;
 import ui.utils.Header;
 import ui.core.Screen;
 import ui.flow.FlowController;
+import ui.flow.Navigation;
 import ui.utils.Input;
 import ui.utils.Output;
 import ui.utils.Result;
@@ -16,7 +19,6 @@ import ui.utils.ScreenUtils;
 import java.util.Scanner;
 
 public class VehicleUpdateScreen extends Screen {
-    private static final int MAX_LINE_LENGTH = 65;
     private final Scanner scanner;
     private final VehicleService vehicleService;
     private Vehicle vehicleToUpdate;
@@ -38,7 +40,7 @@ public class VehicleUpdateScreen extends Screen {
     }
 
     @Override
-    public void show() {
+    public Navigation show() {
         do {
             ScreenUtils.clearScreen();
             Header.show("Preencha os campos abaixo para editar o veículo.", null);
@@ -54,7 +56,7 @@ public class VehicleUpdateScreen extends Screen {
                         isSelectionListCalled = true;
 
                         VehicleListScreen vehicleListScreen = new VehicleListScreen(flowController, scanner, vehicleService, true, null);
-                        flowController.goTo(vehicleListScreen);
+                        flowController.showModal(vehicleListScreen);
 
                         vehicleToUpdate = vehicleListScreen.getSelectedVehicle();
                         if (vehicleToUpdate != null) {
@@ -62,18 +64,16 @@ public class VehicleUpdateScreen extends Screen {
                             brand = vehicleToUpdate.getBrand();
                             plate = vehicleToUpdate.getPlate();
 
-                            System.out.println("Veículo selecionado:");
-                            System.out.println("Tipo: " + vehicleToUpdate.getType().getDescription());
+                            Console.println("Veículo selecionado:");
+                            Console.println("Tipo: " + vehicleToUpdate.getType().getDescription());
                         }
-
-                        flowController.goBack();
                     }
 
                     if (vehicleToUpdate == null) {
                         Output.error("Você precisa selecionar um veículo válido!");
 
-                        System.out.println("1 - Tentar novamente");
-                        System.out.println("2 - Cancelar o cadastro");
+                        Console.println("1 - Tentar novamente");
+                        Console.println("2 - Cancelar o cadastro");
 
                         Result<Integer> option = Input.getAsInt(scanner, "Escolha uma opção: ", false);
                         switch (option.getValue()) {
@@ -109,7 +109,9 @@ public class VehicleUpdateScreen extends Screen {
                 }
                 case 4 -> confirmUpdate();
             }
-        } while (true);
+        } while (!isLeaving());
+
+        return takeNavigation();
     }
 
     private void displayVehicleUpdateForm() {
@@ -119,15 +121,15 @@ public class VehicleUpdateScreen extends Screen {
                 "Placa: " + (plate.isEmpty() ? "" : plate)
         };
 
-        String emptyLine = "║    " + " ".repeat(MAX_LINE_LENGTH) + "    ║";
-        String bottomLine = "╚════" + "═".repeat(MAX_LINE_LENGTH) + "════╝";
+        String emptyLine = Borders.EMPTY_LINE;
+        String bottomLine = Borders.BOTTOM_LINE;
 
-        System.out.println(emptyLine);
+        Console.println(emptyLine);
         for (String field : fields) {
-            System.out.printf("║    %-65s    ║%n", field);
+            Console.printf("║    %-65s    ║%n", field);
         }
-        System.out.println(emptyLine);
-        System.out.println(bottomLine);
+        Console.println(emptyLine);
+        Console.println(bottomLine);
     }
 
     private void confirmUpdate() {
@@ -155,7 +157,7 @@ public class VehicleUpdateScreen extends Screen {
                 vehicleService.updateVehicle(vehicleToUpdate);
             } catch (Exception e) {
                 Output.error(e.getMessage());
-                System.out.println("... cancelado.");
+                Console.println("... cancelado.");
                 scanner.nextLine();
                 return;
             }
@@ -165,7 +167,7 @@ public class VehicleUpdateScreen extends Screen {
             Output.info("Edição cancelada.");
         }
         scanner.nextLine();
-        flowController.goBack();
+        goBack();
     }
 
     private boolean processInputCommands(String input) {
@@ -182,7 +184,7 @@ public class VehicleUpdateScreen extends Screen {
     }
 
     private void cancelUpdate() {
-        flowController.goBack();
+        goBack();
     }
 
 }
@@ -0,0 +1,23 @@
+package ui.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Bordas das caixas, montadas uma única vez em vez de a cada quadro
+public class Borders {
+    public static final int LINE_LENGTH = 65;
+
+    public static final String EMPTY_LINE = "║    " + " ".repeat(LINE_LENGTH) + "    ║";
+    public static final String BOTTOM_LINE = "╚════" + "═".repeat(LINE_LENGTH) + "════╝";
+
+    private static final Map<Integer, String> boxEmptyLines = new ConcurrentHashMap<>();
+    private static final Map<Integer, String> boxBottomLines = new ConcurrentHashMap<>();
+
+    public static String boxEmptyLine(int width) {
+        return boxEmptyLines.computeIfAbsent(width, w -> "║  " + " ".repeat(w) + "  ║");
+    }
+
+    public static String boxBottomLine(int width) {
+        return boxBottomLines.computeIfAbsent(width, w -> "╚══" + "═".repeat(w) + "══╝");
+    }
+}
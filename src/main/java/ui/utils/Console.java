@@ -0,0 +1,103 @@
+package ui.utils;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.util.Formatter;
+
+// Renderizador em quadros: tudo o que as telas escrevem é montado num único buffer reutilizável
+// e enviado ao terminal de uma só vez, quando a tela passa a esperar uma entrada do usuário.
+// Cada sessão remota associa o próprio console à sua thread; sem associação, vale o terminal local.
+public class Console {
+    private static final int INITIAL_CAPACITY = 4 * 1024;
+    // Quadros muito grandes não ficam retendo memória depois de enviados
+    private static final int MAX_RETAINED_CAPACITY = 256 * 1024;
+
+    private static final Console standard = new Console(System.out);
+    private static final ThreadLocal<Console> bound = new ThreadLocal<>();
+
+    private final PrintStream target;
+    private StringBuilder frame = new StringBuilder(INITIAL_CAPACITY);
+    private Formatter formatter = new Formatter(frame);
+
+    public Console(PrintStream target) {
+        this.target = target;
+    }
+
+    public static void bind(Console console) {
+        bound.set(console);
+    }
+
+    public static void unbind() {
+        bound.remove();
+    }
+
+    public static boolean isStandard() {
+        return current() == standard;
+    }
+
+    public static void print(String text) {
+        current().frame.append(text);
+    }
+
+    public static void print(Object value) {
+        current().frame.append(value);
+    }
+
+    public static void println() {
+        current().frame.append(System.lineSeparator());
+    }
+
+    public static void println(String text) {
+        current().frame.append(text).append(System.lineSeparator());
+    }
+
+    public static void println(Object value) {
+        current().frame.append(value).append(System.lineSeparator());
+    }
+
+    public static void printf(String format, Object... args) {
+        current().formatter.format(format, args);
+    }
+
+    public static void flush() {
+        current().send();
+    }
+
+    // Entrada que envia o quadro pendente antes de bloquear à espera do usuário,
+    // inclusive quando a tela lê direto do Scanner
+    public static InputStream flushingInput(InputStream in) {
+        return new FilterInputStream(in) {
+            @Override
+            public int read() throws IOException {
+                flush();
+                return super.read();
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                flush();
+                return super.read(buffer, offset, length);
+            }
+        };
+    }
+
+    private static Console current() {
+        Console console = bound.get();
+        return console != null ? console : standard;
+    }
+
+    private synchronized void send() {
+        if (frame.length() > 0) {
+            target.append(frame);
+            if (frame.capacity() > MAX_RETAINED_CAPACITY) {
+                frame = new StringBuilder(INITIAL_CAPACITY);
+                formatter = new Formatter(frame);
+            } else {
+                frame.setLength(0);
+            }
+        }
+        target.flush();
+    }
+}
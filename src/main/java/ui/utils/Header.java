@@ -1,15 +1,8 @@
 package ui.utils;
 
 public class Header {
-    public static void show(String title, String message) {
-        String loggedInMessage;
-        if (title != null) {
-            loggedInMessage = String.format("%-65.65s", title);
-        } else {
-            loggedInMessage = String.format("%-65.65s", "");
-        }
-
-        System.out.printf("""
+    // O desenho fixo do cabeçalho é montado uma vez; a cada quadro só a linha do título muda
+    private static final String BANNER = """
                 ╔═════════════════════════════════════════════════════════════════════════╗
                 ║   Welcome to                                                            ║
                 ║                                                                         ║
@@ -21,8 +14,19 @@ public class Header {
                 ║                                                                         ║
                 ║                                                          Versão: 1.0.0  ║
                 ╚═════════════════════════════════════════════════════════════════════════╝
-                ║   %s     ║
-                ╚═════════════════════════════════════════════════════════════════════════╝
-                """, loggedInMessage);
+                """;
+    private static final String TITLE_BOTTOM_LINE = "╚" + "═".repeat(73) + "╝";
+
+    public static void show(String title, String message) {
+        String loggedInMessage;
+        if (title != null) {
+            loggedInMessage = String.format("%-65.65s", title);
+        } else {
+            loggedInMessage = String.format("%-65.65s", "");
+        }
+
+        Console.print(BANNER);
+        Console.println("║   " + loggedInMessage + "     ║");
+        Console.println(TITLE_BOTTOM_LINE);
     }
 }
@@ -45,9 +45,10 @@ public class Input {
     public static String getAsString(Scanner scanner, String promptMessage, boolean canBeEmpty, boolean hidden) {
         while (true) {
             Output.prompt(promptMessage);
-            if (hidden) System.out.print(Color.WHITE.getCode() + Color.BG_WHITE.getCode());
+            if (hidden) Console.print(Color.WHITE.getCode() + Color.BG_WHITE.getCode());
+            Console.flush();
             String value = scanner.nextLine().trim();
-            if (hidden) System.out.print(Color.RESET.getCode());
+            if (hidden) Console.print(Color.RESET.getCode());
 
             if (value.equalsIgnoreCase("cancel")) throw new DataInputInterruptedException();
 
@@ -55,13 +56,14 @@ public class Input {
                 return value;
             }
             Output.error("A entrada não pode estar vazia.");
-            System.out.println(emptyLine);
+            Console.println(emptyLine);
         }
     }
 
     public static String getAsCPF(Scanner scanner, String promptMessage, boolean canBeEmpty) {
         while (true) {
             Output.prompt(promptMessage);
+            Console.flush();
             String value = scanner.nextLine().trim();
 
             if (value.equalsIgnoreCase("cancel")) throw new DataInputInterruptedException();
@@ -71,7 +73,7 @@ public class Input {
             if (Validator.isValidCpf(value)) return value;
 
             Output.error("CPF inválido! Por favor, tente novamente...");
-            System.out.println(emptyLine);
+            Console.println(emptyLine);
         }
     }
 
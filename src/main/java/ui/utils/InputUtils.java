@@ -15,9 +15,10 @@ public class InputUtils {
 
     public static String getInput(Scanner scanner, String promptMessage, boolean isHidden) {
         Output.prompt(promptMessage);
-        if (isHidden) System.out.print(Color.WHITE.getCode() + Color.BG_WHITE.getCode());
+        if (isHidden) Console.print(Color.WHITE.getCode() + Color.BG_WHITE.getCode());
+        Console.flush();
         String value = scanner.nextLine().trim();
-        if (isHidden) System.out.print(Color.RESET.getCode());
+        if (isHidden) Console.print(Color.RESET.getCode());
 
         if (value.equalsIgnoreCase(CANCEL_COMMAND)) throw new DataInputInterruptedException();
         return value;
@@ -0,0 +1,87 @@
+package ui.utils;
+
+import repository.Page;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+public class PageNavigator<T> {
+
+    public interface PageLoader<T> {
+        Page<T> load(String cursor, int limit);
+    }
+
+    private final int pageSize;
+    private final Deque<String> previousCursors = new ArrayDeque<>();
+
+    private PageLoader<T> loader;
+    private String currentCursor = "";
+    private int pageIndex = 0;
+    private Page<T> page;
+
+    public PageNavigator(int pageSize, PageLoader<T> loader) {
+        this.pageSize = pageSize;
+        reset(loader);
+    }
+
+    public void reset(PageLoader<T> loader) {
+        this.loader = loader;
+        previousCursors.clear();
+        currentCursor = "";
+        pageIndex = 0;
+        reload();
+    }
+
+    public void reload() {
+        page = loader.load(currentCursor, pageSize);
+    }
+
+    public boolean next() {
+        if (!page.hasNext()) return false;
+
+        previousCursors.push(currentCursor);
+        currentCursor = page.nextCursor();
+        pageIndex++;
+        reload();
+        return true;
+    }
+
+    public boolean previous() {
+        if (previousCursors.isEmpty()) return false;
+
+        currentCursor = previousCursors.pop();
+        pageIndex--;
+        reload();
+        return true;
+    }
+
+    public List<T> getItems() {
+        return page.items();
+    }
+
+    public boolean isEmpty() {
+        return page.isEmpty();
+    }
+
+    public boolean hasNext() {
+        return page.hasNext();
+    }
+
+    public int getPageNumber() {
+        return pageIndex + 1;
+    }
+
+    // Número exibido na tabela para o primeiro item da página atual
+    public int getFirstItemNumber() {
+        return pageIndex * pageSize + 1;
+    }
+
+    public T getByNumber(int number) {
+        int index = number - getFirstItemNumber();
+        if (index < 0 || index >= page.items().size()) {
+            return null;
+        }
+        return page.items().get(index);
+    }
+}
@@ -3,26 +3,28 @@ package ui.utils;
 public class ScreenUtils {
     public static void clearScreen() {
         try {
-            if (System.getProperty("os.name").contains("Windows")) {
+            // Sessões remotas sempre recebem a sequência ANSI, qualquer que seja o sistema do servidor
+            if (Console.isStandard() && System.getProperty("os.name").contains("Windows")) {
+                Console.flush();
                 new ProcessBuilder("cmd", "/c", "cls").inheritIO().start().waitFor();
             } else {
-                System.out.print("\033[H\033[2J");
-                System.out.flush();
+                // A limpeza vai no início do novo quadro, junto com o restante da tela
+                Console.print("\033[H\033[2J");
             }
         } catch (Exception e) {
             for (int i = 0; i < 50; i++) {
-                System.out.println();
+                Console.println();
             }
         }
     }
 
     public static void showHeader(String title) {
         clearScreen();
-        System.out.println("=================================================");
-        System.out.println("               CodersRentalApp                   ");
-        System.out.println("=================================================");
-        System.out.println(title);
-        System.out.println("-------------------------------------------------");
+        Console.println("=================================================");
+        Console.println("               CodersRentalApp                   ");
+        Console.println("=================================================");
+        Console.println(title);
+        Console.println("-------------------------------------------------");
     }
 
 }
@@ -0,0 +1,107 @@
+package utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntBiFunction;
+
+public class BKTree<V> {
+
+    public record Match<V>(String key, V value, int distance) {
+    }
+
+    private static class Node<V> {
+        private final String key;
+        private final List<V> values = new ArrayList<>(1);
+        private final Map<Integer, Node<V>> children = new HashMap<>();
+
+        private Node(String key) {
+            this.key = key;
+        }
+    }
+
+    private final ToIntBiFunction<String, String> distance;
+    private Node<V> root;
+    private int size;
+
+    public BKTree(ToIntBiFunction<String, String> distance) {
+        this.distance = distance;
+    }
+
+    public void add(String key, V value) {
+        if (root == null) {
+            root = new Node<>(key);
+            root.values.add(value);
+            size++;
+            return;
+        }
+
+        Node<V> node = root;
+        while (true) {
+            int d = distance.applyAsInt(key, node.key);
+            if (d == 0) {
+                node.values.add(value);
+                size++;
+                return;
+            }
+            Node<V> child = node.children.get(d);
+            if (child == null) {
+                child = new Node<>(key);
+                child.values.add(value);
+                node.children.put(d, child);
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    // Os nós não são removidos da árvore, apenas o valor associado à chave
+    public boolean remove(String key, V value) {
+        Node<V> node = root;
+        while (node != null) {
+            int d = distance.applyAsInt(key, node.key);
+            if (d == 0) {
+                boolean removed = node.values.remove(value);
+                if (removed) size--;
+                return removed;
+            }
+            node = node.children.get(d);
+        }
+        return false;
+    }
+
+    public List<Match<V>> search(String key, int maxDistance) {
+        List<Match<V>> matches = new ArrayList<>();
+        if (root == null) return matches;
+
+        Deque<Node<V>> pending = new ArrayDeque<>();
+        pending.push(root);
+
+        while (!pending.isEmpty()) {
+            Node<V> node = pending.pop();
+            int d = distance.applyAsInt(key, node.key);
+
+            if (d <= maxDistance) {
+                for (V value : node.values) {
+                    matches.add(new Match<>(node.key, value, d));
+                }
+            }
+
+            for (Map.Entry<Integer, Node<V>> child : node.children.entrySet()) {
+                int edge = child.getKey();
+                if (edge >= d - maxDistance && edge <= d + maxDistance) {
+                    pending.push(child.getValue());
+                }
+            }
+        }
+        return matches;
+    }
+
+    public int size() {
+        return size;
+    }
+}
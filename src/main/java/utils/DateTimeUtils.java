@@ -2,11 +2,28 @@ package utils;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 public class DateTimeUtils {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
 
     public static long calculateDaysBetween(LocalDateTime startDateTime, LocalDateTime endDateTime) {
         Duration duration = Duration.between(startDateTime, endDateTime);
         return duration.toDays();
     }
-}
\ No newline at end of file
+
+    // As datas do sistema não têm fuso, então UTC serve apenas como referência fixa
+    public static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    // Segundos e nanos num só long: cobre com folga as datas de 1678 a 2262
+    public static long toEpochNano(LocalDateTime dateTime) {
+        return Math.addExact(Math.multiplyExact(toEpochSecond(dateTime), NANOS_PER_SECOND), dateTime.getNano());
+    }
+
+    public static LocalDateTime fromEpochNano(long epochNano) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochNano, NANOS_PER_SECOND),
+                (int) Math.floorMod(epochNano, NANOS_PER_SECOND), ZoneOffset.UTC);
+    }
+}
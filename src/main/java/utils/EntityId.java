@@ -0,0 +1,103 @@
+package utils;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+// Codec dos ids das entidades. Ids novos são longs de 63 bits ordenados pelo tempo
+// (milissegundos desde EPOCH nos bits altos, sequência nos baixos) gravados como
+// 13 caracteres em base32 de Crockford, de largura fixa: a ordem das strings é a dos números.
+// Ids antigos (UUID aleatório de 36 caracteres) continuam válidos, mas não têm data.
+public class EntityId {
+    public static final Instant EPOCH = Instant.parse("2024-01-01T00:00:00Z");
+    public static final int SEQUENCE_BITS = 21;
+    public static final int LENGTH = 13;
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final byte[] VALUES = new byte[128];
+    private static final long MAX_MILLIS = (1L << (63 - SEQUENCE_BITS)) - 1;
+
+    static {
+        Arrays.fill(VALUES, (byte) -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            VALUES[ALPHABET[i]] = (byte) i;
+            VALUES[Character.toLowerCase(ALPHABET[i])] = (byte) i;
+        }
+    }
+
+    public static String encode(long id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Id inválido: " + id);
+        }
+        char[] chars = new char[LENGTH];
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            chars[i] = ALPHABET[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    public static long decode(String id) {
+        if (!isCompact(id)) {
+            throw new IllegalArgumentException("Id inválido: " + id);
+        }
+        long value = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            value = (value << 5) | VALUES[id.charAt(i)];
+        }
+        return value;
+    }
+
+    // O primeiro caractere carrega só 3 bits, então vai no máximo até '7'
+    public static boolean isCompact(String id) {
+        if (id == null || id.length() != LENGTH || id.charAt(0) > '7') {
+            return false;
+        }
+        for (int i = 0; i < LENGTH; i++) {
+            char c = id.charAt(i);
+            if (c >= 128 || VALUES[c] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isLegacy(String id) {
+        if (id == null || id.length() != 36) {
+            return false;
+        }
+        for (int i = 0; i < 36; i++) {
+            char c = id.charAt(i);
+            boolean dash = i == 8 || i == 13 || i == 18 || i == 23;
+            if (dash ? c != '-' : Character.digit(c, 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static long compose(long millisSinceEpoch, long sequence) {
+        if (millisSinceEpoch < 0 || millisSinceEpoch > MAX_MILLIS) {
+            throw new IllegalArgumentException("Instante fora do intervalo dos ids: " + millisSinceEpoch);
+        }
+        return (millisSinceEpoch << SEQUENCE_BITS) | (sequence & ((1L << SEQUENCE_BITS) - 1));
+    }
+
+    // Instante de criação de um id novo; ids antigos não têm data e devolvem null
+    public static Instant createdAt(String id) {
+        if (!isCompact(id)) {
+            return null;
+        }
+        return EPOCH.plusMillis(decode(id) >>> SEQUENCE_BITS);
+    }
+
+    // Menor id possível criado no instante: limite para buscas por faixa de criação
+    public static String lowerBound(Instant instant) {
+        long millis = Math.max(0, instant.toEpochMilli() - EPOCH.toEpochMilli());
+        return encode(compose(Math.min(millis, MAX_MILLIS), 0));
+    }
+
+    // Chave que ordena pela criação num mapa ordenado: ids antigos (UUID) primeiro, depois os novos
+    public static String orderKey(String id) {
+        return (isCompact(id) ? "1" : "0") + id;
+    }
+}
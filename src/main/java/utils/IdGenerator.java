@@ -0,0 +1,49 @@
+package utils;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Gera ids crescentes sem SecureRandom: o próximo id é o maior entre "agora" (com sequência zero)
+// e o último id mais um. Se o relógio voltar ou mais de 2^21 ids saírem no mesmo milissegundo,
+// os ids seguem crescendo adiantando o milissegundo.
+public class IdGenerator {
+    private static IdGenerator instance;
+
+    private final Clock clock;
+    private final AtomicLong last = new AtomicLong();
+
+    public IdGenerator(Clock clock) {
+        this.clock = clock;
+    }
+
+    public static synchronized IdGenerator getInstance() {
+        if (instance == null) {
+            instance = new IdGenerator(Clock.systemUTC());
+        }
+        return instance;
+    }
+
+    public long nextLong() {
+        long now = EntityId.compose(clock.millis() - EntityId.EPOCH.toEpochMilli(), 0);
+        while (true) {
+            long previous = last.get();
+            long next = Math.max(now, previous + 1);
+            if (last.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+
+    // Ids já gravados nunca são repetidos nem ultrapassados, mesmo se o relógio voltou desde a última execução
+    public void advancePast(String id) {
+        if (!EntityId.isCompact(id)) {
+            return;
+        }
+        long value = EntityId.decode(id);
+        last.accumulateAndGet(value, Math::max);
+    }
+
+    public String nextId() {
+        return EntityId.encode(nextLong());
+    }
+}
@@ -0,0 +1,168 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// Árvore de intervalos semiabertos [início, fim) sobre uma treap balanceada.
+// Cada nó guarda o maior fim da sua subárvore, o que permite responder
+// "existe sobreposição?" em O(log n) esperado.
+public class IntervalTree<T> {
+
+    private static final class Node<T> {
+        private final long start;
+        private final long end;
+        private final String id;
+        private final T value;
+        private final int priority;
+        private long maxEnd;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(long start, long end, String id, T value, int priority) {
+            this.start = start;
+            this.end = end;
+            this.id = id;
+            this.value = value;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+    }
+
+    private final SplittableRandom random = new SplittableRandom();
+    private Node<T> root;
+    private int size;
+
+    public void add(String id, long start, long end, T value) {
+        if (end <= start) {
+            throw new IllegalArgumentException("O fim do intervalo deve ser posterior ao início.");
+        }
+        root = insert(root, new Node<>(start, end, id, value, random.nextInt()));
+        size++;
+    }
+
+    public boolean remove(String id, long start) {
+        int before = size;
+        root = delete(root, id, start);
+        return size < before;
+    }
+
+    public boolean overlaps(long from, long to) {
+        Node<T> node = root;
+        while (node != null) {
+            if (node.start < to && node.end > from) {
+                return true;
+            }
+            if (node.left != null && node.left.maxEnd > from) {
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+        return false;
+    }
+
+    public List<T> findOverlapping(long from, long to) {
+        List<T> found = new ArrayList<>();
+        collect(root, from, to, found);
+        return found;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void collect(Node<T> node, long from, long to, List<T> found) {
+        if (node == null || node.maxEnd <= from) {
+            return;
+        }
+        collect(node.left, from, to, found);
+        if (node.start < to && node.end > from) {
+            found.add(node.value);
+        }
+        // À direita todos começam depois deste nó, então não há mais o que buscar
+        if (node.start < to) {
+            collect(node.right, from, to, found);
+        }
+    }
+
+    private int compare(long start, String id, Node<T> node) {
+        int byStart = Long.compare(start, node.start);
+        return byStart != 0 ? byStart : id.compareTo(node.id);
+    }
+
+    private Node<T> insert(Node<T> node, Node<T> newNode) {
+        if (node == null) {
+            return newNode;
+        }
+        if (compare(newNode.start, newNode.id, node) < 0) {
+            node.left = insert(node.left, newNode);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, newNode);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private Node<T> delete(Node<T> node, String id, long start) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = compare(start, id, node);
+        if (comparison < 0) {
+            node.left = delete(node.left, id, start);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, id, start);
+        } else {
+            size--;
+            return merge(node.left, node.right);
+        }
+        update(node);
+        return node;
+    }
+
+    private Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) return right;
+        if (right == null) return left;
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private void update(Node<T> node) {
+        long maxEnd = node.end;
+        if (node.left != null && node.left.maxEnd > maxEnd) maxEnd = node.left.maxEnd;
+        if (node.right != null && node.right.maxEnd > maxEnd) maxEnd = node.right.maxEnd;
+        node.maxEnd = maxEnd;
+    }
+}
@@ -0,0 +1,98 @@
+package utils;
+
+// Mapa long -> int com endereçamento aberto (sondagem linear) sobre dois arrays primitivos,
+// sem caixas nem nós por entrada. Só inserção e consulta: os repositórios nunca apagam registros.
+public class LongIntHashMap {
+    public static final int MISSING = -1;
+
+    private static final int MIN_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    // valor + 1, para que 0 marque a posição livre
+    private int[] values;
+    private int size;
+    private int resizeAt;
+
+    public LongIntHashMap() {
+        this(MIN_CAPACITY);
+    }
+
+    public LongIntHashMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    public int get(long key) {
+        int mask = keys.length - 1;
+        for (int i = mix(key) & mask; ; i = (i + 1) & mask) {
+            int stored = values[i];
+            if (stored == 0) {
+                return MISSING;
+            }
+            if (keys[i] == key) {
+                return stored - 1;
+            }
+        }
+    }
+
+    public void put(long key, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Valor inválido: " + value);
+        }
+        int mask = keys.length - 1;
+        for (int i = mix(key) & mask; ; i = (i + 1) & mask) {
+            if (values[i] == 0) {
+                keys[i] = key;
+                values[i] = value + 1;
+                if (++size > resizeAt) {
+                    rehash(keys.length << 1);
+                }
+                return;
+            }
+            if (keys[i] == key) {
+                values[i] = value + 1;
+                return;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldValues[j] == 0) continue;
+            int i = mix(oldKeys[j]) & mask;
+            while (values[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = oldKeys[j];
+            values[i] = oldValues[j];
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity * LOAD_FACTOR < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    // Os ids sequenciais diferem nos bits baixos; o embaralhamento espalha as chaves pela tabela
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,116 @@
+package utils;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Map;
+
+public class StringDistance {
+
+    public static int levenshtein(String a, String b) {
+        if (a.equals(b)) return 0;
+        if (a.isEmpty()) return b.length();
+        if (b.isEmpty()) return a.length();
+
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = ca == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] temp = previous;
+            previous = current;
+            current = temp;
+        }
+        return previous[b.length()];
+    }
+
+    // Levenshtein + transposição de caracteres adjacentes (distância OSA),
+    // útil para dígitos trocados em CPF/CNPJ
+    public static int damerau(String a, String b) {
+        if (a.equals(b)) return 0;
+        if (a.isEmpty()) return b.length();
+        if (b.isEmpty()) return a.length();
+
+        int[] beforePrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                char cb = b.charAt(j - 1);
+                int cost = ca == cb ? 0 : 1;
+                int value = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && ca == b.charAt(j - 2) && a.charAt(i - 2) == cb) {
+                    value = Math.min(value, beforePrevious[j - 2] + 1);
+                }
+                current[j] = value;
+            }
+            int[] temp = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = temp;
+        }
+        return previous[b.length()];
+    }
+
+    // Damerau-Levenshtein sem restrição: ao contrário da OSA, respeita a desigualdade triangular e
+    // serve de métrica para a BKTree; nunca passa da OSA, então a busca com o mesmo raio não perde ninguém
+    public static int damerauLevenshtein(String a, String b) {
+        if (a.equals(b)) return 0;
+        if (a.isEmpty()) return b.length();
+        if (b.isEmpty()) return a.length();
+
+        int infinity = a.length() + b.length();
+        int[][] d = new int[a.length() + 2][b.length() + 2];
+        d[0][0] = infinity;
+        for (int i = 0; i <= a.length(); i++) {
+            d[i + 1][0] = infinity;
+            d[i + 1][1] = i;
+        }
+        for (int j = 0; j <= b.length(); j++) {
+            d[0][j + 1] = infinity;
+            d[1][j + 1] = j;
+        }
+
+        // Última linha em que cada caractere de a apareceu
+        Map<Character, Integer> lastRow = new HashMap<>();
+        for (int i = 1; i <= a.length(); i++) {
+            char ca = a.charAt(i - 1);
+            int lastColumn = 0;
+            for (int j = 1; j <= b.length(); j++) {
+                char cb = b.charAt(j - 1);
+                int k = lastRow.getOrDefault(cb, 0);
+                int l = lastColumn;
+                int cost = 1;
+                if (ca == cb) {
+                    cost = 0;
+                    lastColumn = j;
+                }
+                int value = Math.min(Math.min(d[i][j] + cost, d[i + 1][j] + 1), d[i][j + 1] + 1);
+                d[i + 1][j + 1] = Math.min(value, d[k][l] + (i - k - 1) + 1 + (j - l - 1));
+            }
+            lastRow.put(ca, i);
+        }
+        return d[a.length() + 1][b.length() + 1];
+    }
+
+    public static String normalize(String text) {
+        if (text == null) return "";
+        String withoutAccents = Normalizer.normalize(text, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return withoutAccents.toLowerCase().trim().replaceAll("\\s+", " ");
+    }
+}
@@ -0,0 +1,32 @@
+package utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Dicionário de textos repetidos (marca e modelo dos veículos, nome e endereço das agências):
+// valores iguais passam a ser a mesma instância, no heap e nos arquivos *-DB.
+// Só recebe campos de poucos valores distintos; ids, nomes de clientes e documentos ficam de fora.
+public class StringPool {
+    private static StringPool instance;
+
+    private final Map<String, String> values = new ConcurrentHashMap<>();
+
+    public static synchronized StringPool getInstance() {
+        if (instance == null) {
+            instance = new StringPool();
+        }
+        return instance;
+    }
+
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String existing = values.putIfAbsent(value, value);
+        return existing != null ? existing : value;
+    }
+
+    public int size() {
+        return values.size();
+    }
+}
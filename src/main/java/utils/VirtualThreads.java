@@ -0,0 +1,32 @@
+package utils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class VirtualThreads {
+
+    // Uma thread virtual por tarefa quando o JDK oferece (21+). O projeto compila para o 17,
+    // então o executor é obtido por reflexão; sem ele, até maxPlatformThreads threads daemon,
+    // criadas sob demanda e descartadas quando ociosas.
+    public static ExecutorService newPerTaskExecutor(String threadName, int maxPlatformThreads) {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger counter = new AtomicInteger();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(maxPlatformThreads, maxPlatformThreads,
+                    60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, threadName + "-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+}
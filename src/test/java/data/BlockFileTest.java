@@ -0,0 +1,133 @@
+package data;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BlockFileTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void compressedRoundTripKeepsOrderAcrossBlocks() throws IOException {
+        List<String> records = records(20_000);
+        Path file = write(records, Deflater.BEST_SPEED, 3);
+
+        BlockFile.Contents contents = BlockFile.read(file);
+        assertEquals(3, contents.schema());
+        assertEquals(records, contents.records());
+        assertTrue(Files.size(file) < 20_000L * 30);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            assertTrue(BlockFile.readIndex(channel).offsets().length > 1);
+        }
+    }
+
+    @Test
+    public void levelZeroStoresBlocksUncompressed() throws IOException {
+        List<String> records = records(5_000);
+        Path file = write(records, Deflater.NO_COMPRESSION, 1);
+
+        assertEquals(records, BlockFile.read(file).records());
+    }
+
+    @Test
+    public void eachBlockReadsOnItsOwn() throws IOException {
+        List<String> records = records(20_000);
+        Path file = write(records, Deflater.DEFAULT_COMPRESSION, 1);
+
+        List<Object> joined = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            BlockFile.Index index = BlockFile.readIndex(channel);
+            // Do último para o primeiro: nenhum bloco depende de outro
+            List<List<Object>> blocks = new ArrayList<>();
+            for (int i = index.offsets().length - 1; i >= 0; i--) {
+                blocks.add(0, BlockFile.deserialize(BlockFile.readBlock(channel, index.offsets()[i]), "test",
+                        index.schema()));
+            }
+            blocks.forEach(joined::addAll);
+        }
+        assertEquals(records, joined);
+    }
+
+    @Test
+    public void encodedBlocksAreWrittenInOrder() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("test-DB");
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            BlockFile.Writer writer = new BlockFile.Writer(out, 2);
+            writer.append(BlockFile.encode(List.of("a", "b"), 6));
+            writer.append(BlockFile.encode(List.of("c"), 0));
+            writer.finish();
+            assertEquals(2, writer.blockCount());
+        }
+
+        assertEquals(List.of("a", "b", "c"), BlockFile.read(file).records());
+    }
+
+    @Test
+    public void corruptedBlockIsRejected() throws IOException {
+        Path file = write(records(2_000), Deflater.BEST_SPEED, 1);
+        try (RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")) {
+            raw.seek(40);
+            int value = raw.read();
+            raw.seek(40);
+            raw.write(value ^ 0xFF);
+        }
+
+        try {
+            BlockFile.read(file);
+            fail("o bloco corrompido deveria ser recusado");
+        } catch (IOException expected) {
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void truncatedFileIsRejected() throws IOException {
+        Path file = write(records(2_000), Deflater.BEST_SPEED, 1);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 5);
+        }
+        BlockFile.read(file);
+    }
+
+    @Test
+    public void streamFilesAreNotBlockFiles() throws IOException {
+        Path stream = folder.getRoot().toPath().resolve("stream-DB");
+        DataPersistence.save(List.of("a"), stream.toString());
+
+        assertFalse(BlockFile.isBlockFile(stream));
+        assertTrue(BlockFile.isBlockFile(write(List.of("a"), 6, 1)));
+    }
+
+    private Path write(List<String> records, int level, int schema) throws IOException {
+        Path file = Files.createTempFile(folder.getRoot().toPath(), "test-", "-DB");
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            BlockFile.write(records, out, level, schema);
+        }
+        return file;
+    }
+
+    private static List<String> records(int count) {
+        List<String> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            records.add("Locação " + i + " na agência " + (i % 7));
+        }
+        return records;
+    }
+}
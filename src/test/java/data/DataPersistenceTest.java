@@ -0,0 +1,112 @@
+package data;
+
+import model.agency.Agency;
+import model.vehicle.Car;
+import model.vehicle.Vehicle;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import utils.IdGenerator;
+import utils.StringPool;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class DataPersistenceTest {
+    private static final String LONG_MODEL = "Onix Plus Premier 1.0 Turbo Automático ".repeat(8);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final Agency agency = new Agency("A1", "Centro", "Rua 1", "21999999999");
+
+    @Test
+    public void loadedTextsAreTheInternedInstances() {
+        Path file = file("vehicle-DB");
+        List<Vehicle> vehicles = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            // Cópias distintas do mesmo texto, como chegam da interface
+            vehicles.add(car(new String("Onix".toCharArray()), new String("Chevrolet".toCharArray())));
+        }
+        DataPersistence.save(vehicles, file.toString());
+
+        List<Vehicle> loaded = DataPersistence.load(file.toString());
+        assertEquals(10, loaded.size());
+        String model = StringPool.getInstance().intern("Onix");
+        for (Vehicle vehicle : loaded) {
+            assertSame(model, vehicle.getModel());
+            assertSame(StringPool.getInstance().intern("Chevrolet"), vehicle.getBrand());
+            assertSame(loaded.get(0).getAgency().getName(), vehicle.getAgency().getName());
+        }
+    }
+
+    @Test
+    public void repeatedTextIsWrittenOnce() throws IOException {
+        List<Vehicle> repeated = new ArrayList<>();
+        List<Vehicle> distinct = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            repeated.add(car(LONG_MODEL, "Chevrolet"));
+            distinct.add(car(LONG_MODEL + i, "Chevrolet"));
+        }
+        Path repeatedFile = file("vehicle-repeated-DB");
+        Path distinctFile = file("vehicle-distinct-DB");
+        DataPersistence.save(repeated, repeatedFile.toString());
+        DataPersistence.save(distinct, distinctFile.toString());
+
+        // Repetido, o modelo vai uma vez e o resto é referência: cada veículo custa menos que o próprio modelo
+        long textBytes = 2_000L * LONG_MODEL.length();
+        assertTrue(Files.size(repeatedFile) / 2_000 < LONG_MODEL.length() / 2);
+        assertTrue(Files.size(distinctFile) - Files.size(repeatedFile) > textBytes * 9 / 10);
+    }
+
+    @Test
+    public void fileCarriesOnlyItsOwnTexts() throws IOException {
+        // Outra agência no mesmo processo não entra no arquivo desta
+        new Agency("A2", "Agência Norte Exclusiva", "Avenida Norte Exclusiva, 900", "21999999998");
+        Path file = file("vehicle-A1-DB");
+        DataPersistence.save(List.of(car("Gol", "VW")), file.toString());
+
+        String contents = new String(Files.readAllBytes(file), StandardCharsets.ISO_8859_1);
+        assertFalse(contents.contains("Norte Exclusiva"));
+        assertTrue(contents.contains("Gol"));
+    }
+
+    @Test
+    public void oldDictionarySectionIsSkipped() throws IOException {
+        Path file = file("vehicle-DB");
+        List<Vehicle> vehicles = new ArrayList<>(List.of(car("Gol", "VW")));
+        try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeObject("codersrental:schema");
+            out.writeInt(1);
+            out.writeObject("codersrental:dictionary:1");
+            out.writeObject(new String[]{"Gol", "VW", "Texto que ninguém usa mais"});
+            out.writeObject(vehicles);
+        }
+        int pooled = StringPool.getInstance().size();
+
+        List<Vehicle> loaded = DataPersistence.load(file.toString());
+        assertEquals(1, loaded.size());
+        assertSame(StringPool.getInstance().intern("Gol"), loaded.get(0).getModel());
+        // Só os textos da lista entram no dicionário do processo
+        assertEquals(pooled, StringPool.getInstance().size());
+    }
+
+    private Vehicle car(String model, String brand) {
+        return new Car(IdGenerator.getInstance().nextId(), "ABC1D23", model, brand, agency);
+    }
+
+    private Path file(String name) {
+        return folder.getRoot().toPath().resolve(name);
+    }
+}
@@ -0,0 +1,63 @@
+package data;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RecordJournalTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void appendedRecordsReadBackInOrder() {
+        String dataFile = dataFile();
+        RecordJournal journal = new RecordJournal(dataFile);
+        journal.append("primeiro");
+        journal.append("segundo");
+        assertEquals(2, journal.size());
+
+        RecordJournal reopened = new RecordJournal(dataFile);
+        assertEquals(List.of("primeiro", "segundo"), reopened.read());
+        assertEquals(2, reopened.size());
+    }
+
+    @Test
+    public void truncatedLastRecordIsDiscarded() throws IOException {
+        String dataFile = dataFile();
+        RecordJournal journal = new RecordJournal(dataFile);
+        journal.append("primeiro");
+        journal.append("segundo");
+        // Queda no meio da gravação do segundo registro
+        try (FileChannel channel = FileChannel.open(Path.of(RecordJournal.fileOf(dataFile)), StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        assertEquals(List.of("primeiro"), new RecordJournal(dataFile).read());
+    }
+
+    @Test
+    public void clearRemovesTheJournal() {
+        String dataFile = dataFile();
+        RecordJournal journal = new RecordJournal(dataFile);
+        journal.append("primeiro");
+        journal.clear();
+
+        assertEquals(0, journal.size());
+        assertTrue(new RecordJournal(dataFile).read().isEmpty());
+        assertFalse(Path.of(RecordJournal.fileOf(dataFile)).toFile().exists());
+    }
+
+    private String dataFile() {
+        return folder.getRoot().toPath().resolve("reservation-DB").toString();
+    }
+}
@@ -0,0 +1,96 @@
+package data;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SchemaInputStreamTest {
+    // Como a classe era gravada
+    static class Plate implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        final String number;
+        final int year;
+
+        Plate(String number, int year) {
+            this.number = number;
+            this.year = year;
+        }
+    }
+
+    // Renomeada, com os mesmos campos e outro serialVersionUID
+    static class LicensePlate implements Serializable {
+        private static final long serialVersionUID = 2L;
+
+        final String number;
+        final int year;
+
+        LicensePlate(String number, int year) {
+            this.number = number;
+            this.year = year;
+        }
+    }
+
+    @Test
+    public void renamedClassReadsTheStoredRecords() throws Exception {
+        byte[] stored = serialize(List.of(new Plate("ABC1D23", 2020), new Plate("XYZ9K87", 2024)));
+        Map<String, Class<?>> classes = Map.of(Plate.class.getName(), LicensePlate.class);
+
+        List<?> records;
+        try (SchemaInputStream in = new SchemaInputStream(new ByteArrayInputStream(stored), from -> classes, 1)) {
+            records = (List<?>) in.readObject();
+        }
+
+        assertEquals(2, records.size());
+        LicensePlate first = (LicensePlate) records.get(0);
+        assertEquals("ABC1D23", first.number);
+        assertEquals(2020, first.year);
+        assertEquals("XYZ9K87", ((LicensePlate) records.get(1)).number);
+    }
+
+    @Test
+    public void classesFollowTheVersionOfTheStream() throws Exception {
+        byte[] stored = serialize(new Plate("ABC1D23", 2020));
+
+        // Só os registros da versão 1 trocam de classe; na 2 o nome gravado já é o atual
+        try (SchemaInputStream in = new SchemaInputStream(new ByteArrayInputStream(stored),
+                from -> from == 1 ? Map.of(Plate.class.getName(), LicensePlate.class) : Map.of(), 2)) {
+            in.version(1);
+            assertTrue(in.readObject() instanceof LicensePlate);
+        }
+        try (SchemaInputStream in = new SchemaInputStream(new ByteArrayInputStream(stored),
+                from -> from == 1 ? Map.of(Plate.class.getName(), LicensePlate.class) : Map.of(), 1)) {
+            in.version(2);
+            assertTrue(in.readObject() instanceof Plate);
+        }
+    }
+
+    @Test(expected = InvalidClassException.class)
+    public void differentFieldsWithoutALegacyCopyAreRejected() throws Exception {
+        byte[] stored = serialize(new Plate("ABC1D23", 2020));
+
+        // A classe indicada não tem os campos gravados nem o mesmo nome: a leitura precisa recusar
+        try (SchemaInputStream in = new SchemaInputStream(new ByteArrayInputStream(stored),
+                from -> Map.of(Plate.class.getName(), String.class), 1)) {
+            in.readObject();
+        }
+    }
+
+    private static byte[] serialize(Object record) throws IOException {
+        ByteArrayOutputStream raw = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(raw)) {
+            out.writeObject(record);
+        }
+        return raw.toByteArray();
+    }
+}
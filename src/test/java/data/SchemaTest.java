@@ -0,0 +1,157 @@
+package data;
+
+import enums.CustomerType;
+import model.agency.Agency;
+import model.customer.Customer;
+import model.customer.Individual;
+import model.rental.Rental;
+import model.vehicle.Car;
+import model.vehicle.Vehicle;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import utils.IdGenerator;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SchemaTest {
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 3, 10, 9, 0);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final Agency agency = new Agency("A1", "Centro", "Rua 1", "21999999999");
+    private final Vehicle vehicle = new Car("V1", "ABC1D23", "Gol", "VW", agency);
+    private final Customer customer = new Individual("C1", "Ana", "21988887777", "52998224725", CustomerType.INDIVIDUAL);
+
+    @Test
+    public void storeComesFromTheFileName() {
+        assertEquals("rental", Schema.storeOf("rental-DB"));
+        assertEquals("rental", Schema.storeOf("shards/rental-A1-DB"));
+        assertEquals(2, Schema.currentOf("shards/rental-A1-DB"));
+        assertEquals(Schema.INITIAL_VERSION, Schema.current("agency"));
+    }
+
+    @Test
+    public void olderVersionsPass() throws IOException {
+        Schema.check("rental-DB", 1);
+        Schema.check("rental-DB", 2);
+    }
+
+    @Test(expected = IOException.class)
+    public void newerVersionIsRejected() throws IOException {
+        Schema.check("rental-DB", 3);
+    }
+
+    @Test
+    public void upgradeFillsTheFeesOfOldRentals() {
+        Rental old = rental(null);
+        Rental charged = rental(new BigDecimal("50.00"));
+        List<Object> records = new ArrayList<>(List.of(old, charged));
+
+        Schema.upgrade("rental", 1, records);
+
+        assertSame(old, records.get(0));
+        assertEquals(BigDecimal.ZERO, old.getFees());
+        assertEquals(new BigDecimal("50.00"), charged.getFees());
+    }
+
+    @Test
+    public void upgradeFromTheCurrentVersionChangesNothing() {
+        Rental rental = rental(null);
+        Schema.upgrade("rental", 2, new ArrayList<>(List.of(rental)));
+
+        assertNull(rental.getFees());
+    }
+
+    @Test
+    public void streamFileOfVersionOneLoadsMigrated() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("rental-DB");
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            DataPersistence.write(new ArrayList<>(List.of(rental(null))), out, 1);
+        }
+
+        List<Rental> loaded = DataPersistence.load(file.toString());
+        assertEquals(1, loaded.size());
+        assertEquals(BigDecimal.ZERO, loaded.get(0).getFees());
+    }
+
+    @Test
+    public void blockFileOfVersionOneLoadsMigrated() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("rental-DB");
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            BlockFile.write(List.of(rental(null), rental(null)), out, 6, 1);
+        }
+
+        List<Rental> loaded = DataPersistence.load(file.toString());
+        assertEquals(2, loaded.size());
+        loaded.forEach(rental -> assertEquals(BigDecimal.ZERO, rental.getFees()));
+    }
+
+    @Test
+    public void fileWithoutVersionIsVersionOne() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("rental-DB");
+        // Arquivos anteriores ao schema trazem só a lista
+        try (ObjectOutputStream out = new ObjectOutputStream(Files.newOutputStream(file))) {
+            out.writeObject(new ArrayList<>(List.of(rental(null))));
+        }
+
+        assertEquals(Schema.INITIAL_VERSION, DataPersistence.read(file).schema());
+        assertEquals(BigDecimal.ZERO, DataPersistence.<Rental>load(file.toString()).get(0).getFees());
+    }
+
+    @Test
+    public void migratorRewritesOnlyOlderFiles() throws Exception {
+        Path directory = folder.getRoot().toPath();
+        Files.createDirectories(directory.resolve("shards"));
+        List<Rental> rentals = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            rentals.add(rental(null));
+        }
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(directory.resolve("shards/rental-A1-DB")))) {
+            BlockFile.write(rentals, out, 6, 1);
+        }
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(directory.resolve("agency-DB")))) {
+            DataPersistence.write(List.of(agency), out, 1);
+        }
+
+        List<SchemaMigrator.Result> results = SchemaMigrator.migrate(directory);
+
+        assertEquals(2, results.size());
+        for (SchemaMigrator.Result result : results) {
+            if (result.fileName().endsWith("rental-A1-DB")) {
+                assertTrue(result.migrated());
+                assertEquals(1500, result.records());
+            } else {
+                assertFalse(result.migrated());
+            }
+        }
+        Path migrated = directory.resolve("shards/rental-A1-DB");
+        assertEquals(2, DataPersistence.read(migrated).schema());
+        List<Rental> loaded = DataPersistence.load(migrated.toString());
+        assertEquals(1500, loaded.size());
+        assertEquals(rentals.get(1499).getId(), loaded.get(1499).getId());
+        loaded.forEach(rental -> assertEquals(BigDecimal.ZERO, rental.getFees()));
+    }
+
+    private Rental rental(BigDecimal fees) {
+        Rental rental = new Rental(IdGenerator.getInstance().nextId(), customer, vehicle, agency, DAY, DAY.plusDays(3));
+        rental.setFees(fees);
+        return rental;
+    }
+}
@@ -0,0 +1,43 @@
+package data;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ShardFilesTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void onlyShardsOfThePrefixCount() {
+        String directory = new File(folder.getRoot(), "shards").getPath();
+        ShardFiles vehicles = new ShardFiles(directory, "vehicle");
+        ShardFiles rentals = new ShardFiles(directory, "rental");
+
+        assertFalse(vehicles.exists());
+        vehicles.save("A1", List.of("V1", "V2"));
+
+        assertTrue(vehicles.exists());
+        assertFalse(rentals.exists());
+        assertTrue(rentals.loadAll().isEmpty());
+    }
+
+    @Test
+    public void loadsEveryShardByAgency() {
+        ShardFiles files = new ShardFiles(folder.getRoot().getPath(), "rental");
+        files.save("A1", List.of("R1", "R2"));
+        files.save("A-2", List.of("R3"));
+
+        Map<String, List<String>> shards = files.loadAll();
+        assertEquals(Map.of("A1", List.of("R1", "R2"), "A-2", List.of("R3")), shards);
+        assertEquals(new File(folder.getRoot(), "rental-A1-DB").getPath(), files.fileOf("A1"));
+    }
+}
@@ -0,0 +1,96 @@
+package events;
+
+import enums.CustomerType;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class EventBusTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void capacityMustBeAPowerOfTwo() {
+        new EventBus(12);
+    }
+
+    @Test
+    public void everySubscriberGetsEveryEventInPublishOrder() throws Exception {
+        // Buffer bem menor que o total: os publicadores esperam os assinantes (contrapressão)
+        EventBus bus = new EventBus(8);
+        List<DomainEvent> fast = Collections.synchronizedList(new ArrayList<>());
+        List<DomainEvent> slow = Collections.synchronizedList(new ArrayList<>());
+        bus.subscribe("fast", fast::addAll);
+        bus.subscribe("slow", events -> {
+            slow.addAll(events);
+            Thread.onSpinWait();
+        });
+
+        int publishers = 4;
+        int perPublisher = 2000;
+        CountDownLatch done = new CountDownLatch(publishers);
+        for (int p = 0; p < publishers; p++) {
+            String customerId = "C" + p;
+            new Thread(() -> {
+                for (int i = 0; i < perPublisher; i++) {
+                    bus.publish(event(customerId, i));
+                }
+                done.countDown();
+            }).start();
+        }
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        bus.stop();
+
+        assertEquals(publishers * perPublisher, bus.getPublishedCount());
+        for (List<DomainEvent> received : List.of(fast, slow)) {
+            assertEquals(publishers * perPublisher, received.size());
+            // A ordem de cada agregado é a ordem em que foi publicado
+            Map<String, Integer> last = new HashMap<>();
+            for (DomainEvent event : received) {
+                int sequence = Integer.parseInt(((DomainEvent.CustomerUpdated) event).name());
+                assertEquals(last.getOrDefault(event.aggregateId(), -1) + 1, sequence);
+                last.put(event.aggregateId(), sequence);
+            }
+        }
+    }
+
+    @Test
+    public void failingSubscriberKeepsReceiving() throws Exception {
+        EventBus bus = new EventBus(4);
+        List<DomainEvent> received = Collections.synchronizedList(new ArrayList<>());
+        bus.subscribe("failing", events -> {
+            received.addAll(events);
+            throw new IllegalStateException("falha no assinante");
+        });
+
+        for (int i = 0; i < 20; i++) {
+            bus.publish(event("C1", i));
+        }
+        bus.stop();
+
+        assertEquals(20, received.size());
+    }
+
+    @Test
+    public void subscriberOnlyGetsLaterEvents() {
+        EventBus bus = new EventBus(4);
+        bus.publish(event("C1", 0));
+        List<DomainEvent> received = Collections.synchronizedList(new ArrayList<>());
+        bus.subscribe("late", received::addAll);
+        bus.publish(event("C1", 1));
+        bus.stop();
+
+        assertEquals(List.of(event("C1", 1)), received);
+    }
+
+    private static DomainEvent event(String customerId, int sequence) {
+        return new DomainEvent.CustomerUpdated(customerId, CustomerType.INDIVIDUAL, String.valueOf(sequence));
+    }
+}
@@ -0,0 +1,79 @@
+package export;
+
+import config.AppContext;
+import dto.CreateRentalDTO;
+import enums.CustomerType;
+import model.agency.Agency;
+import model.customer.Individual;
+import model.rental.Rental;
+import model.vehicle.Car;
+import org.junit.After;
+import org.junit.Test;
+import utils.IdGenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class DataExporterTest {
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 3, 10, 9, 0);
+
+    private final AppContext context = AppContext.inMemory();
+
+    @After
+    public void stop() {
+        context.stop();
+    }
+
+    @Test
+    public void rentalsCarryFeesAndTotalCost() throws IOException {
+        Rental rental = closedRental(new BigDecimal("35.50"));
+
+        List<String> lines = export(ExportFormat.CSV);
+        List<String> header = List.of(lines.get(0).split(","));
+        String[] row = lines.stream().filter(line -> line.startsWith(rental.getId() + ",")).findFirst()
+                .orElseThrow().split(",", -1);
+
+        assertEquals(header.size(), row.length);
+        assertEquals(0, new BigDecimal("35.50").compareTo(new BigDecimal(row[header.indexOf("fees")])));
+        assertEquals(0, rental.calculateTotalCost().compareTo(new BigDecimal(row[header.indexOf("totalCost")])));
+    }
+
+    @Test
+    public void ndjsonCarriesTheSameAmounts() throws IOException {
+        Rental rental = closedRental(BigDecimal.ZERO);
+
+        String line = export(ExportFormat.NDJSON).stream().filter(text -> text.contains(rental.getId()))
+                .findFirst().orElse(null);
+        assertNotNull(line);
+        assertTrue(line.contains("\"fees\":0"));
+        assertTrue(line.contains("\"totalCost\":" + rental.calculateTotalCost().toPlainString()));
+    }
+
+    private Rental closedRental(BigDecimal fees) {
+        IdGenerator ids = IdGenerator.getInstance();
+        Agency agency = new Agency("A1", "Centro", "Rua 1", "21999999999");
+        Car car = new Car(ids.nextId(), "ABC1D23", "Gol", "VW", agency);
+        Individual customer = new Individual(ids.nextId(), "Ana", "21988887777", "52998224725", CustomerType.INDIVIDUAL);
+        Rental rental = context.getRentalService().createRental(
+                new CreateRentalDTO(customer, car, agency, DAY, DAY.plusDays(2)));
+        rental.setFees(fees);
+        return context.getRentalService().closeRental(rental, agency, DAY.plusDays(2));
+    }
+
+    private List<String> export(ExportFormat format) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ChannelWriter out = new ChannelWriter(Channels.newChannel(bytes))) {
+            DataExporter.export(ExportSnapshot.capture(context), DataExporter.Entity.RENTALS, format, out);
+        }
+        return bytes.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+}
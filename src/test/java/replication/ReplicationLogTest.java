@@ -0,0 +1,156 @@
+package replication;
+
+import model.agency.Agency;
+import org.junit.Test;
+import repository.Page;
+import repository.agency.AgencyRepository;
+
+import java.io.ByteArrayInputStream;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ReplicationLogTest {
+
+    @Test
+    public void savesAndUpdatesAreLoggedInOrder() throws Exception {
+        ReplicationLog log = new ReplicationLog(16);
+        AgencyRepository agencies = log.record(AgencyRepository.class, new ListAgencyRepository());
+
+        agencies.save(new Agency("A1", "Centro", "Rua 1", "21999999999"));
+        agencies.update(new Agency("A1", "Centro Novo", "Rua 1", "21999999999"));
+        agencies.findAll();
+        agencies.findById("A1");
+
+        List<ReplicationLog.Entry> entries = log.readAfter(0, 10, 0);
+        assertEquals(2, entries.size());
+        assertEquals(1, entries.get(0).sequence());
+        assertEquals(2, entries.get(1).sequence());
+        assertEquals("Centro", ((Agency) read(entries.get(0))).getName());
+        assertEquals("Centro Novo", ((Agency) read(entries.get(1))).getName());
+    }
+
+    @Test
+    public void replicaCatchesUpFromItsPosition() throws Exception {
+        ReplicationLog log = new ReplicationLog(16);
+        for (int i = 1; i <= 10; i++) {
+            log.append(agency(i));
+        }
+
+        List<ReplicationLog.Entry> batch = log.readAfter(4, 3, 0);
+        assertEquals(List.of(5L, 6L, 7L), batch.stream().map(ReplicationLog.Entry::sequence).toList());
+        assertTrue(log.readAfter(10, 10, 0).isEmpty());
+    }
+
+    @Test
+    public void replicaBehindTheBufferNeedsTheSnapshot() throws Exception {
+        ReplicationLog log = new ReplicationLog(8);
+        for (int i = 1; i <= 20; i++) {
+            log.append(agency(i));
+        }
+
+        assertNull(log.readAfter(5, 10, 0));
+        assertEquals(8, log.readAfter(12, 10, 0).size());
+    }
+
+    @Test
+    public void snapshotHasEveryEntityAndTheLogPosition() throws Exception {
+        ReplicationLog log = new ReplicationLog(16);
+        AgencyRepository agencies = log.record(AgencyRepository.class, new ListAgencyRepository());
+        agencies.save(agency(1));
+        agencies.save(agency(2));
+
+        ReplicationLog.Snapshot snapshot = log.snapshot();
+        assertEquals(2, snapshot.position());
+        assertEquals(2, snapshot.entries().size());
+        assertEquals("A2", ((Agency) read(snapshot.entries().get(1))).getId());
+    }
+
+    @Test
+    public void waitingReaderWakesOnAppend() throws Exception {
+        ReplicationLog log = new ReplicationLog(16);
+        CountDownLatch waiting = new CountDownLatch(1);
+        List<ReplicationLog.Entry> received = new ArrayList<>();
+        Thread reader = new Thread(() -> {
+            try {
+                waiting.countDown();
+                received.addAll(log.readAfter(0, 10, TimeUnit.SECONDS.toMillis(30)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        reader.start();
+        waiting.await();
+        Thread.sleep(50);
+        log.append(agency(1));
+        reader.join(TimeUnit.SECONDS.toMillis(10));
+
+        assertEquals(1, received.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void capacityMustBeAPowerOfTwo() {
+        new ReplicationLog(10);
+    }
+
+    private static Agency agency(int i) {
+        return new Agency("A" + i, "Agência " + i, "Rua " + i, "21999999999");
+    }
+
+    private static Object read(ReplicationLog.Entry entry) throws Exception {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(entry.payload()))) {
+            return in.readObject();
+        }
+    }
+
+    private static class ListAgencyRepository implements AgencyRepository {
+        private final List<Agency> agencies = new ArrayList<>();
+
+        @Override
+        public Agency save(Agency entity) {
+            agencies.add(entity);
+            return entity;
+        }
+
+        @Override
+        public Agency update(Agency entity) {
+            return entity;
+        }
+
+        @Override
+        public Agency findById(String id) {
+            return agencies.stream().filter(agency -> agency.getId().equals(id)).findFirst().orElse(null);
+        }
+
+        @Override
+        public List<Agency> findAll() {
+            return new ArrayList<>(agencies);
+        }
+
+        @Override
+        public Page<Agency> findPage(Predicate<Agency> filter, String cursor, int limit) {
+            return Page.of(agencies, filter, cursor, limit);
+        }
+
+        @Override
+        public void saveData() {
+        }
+
+        @Override
+        public List<Agency> searchByName(String name) {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public Agency findByName(String name) {
+            return null;
+        }
+    }
+}
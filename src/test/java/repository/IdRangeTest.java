@@ -0,0 +1,59 @@
+package repository;
+
+import org.junit.Test;
+import utils.EntityId;
+import utils.IdGenerator;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class IdRangeTest {
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    public void findsIdsCreatedInThePeriodAfterLegacyIds() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            ids.add(UUID.randomUUID().toString());
+        }
+        // Dez ids por hora, ao longo de um dia
+        for (int hour = 0; hour < 24; hour++) {
+            IdGenerator generator = new IdGenerator(Clock.fixed(START.plusSeconds(hour * 3600L), ZoneOffset.UTC));
+            if (!ids.isEmpty()) {
+                generator.advancePast(ids.get(ids.size() - 1));
+            }
+            for (int i = 0; i < 10; i++) {
+                ids.add(generator.nextId());
+            }
+        }
+
+        Instant from = START.plusSeconds(5 * 3600);
+        Instant to = START.plusSeconds(8 * 3600);
+        List<String> found = IdRange.createdBetween(ids, Function.identity(), from, to);
+
+        assertEquals(30, found.size());
+        for (String id : found) {
+            Instant createdAt = EntityId.createdAt(id);
+            assertTrue(!createdAt.isBefore(from) && createdAt.isBefore(to));
+        }
+    }
+
+    @Test
+    public void emptyWhenNothingWasCreatedInThePeriod() {
+        List<String> ids = List.of(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        assertTrue(IdRange.createdBetween(ids, Function.identity(), START, START.plusSeconds(60)).isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsInvertedPeriod() {
+        IdRange.checkPeriod(START, START);
+    }
+}
@@ -0,0 +1,51 @@
+package repository.cache;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class FrequencySketchTest {
+
+    @Test
+    public void countsUpToFifteen() {
+        FrequencySketch sketch = new FrequencySketch(1000);
+        for (int i = 0; i < 5; i++) {
+            sketch.increment("A");
+        }
+        assertEquals(5, sketch.frequency("A"));
+
+        for (int i = 0; i < 20; i++) {
+            sketch.increment("B");
+        }
+        assertEquals(15, sketch.frequency("B"));
+    }
+
+    @Test
+    public void neverUnderestimates() {
+        FrequencySketch sketch = new FrequencySketch(1000);
+        for (int key = 0; key < 500; key++) {
+            for (int i = 0; i < key % 10; i++) {
+                sketch.increment("K" + key);
+            }
+        }
+        for (int key = 0; key < 500; key++) {
+            assertTrue(sketch.frequency("K" + key) >= key % 10);
+        }
+    }
+
+    @Test
+    public void oldPopularityAges() {
+        FrequencySketch sketch = new FrequencySketch(1000);
+        for (int i = 0; i < 12; i++) {
+            sketch.increment("antiga");
+        }
+        assertTrue(sketch.frequency("antiga") >= 12);
+
+        // Com 10 × tamanho incrementos, os contadores caem pela metade
+        for (int i = 12; i < 10_000; i++) {
+            sketch.increment("K" + i);
+        }
+        assertTrue(sketch.frequency("antiga") < 12);
+    }
+}
@@ -0,0 +1,81 @@
+package repository.cache;
+
+import metrics.CacheStats;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TinyLfuCacheTest {
+
+    @Test
+    public void neverHoldsMoreThanTheMaximum() {
+        TinyLfuCache<String> cache = new TinyLfuCache<>(100);
+        Random random = new Random(1);
+        for (int i = 0; i < 10_000; i++) {
+            String key = "K" + random.nextInt(1000);
+            if (cache.get(key) == null) {
+                cache.put(key, key);
+            }
+            assertTrue(cache.stats().size() <= 100);
+        }
+        CacheStats stats = cache.stats();
+        assertEquals(10_000, stats.hits() + stats.misses());
+        assertTrue(stats.evictions() > 0);
+    }
+
+    @Test
+    public void returnsTheLatestValue() {
+        TinyLfuCache<String> cache = new TinyLfuCache<>(10);
+        cache.put("A", "1");
+        cache.put("A", "2");
+        assertEquals("2", cache.get("A"));
+
+        cache.invalidate("A");
+        assertNull(cache.get("A"));
+    }
+
+    @Test
+    public void scanDoesNotEvictPopularKeys() {
+        EntityCache<String> tinyLfu = new TinyLfuCache<>(100);
+        EntityCache<String> lru = new LruCache<>(100);
+        double tinyLfuHitRate = hotKeyHitRate(tinyLfu);
+        double lruHitRate = hotKeyHitRate(lru);
+
+        assertTrue("W-TinyLFU " + tinyLfuHitRate + ", LRU " + lruHitRate, tinyLfuHitRate > lruHitRate);
+        assertTrue(tinyLfuHitRate > 0.8);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsEmptyCache() {
+        EntityCache.create(EvictionPolicy.TINY_LFU, 0);
+    }
+
+    // 50 chaves populares intercaladas com uma varredura de chaves vistas uma única vez
+    private static double hotKeyHitRate(EntityCache<String> cache) {
+        long hits = 0;
+        long requests = 0;
+        int scan = 0;
+        for (int round = 0; round < 200; round++) {
+            for (int hot = 0; hot < 50; hot++) {
+                String key = "hot" + hot;
+                requests++;
+                if (cache.get(key) != null) {
+                    hits++;
+                } else {
+                    cache.put(key, key);
+                }
+            }
+            for (int i = 0; i < 100; i++) {
+                String key = "scan" + scan++;
+                if (cache.get(key) == null) {
+                    cache.put(key, key);
+                }
+            }
+        }
+        return (double) hits / requests;
+    }
+}
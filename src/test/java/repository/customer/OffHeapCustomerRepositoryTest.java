@@ -0,0 +1,89 @@
+package repository.customer;
+
+import enums.CustomerType;
+import model.customer.Customer;
+import model.customer.Individual;
+import model.customer.LegalEntity;
+import org.junit.Test;
+import utils.IdGenerator;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class OffHeapCustomerRepositoryTest {
+    private final OffHeapCustomerRepository repository = new OffHeapCustomerRepository();
+
+    @Test
+    public void savedCustomerReadsBackFromTheRecord() {
+        Customer ana = repository.save(individual("Ana Souza", "52998224725"));
+        Customer company = repository.save(new LegalEntity(IdGenerator.getInstance().nextId(), "Locadora SA",
+                "2133334444", "11222333000181", CustomerType.LEGALENTITY));
+
+        Customer found = repository.findById(ana.getId());
+        assertEquals("Ana Souza", found.getName());
+        assertEquals("21988887777", found.getPhoneNumber());
+        assertEquals("52998224725", found.getDocumentId());
+        assertEquals(CustomerType.INDIVIDUAL, found.getType());
+        assertEquals(CustomerType.LEGALENTITY, repository.findByDocument("11222333000181").getType());
+        assertEquals(company.getId(), repository.findByDocument("11222333000181").getId());
+        assertNull(repository.findByDocument("11144477735"));
+    }
+
+    @Test
+    public void updateKeepsThePositionInTheListing() {
+        Customer ana = repository.save(individual("Ana Souza", "52998224725"));
+        Customer bia = repository.save(individual("Bia Lima", "11144477735"));
+        Customer renamed = new Individual(ana.getId(), "Ana Souza Lima", "21911112222", "52998224725",
+                CustomerType.INDIVIDUAL);
+        repository.update(renamed);
+
+        List<Customer> all = repository.findAll();
+        assertEquals(List.of(ana.getId(), bia.getId()), all.stream().map(Customer::getId).toList());
+        assertEquals("Ana Souza Lima", all.get(0).getName());
+        assertEquals("21911112222", repository.findById(ana.getId()).getPhoneNumber());
+        // A visão antiga continua com os dados de antes, como um objeto substituído
+        assertEquals("Ana Souza", ana.getName());
+    }
+
+    @Test
+    public void updateOfUnknownDocumentIsIgnored() {
+        assertNull(repository.update(individual("Ana", "52998224725")));
+    }
+
+    @Test
+    public void findByNameScansTheRecords() {
+        repository.save(individual("Ana Souza", "52998224725"));
+        repository.save(individual("Bia Souza", "11144477735"));
+        repository.save(individual("Caio Lima", "39053344705"));
+
+        assertEquals(List.of("Ana Souza", "Bia Souza"),
+                repository.findByName("Souza").stream().map(Customer::getName).toList());
+    }
+
+    @Test
+    public void viewSerializesAsAPlainCustomer() throws Exception {
+        Customer view = repository.save(individual("Ana Souza", "52998224725"));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(view);
+        }
+        Customer copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (Customer) in.readObject();
+        }
+        assertEquals(Individual.class, copy.getClass());
+        assertEquals(view.getId(), copy.getId());
+        assertEquals("52998224725", copy.getDocumentId());
+    }
+
+    private static Customer individual(String name, String document) {
+        return new Individual(IdGenerator.getInstance().nextId(), name, "21988887777", document, CustomerType.INDIVIDUAL);
+    }
+}
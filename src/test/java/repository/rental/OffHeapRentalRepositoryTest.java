@@ -0,0 +1,141 @@
+package repository.rental;
+
+import enums.CustomerType;
+import model.agency.Agency;
+import model.customer.Customer;
+import model.customer.Individual;
+import model.rental.Rental;
+import model.vehicle.Car;
+import model.vehicle.Vehicle;
+import org.junit.Test;
+import utils.IdGenerator;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class OffHeapRentalRepositoryTest {
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 3, 10, 9, 0);
+
+    private final OffHeapRentalRepository repository = new OffHeapRentalRepository();
+    private final Agency agency = new Agency("A1", "Centro", "Rua 1", "21999999999");
+    private final Agency otherAgency = new Agency("A2", "Norte", "Rua 2", "21999999998");
+    private final Vehicle vehicle = new Car("V1", "ABC1D23", "Gol", "VW", agency);
+    private final Customer ana = new Individual("C1", "Ana", "21988887777", "52998224725", CustomerType.INDIVIDUAL);
+    private final Customer bia = new Individual("C2", "Bia", "21988887776", "11144477735", CustomerType.INDIVIDUAL);
+
+    @Test
+    public void savedRentalReadsBackFromTheRecord() {
+        Rental saved = repository.save(rental(ana));
+        Rental found = repository.findById(saved.getId());
+
+        assertEquals(saved.getId(), found.getId());
+        assertSame(ana, found.getCustomer());
+        assertSame(vehicle, found.getVehicle());
+        assertSame(agency, found.getPickUpAgency());
+        assertEquals(DAY, found.getPickUpDate());
+        assertEquals(DAY.plusDays(3), found.getEstimatedReturnDate());
+        assertNull(found.getReturnAgency());
+        assertNull(found.getActualReturnDate());
+        assertNull(repository.findById(IdGenerator.getInstance().nextId()));
+    }
+
+    @Test
+    public void viewSettersWriteTheRecord() {
+        Rental view = repository.save(rental(ana));
+        view.setReturnAgency(otherAgency);
+        view.setActualReturnDate(DAY.plusDays(2));
+        view.setFees(new BigDecimal("123.45"));
+
+        Rental found = repository.findById(view.getId());
+        assertSame(otherAgency, found.getReturnAgency());
+        assertEquals(DAY.plusDays(2), found.getActualReturnDate());
+        assertEquals(new BigDecimal("123.45"), found.getFees());
+        assertEquals(0, found.calculateTotalCost().subtract(new BigDecimal("123.45"))
+                .compareTo(withoutFees(found).calculateTotalCost()));
+    }
+
+    @Test
+    public void updateFromAHeapCopyWritesTheRecord() {
+        Rental saved = repository.save(rental(ana));
+        Rental copy = new Rental(saved.getId(), ana, vehicle, agency, DAY, DAY.plusDays(3));
+        copy.setActualReturnDate(DAY.plusDays(1));
+        copy.setReturnAgency(otherAgency);
+        copy.setFees(new BigDecimal("7.5"));
+        repository.update(copy);
+
+        Rental found = repository.findById(saved.getId());
+        assertEquals(DAY.plusDays(1), found.getActualReturnDate());
+        assertSame(otherAgency, found.getReturnAgency());
+        assertEquals(new BigDecimal("7.5"), found.getFees());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsFeesThatDoNotFitTheRecord() {
+        repository.save(rental(ana)).setFees(new BigDecimal("1e40").setScale(2));
+    }
+
+    @Test
+    public void queriesFilterByCustomerAndStatus() {
+        Rental open = repository.save(rental(ana));
+        Rental closed = repository.save(rental(bia));
+        closed.setActualReturnDate(DAY.plusDays(1));
+
+        assertEquals(ids(List.of(open, closed)), ids(repository.findAll()));
+        assertEquals(ids(List.of(open)), ids(repository.findByCustomer(ana)));
+        assertEquals(ids(List.of(open)), ids(repository.findOpenRentals()));
+        assertEquals(ids(List.of(closed)), ids(repository.findClosedRentals()));
+    }
+
+    @Test
+    public void viewSerializesAsAPlainRental() throws Exception {
+        Rental view = repository.save(rental(ana));
+        view.setFees(new BigDecimal("10.00"));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(view);
+        }
+        Rental copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (Rental) in.readObject();
+        }
+        assertEquals(Rental.class, copy.getClass());
+        assertEquals(view.getId(), copy.getId());
+        assertEquals(DAY.plusDays(3), copy.getEstimatedReturnDate());
+        assertEquals(new BigDecimal("10.00"), copy.getFees());
+    }
+
+    @Test
+    public void recordsStayOffTheHeap() {
+        for (int i = 0; i < 1000; i++) {
+            repository.save(rental(ana));
+        }
+        assertTrue(repository.getAllocatedBytes() >= 1000L * 64);
+        assertEquals(1000, repository.findAll().size());
+    }
+
+    private Rental rental(Customer customer) {
+        return new Rental(IdGenerator.getInstance().nextId(), customer, vehicle, agency, DAY, DAY.plusDays(3));
+    }
+
+    private static Rental withoutFees(Rental rental) {
+        Rental copy = new Rental(rental.getId(), rental.getCustomer(), rental.getVehicle(), rental.getPickUpAgency(),
+                rental.getPickUpDate(), rental.getEstimatedReturnDate());
+        copy.setActualReturnDate(rental.getActualReturnDate());
+        return copy;
+    }
+
+    private static List<String> ids(List<Rental> rentals) {
+        return rentals.stream().map(Rental::getId).toList();
+    }
+}
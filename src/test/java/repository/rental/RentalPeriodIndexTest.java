@@ -0,0 +1,92 @@
+package repository.rental;
+
+import enums.CustomerType;
+import model.agency.Agency;
+import model.customer.Individual;
+import model.rental.Rental;
+import model.vehicle.Car;
+import model.vehicle.Vehicle;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RentalPeriodIndexTest {
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 3, 10, 9, 0);
+
+    private final Agency agency = new Agency("A1", "Centro", "Rua 1", "21999999999");
+    private final Vehicle vehicle = new Car("V1", "ABC1D23", "Gol", "VW", agency);
+
+    @Test
+    public void openRentalOccupiesUntilEstimatedReturn() {
+        Rental rental = rental("R1", DAY, DAY.plusDays(2));
+        RentalPeriodIndex index = new RentalPeriodIndex(List.of(rental));
+
+        assertFalse(index.isAvailable("V1", DAY.plusDays(1), DAY.plusDays(3)));
+        assertTrue(index.isAvailable("V1", DAY.plusDays(2), DAY.plusDays(3)));
+        assertEquals(List.of("R1"), index.findBookings("V1", DAY, DAY.plusDays(1)));
+    }
+
+    @Test
+    public void tryBookRejectsOverlappingPeriod() {
+        RentalPeriodIndex index = new RentalPeriodIndex(List.of());
+
+        assertTrue(index.tryBookRental(rental("R1", DAY, DAY.plusDays(2))));
+        assertFalse(index.tryBookRental(rental("R2", DAY.plusDays(1), DAY.plusDays(3))));
+        assertFalse(index.tryBook("V1", "B1", DAY.minusDays(1), DAY.plusHours(1)));
+        assertTrue(index.tryBook("V1", "B2", DAY.plusDays(2), DAY.plusDays(3)));
+    }
+
+    @Test
+    public void closedRentalOccupiesUntilActualReturn() {
+        Rental rental = rental("R1", DAY, DAY.plusDays(5));
+        rental.setActualReturnDate(DAY.plusDays(1));
+        RentalPeriodIndex index = new RentalPeriodIndex(List.of(rental));
+
+        assertTrue(index.isAvailable("V1", DAY.plusDays(2), DAY.plusDays(3)));
+        assertFalse(index.isAvailable("V1", DAY.plusHours(12), DAY.plusDays(3)));
+    }
+
+    @Test
+    public void overdueRentalOccupiesVehicleUntilClosed() {
+        Rental rental = rental("R1", DAY, DAY.plusDays(2));
+        RentalPeriodIndex index = new RentalPeriodIndex(List.of(rental));
+
+        index.occupyUntilReturn(rental);
+        assertFalse(index.isAvailable("V1", DAY.plusYears(5), DAY.plusYears(5).plusDays(1)));
+        assertFalse(index.tryBook("V1", "B1", DAY.plusDays(10), DAY.plusDays(11)));
+
+        index.withVehicleLock("V1", () -> {
+            index.removeRental(rental);
+            rental.setActualReturnDate(DAY.plusDays(4));
+            index.addRental(rental);
+            return null;
+        });
+        assertTrue(index.isAvailable("V1", DAY.plusDays(4), DAY.plusDays(5)));
+        assertFalse(index.isAvailable("V1", DAY.plusDays(3), DAY.plusDays(5)));
+    }
+
+    @Test
+    public void closedRentalIsNotMarkedOverdue() {
+        Rental rental = rental("R1", DAY, DAY.plusDays(2));
+        rental.setActualReturnDate(DAY.plusDays(1));
+        RentalPeriodIndex index = new RentalPeriodIndex(List.of(rental));
+
+        index.occupyUntilReturn(rental);
+        assertTrue(index.isAvailable("V1", DAY.plusDays(1), DAY.plusDays(2)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsInvertedPeriod() {
+        new RentalPeriodIndex(List.of()).isAvailable("V1", DAY, DAY.minusDays(1));
+    }
+
+    private Rental rental(String id, LocalDateTime pickUp, LocalDateTime estimatedReturn) {
+        Individual customer = new Individual("C1", "Ana", "21988887777", "52998224725", CustomerType.INDIVIDUAL);
+        return new Rental(id, customer, vehicle, agency, pickUp, estimatedReturn);
+    }
+}
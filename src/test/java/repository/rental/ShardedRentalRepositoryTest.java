@@ -0,0 +1,147 @@
+package repository.rental;
+
+import data.DataPersistence;
+import enums.CustomerType;
+import model.agency.Agency;
+import model.customer.Customer;
+import model.customer.Individual;
+import model.rental.Rental;
+import model.vehicle.Car;
+import model.vehicle.Vehicle;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import utils.IdGenerator;
+
+import java.io.File;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ShardedRentalRepositoryTest {
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 3, 10, 9, 0);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final Agency centro = new Agency("A1", "Centro", "Rua 1", "21999999999");
+    private final Agency norte = new Agency("A2", "Norte", "Rua 2", "21999999998");
+    private final Customer customer = new Individual("C1", "Ana", "21988887777", "52998224725", CustomerType.INDIVIDUAL);
+    private final Vehicle vehicle = new Car("V1", "ABC1D23", "Gol", "VW", centro);
+    private String directory;
+    private String legacyFile;
+
+    @Before
+    public void setUp() {
+        directory = new File(folder.getRoot(), "shards").getPath();
+        legacyFile = new File(folder.getRoot(), "rental-DB").getPath();
+    }
+
+    @Test
+    public void firstRunSplitsTheGlobalFileByPickUpAgency() {
+        List<Rental> legacy = List.of(rental(centro), rental(norte), rental(centro));
+        DataPersistence.save(legacy, legacyFile);
+
+        ShardedRentalRepository repository = new ShardedRentalRepository(directory, legacyFile);
+
+        assertEquals(ids(legacy), ids(repository.findAll()));
+        assertTrue(new File(directory, "rental-A1-DB").exists());
+        assertTrue(new File(directory, "rental-A2-DB").exists());
+        assertEquals(2, DataPersistence.load(new File(directory, "rental-A1-DB").getPath()).size());
+    }
+
+    @Test
+    public void writesSurviveAReload() {
+        ShardedRentalRepository repository = new ShardedRentalRepository(directory, legacyFile);
+        Rental open = repository.save(rental(centro));
+        Rental closed = repository.save(rental(norte));
+        closed.setReturnAgency(centro);
+        closed.setActualReturnDate(DAY.plusDays(1));
+        repository.update(closed);
+
+        ShardedRentalRepository reloaded = new ShardedRentalRepository(directory, legacyFile);
+        assertEquals(ids(List.of(open, closed)), ids(reloaded.findAll()));
+        assertEquals(ids(List.of(open)), ids(reloaded.findOpenRentals()));
+        assertEquals(ids(List.of(closed)), ids(reloaded.findClosedRentals()));
+        assertEquals(DAY.plusDays(1), reloaded.findById(closed.getId()).getActualReturnDate());
+        assertNull(reloaded.findById("inexistente"));
+    }
+
+    @Test
+    public void findsRentalsCreatedInThePeriod() {
+        ShardedRentalRepository repository = new ShardedRentalRepository(directory, legacyFile);
+        Instant start = Instant.parse("2026-02-01T00:00:00Z");
+        List<Rental> created = new ArrayList<>();
+        for (int hour = 0; hour < 6; hour++) {
+            IdGenerator ids = new IdGenerator(Clock.fixed(start.plusSeconds(hour * 3600L), ZoneOffset.UTC));
+            Rental rental = new Rental(ids.nextId(), customer, vehicle, hour % 2 == 0 ? centro : norte, DAY,
+                    DAY.plusDays(1));
+            created.add(repository.save(rental));
+        }
+
+        List<Rental> found = repository.findCreatedBetween(start.plusSeconds(2 * 3600), start.plusSeconds(4 * 3600));
+        assertEquals(ids(created.subList(2, 4)), ids(found));
+    }
+
+    @Test
+    public void agenciesWriteInParallelWithoutLosingRentals() throws Exception {
+        ShardedRentalRepository repository = new ShardedRentalRepository(directory, legacyFile);
+        List<Agency> agencies = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            agencies.add(new Agency("P" + i, "Agência " + i, "Rua " + i, "2199999000" + i));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<String> saved = Collections.synchronizedList(new ArrayList<>());
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (Agency agency : agencies) {
+                writers.add(executor.submit(() -> {
+                    for (int i = 0; i < 50; i++) {
+                        saved.add(repository.save(rental(agency)).getId());
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(200, repository.findAll().size());
+        ShardedRentalRepository reloaded = new ShardedRentalRepository(directory, legacyFile);
+        List<String> reloadedIds = ids(reloaded.findAll());
+        assertEquals(200, reloadedIds.size());
+        assertTrue(reloadedIds.containsAll(saved));
+        // Ids crescem com a criação: a ordem global é a dos ids
+        List<String> sorted = new ArrayList<>(reloadedIds);
+        Collections.sort(sorted);
+        assertEquals(sorted, reloadedIds);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsRentalWithoutPickUpAgency() {
+        new ShardedRentalRepository(directory, legacyFile).save(rental(null));
+    }
+
+    private Rental rental(Agency pickUpAgency) {
+        return new Rental(IdGenerator.getInstance().nextId(), customer, vehicle, pickUpAgency, DAY, DAY.plusDays(3));
+    }
+
+    private static List<String> ids(List<Rental> rentals) {
+        return rentals.stream().map(Rental::getId).toList();
+    }
+}
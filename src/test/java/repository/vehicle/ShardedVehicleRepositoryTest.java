@@ -0,0 +1,107 @@
+package repository.vehicle;
+
+import data.DataPersistence;
+import model.agency.Agency;
+import model.vehicle.Car;
+import model.vehicle.Vehicle;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import utils.IdGenerator;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ShardedVehicleRepositoryTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final Agency centro = new Agency("A1", "Centro", "Rua 1", "21999999999");
+    private final Agency norte = new Agency("A2", "Norte", "Rua 2", "21999999998");
+    private File directory;
+    private String legacyFile;
+
+    @Before
+    public void setUp() {
+        directory = new File(folder.getRoot(), "shards");
+        legacyFile = new File(folder.getRoot(), "vehicle-DB").getPath();
+    }
+
+    @Test
+    public void returnAtAnotherAgencyMovesTheVehicleBetweenShards() {
+        ShardedVehicleRepository repository = new ShardedVehicleRepository(directory.getPath(), legacyFile);
+        Vehicle car = repository.save(car("ABC1D23", centro));
+        repository.save(car("XYZ9K88", centro));
+
+        car.setAgency(norte);
+        repository.update(car);
+
+        assertEquals(List.of(car), repository.findByAgencyId("A2"));
+        assertEquals(1, repository.findByAgencyId("A1").size());
+
+        ShardedVehicleRepository reloaded = new ShardedVehicleRepository(directory.getPath(), legacyFile);
+        assertEquals(2, reloaded.findAll().size());
+        assertEquals("A2", reloaded.findById(car.getId()).getAgency().getId());
+        assertEquals(1, reloaded.findByAgencyId("A1").size());
+        String[] journals = directory.list((dir, name) -> name.startsWith("vehicle-move"));
+        assertEquals(0, journals.length);
+    }
+
+    @Test
+    public void interruptedMoveKeepsOnlyTheCopyThatArrived() throws Exception {
+        Vehicle car = car("ABC1D23", norte);
+        Vehicle stale = new Car(car.getId(), "ABC1D23", "Gol", "VW", centro);
+        directory.mkdirs();
+        DataPersistence.save(List.of(stale), new File(directory, "vehicle-A1-DB").getPath());
+        DataPersistence.save(List.of(car), new File(directory, "vehicle-A2-DB").getPath());
+        File journal = new File(directory, "vehicle-move-" + car.getId());
+        Files.write(journal.toPath(), List.of(car.getId(), "A1", "A2"), StandardCharsets.UTF_8);
+
+        ShardedVehicleRepository repository = new ShardedVehicleRepository(directory.getPath(), legacyFile);
+
+        assertEquals(1, repository.findAll().size());
+        assertTrue(repository.findByAgencyId("A1").isEmpty());
+        assertEquals("A2", repository.findById(car.getId()).getAgency().getId());
+        assertTrue(!journal.exists());
+    }
+
+    @Test
+    public void moveThatDidNotArriveStaysAtTheSource() throws Exception {
+        Vehicle car = car("ABC1D23", centro);
+        directory.mkdirs();
+        DataPersistence.save(List.of(car), new File(directory, "vehicle-A1-DB").getPath());
+        Files.write(new File(directory, "vehicle-move-" + car.getId()).toPath(), List.of(car.getId(), "A1", "A2"),
+                StandardCharsets.UTF_8);
+
+        ShardedVehicleRepository repository = new ShardedVehicleRepository(directory.getPath(), legacyFile);
+
+        assertEquals("A1", repository.findById(car.getId()).getAgency().getId());
+        assertEquals(1, repository.findAll().size());
+    }
+
+    @Test
+    public void firstRunSplitsTheGlobalFile() {
+        Vehicle first = car("ABC1D23", centro);
+        Vehicle second = car("XYZ9K88", norte);
+        DataPersistence.save(List.of(first, second), legacyFile);
+
+        ShardedVehicleRepository repository = new ShardedVehicleRepository(directory.getPath(), legacyFile);
+
+        assertEquals(List.of(first.getId(), second.getId()),
+                repository.findAll().stream().map(Vehicle::getId).toList());
+        assertEquals(second.getId(), repository.findByPlate("xyz9k88").getId());
+        assertNull(repository.findByPlate("AAA0A00"));
+        assertTrue(new File(directory, "vehicle-A2-DB").exists());
+    }
+
+    private static Vehicle car(String plate, Agency agency) {
+        return new Car(IdGenerator.getInstance().nextId(), plate, "Gol", "VW", agency);
+    }
+}
@@ -0,0 +1,92 @@
+package service.customer;
+
+import enums.CustomerType;
+import model.customer.Customer;
+import model.customer.Individual;
+import org.junit.Test;
+import utils.StringDistance;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CustomerSearchIndexTest {
+
+    @Test
+    public void findsDocumentWithSwappedDigitsFirst() {
+        Customer exact = customer("1", "Ana Souza", "52998224725");
+        Customer swapped = customer("2", "Bia Lima", "25998224725");
+        Customer far = customer("3", "Caio Reis", "11144477735");
+        CustomerSearchIndex index = new CustomerSearchIndex(List.of(far, swapped, exact));
+
+        assertEquals(List.of(exact, swapped), index.search("529.982.247-25", 0, 10));
+    }
+
+    @Test
+    public void documentSearchFindsEveryCustomerWithinOsaDistance() {
+        Random random = new Random(3);
+        List<Customer> customers = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            customers.add(customer(String.valueOf(i), "Cliente " + i, randomDigits(random)));
+        }
+        CustomerSearchIndex index = new CustomerSearchIndex(customers);
+
+        for (int i = 0; i < 200; i++) {
+            String query = randomDigits(random);
+            Set<Customer> expected = new HashSet<>();
+            for (Customer customer : customers) {
+                if (StringDistance.damerau(query, customer.getDocumentId()) <= CustomerSearchIndex.MAX_DOCUMENT_DISTANCE) {
+                    expected.add(customer);
+                }
+            }
+            List<Customer> found = index.search(query, 0, customers.size());
+            assertEquals("busca por " + query, expected, new HashSet<>(found));
+            for (int j = 1; j < found.size(); j++) {
+                assertTrue(StringDistance.damerau(query, found.get(j - 1).getDocumentId())
+                        <= StringDistance.damerau(query, found.get(j).getDocumentId()));
+            }
+        }
+    }
+
+    @Test
+    public void findsNameByAnyPartWithoutAccents() {
+        Customer joao = customer("1", "João da Silva", "52998224725");
+        CustomerSearchIndex index = new CustomerSearchIndex(List.of(joao));
+
+        assertEquals(List.of(joao), index.search("joao", 0, 10));
+        assertEquals(List.of(joao), index.search("silav", 0, 10));
+    }
+
+    @Test
+    public void removedCustomerIsNotFound() {
+        Customer ana = customer("1", "Ana Souza", "52998224725");
+        CustomerSearchIndex index = new CustomerSearchIndex(List.of(ana));
+        index.remove(ana.getId());
+
+        assertTrue(index.search("52998224725", 0, 10).isEmpty());
+        assertTrue(index.search("ana", 0, 10).isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsInvalidPage() {
+        new CustomerSearchIndex(List.of()).search("ana", -1, 10);
+    }
+
+    private static Customer customer(String id, String name, String document) {
+        return new Individual(id, name, "21988887777", document, CustomerType.INDIVIDUAL);
+    }
+
+    // CPFs com prefixo fixo e só três dígitos no resto, para haver muitos vizinhos e transposições
+    private static String randomDigits(Random random) {
+        StringBuilder digits = new StringBuilder("9999");
+        for (int i = 0; i < 7; i++) {
+            digits.append((char) ('1' + random.nextInt(3)));
+        }
+        return digits.toString();
+    }
+}
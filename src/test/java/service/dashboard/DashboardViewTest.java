@@ -0,0 +1,107 @@
+package service.dashboard;
+
+import enums.CustomerType;
+import enums.VehicleType;
+import events.DomainEvent;
+import model.agency.Agency;
+import model.customer.Individual;
+import model.rental.Rental;
+import model.vehicle.Car;
+import model.vehicle.Vehicle;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class DashboardViewTest {
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2030-03-10T15:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+
+    private final Agency centro = new Agency("A1", "Centro", "Rua 1", "21999999999");
+
+    @Test
+    public void startsFromTheLoadedData() {
+        Vehicle rented = new Car("V1", "ABC1D23", "Gol", "VW", centro);
+        rented.setAvailable(false);
+        Vehicle free = new Car("V2", "XYZ9K88", "Onix", "GM", centro);
+        Rental open = rental("R1", rented);
+        Rental closedToday = rental("R2", free);
+        closedToday.setActualReturnDate(NOW.minusHours(1));
+
+        DashboardView.Snapshot snapshot = new DashboardView(List.of(open, closedToday), List.of(rented, free), CLOCK)
+                .snapshot();
+
+        assertEquals(Map.of("A1", 1L), snapshot.openRentalsByAgency());
+        assertEquals(1L, (long) snapshot.availableVehiclesByAgency().get("A1").get(VehicleType.CAR));
+        assertEquals(1, snapshot.rentalsClosedToday());
+        assertEquals(0, closedToday.calculateTotalCost().compareTo(snapshot.revenueToday()));
+    }
+
+    @Test
+    public void eventsMoveTheCounters() {
+        DashboardView view = new DashboardView(List.of(), List.of(), CLOCK);
+        view.onEvents(List.of(
+                new DomainEvent.VehicleSaved("V1", VehicleType.CAR, "A1", true),
+                new DomainEvent.RentalCreated("R1", "C1", "V1", VehicleType.CAR, "A1", NOW, NOW.plusDays(1))));
+
+        DashboardView.Snapshot rented = view.snapshot();
+        assertEquals(Map.of("A1", 1L), rented.openRentalsByAgency());
+        assertEquals(0L, (long) rented.availableVehiclesByAgency().get("A1").get(VehicleType.CAR));
+
+        view.onEvents(List.of(new DomainEvent.RentalClosed("R1", "V1", VehicleType.CAR, "A1", "A2", NOW,
+                new BigDecimal("150.50"))));
+
+        DashboardView.Snapshot closed = view.snapshot();
+        assertNull(closed.openRentalsByAgency().get("A1"));
+        assertEquals(1L, (long) closed.availableVehiclesByAgency().get("A2").get(VehicleType.CAR));
+        assertEquals(1, closed.rentalsClosedToday());
+        assertEquals(new BigDecimal("150.50"), closed.revenueToday());
+    }
+
+    @Test
+    public void readersNeverSeeHalfAppliedBatches() throws Exception {
+        DashboardView view = new DashboardView(List.of(), List.of(), CLOCK);
+        view.onEvents(List.of(new DomainEvent.VehicleSaved("V1", VehicleType.CAR, "A1", true)));
+
+        // Cada lote abre e encerra uma locação: entre lotes, nada fica aberto e o veículo está livre
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicReference<String> inconsistency = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            while (writing.get() && inconsistency.get() == null) {
+                DashboardView.Snapshot snapshot = view.snapshot();
+                Long open = snapshot.openRentalsByAgency().get("A1");
+                long available = snapshot.availableVehiclesByAgency().get("A1").get(VehicleType.CAR);
+                if (open != null || available != 1) {
+                    inconsistency.set("abertas=" + open + ", disponíveis=" + available);
+                }
+            }
+        });
+        reader.start();
+        for (int i = 0; i < 20_000; i++) {
+            String rentalId = "R" + i;
+            view.onEvents(List.of(
+                    new DomainEvent.RentalCreated(rentalId, "C1", "V1", VehicleType.CAR, "A1", NOW, NOW.plusDays(1)),
+                    new DomainEvent.RentalClosed(rentalId, "V1", VehicleType.CAR, "A1", "A1", NOW, BigDecimal.ONE)));
+        }
+        writing.set(false);
+        reader.join();
+
+        assertNull(inconsistency.get());
+        assertEquals(20_000, view.snapshot().rentalsClosedToday());
+    }
+
+    private Rental rental(String id, Vehicle vehicle) {
+        Individual customer = new Individual("C1", "Ana", "21988887777", "52998224725", CustomerType.INDIVIDUAL);
+        return new Rental(id, customer, vehicle, centro, NOW.minusDays(2), NOW.plusDays(1));
+    }
+}
@@ -0,0 +1,97 @@
+package service.rental;
+
+import dto.CreateRentalDTO;
+import enums.CustomerType;
+import events.EventBus;
+import model.agency.Agency;
+import model.customer.Customer;
+import model.customer.Individual;
+import model.rental.Rental;
+import model.vehicle.Car;
+import model.vehicle.Vehicle;
+import org.junit.After;
+import org.junit.Test;
+import repository.rental.InMemoryRentalRepository;
+import repository.rental.RentalPeriodIndex;
+import repository.vehicle.InMemoryVehicleRepository;
+import utils.IdGenerator;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RentalServiceImplTest {
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 3, 10, 9, 0);
+    private static final LocalDateTime DUE = DAY.plusDays(3);
+
+    private final Agency agency = new Agency("A1", "Centro", "Rua 1", "21999999999");
+    private final EventBus eventBus = new EventBus();
+    // O relógio já está dois dias depois do prazo: o agendador dispara o atraso assim que começa
+    private final OverdueRentalScheduler scheduler =
+            new OverdueRentalScheduler(Clock.fixed(DUE.plusDays(2).toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    private final RentalService service = new RentalServiceImpl(InMemoryRentalRepository.getInstance(),
+            InMemoryVehicleRepository.getInstance(), new RentalPeriodIndex(List.of()), scheduler, eventBus);
+
+    @After
+    public void stop() {
+        scheduler.stop();
+        eventBus.stop();
+    }
+
+    @Test
+    public void backdatedOnTimeReturnPaysOnlyTheBookedDays() throws InterruptedException {
+        Rental rental = openOverdueRental();
+
+        Rental closed = service.closeRental(rental, agency, DUE);
+
+        assertEquals(0, closed.getFees().signum());
+        assertEquals(0, dailyRate(rental).multiply(BigDecimal.valueOf(3)).compareTo(closed.calculateTotalCost()));
+    }
+
+    @Test
+    public void oneDayLateIsChargedOnceByTheDailyRate() throws InterruptedException {
+        Rental rental = openOverdueRental();
+
+        Rental closed = service.closeRental(rental, agency, DUE.plusDays(1));
+
+        // Quatro diárias com o desconto de mais de 3 dias, sem multa por cima
+        BigDecimal expected = dailyRate(rental).multiply(BigDecimal.valueOf(4)).multiply(BigDecimal.valueOf(0.95));
+        assertEquals(0, closed.getFees().signum());
+        assertEquals(0, expected.compareTo(closed.calculateTotalCost()));
+    }
+
+    @Test
+    public void lateDaysCountOnlyWholeDays() throws InterruptedException {
+        Rental rental = openOverdueRental();
+
+        List<OverdueRentalScheduler.OverdueStatus> overdue = service.findOverdueRentals();
+        assertEquals(1, overdue.size());
+        assertEquals(rental.getId(), overdue.get(0).rental().getId());
+        assertEquals(2, overdue.get(0).daysLate());
+        assertEquals(0, dailyRate(rental).multiply(BigDecimal.valueOf(2)).compareTo(overdue.get(0).accruedLateFee()));
+    }
+
+    private Rental openOverdueRental() throws InterruptedException {
+        IdGenerator ids = IdGenerator.getInstance();
+        Vehicle vehicle = new Car(ids.nextId(), "ABC1D23", "Gol", "VW", agency);
+        Customer customer = new Individual(ids.nextId(), "Ana", "21988887777", "52998224725", CustomerType.INDIVIDUAL);
+        Rental rental = service.createRental(new CreateRentalDTO(customer, vehicle, agency, DAY, DUE));
+
+        scheduler.start();
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (scheduler.findOverdue().stream().noneMatch(status -> status.daysLate() == 2)) {
+            assertTrue("o agendador não disparou o atraso", System.currentTimeMillis() < deadline);
+            Thread.sleep(10);
+        }
+        return rental;
+    }
+
+    private static BigDecimal dailyRate(Rental rental) {
+        return rental.getVehicle().getDailyRate();
+    }
+}
@@ -0,0 +1,106 @@
+package utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.ToIntBiFunction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BKTreeTest {
+
+    @Test
+    public void searchMatchesBruteForceWithLevenshtein() {
+        assertSameAsBruteForce(StringDistance::levenshtein);
+    }
+
+    @Test
+    public void searchMatchesBruteForceWithDamerauLevenshtein() {
+        assertSameAsBruteForce(StringDistance::damerauLevenshtein);
+    }
+
+    @Test
+    public void sameKeyKeepsEveryValue() {
+        BKTree<String> tree = new BKTree<>(StringDistance::levenshtein);
+        tree.add("silva", "a");
+        tree.add("silva", "b");
+        tree.add("sylva", "c");
+
+        List<String> found = new ArrayList<>();
+        for (BKTree.Match<String> match : tree.search("silva", 0)) {
+            found.add(match.value());
+        }
+        assertEquals(List.of("a", "b"), found);
+        assertEquals(3, tree.size());
+    }
+
+    @Test
+    public void removeDropsOnlyThatValue() {
+        BKTree<String> tree = new BKTree<>(StringDistance::levenshtein);
+        tree.add("souza", "a");
+        tree.add("souza", "b");
+        tree.add("sousa", "c");
+
+        assertTrue(tree.remove("souza", "a"));
+        assertFalse(tree.remove("souza", "a"));
+        assertFalse(tree.remove("santos", "b"));
+
+        Set<String> found = new HashSet<>();
+        for (BKTree.Match<String> match : tree.search("souza", 1)) {
+            found.add(match.value());
+        }
+        assertEquals(Set.of("b", "c"), found);
+        assertEquals(2, tree.size());
+    }
+
+    @Test
+    public void emptyTreeFindsNothing() {
+        assertTrue(new BKTree<String>(StringDistance::levenshtein).search("ana", 2).isEmpty());
+    }
+
+    private static void assertSameAsBruteForce(ToIntBiFunction<String, String> distance) {
+        Random random = new Random(42);
+        List<String> words = randomWords(random, 2000);
+        BKTree<String> tree = new BKTree<>(distance);
+        for (String word : words) {
+            tree.add(word, word);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            String query = words.get(random.nextInt(words.size()));
+            int radius = random.nextInt(3);
+            Set<String> expected = new HashSet<>();
+            for (String word : words) {
+                if (distance.applyAsInt(query, word) <= radius) {
+                    expected.add(word);
+                }
+            }
+            Set<String> found = new HashSet<>();
+            for (BKTree.Match<String> match : tree.search(query, radius)) {
+                assertEquals(distance.applyAsInt(query, match.key()), match.distance());
+                found.add(match.key());
+            }
+            assertEquals("busca por " + query + " com raio " + radius, expected, found);
+        }
+    }
+
+    // Alfabeto pequeno, para que haja muitas palavras próximas e transposições
+    static List<String> randomWords(Random random, int count) {
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            StringBuilder word = new StringBuilder();
+            int length = 3 + random.nextInt(5);
+            for (int j = 0; j < length; j++) {
+                word.append((char) ('a' + random.nextInt(3)));
+            }
+            words.add(word.toString());
+        }
+        return words;
+    }
+}
@@ -0,0 +1,60 @@
+package utils;
+
+import org.junit.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class IdGeneratorTest {
+    private static final Instant NOW = Instant.parse("2026-05-01T12:00:00Z");
+
+    @Test
+    public void idsGrowInTheSameMillisecond() {
+        IdGenerator ids = new IdGenerator(Clock.fixed(NOW, ZoneOffset.UTC));
+        String previous = ids.nextId();
+        for (int i = 0; i < 1000; i++) {
+            String next = ids.nextId();
+            assertTrue(next.compareTo(previous) > 0);
+            assertEquals(NOW, EntityId.createdAt(next));
+            previous = next;
+        }
+    }
+
+    @Test
+    public void idsKeepGrowingAfterTheClockGoesBack() {
+        IdGenerator ids = new IdGenerator(Clock.fixed(NOW.minusSeconds(60), ZoneOffset.UTC));
+        String saved = new IdGenerator(Clock.fixed(NOW, ZoneOffset.UTC)).nextId();
+        ids.advancePast(saved);
+
+        assertTrue(ids.nextId().compareTo(saved) > 0);
+    }
+
+    @Test
+    public void encodeAndDecodeRoundTrip() {
+        long id = EntityId.compose(123_456_789L, 42);
+        String encoded = EntityId.encode(id);
+
+        assertEquals(EntityId.LENGTH, encoded.length());
+        assertTrue(EntityId.isCompact(encoded));
+        assertEquals(id, EntityId.decode(encoded));
+        assertEquals(id, EntityId.decode(encoded.toLowerCase()));
+    }
+
+    @Test
+    public void legacyIdsHaveNoCreationDateAndSortFirst() {
+        String legacy = UUID.randomUUID().toString();
+        String compact = EntityId.encode(0);
+
+        assertTrue(EntityId.isLegacy(legacy));
+        assertFalse(EntityId.isCompact(legacy));
+        assertNull(EntityId.createdAt(legacy));
+        assertTrue(EntityId.orderKey(legacy).compareTo(EntityId.orderKey(compact)) < 0);
+    }
+}
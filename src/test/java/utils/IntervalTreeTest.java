@@ -0,0 +1,75 @@
+package utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IntervalTreeTest {
+
+    @Test
+    public void intervalsAreHalfOpen() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.add("a", 10, 20, "a");
+
+        assertTrue(tree.overlaps(19, 30));
+        assertTrue(tree.overlaps(0, 11));
+        assertFalse(tree.overlaps(20, 30));
+        assertFalse(tree.overlaps(0, 10));
+    }
+
+    @Test
+    public void removeUsesIdAndStart() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.add("a", 10, 20, "a");
+        tree.add("b", 10, 30, "b");
+
+        assertFalse(tree.remove("a", 11));
+        assertTrue(tree.remove("a", 10));
+        assertEquals(1, tree.size());
+        assertEquals(List.of("b"), tree.findOverlapping(15, 16));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsEmptyInterval() {
+        new IntervalTree<String>().add("a", 10, 10, "a");
+    }
+
+    @Test
+    public void matchesBruteForceAfterAddsAndRemoves() {
+        Random random = new Random(11);
+        IntervalTree<String> tree = new IntervalTree<>();
+        List<long[]> intervals = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            long start = random.nextInt(10_000);
+            long end = start + 1 + random.nextInt(200);
+            tree.add(String.valueOf(i), start, end, String.valueOf(i));
+            intervals.add(new long[]{i, start, end});
+        }
+        for (int i = 0; i < 700; i++) {
+            long[] removed = intervals.remove(random.nextInt(intervals.size()));
+            assertTrue(tree.remove(String.valueOf(removed[0]), removed[1]));
+        }
+        assertEquals(intervals.size(), tree.size());
+
+        for (int i = 0; i < 500; i++) {
+            long from = random.nextInt(10_300);
+            long to = from + 1 + random.nextInt(100);
+            Set<String> expected = new HashSet<>();
+            for (long[] interval : intervals) {
+                if (interval[1] < to && interval[2] > from) {
+                    expected.add(String.valueOf(interval[0]));
+                }
+            }
+            assertEquals(expected, new HashSet<>(tree.findOverlapping(from, to)));
+            assertEquals(!expected.isEmpty(), tree.overlaps(from, to));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package utils;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class StringDistanceTest {
+
+    @Test
+    public void transpositionCostsOne() {
+        assertEquals(2, StringDistance.levenshtein("12345", "21345"));
+        assertEquals(1, StringDistance.damerau("12345", "21345"));
+        assertEquals(1, StringDistance.damerauLevenshtein("12345", "21345"));
+    }
+
+    @Test
+    public void damerauLevenshteinEditsBetweenTransposedCharacters() {
+        // A OSA não edita uma substring já transposta; a Damerau-Levenshtein sim
+        assertEquals(3, StringDistance.damerau("ca", "abc"));
+        assertEquals(2, StringDistance.damerauLevenshtein("ca", "abc"));
+    }
+
+    @Test
+    public void emptyAndEqualStrings() {
+        assertEquals(0, StringDistance.damerauLevenshtein("ana", "ana"));
+        assertEquals(3, StringDistance.damerauLevenshtein("", "ana"));
+        assertEquals(3, StringDistance.damerauLevenshtein("ana", ""));
+    }
+
+    @Test
+    public void damerauLevenshteinIsAMetricBoundedByOsa() {
+        Random random = new Random(7);
+        List<String> words = BKTreeTest.randomWords(random, 500);
+        for (int i = 0; i < 20000; i++) {
+            String a = words.get(random.nextInt(words.size()));
+            String b = words.get(random.nextInt(words.size()));
+            String c = words.get(random.nextInt(words.size()));
+            int ab = StringDistance.damerauLevenshtein(a, b);
+            assertEquals(ab, StringDistance.damerauLevenshtein(b, a));
+            assertTrue(a + " " + c, StringDistance.damerauLevenshtein(a, c) <= ab + StringDistance.damerauLevenshtein(b, c));
+            assertTrue(ab <= StringDistance.damerau(a, b));
+        }
+    }
+
+    @Test
+    public void normalizeRemovesAccentsAndExtraSpaces() {
+        assertEquals("joao da silva", StringDistance.normalize("  João   da SILVA "));
+        assertEquals("", StringDistance.normalize(null));
+    }
+}